@@ -68,10 +68,12 @@ import org.eclipse.mosaic.lib.util.scheduling.Event;
 import org.eclipse.mosaic.lib.util.scheduling.EventManager;
 import org.eclipse.mosaic.lib.util.scheduling.EventScheduler;
 import org.eclipse.mosaic.lib.util.scheduling.MultiThreadedEventScheduler;
+import org.eclipse.mosaic.lib.util.scheduling.TimeWheelEventScheduler;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InteractionDispatcher;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 
@@ -101,6 +103,13 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
 
     private final Map<String, VehicleRegistration> vehicleRegistrations = new HashMap<>();
 
+    /**
+     * Routeless vehicles received consecutively at the same simulation time, whose routes are calculated in one batch.
+     */
+    private final List<RoutelessVehicleRegistration> routelessVehicleRegistrations = new ArrayList<>();
+
+    private final InteractionDispatcher interactionDispatcher = createInteractionDispatcher();
+
     /**
      * Constructor for {@link ApplicationAmbassador}.
      * This will load the configuration, initialize the {@link SimulationKernel},
@@ -123,7 +132,7 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
             );
 
             if (ambassadorConfig.eventSchedulerThreads == 1) {
-                eventScheduler = new DefaultEventScheduler();
+                eventScheduler = createEventScheduler(ambassadorConfig.eventSchedulerType);
             } else {
                 eventScheduler = new MultiThreadedEventScheduler(ambassadorConfig.eventSchedulerThreads);
             }
@@ -158,6 +167,16 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
         addJarFiles();
     }
 
+    private static EventScheduler createEventScheduler(String eventSchedulerType) {
+        if (CApplicationAmbassador.EVENT_SCHEDULER_TIME_WHEEL.equals(eventSchedulerType)) {
+            return new TimeWheelEventScheduler();
+        }
+        Validate.isTrue(eventSchedulerType == null || CApplicationAmbassador.EVENT_SCHEDULER_DEFAULT.equals(eventSchedulerType),
+                "Unknown eventSchedulerType: " + eventSchedulerType
+        );
+        return new DefaultEventScheduler();
+    }
+
     private void addJarFiles() {
 
         File configurationPath = SimulationKernel.SimulationKernel.getConfigurationPath();
@@ -203,7 +222,8 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
 
     @Override
     public void finishSimulation() {
-        // we already shut down everything in the last simulation step
+        // we already shut down everything in the last simulation step, only routeless vehicles received afterwards remain
+        registerRoutelessVehicles();
     }
 
     @Override
@@ -238,6 +258,7 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                 log.debug("processTimeAdvanceGrant({})", TIME.format(time));
             }
             SimulationKernel.SimulationKernel.setCurrentSimulationTime(time);
+            registerRoutelessVehicles();
             final int scheduled = eventScheduler.scheduleEvents(time);
             log.debug("scheduled {} events at time {}", scheduled, TIME.format(time));
             if (log.isTraceEnabled()) {
@@ -258,55 +279,12 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
             );
         }
         try {
-            if (interaction.getTypeId().startsWith(RsuRegistration.TYPE_ID)) {
-                this.process((RsuRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(ChargingStationRegistration.TYPE_ID)) {
-                this.process((ChargingStationRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(TrafficLightRegistration.TYPE_ID)) {
-                this.process((TrafficLightRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(VehicleRegistration.TYPE_ID)) {
-                this.process((VehicleRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(ScenarioVehicleRegistration.TYPE_ID)) {
-                this.process((ScenarioVehicleRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(RoutelessVehicleRegistration.TYPE_ID)) {
-                this.process((RoutelessVehicleRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(TmcRegistration.TYPE_ID)) {
-                this.process((TmcRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(ServerRegistration.TYPE_ID)) {
-                this.process((ServerRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(VehicleChargingDenial.TYPE_ID)) {
-                this.process((VehicleChargingDenial) interaction);
-            } else if (interaction.getTypeId().startsWith(ChargingStationUpdate.TYPE_ID)) {
-                this.process((ChargingStationUpdate) interaction);
-            } else if (interaction.getTypeId().startsWith(VehicleRouteRegistration.TYPE_ID)) {
-                this.process((VehicleRouteRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(V2xMessageReception.TYPE_ID)) {
-                this.process((V2xMessageReception) interaction);
-            } else if (interaction.getTypeId().startsWith(V2xFullMessageReception.TYPE_ID)) {
-                this.process((V2xFullMessageReception) interaction);
-            } else if (interaction.getTypeId().startsWith(EnvironmentSensorUpdates.TYPE_ID)) {
-                this.process((EnvironmentSensorUpdates) interaction);
-            } else if (interaction.getTypeId().startsWith(TrafficDetectorUpdates.TYPE_ID)) {
-                this.process((TrafficDetectorUpdates) interaction);
-            } else if (interaction.getTypeId().startsWith(VehicleSeenTrafficSignsUpdate.TYPE_ID)) {
-                this.process((VehicleSeenTrafficSignsUpdate) interaction);
-            } else if (interaction.getTypeId().startsWith(SumoTraciResponse.TYPE_ID)) {
-                this.process((SumoTraciResponse) interaction);
-            } else if (interaction.getTypeId().startsWith(V2xMessageAcknowledgement.TYPE_ID)) {
-                this.process((V2xMessageAcknowledgement) interaction);
-            } else if (interaction.getTypeId().startsWith(TrafficLightUpdates.TYPE_ID)) {
-                this.process((TrafficLightUpdates) interaction);
-            } else if (interaction.getTypeId().startsWith(VehicleUpdates.TYPE_ID)) {
-                this.process((VehicleUpdates) interaction);
-            } else if (interaction.getTypeId().startsWith(VehicleBatteryUpdates.TYPE_ID)) {
-                this.process((VehicleBatteryUpdates) interaction);
-            } else if (interaction.getTypeId().startsWith(VehicleRoutesInitialization.TYPE_ID)) {
-                this.process((VehicleRoutesInitialization) interaction);
-            } else if (interaction.getTypeId().startsWith(VehicleTypesInitialization.TYPE_ID)) {
-                this.process((VehicleTypesInitialization) interaction);
-            } else if (interaction.getTypeId().startsWith(ApplicationInteraction.TYPE_ID)) {
-                this.process((ApplicationInteraction) interaction);
-            } else {
+            // the batch of routeless vehicles ends with any other interaction, so that the order of registrations is kept
+            if (!(interaction instanceof RoutelessVehicleRegistration) || (!routelessVehicleRegistrations.isEmpty()
+                    && routelessVehicleRegistrations.get(0).getTime() != interaction.getTime())) {
+                registerRoutelessVehicles();
+            }
+            if (!interactionDispatcher.dispatch(interaction)) {
                 log.warn("Unknown interaction received with time {} : {}", TIME.format(interaction.getTime()), interaction.getTypeId());
             }
         } catch (RuntimeException e) {
@@ -314,6 +292,38 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
         }
     }
 
+    /**
+     * Creates the dispatcher which passes each received interaction to the according process method.
+     * All handlers also receive interactions whose type ids start with the type id of the registered interaction.
+     */
+    private InteractionDispatcher createInteractionDispatcher() {
+        return new InteractionDispatcher()
+                .registerWithSubtypes(RsuRegistration.class, this::process)
+                .registerWithSubtypes(ChargingStationRegistration.class, this::process)
+                .registerWithSubtypes(TrafficLightRegistration.class, this::process)
+                .registerWithSubtypes(VehicleRegistration.class, this::process)
+                .registerWithSubtypes(ScenarioVehicleRegistration.class, this::process)
+                .registerWithSubtypes(RoutelessVehicleRegistration.class, this::process)
+                .registerWithSubtypes(TmcRegistration.class, this::process)
+                .registerWithSubtypes(ServerRegistration.class, this::process)
+                .registerWithSubtypes(VehicleChargingDenial.class, this::process)
+                .registerWithSubtypes(ChargingStationUpdate.class, this::process)
+                .registerWithSubtypes(VehicleRouteRegistration.class, this::process)
+                .registerWithSubtypes(V2xMessageReception.class, this::process)
+                .registerWithSubtypes(V2xFullMessageReception.class, this::process)
+                .registerWithSubtypes(EnvironmentSensorUpdates.class, this::process)
+                .registerWithSubtypes(TrafficDetectorUpdates.class, this::process)
+                .registerWithSubtypes(VehicleSeenTrafficSignsUpdate.class, this::process)
+                .registerWithSubtypes(SumoTraciResponse.class, this::process)
+                .registerWithSubtypes(V2xMessageAcknowledgement.class, this::process)
+                .registerWithSubtypes(TrafficLightUpdates.class, this::process)
+                .registerWithSubtypes(VehicleUpdates.class, this::process)
+                .registerWithSubtypes(VehicleBatteryUpdates.class, this::process)
+                .registerWithSubtypes(VehicleRoutesInitialization.class, this::process)
+                .registerWithSubtypes(VehicleTypesInitialization.class, this::process)
+                .registerWithSubtypes(ApplicationInteraction.class, this::process);
+    }
+
     private void process(final VehicleBatteryUpdates vehicleBatteryUpdates) {
         // schedule all updated vehicles
         for (BatteryData batteryData : vehicleBatteryUpdates.getUpdated()) {
@@ -382,9 +392,35 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
     }
 
     private void process(final RoutelessVehicleRegistration routelessVehicleRegistration) {
-        final VehicleDeparture routeInfo = SimulationKernel.SimulationKernel.getCentralNavigationComponent().createRouteForOdInfo(
-                routelessVehicleRegistration.getTime(), routelessVehicleRegistration.getTrip(), routelessVehicleRegistration.getDeparture()
-        );
+        if (routelessVehicleRegistrations.isEmpty()) {
+            // the batch is registered at latest with the time advance to the time of its registrations
+            try {
+                rti.requestAdvanceTime(routelessVehicleRegistration.getTime());
+            } catch (IllegalValueException e) {
+                log.error(ErrorRegister.AMBASSADOR_RequestingAdvanceTime.toString(), e);
+                throw new RuntimeException(ErrorRegister.AMBASSADOR_RequestingAdvanceTime.toString(), e);
+            }
+        }
+        routelessVehicleRegistrations.add(routelessVehicleRegistration);
+    }
+
+    /**
+     * Calculates the routes of all pending routeless vehicles in one batch,
+     * and registers the vehicles in order of their registrations.
+     */
+    private void registerRoutelessVehicles() {
+        if (routelessVehicleRegistrations.isEmpty()) {
+            return;
+        }
+        final List<VehicleDeparture> routeInfos = SimulationKernel.SimulationKernel.getCentralNavigationComponent()
+                .createRoutesForOdInfos(routelessVehicleRegistrations);
+        for (int i = 0; i < routelessVehicleRegistrations.size(); i++) {
+            registerRoutelessVehicle(routelessVehicleRegistrations.get(i), routeInfos.get(i));
+        }
+        routelessVehicleRegistrations.clear();
+    }
+
+    private void registerRoutelessVehicle(final RoutelessVehicleRegistration routelessVehicleRegistration, final VehicleDeparture routeInfo) {
         if (routeInfo == null) {
             log.error(ErrorRegister.AMBASSADOR_ErrorCalculateDeparture.toString());
             return;
@@ -536,6 +572,7 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
     }
 
     private void process(final TrafficDetectorUpdates trafficDetectorUpdates) {
+        SimulationKernel.SimulationKernel.getCentralNavigationComponent().updateObservedSpeeds(trafficDetectorUpdates);
         for (TrafficManagementCenterUnit tmc : UnitSimulator.UnitSimulator.getTmcs().values()) {
             final List<InductionLoopInfo> relevantInductionLoops = trafficDetectorUpdates.getUpdatedInductionLoops().stream()
                     .filter(i -> tmc.getInductionLoopIds().contains(i.getName()))
@@ -633,6 +670,7 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
 
     private void process(final VehicleUpdates vehicleUpdates) {
         SimulationKernel.SimulationKernel.getCentralPerceptionComponent().updateVehicles(vehicleUpdates);
+        SimulationKernel.SimulationKernel.getCentralNavigationComponent().updateObservedSpeeds(vehicleUpdates);
         // schedule all added vehicles
         for (VehicleData vehicleData : vehicleUpdates.getAdded()) {
             addVehicleIfNotYetAdded(vehicleUpdates.getTime(), vehicleData.getName());
@@ -18,7 +18,10 @@ package org.eclipse.mosaic.fed.application.ambassador.simulation.navigation;
 import org.eclipse.mosaic.fed.application.ambassador.ApplicationAmbassador;
 import org.eclipse.mosaic.fed.application.ambassador.SimulationKernel;
 import org.eclipse.mosaic.fed.application.config.CApplicationAmbassador;
+import org.eclipse.mosaic.interactions.mapping.advanced.RoutelessVehicleRegistration;
+import org.eclipse.mosaic.interactions.traffic.TrafficDetectorUpdates;
 import org.eclipse.mosaic.interactions.traffic.VehicleRoutesInitialization;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.interactions.vehicle.VehicleRouteChange;
 import org.eclipse.mosaic.interactions.vehicle.VehicleRouteRegistration;
 import org.eclipse.mosaic.lib.geo.GeoCircle;
@@ -27,6 +30,8 @@ import org.eclipse.mosaic.lib.geo.GeoUtils;
 import org.eclipse.mosaic.lib.objects.mapping.OriginDestinationPair;
 import org.eclipse.mosaic.lib.objects.road.INode;
 import org.eclipse.mosaic.lib.objects.road.IRoadPosition;
+import org.eclipse.mosaic.lib.objects.traffic.InductionLoopInfo;
+import org.eclipse.mosaic.lib.objects.traffic.LaneAreaDetectorInfo;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleDeparture;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
@@ -40,6 +45,7 @@ import org.eclipse.mosaic.lib.routing.RoutingRequest;
 import org.eclipse.mosaic.lib.routing.RoutingResponse;
 import org.eclipse.mosaic.lib.routing.database.DatabaseRouting;
 import org.eclipse.mosaic.lib.routing.norouting.NoRouting;
+import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
@@ -52,9 +58,13 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * The {@link CentralNavigationComponent} unites functionality concerned with
@@ -88,6 +98,11 @@ public class CentralNavigationComponent {
      */
     private CApplicationAmbassador.CRoutingByType configuration;
 
+    /**
+     * The passage of the current connection by vehicle name, used to observe travel speeds on connections.
+     */
+    private final Map<String, ConnectionPassage> passagesByVehicle = new HashMap<>();
+
     /**
      * Constructor for the CentralNavigationComponent.
      * Sets the logger and the configuration for navigation.
@@ -186,6 +201,99 @@ public class CentralNavigationComponent {
         return routing.findRoutes(routingRequest);
     }
 
+    /**
+     * Passes the travel speeds of vehicles which have left a connection to the {@link Routing}, which considers them
+     * as observed speeds on their connections for the calculation of fastest routes. A travel speed is the distance
+     * driven on a connection divided by the time spent on it, so that vehicles waiting at traffic lights or in queues
+     * do not report their instantaneous speed. Passages are only considered if the vehicle has entered the connection
+     * during the observation, and has not stopped or parked on it. The travel speeds of several vehicles on the same
+     * connection are averaged.
+     *
+     * @param vehicleUpdates the {@link VehicleUpdates} interaction with the current state of the vehicles
+     */
+    public void updateObservedSpeeds(VehicleUpdates vehicleUpdates) {
+        if (!isObservedSpeedsEnabled()) {
+            return;
+        }
+        final long time = vehicleUpdates.getTime();
+        final Map<String, List<Double>> travelSpeeds = new HashMap<>();
+        for (VehicleData vehicleData : vehicleUpdates.getAdded()) {
+            updatePassage(vehicleData, time, travelSpeeds);
+        }
+        for (VehicleData vehicleData : vehicleUpdates.getUpdated()) {
+            updatePassage(vehicleData, time, travelSpeeds);
+        }
+        for (String removedName : vehicleUpdates.getRemovedNames()) {
+            passagesByVehicle.remove(removedName);
+        }
+        routing.updateObservedSpeeds(time, averageSpeeds(travelSpeeds));
+    }
+
+    private void updatePassage(VehicleData vehicleData, long time, Map<String, List<Double>> travelSpeeds) {
+        final String connectionId = vehicleData.getRoadPosition() != null ? vehicleData.getRoadPosition().getConnectionId() : null;
+        final ConnectionPassage passage = passagesByVehicle.get(vehicleData.getName());
+        if (passage != null && (connectionId == null || connectionId.equals(passage.connectionId))) {
+            passage.complete &= connectionId != null && !vehicleData.isStopped();
+            return;
+        }
+        if (connectionId == null) {
+            return;
+        }
+        if (passage != null && passage.complete && time > passage.entryTime) {
+            final double travelTime = (double) (time - passage.entryTime) / TIME.SECOND;
+            travelSpeeds.computeIfAbsent(passage.connectionId, id -> new ArrayList<>())
+                    .add((vehicleData.getDistanceDriven() - passage.entryDistance) / travelTime);
+        }
+        // the first passage of a vehicle is incomplete, as it has departed somewhere on the connection
+        passagesByVehicle.put(vehicleData.getName(), new ConnectionPassage(
+                connectionId, time, vehicleData.getDistanceDriven(), passage != null && !vehicleData.isStopped()
+        ));
+    }
+
+    private static Map<String, Double> averageSpeeds(Map<String, List<Double>> speedsByConnection) {
+        final Map<String, Double> averageSpeeds = new HashMap<>();
+        speedsByConnection.forEach((connectionId, speeds) ->
+                averageSpeeds.put(connectionId, speeds.stream().mapToDouble(Double::doubleValue).average().orElse(0))
+        );
+        return averageSpeeds;
+    }
+
+    /**
+     * Passes the mean speeds measured by traffic detectors to the {@link Routing}, which considers them as observed
+     * speeds on their connections for the calculation of fastest routes. Only detectors which have been assigned to a
+     * connection in the routing configuration and detected any vehicle are considered.
+     *
+     * @param trafficDetectorUpdates the {@link TrafficDetectorUpdates} interaction with the latest measurements
+     */
+    public void updateObservedSpeeds(TrafficDetectorUpdates trafficDetectorUpdates) {
+        if (!isObservedSpeedsEnabled() || configuration.detectorConnections.isEmpty()) {
+            return;
+        }
+        final Map<String, List<Double>> measuredSpeeds = new HashMap<>();
+        for (InductionLoopInfo inductionLoop : trafficDetectorUpdates.getUpdatedInductionLoops()) {
+            if (inductionLoop.getVehicleCount() > 0) {
+                addMeasuredSpeed(measuredSpeeds, inductionLoop.getName(), inductionLoop.getMeanSpeed());
+            }
+        }
+        for (LaneAreaDetectorInfo laneAreaDetector : trafficDetectorUpdates.getUpdatedLaneAreaDetectors()) {
+            if (laneAreaDetector.getVehicleCount() > 0) {
+                addMeasuredSpeed(measuredSpeeds, laneAreaDetector.getName(), laneAreaDetector.getMeanSpeed());
+            }
+        }
+        routing.updateObservedSpeeds(trafficDetectorUpdates.getTime(), averageSpeeds(measuredSpeeds));
+    }
+
+    private void addMeasuredSpeed(Map<String, List<Double>> measuredSpeeds, String detectorId, double meanSpeed) {
+        final String connectionId = configuration.detectorConnections.get(detectorId);
+        if (connectionId != null && meanSpeed >= 0) {
+            measuredSpeeds.computeIfAbsent(connectionId, id -> new ArrayList<>()).add(meanSpeed);
+        }
+    }
+
+    private boolean isObservedSpeedsEnabled() {
+        return routing != null && configuration != null && configuration.observedSpeedSmoothing > 0;
+    }
+
     /**
      * Switch to a specific route.
      *
@@ -377,42 +485,81 @@ public class CentralNavigationComponent {
      * @return A {@link VehicleDeparture} if a valid route was found, otherwise {@code null}.
      */
     public VehicleDeparture createRouteForOdInfo(long time, OriginDestinationPair odInfo, VehicleDeparture departure) {
+        final RoutingRequest request = createRequestForOdInfo(odInfo);
+        if (request == null) {
+            log.error("[CNC.createRouteForODInfo]: Insufficient or wrong data in OD info.");
+            return null;
+        }
+        return createDepartureForResponse(time, routing.findRoutes(request), departure);
+    }
+
+    /**
+     * This method creates the routes for several {@link RoutelessVehicleRegistration}s like {@link #createRouteForOdInfo}.
+     * The routes of all registrations are calculated as one batch, which calculates equal routes only once.
+     *
+     * @param registrations The {@link RoutelessVehicleRegistration}s, that routes should be created for.
+     * @return A {@link VehicleDeparture} for each registration in the same order, which is {@code null}
+     *         if no valid route was found for that registration.
+     */
+    public List<VehicleDeparture> createRoutesForOdInfos(List<RoutelessVehicleRegistration> registrations) {
+        // requests are created in order of the registrations, as random positions are chosen for each of them
+        final List<RoutingRequest> requests = new ArrayList<>();
+        for (RoutelessVehicleRegistration registration : registrations) {
+            requests.add(createRequestForOdInfo(registration.getTrip()));
+        }
+        final Iterator<RoutingResponse> responses = routing.findRoutes(
+                requests.stream().filter(Objects::nonNull).collect(Collectors.toList())
+        ).iterator();
+
+        final List<VehicleDeparture> departures = new ArrayList<>();
+        for (int i = 0; i < registrations.size(); i++) {
+            if (requests.get(i) == null) {
+                log.error("[CNC.createRouteForODInfo]: Insufficient or wrong data in OD info.");
+                departures.add(null);
+            } else {
+                final RoutelessVehicleRegistration registration = registrations.get(i);
+                departures.add(createDepartureForResponse(registration.getTime(), responses.next(), registration.getDeparture()));
+            }
+        }
+        return departures;
+    }
+
+    private RoutingRequest createRequestForOdInfo(OriginDestinationPair odInfo) {
+        if (odInfo.origin == null || odInfo.destination == null) {
+            return null;
+        }
+        final GeoPoint sourcePoint = chooseGeoPointInCircle(odInfo.origin);
+        final GeoPoint targetPoint = chooseGeoPointInCircle(odInfo.destination);
+        final RoutingParameters params = new RoutingParameters().alternativeRoutes(0).costFunction(RoutingCostFunction.Fastest);
+        return new RoutingRequest(new RoutingPosition(sourcePoint), new RoutingPosition(targetPoint), params);
+    }
 
-        if (odInfo.origin != null && odInfo.destination != null) {
-            // create request
-            final GeoPoint sourcePoint = chooseGeoPointInCircle(odInfo.origin);
-            final GeoPoint targetPoint = chooseGeoPointInCircle(odInfo.destination);
-            final RoutingParameters params = new RoutingParameters().alternativeRoutes(0).costFunction(RoutingCostFunction.Fastest);
-            final RoutingRequest request = new RoutingRequest(new RoutingPosition(sourcePoint), new RoutingPosition(targetPoint), params);
-
-            // find route
-            final RoutingResponse response = routing.findRoutes(request);
-            // check if best route, matches one of the existing routes and if so choose that existing route
-            if (response.getBestRoute() != null) {
-                VehicleRoute route = null;
-                for (VehicleRoute existingRoute : getAllRoutes().values()) {
-                    if (isNewRouteOnOriginalRoute(response.getBestRoute().getConnectionIds(), existingRoute.getConnectionIds())) {
-                        route = existingRoute;
-                        break;
-                    }
+    private VehicleDeparture createDepartureForResponse(long time, RoutingResponse response, VehicleDeparture departure) {
+        // check if best route, matches one of the existing routes and if so choose that existing route
+        if (response.getBestRoute() != null) {
+            VehicleRoute route = null;
+            for (VehicleRoute existingRoute : getAllRoutes().values()) {
+                if (isNewRouteOnOriginalRoute(response.getBestRoute().getConnectionIds(), existingRoute.getConnectionIds())) {
+                    route = existingRoute;
+                    break;
                 }
-                if (route == null) {
-                    try {
-                        route = routing.createRouteForRTI(response.getBestRoute());
-                        propagateRoute(route, time);
-                    } catch (IllegalRouteException e) {
-                        log.error("[CNC.createRouteForODInfo]: Could not create route.", e);
-                        return null;
-                    } catch (InternalFederateException e) {
-                        log.error("[CNC.createRouteForODInfo]: unable to send PropagateRoute message.", e);
-                        return null;
-                    }
+            }
+            if (route == null) {
+                try {
+                    route = routing.createRouteForRTI(response.getBestRoute());
+                    propagateRoute(route, time);
+                } catch (IllegalRouteException e) {
+                    log.error("[CNC.createRouteForODInfo]: Could not create route.", e);
+                    return null;
+                } catch (InternalFederateException e) {
+                    log.error("[CNC.createRouteForODInfo]: unable to send PropagateRoute message.", e);
+                    return null;
                 }
-                return new VehicleDeparture.Builder(route.getId())
-                        .departureLane(departure.getLaneSelectionMode(), departure.getDepartureLane(), departure.getDeparturePos())
-                        .departureSpeed(departure.getDepartureSpeedMode(), departure.getDepartureSpeed())
-                        .create();
             }
+            return new VehicleDeparture.Builder(route.getId())
+                    .departureLane(departure.getLaneSelectionMode(), departure.getDepartureLane(), departure.getDeparturePos())
+                    .departureSpeed(departure.getDepartureSpeedMode(), departure.getDepartureSpeed())
+                    .create();
         }
 
         log.error("[CNC.createRouteForODInfo]: Insufficient or wrong data in OD info.");
@@ -524,8 +671,27 @@ public class CentralNavigationComponent {
         }
         return routesWithCosts;
     }
-}
-
 
-
- 
\ No newline at end of file
+    /**
+     * The passage of a vehicle on a connection, starting with the first update of the vehicle on the connection.
+     */
+    private static class ConnectionPassage {
+
+        private final String connectionId;
+        private final long entryTime;
+        private final double entryDistance;
+
+        /**
+         * {@code false}, if the vehicle has not entered the connection during the observation,
+         * or has stopped on the connection.
+         */
+        private boolean complete;
+
+        private ConnectionPassage(String connectionId, long entryTime, double entryDistance, boolean complete) {
+            this.connectionId = connectionId;
+            this.entryTime = entryTime;
+            this.entryDistance = entryDistance;
+            this.complete = complete;
+        }
+    }
+}
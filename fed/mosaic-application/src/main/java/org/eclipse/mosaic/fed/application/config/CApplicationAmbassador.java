@@ -45,6 +45,9 @@ public class CApplicationAmbassador implements Serializable {
     public boolean encodePayloads = true;
 
 
+    public final static String EVENT_SCHEDULER_DEFAULT = "default";
+    public final static String EVENT_SCHEDULER_TIME_WHEEL = "timeWheel";
+
     /**
      * Number of threads used by the {@link MultiThreadedEventScheduler}.
      * using more than 1 thread would result in undetermined behavior.
@@ -53,6 +56,14 @@ public class CApplicationAmbassador implements Serializable {
      */
     public int eventSchedulerThreads = 1;
 
+    /**
+     * The type of event scheduler used for single threaded event processing. Either {@code "default"},
+     * which uses the {@link org.eclipse.mosaic.lib.util.scheduling.DefaultEventScheduler}, or {@code "timeWheel"},
+     * which uses the {@link org.eclipse.mosaic.lib.util.scheduling.TimeWheelEventScheduler}. Both process events
+     * in exactly the same order, however, the latter may be faster in scenarios with a large number of events.
+     */
+    public String eventSchedulerType = EVENT_SCHEDULER_DEFAULT;
+
     /**
      * Class containing the information for the configuration of the
      * Routing/Navigation (CentralNavigationComponent).
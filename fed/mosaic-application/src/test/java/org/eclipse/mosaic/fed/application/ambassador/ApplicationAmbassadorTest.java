@@ -17,10 +17,13 @@ package org.eclipse.mosaic.fed.application.ambassador;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -44,6 +47,8 @@ import org.eclipse.mosaic.interactions.communication.V2xMessageAcknowledgement;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
 import org.eclipse.mosaic.interactions.electricity.VehicleBatteryUpdates;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
+import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
+import org.eclipse.mosaic.interactions.mapping.advanced.RoutelessVehicleRegistration;
 import org.eclipse.mosaic.interactions.traffic.TrafficDetectorUpdates;
 import org.eclipse.mosaic.interactions.traffic.TrafficLightUpdates;
 import org.eclipse.mosaic.interactions.traffic.VehicleRoutesInitialization;
@@ -61,6 +66,7 @@ import org.eclipse.mosaic.lib.objects.v2x.V2xReceiverInformation;
 import org.eclipse.mosaic.lib.objects.v2x.etsi.EtsiPayloadConfiguration;
 import org.eclipse.mosaic.lib.objects.vehicle.BatteryData;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDeparture;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
 import org.eclipse.mosaic.lib.util.junit.TestUtils;
@@ -935,6 +941,63 @@ public class ApplicationAmbassadorTest {
         Mockito.verify(app.getApplicationSpy()).onShutdown();
     }
 
+    /**
+     * The ApplicationAmbassador receives several {@link RoutelessVehicleRegistration} interactions. The routes of registrations
+     * received at the same time are calculated in one batch, and all vehicles are registered in order within the time step
+     * of their registration, also if they are received after the last time advance.
+     */
+    @Test
+    public void processInteraction_RoutelessVehicleRegistration() throws Exception {
+        // SETUP
+        final List<String> registeredVehicles = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            final VehicleRegistration registration = invocation.getArgument(0);
+            return registeredVehicles.add(registration.getMapping().getName() + "@" + registration.getTime());
+        }).when(rtiAmbassador).triggerInteraction(isA(VehicleRegistration.class));
+
+        final CentralNavigationComponent navigation = SimulationKernel.SimulationKernel.getCentralNavigationComponent();
+        when(navigation.createRoutesForOdInfos(anyList())).thenAnswer(invocation -> {
+            final List<VehicleDeparture> departures = new ArrayList<>();
+            for (int i = 0; i < invocation.<List<?>>getArgument(0).size(); i++) {
+                departures.add(mock(VehicleDeparture.class));
+            }
+            return departures;
+        });
+
+        final ApplicationAmbassador ambassador = createAmbassador();
+        ambassador.initialize(0L, END_TIME);
+
+        // RUN + ASSERT: registrations at the same time are collected until the time advance
+        ambassador.processInteraction(createRoutelessVehicleRegistration(5 * TIME.SECOND, "veh_0"));
+        ambassador.processInteraction(createRoutelessVehicleRegistration(5 * TIME.SECOND, "veh_1"));
+        assertTrue(registeredVehicles.isEmpty());
+        assertEquals(5 * TIME.SECOND, recentAdvanceTime);
+
+        ambassador.processTimeAdvanceGrant(5 * TIME.SECOND);
+        assertEquals(Arrays.asList("veh_0@5000000000", "veh_1@5000000000"), registeredVehicles);
+        Mockito.verify(navigation, times(1)).createRoutesForOdInfos(anyList());
+
+        // RUN + ASSERT: any other interaction registers the pending vehicles before it is processed
+        ambassador.processInteraction(createRoutelessVehicleRegistration(10 * TIME.SECOND, "veh_2"));
+        ambassador.processInteraction(new VehicleUpdates(10 * TIME.SECOND, new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+        assertEquals(Arrays.asList("veh_0@5000000000", "veh_1@5000000000", "veh_2@10000000000"), registeredVehicles);
+
+        // RUN + ASSERT: registrations received after the last time advance are not dropped
+        ambassador.processTimeAdvanceGrant(10 * TIME.SECOND);
+        ambassador.processTimeAdvanceGrant(END_TIME);
+        ambassador.processInteraction(createRoutelessVehicleRegistration(END_TIME, "veh_3"));
+        ambassador.finishSimulation();
+        assertEquals(
+                Arrays.asList("veh_0@5000000000", "veh_1@5000000000", "veh_2@10000000000", "veh_3@100000000000"),
+                registeredVehicles
+        );
+        Mockito.verify(navigation, times(3)).createRoutesForOdInfos(anyList());
+    }
+
+    private static RoutelessVehicleRegistration createRoutelessVehicleRegistration(long time, String name) {
+        return new RoutelessVehicleRegistration(time, name, null, new ArrayList<>(), null, new VehicleType("car"), null);
+    }
+
     private <TEST_APP extends TestApplicationWithSpy<? extends Application>> TEST_APP testAddUnit(final ApplicationAmbassador ambassador, final String unitId, final Interaction interaction) throws InternalFederateException {
         addedEvents = new ArrayList<>();
         // add unit on simulation time 5s
@@ -35,11 +35,14 @@ import static org.mockito.Mockito.when;
 
 import org.eclipse.mosaic.fed.application.config.CApplicationAmbassador;
 import org.eclipse.mosaic.interactions.traffic.VehicleRoutesInitialization;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.interactions.vehicle.VehicleRouteChange;
 import org.eclipse.mosaic.interactions.vehicle.VehicleRouteRegistration;
+import org.eclipse.mosaic.lib.enums.VehicleStopMode;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.objects.road.IConnection;
 import org.eclipse.mosaic.lib.objects.road.INode;
+import org.eclipse.mosaic.lib.objects.road.IRoadPosition;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
 import org.eclipse.mosaic.lib.routing.CandidateRoute;
@@ -65,6 +68,7 @@ import org.junit.rules.TemporaryFolder;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -271,4 +275,58 @@ public class CentralNavigationComponentTest {
         assertTrue(centralNavigationComponent.getRouting() instanceof MyTestRouting);
     }
 
+    @Test
+    public void updateObservedSpeeds_travelSpeedsOfCompletePassages() throws InternalFederateException, IOException {
+        // SETUP
+        AmbassadorParameter ambassadorParameter = new AmbassadorParameter(
+                "test", folderRule.newFile("config.json")
+        );
+        CApplicationAmbassador.CRoutingByType routingConfig = new CApplicationAmbassador.CRoutingByType();
+        routingConfig.observedSpeedSmoothing = 0.5;
+        CentralNavigationComponent centralNavigationComponent = new CentralNavigationComponent(ambassadorParameter, routingConfig) {
+            @Override
+            Routing createFromType(String type) {
+                return routingMock;
+            }
+        };
+        centralNavigationComponent.initialize(rtiAmbassadorMock);
+
+        // RUN
+        // departed vehicles have not entered their first connection during the observation
+        centralNavigationComponent.updateObservedSpeeds(new VehicleUpdates(0, Arrays.asList(
+                createVehicleData("veh_0", "1_1_2_1", 0, 0, false),
+                createVehicleData("veh_1", "1_1_2_1", 0, 0, false)
+        ), Collections.emptyList(), Collections.emptyList()));
+        centralNavigationComponent.updateObservedSpeeds(new VehicleUpdates(10 * TIME.SECOND, Collections.emptyList(), Arrays.asList(
+                createVehicleData("veh_0", "2_2_4_2", 10, 100, false),
+                createVehicleData("veh_1", "1_1_2_1", 0, 20, true)
+        ), Collections.emptyList()));
+        // vehicles waiting at the end of a connection do not report their instantaneous speed
+        centralNavigationComponent.updateObservedSpeeds(new VehicleUpdates(15 * TIME.SECOND, Collections.emptyList(), Arrays.asList(
+                createVehicleData("veh_0", "2_2_4_2", 0, 200, false),
+                createVehicleData("veh_1", "1_1_2_1", 0, 20, false)
+        ), Collections.emptyList()));
+        // the passage of the parked vehicle is not considered
+        centralNavigationComponent.updateObservedSpeeds(new VehicleUpdates(20 * TIME.SECOND, Collections.emptyList(), Arrays.asList(
+                createVehicleData("veh_0", "2_2_4_3", 10, 300, false),
+                createVehicleData("veh_1", "2_2_4_2", 10, 50, false)
+        ), Collections.emptyList()));
+
+        // ASSERT
+        verify(routingMock).updateObservedSpeeds(eq(0L), eq(Collections.emptyMap()));
+        verify(routingMock).updateObservedSpeeds(eq(10 * TIME.SECOND), eq(Collections.emptyMap()));
+        verify(routingMock).updateObservedSpeeds(eq(15 * TIME.SECOND), eq(Collections.emptyMap()));
+        verify(routingMock).updateObservedSpeeds(eq(20 * TIME.SECOND), eq(Collections.singletonMap("2_2_4_2", 20d)));
+    }
+
+    private static VehicleData createVehicleData(String name, String connectionId, double speed, double distanceDriven, boolean parked) {
+        IRoadPosition roadPosition = mock(IRoadPosition.class);
+        when(roadPosition.getConnectionId()).thenReturn(connectionId);
+        return new VehicleData.Builder(0, name)
+                .road(roadPosition)
+                .movement(speed, 0, distanceDriven)
+                .stopped(parked ? VehicleStopMode.PARK_ON_ROADSIDE : VehicleStopMode.NOT_STOPPED)
+                .create();
+    }
+
 }
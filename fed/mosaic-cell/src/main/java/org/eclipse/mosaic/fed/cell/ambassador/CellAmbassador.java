@@ -49,6 +49,7 @@ import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
 import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InteractionDispatcher;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 
@@ -110,6 +111,11 @@ public class CellAmbassador extends AbstractFederateAmbassador {
      */
     private BandwidthMeasurementManager bandwidthMeasurementManager;
 
+    /**
+     * Passes each received interaction to the according process method.
+     */
+    private final InteractionDispatcher interactionDispatcher = createInteractionDispatcher();
+
     /**
      * Constructor for the Cell Ambassador.
      *
@@ -209,26 +215,26 @@ public class CellAmbassador extends AbstractFederateAmbassador {
         }
 
         // Process interactions as usual in all communication simulators
-        if (interaction.getTypeId().equals(RsuRegistration.TYPE_ID)) {
-            process((RsuRegistration) interaction);
-        } else if (interaction.getTypeId().equals(TrafficLightRegistration.TYPE_ID)) {
-            process((TrafficLightRegistration) interaction);
-        } else if (interaction.getTypeId().equals(ChargingStationRegistration.TYPE_ID)) {
-            process((ChargingStationRegistration) interaction);
-        } else if (interaction.getTypeId().equals(ServerRegistration.TYPE_ID)) {
-            process((ServerRegistration) interaction);
-        } else if (interaction.getTypeId().equals(TmcRegistration.TYPE_ID)) {
-            process((TmcRegistration) interaction);
-        } else if (interaction.getTypeId().equals(VehicleUpdates.TYPE_ID)) {
-            process((VehicleUpdates) interaction);
-        } else if (interaction.getTypeId().equals(CellularCommunicationConfiguration.TYPE_ID)) {
-            final CellularCommunicationConfiguration configInteraction = (CellularCommunicationConfiguration) interaction;
-            // Node configuration must be done in the correct order, therefore we must ensure that it is scheduled by the chain manager
-            chainManager.addEvent(configInteraction.getTime(), e -> process(configInteraction));
-        } else if (interaction.getTypeId().equals(V2xMessageTransmission.TYPE_ID)) {
-            // Communication dependent (cell) interactions go directly through the chainManager
-            chainManager.startEvent((V2xMessageTransmission) interaction);
-        }
+        interactionDispatcher.dispatch(interaction);
+    }
+
+    /**
+     * Creates the dispatcher which passes each received interaction to the according process method.
+     */
+    private InteractionDispatcher createInteractionDispatcher() {
+        return new InteractionDispatcher()
+                .register(RsuRegistration.class, this::process)
+                .register(TrafficLightRegistration.class, this::process)
+                .register(ChargingStationRegistration.class, this::process)
+                .register(ServerRegistration.class, this::process)
+                .register(TmcRegistration.class, this::process)
+                .register(VehicleUpdates.class, this::process)
+                .register(CellularCommunicationConfiguration.class, configInteraction ->
+                        // Node configuration must be done in the correct order, therefore we must ensure that it is scheduled by the chain manager
+                        chainManager.addEvent(configInteraction.getTime(), e -> process(configInteraction))
+                )
+                // Communication dependent (cell) interactions go directly through the chainManager
+                .register(V2xMessageTransmission.class, transmission -> chainManager.startEvent(transmission));
     }
 
     /**
@@ -15,22 +15,34 @@
 
 package org.eclipse.mosaic.fed.cell.chain;
 
+import static org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties.GLOBAL_NETWORK_ID;
+
+import org.eclipse.mosaic.fed.cell.config.CCell;
+import org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties;
+import org.eclipse.mosaic.fed.cell.data.ConfigurationData;
 import org.eclipse.mosaic.fed.cell.message.CellModuleMessage;
+import org.eclipse.mosaic.fed.cell.message.GeocasterResult;
+import org.eclipse.mosaic.fed.cell.message.StreamResult;
 import org.eclipse.mosaic.fed.cell.module.CellModule;
 import org.eclipse.mosaic.fed.cell.module.CellModuleNames;
 import org.eclipse.mosaic.fed.cell.module.GeocasterModule;
 import org.eclipse.mosaic.fed.cell.module.streammodules.DownstreamModule;
 import org.eclipse.mosaic.fed.cell.module.streammodules.UpstreamModule;
+import org.eclipse.mosaic.fed.cell.utility.RegionUtility;
 import org.eclipse.mosaic.fed.cell.viz.StreamListener;
 import org.eclipse.mosaic.fed.cell.viz.StreamListener.StreamParticipant;
 import org.eclipse.mosaic.fed.cell.viz.StreamListener.StreamProperties;
 import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
 import org.eclipse.mosaic.lib.enums.DestinationType;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
 import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
+import org.eclipse.mosaic.lib.objects.v2x.V2xMessage;
 import org.eclipse.mosaic.lib.util.scheduling.DefaultEventScheduler;
 import org.eclipse.mosaic.lib.util.scheduling.Event;
 import org.eclipse.mosaic.lib.util.scheduling.EventManager;
+import org.eclipse.mosaic.lib.util.scheduling.EventProcessor;
 import org.eclipse.mosaic.lib.util.scheduling.EventScheduler;
+import org.eclipse.mosaic.lib.util.scheduling.PartitionedEventScheduler;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
@@ -46,6 +58,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import javax.annotation.Nonnull;
 
 /**
@@ -77,27 +90,62 @@ public class ChainManager implements EventManager {
     /**
      * The eventScheduler to simulate the (timed) interactions of the cell modules.
      */
-    private final EventScheduler eventScheduler = new DefaultEventScheduler();
+    private final EventScheduler eventScheduler;
+
+    /**
+     * The eventScheduler executing the events of different regions concurrently,
+     * {@code null} if all events are executed sequentially.
+     */
+    private final PartitionedEventScheduler partitionedEventScheduler;
 
     /**
      * Handle to interact with MOSAIC.
      */
     private final RtiAmbassador rti;
 
+    /**
+     * The random number generator of the simulation if all events are executed sequentially, otherwise
+     * a generator drawing from the generator of the event currently processed by the calling thread.
+     */
     private final RandomNumberGenerator rng;
 
+    /**
+     * The generator of the event currently processed by each thread, see {@link #initializeRandomNumberGenerator}.
+     */
+    private final ThreadLocal<RandomNumberGenerator> eventRng = new ThreadLocal<>();
+
+    /**
+     * Base seed of the generators of all events, drawn once from the random number generator of the simulation
+     * if the events of different regions are executed concurrently.
+     */
+    private final long randomSeed;
+
     /**
      * Initialize the ChainManager, which is the EventManager for the communication dependent events
      * and at the same time the only module in the cell to perform interactions towards MOSAIC.
      *
      * @param rti the reference towards MOSAIC (for requesting timeAdvances and sending interactions).
-     * @param rng the RandomGeneratorObject object that is needed by the Geocaster
+     * @param rng the random number generator of the simulation, which is used by the modules directly if all events
+     *            are executed sequentially, or which seeds the generators of the events otherwise
      */
     public ChainManager(RtiAmbassador rti, RandomNumberGenerator rng, AmbassadorParameter ambassadorParameter) {
         log.info("Initialize ChainManager");
         this.rti = rti;
-        this.rng = rng;
         this.ambassadorParameter = ambassadorParameter;
+
+        final CCell cellConfig = ConfigurationData.INSTANCE.getCellConfig();
+        if (cellConfig != null && cellConfig.regionThreads > 0) {
+            log.info("Process events of different regions with {} threads", cellConfig.regionThreads);
+            this.partitionedEventScheduler = new PartitionedEventScheduler(cellConfig.regionThreads, this::getRegionOfEvent);
+            this.eventScheduler = partitionedEventScheduler;
+            this.rng = new EventRandomNumberGenerator();
+            this.randomSeed = rng.nextLong(Long.MIN_VALUE, Long.MAX_VALUE);
+        } else {
+            this.partitionedEventScheduler = null;
+            this.eventScheduler = new DefaultEventScheduler();
+            this.rng = rng;
+            this.randomSeed = 0;
+        }
         initializeModuleRegistry();
     }
 
@@ -168,6 +216,9 @@ public class ChainManager implements EventManager {
         Validate.notNull(
                 cellModuleMessage, "The cellModuleResult message is null and the ChainManager could, therefore, not finish the Event"
         );
+        if (partitionedEventScheduler != null && partitionedEventScheduler.defer(() -> finishEvent(cellModuleMessage))) {
+            return;
+        }
 
         // Set event for the next module in the chain, unless the current module is the last module
         if (cellModuleMessage.getNextModule() != null) {
@@ -212,6 +263,9 @@ public class ChainManager implements EventManager {
      *                    an V2xMessageAcknowledgement for the sender.
      */
     public void sendInteractionToRti(Interaction interaction) {
+        if (partitionedEventScheduler != null && partitionedEventScheduler.defer(() -> sendInteractionToRti(interaction))) {
+            return;
+        }
         log.debug("t={}: Send Interaction to RTI (msgType={}, msgTime={})",
                 TIME.format(lastAdvanceTime),
                 interaction.getTypeId(), TIME.format(interaction.getTime()));
@@ -251,14 +305,82 @@ public class ChainManager implements EventManager {
     }
 
     /**
-     * Generate a random number.
+     * Returns the random number generator for the modules. If the events of different regions are executed
+     * concurrently, it draws from the generator of the event currently processed, see {@link #initializeRandomNumberGenerator}.
      *
-     * @return Random number.
+     * @return Random number generator.
      */
     public RandomNumberGenerator getRandomNumberGenerator() {
         return rng;
     }
 
+    /**
+     * Seeds the random number generator for the given event, which must be called by each module before it
+     * processes an event. This only applies if the events of different regions are executed concurrently, otherwise
+     * all random numbers are drawn from the generator of the simulation in the order the events are processed in.
+     * The seed is derived from the processing module, the simulation time, the id of the transmitted message,
+     * and the nodes and regions involved in the event only. Thus, the drawn random numbers neither depend on the
+     * order the events are processed in, nor on the number of threads the events are processed with.
+     *
+     * @param moduleName the name of the module processing the event
+     * @param event      the event to be processed
+     */
+    public void initializeRandomNumberGenerator(String moduleName, Event event) {
+        if (partitionedEventScheduler == null) {
+            return;
+        }
+        final V2xMessage message = getMessageOfEvent(event);
+        // mix seed and event properties using the finalizer of SplitMix64 to obtain uncorrelated streams for similar events
+        long seed = randomSeed + 0x9E3779B97F4A7C15L * ((message != null ? message.getId() : -1L) + 1L);
+        seed = 31 * (31 * (31 * seed + moduleName.hashCode()) + getParticipantsHashOfEvent(event)) + event.getTime();
+        seed = (seed ^ (seed >>> 30)) * 0xBF58476D1CE4E5B9L;
+        seed = (seed ^ (seed >>> 27)) * 0x94D049BB133111EBL;
+        eventRng.set(new DefaultRandomNumberGenerator(seed ^ (seed >>> 31)));
+    }
+
+    private static V2xMessage getMessageOfEvent(Event event) {
+        final Object resource = event.getResource();
+        if (resource instanceof V2xMessage) {
+            return (V2xMessage) resource;
+        }
+        if (resource instanceof CellModuleMessage) {
+            final Object result = ((CellModuleMessage) resource).getResource();
+            if (result instanceof StreamResult) {
+                return ((StreamResult) result).getV2xMessage();
+            }
+            if (result instanceof GeocasterResult) {
+                return ((GeocasterResult) result).getV2xMessage();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a hash of the nodes and regions involved in the given event, which distinguishes events of the same
+     * message, e.g. the streams to different receivers. The hash does not depend on the iteration order of receivers.
+     */
+    private static int getParticipantsHashOfEvent(Event event) {
+        final Object resource = event.getResource();
+        if (resource instanceof V2xMessage) {
+            return Objects.hashCode(((V2xMessage) resource).getRouting().getSource().getSourceName());
+        }
+        if (resource instanceof CellModuleMessage) {
+            final Object result = ((CellModuleMessage) resource).getResource();
+            if (result instanceof StreamResult) {
+                final StreamResult streamResult = (StreamResult) result;
+                return 31 * Objects.hashCode(streamResult.getRegionId()) + Objects.hashCode(streamResult.getInvolvedNode());
+            }
+            if (result instanceof GeocasterResult) {
+                int hash = 0;
+                for (Map.Entry<CNetworkProperties, String> receiver : ((GeocasterResult) result).getReceivers().entries()) {
+                    hash += 31 * Objects.hashCode(receiver.getKey().id) + Objects.hashCode(receiver.getValue());
+                }
+                return hash;
+            }
+        }
+        return 0;
+    }
+
     /**
      * Registers a new {@link StreamListener} which is called when a message finished
      * all stream modules, i.e. a message is sent to its target.
@@ -278,6 +400,9 @@ public class ChainManager implements EventManager {
      * @param properties Stream properties.
      */
     public void notifyStreamListeners(StreamParticipant sender, StreamParticipant receiver, StreamProperties properties) {
+        if (partitionedEventScheduler != null && partitionedEventScheduler.defer(() -> notifyStreamListeners(sender, receiver, properties))) {
+            return;
+        }
         for (StreamListener streamListener : streamListeners) {
             streamListener.messageSent(sender, receiver, properties);
         }
@@ -294,5 +419,77 @@ public class ChainManager implements EventManager {
         for (StreamListener streamListener : streamListeners) {
             streamListener.finish();
         }
+        if (partitionedEventScheduler != null) {
+            partitionedEventScheduler.shutdown();
+        }
+    }
+
+    /**
+     * Determines the region an event belongs to, which is the region of the sender for the UpstreamModule
+     * and the region of the receivers for the DownstreamModule. Returns {@code null} for all events which need
+     * to be executed exclusively, i.e. events of the GeocasterModule, events involving the global network
+     * (which includes servers), and downstream events with receivers in multiple regions.
+     *
+     * @param event the event to determine the region of
+     * @return the id of the region, or {@code null} if the event must be executed exclusively
+     */
+    private String getRegionOfEvent(Event event) {
+        final List<EventProcessor> processors = event.getProcessors();
+        if (processors.size() != 1 || processors.get(0) instanceof GeocasterModule) {
+            return null;
+        }
+        final V2xMessage message = getMessageOfEvent(event);
+        if (message != null) {
+            // the modules look up the region of the sender, which is assigned lazily, so it must be known before the
+            // events are executed concurrently
+            RegionUtility.getRegionForNode(message.getRouting().getSource().getSourceName());
+        }
+        final String regionId;
+        final Object resource = event.getResource();
+        if (resource instanceof V2xMessage) {
+            regionId = RegionUtility.getRegionForNode(((V2xMessage) resource).getRouting().getSource().getSourceName()).id;
+        } else if (resource instanceof CellModuleMessage && ((CellModuleMessage) resource).getResource() instanceof StreamResult) {
+            regionId = ((CellModuleMessage) resource).<StreamResult>getResource().getRegionId();
+        } else if (resource instanceof CellModuleMessage && ((CellModuleMessage) resource).getResource() instanceof GeocasterResult) {
+            final GeocasterResult geocasterResult = ((CellModuleMessage) resource).getResource();
+            regionId = geocasterResult.getReceivers().keySet().size() == 1
+                    ? geocasterResult.getReceivers().keySet().iterator().next().id
+                    : null;
+        } else {
+            regionId = null;
+        }
+        if (regionId == null || GLOBAL_NETWORK_ID.equals(regionId)) {
+            return null;
+        }
+        return regionId;
+    }
+
+    /**
+     * Draws random numbers from the generator of the event currently processed by the calling thread.
+     */
+    private class EventRandomNumberGenerator implements RandomNumberGenerator {
+
+        private RandomNumberGenerator current() {
+            final RandomNumberGenerator current = eventRng.get();
+            if (current == null) {
+                throw new IllegalStateException("No random number generator initialized for the current event");
+            }
+            return current;
+        }
+
+        @Override
+        public double nextDouble() {
+            return current().nextDouble();
+        }
+
+        @Override
+        public double nextGaussian() {
+            return current().nextGaussian();
+        }
+
+        @Override
+        public void shuffle(List<?> list) {
+            current().shuffle(list);
+        }
     }
 }
@@ -55,6 +55,15 @@ public final class CCell {
      */
     public List<CBandwidthMeasurement> bandwidthMeasurements = new ArrayList<>();
 
+    /**
+     * Number of threads used to process the messages of different regions concurrently (default: 0). Events of the
+     * global network, such as messages from or to servers, and of the geocaster are still processed exclusively.
+     * If enabled, random numbers are drawn from a generator seeded per event, so that the results are identical for
+     * any number of threads, but differ from the results of sequential processing. If set to 0, all messages are
+     * processed sequentially, drawing all random numbers from a single generator.
+     */
+    public int regionThreads = 0;
+
     /**
      * relative path to the network configuration file (default: network.json)
      */
@@ -16,6 +16,8 @@
 package org.eclipse.mosaic.fed.cell.data;
 
 import org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties;
+import org.eclipse.mosaic.lib.geo.Bounds;
+import org.eclipse.mosaic.lib.geo.CartesianArea;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.objects.communication.CellConfiguration;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
@@ -24,7 +26,11 @@ import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.annotation.Nonnull;
@@ -37,17 +43,25 @@ import javax.annotation.Nonnull;
  * <li/>the position of each known node
  * <li/>the vehicle speeds (rsus, tl, cs have a speed of 0)
  * </ul>
+ * In addition, the nodes are indexed by their region and by their position within a grid,
+ * which allows to look up all nodes of a region or of an area without iterating over all nodes.
  */
 public enum SimulationData {
     INSTANCE;
 
     private static final Logger log = LoggerFactory.getLogger(SimulationData.class);
 
+    /**
+     * Edge length in meters of the cells of the grid indexing the node positions.
+     */
+    private static final double GRID_CELL_SIZE = 250d;
+
     /**
      * A simulation node with specific information about it.
      */
     private static class SimulationNode {
         private CartesianPoint position;
+        private long gridCell;
         private CNetworkProperties region;
         private Double speed;
         private CellConfiguration cellConfiguration;
@@ -55,6 +69,21 @@ public enum SimulationData {
 
     private final Map<String, SimulationNode> simulationNodeMap = new HashMap<>();
 
+    /**
+     * All nodes by the id of the region they are assigned to.
+     */
+    private final Map<String, Set<String>> nodesPerRegion = new HashMap<>();
+
+    /**
+     * All nodes which have not been assigned to a region yet.
+     */
+    private final Set<String> nodesWithoutRegion = new LinkedHashSet<>();
+
+    /**
+     * All nodes with a known position by the grid cell their position is located in.
+     */
+    private final Map<Long, Set<String>> nodesPerGridCell = new HashMap<>();
+
     /**
      * Set or update the position for a node.
      * To be only called by the CellAmbassador (throw exception when anything is wrong).
@@ -64,7 +93,16 @@ public enum SimulationData {
      */
     public void setPositionOfNode(String nodeId, CartesianPoint position) {
         if (nodeId != null && position != null) {
-            getOrCreate(nodeId).position = position;
+            final SimulationNode node = getOrCreate(nodeId);
+            final long gridCell = toGridCell(position.getX(), position.getY());
+            if (node.position == null || node.gridCell != gridCell) {
+                if (node.position != null) {
+                    removeFromIndex(nodesPerGridCell, node.gridCell, nodeId);
+                }
+                nodesPerGridCell.computeIfAbsent(gridCell, k -> new LinkedHashSet<>()).add(nodeId);
+                node.gridCell = gridCell;
+            }
+            node.position = position;
         } else {
             throw new RuntimeException(
                     "Unable to setPositionOfNode for nodeId=" + nodeId + ", position=" + position);
@@ -81,7 +119,14 @@ public enum SimulationData {
         Validate.notNull(region, "Unable to setRegionOfNode for nodeId=" + nodeId + ", because the given region is null");
         Validate.notNull(nodeId, "Unable to setRegionOfNode for nodeId=" + nodeId + ", region=" + region.id);
 
-        getOrCreate(nodeId).region = region;
+        final SimulationNode node = getOrCreate(nodeId);
+        if (node.region == null) {
+            nodesWithoutRegion.remove(nodeId);
+        } else if (!node.region.id.equals(region.id)) {
+            removeFromIndex(nodesPerRegion, node.region.id, nodeId);
+        }
+        nodesPerRegion.computeIfAbsent(region.id, k -> new LinkedHashSet<>()).add(nodeId);
+        node.region = region;
     }
 
     /**
@@ -125,10 +170,26 @@ public enum SimulationData {
         if (node == null) {
             node = new SimulationNode();
             simulationNodeMap.put(nodeId, node);
+            nodesWithoutRegion.add(nodeId);
         }
         return node;
     }
 
+    private static <K> void removeFromIndex(Map<K, Set<String>> index, K key, String nodeId) {
+        final Set<String> nodes = index.get(key);
+        if (nodes != null && nodes.remove(nodeId) && nodes.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static long toGridCell(double x, double y) {
+        return toGridCell((int) Math.floor(x / GRID_CELL_SIZE), (int) Math.floor(y / GRID_CELL_SIZE));
+    }
+
+    private static long toGridCell(int column, int row) {
+        return ((long) column << 32) | (row & 0xFFFFFFFFL);
+    }
+
     /**
      * Removes the node from position and speed table.
      * To be only called by the CellAmbassador (throw exception when anything is wrong).
@@ -136,7 +197,18 @@ public enum SimulationData {
      * @param nodeId the id of the node to remove.
      */
     public void removeNode(String nodeId) {
-        simulationNodeMap.remove(nodeId);
+        final SimulationNode node = simulationNodeMap.remove(nodeId);
+        if (node == null) {
+            return;
+        }
+        if (node.region != null) {
+            removeFromIndex(nodesPerRegion, node.region.id, nodeId);
+        } else {
+            nodesWithoutRegion.remove(nodeId);
+        }
+        if (node.position != null) {
+            removeFromIndex(nodesPerGridCell, node.gridCell, nodeId);
+        }
     }
 
     /**
@@ -148,6 +220,72 @@ public enum SimulationData {
         return simulationNodeMap.keySet();
     }
 
+    /**
+     * Returns all nodes which are assigned to the region with the given id.
+     *
+     * @param regionId the id of the region
+     * @return an unmodifiable set of all nodes assigned to the region
+     */
+    public Set<String> getNodesOfRegion(String regionId) {
+        final Set<String> nodes = nodesPerRegion.get(regionId);
+        return nodes != null ? Collections.unmodifiableSet(nodes) : Collections.emptySet();
+    }
+
+    /**
+     * Returns all nodes which have not been assigned to a region yet.
+     *
+     * @return an unmodifiable set of all nodes without region
+     */
+    public Set<String> getNodesWithoutRegion() {
+        return Collections.unmodifiableSet(nodesWithoutRegion);
+    }
+
+    /**
+     * Returns all nodes whose position is located within the given area. Only the grid cells
+     * intersecting the bounds of the area are searched.
+     *
+     * @param area the area to search nodes in
+     * @return a list of all nodes within the area
+     */
+    public List<String> getNodesInArea(CartesianArea area) {
+        final Bounds<CartesianPoint> bounds = area.getBounds();
+        final int minColumn = (int) Math.floor(Math.min(bounds.getA().getX(), bounds.getB().getX()) / GRID_CELL_SIZE);
+        final int maxColumn = (int) Math.floor(Math.max(bounds.getA().getX(), bounds.getB().getX()) / GRID_CELL_SIZE);
+        final int minRow = (int) Math.floor(Math.min(bounds.getA().getY(), bounds.getB().getY()) / GRID_CELL_SIZE);
+        final int maxRow = (int) Math.floor(Math.max(bounds.getA().getY(), bounds.getB().getY()) / GRID_CELL_SIZE);
+
+        final List<String> result = new ArrayList<>();
+        final long cellsInBounds = ((long) maxColumn - minColumn + 1) * ((long) maxRow - minRow + 1);
+        if (cellsInBounds > nodesPerGridCell.size()) {
+            // the area covers more cells than are occupied, therefore check all occupied cells instead
+            for (Map.Entry<Long, Set<String>> cell : nodesPerGridCell.entrySet()) {
+                final int column = (int) (cell.getKey() >> 32);
+                final int row = (int) (long) cell.getKey();
+                if (column >= minColumn && column <= maxColumn && row >= minRow && row <= maxRow) {
+                    addNodesInArea(cell.getValue(), area, result);
+                }
+            }
+            return result;
+        }
+        for (int column = minColumn; column <= maxColumn; column++) {
+            for (int row = minRow; row <= maxRow; row++) {
+                final Set<String> nodes = nodesPerGridCell.get(toGridCell(column, row));
+                if (nodes != null) {
+                    addNodesInArea(nodes, area, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void addNodesInArea(Set<String> nodes, CartesianArea area, List<String> result) {
+        for (String nodeId : nodes) {
+            if (area.contains(simulationNodeMap.get(nodeId).position)) {
+                result.add(nodeId);
+            }
+        }
+    }
+
     /**
      * Returns the position of a node from the position table.
      * Returns null if the node is non existing.
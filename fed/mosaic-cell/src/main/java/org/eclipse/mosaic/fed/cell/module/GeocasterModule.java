@@ -68,6 +68,7 @@ public final class GeocasterModule extends CellModule {
 
     @Override
     public void processEvent(Event event) {
+        chainManager.initializeRandomNumberGenerator(moduleName, event);
         // The Geocaster gets messages from the Upstream- and prepares them for the DownstreamModule
         Object resource = event.getResource();
         if (resource == null) {
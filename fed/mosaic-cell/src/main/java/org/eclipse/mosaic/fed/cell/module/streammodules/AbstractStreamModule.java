@@ -35,6 +35,8 @@ import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 
+import java.util.Collection;
+
 /**
  * This generic {@link AbstractStreamModule} is the basis, and covers the tasks that are common,
  * for the {@link UpstreamModule} and {@link DownstreamModule}.
@@ -60,6 +62,10 @@ public abstract class AbstractStreamModule extends CellModule {
         return streamProcessor.process(inputParameters);
     }
 
+    StreamProcessor.Batch doStreamProcessing(final StreamProcessor.Input inputParameters, final Collection<String> nodeIds) {
+        return streamProcessor.processBatch(inputParameters, nodeIds);
+    }
+
     CellModuleMessage processResult(final StreamProcessor.Input input, final StreamProcessor.Result result) {
         // Assemble first part of streamResultMessage (success, unable)
         StreamResult streamResult = new StreamResult(
@@ -58,6 +58,7 @@ public final class DownstreamModule extends AbstractStreamModule {
 
     @Override
     public void processEvent(Event event) throws Exception {
+        chainManager.initializeRandomNumberGenerator(moduleName, event);
         // The DownstreamModule is normally called after the GeocasterModule
         Object resource = event.getResource();
         if (resource == null) {
@@ -112,14 +113,17 @@ public final class DownstreamModule extends AbstractStreamModule {
      */
     private void doUnicast(final GeocasterResult geocasterResult, final long messageStartTime) throws InternalFederateException {
         for (CNetworkProperties region : geocasterResult.getReceivers().keySet()) {
-            for (String receiverId : geocasterResult.getReceivers().get(region)) {
-                // create stream
-                StreamProcessor.Input processingInput = new StreamProcessor.Input()
-                        .module(CellModuleNames.DOWNSTREAM_MODULE, null)
-                        .message(messageStartTime, geocasterResult.getV2xMessage(), geocasterResult.getDownstreamMode())
-                        .node(receiverId, region);
-
-                final StreamProcessor.Result processingResult = doStreamProcessing(processingInput);
+            // create streams for all receivers in the region at once
+            final StreamProcessor.Input regionInput = new StreamProcessor.Input()
+                    .module(CellModuleNames.DOWNSTREAM_MODULE, null)
+                    .message(messageStartTime, geocasterResult.getV2xMessage(), geocasterResult.getDownstreamMode())
+                    .node(null, region);
+            final StreamProcessor.Batch batch = doStreamProcessing(regionInput, geocasterResult.getReceivers().get(region));
+
+            for (int i = 0; i < batch.size(); i++) {
+                final StreamProcessor.Input processingInput = batch.getInput(i);
+                final StreamProcessor.Result processingResult = batch.getResult(i);
+                final String receiverId = processingInput.getNodeId();
                 final CellModuleMessage cellModuleMessage = processResult(processingInput, processingResult);
                 if (processingResult.isAcknowledged()) {
 
@@ -35,7 +35,10 @@ import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.slf4j.Logger;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Encapsulates the processing of a message transmission within both up- and downstream modules.
@@ -45,7 +48,10 @@ public class StreamProcessor {
     private final Logger log;
     private final RandomNumberGenerator randomNumberGenerator;
 
-    private int processedMessages;
+    /**
+     * Number of processed messages, which is atomic as messages of different regions might be processed concurrently.
+     */
+    private final AtomicInteger processedMessages = new AtomicInteger();
 
     /**
      * Creates a new {@link StreamProcessor} object.
@@ -72,10 +78,7 @@ public class StreamProcessor {
      */
     Result process(final Input input) {
         log.debug("Do streamProcessing for {} in region \"{}\"", input.mode, input.nodeId);
-        Result result = new Result();
-        result.messageEndTime = input.messageStartTime;
-        result.messageProcessed = true;
-        result.acknowledged = true;
+        Result result = new Result().reset(input.messageStartTime);
 
         if (!isNodeConfigurationEnabled(input)) {
             result.disableProcessing(NegativeAckReason.NODE_DEACTIVATED);
@@ -92,6 +95,51 @@ public class StreamProcessor {
         return result;
     }
 
+    /**
+     * Does the stream processing of one message for multiple nodes of the same region at once, e.g. for all receivers
+     * of a downlink unicast within one region. In a first pass, the core delays and retransmission attempts of all nodes are
+     * calculated. In a second pass, the bandwidth for all nodes is reserved in the capacity model. Since the capacity model does
+     * not draw any random numbers, the results are equal to calling {@link #process} for each node one after another.
+     *
+     * @param input   the input holding the message, mode, region, and modules, which are equal for all nodes
+     * @param nodeIds the ids of all nodes to process the message for
+     * @return the {@link Batch} holding the input and result for each node
+     */
+    Batch processBatch(final Input input, final Collection<String> nodeIds) {
+        log.debug("Do batched streamProcessing for {} nodes in region \"{}\"", nodeIds.size(), input.region.id);
+        final Batch batch = new Batch(input, nodeIds);
+
+        // 1) CoreDelay-model and Pr/Pl-model for all nodes
+        for (int i = 0; i < batch.size; i++) {
+            final Input nodeInput = batch.getInput(i);
+            final Result result = batch.result.reset(input.messageStartTime);
+            if (!isNodeConfigurationEnabled(nodeInput)) {
+                result.disableProcessing(NegativeAckReason.NODE_DEACTIVATED);
+            } else {
+                try {
+                    batch.coreDelays[i] = DelayUtility.calculateDelay(input.region, input.mode, nodeInput.nodeId, randomNumberGenerator);
+                    batch.attempts[i] = calculateRetransmissionLossModel(nodeInput, result, batch.coreDelays[i]);
+                } catch (InternalFederateException e) {
+                    result.disableProcessing();
+                }
+            }
+            batch.store(i);
+        }
+
+        // 2) Capacity-model for all nodes which still process the message
+        for (int i = 0; i < batch.size; i++) {
+            if (batch.messageProcessed[i]) {
+                final Input nodeInput = batch.getInput(i);
+                final Result result = batch.getResult(i);
+                long neededBandwidthInBps = calculateNeededBandwidth(nodeInput, result, batch.coreDelays[i], batch.attempts[i]);
+                consumeCapacity(nodeInput, result, neededBandwidthInBps);
+                batch.store(i);
+            }
+            updateStatistics(batch.getInput(i), batch.getResult(i));
+        }
+        return batch;
+    }
+
     private void calculateTransmissionModels(Input input, Result result) throws InternalFederateException {
         // 1) CoreDelay-model
         // * get core delay according to parameters.getMode() - constant, simple random, gammas
@@ -214,10 +262,10 @@ public class StreamProcessor {
                 // Drop packet since not enough bandwidth is available
                 result.disableProcessing();
                 if (!RegionCapacityUtility.isAvailable(input.mode, input.region)) {
-                    result.nackReasons.add(NegativeAckReason.CHANNEL_CAPACITY_EXCEEDED);
+                    result.addNackReason(NegativeAckReason.CHANNEL_CAPACITY_EXCEEDED);
                 }
                 if (!NodeCapacityUtility.isAvailable(input.mode, input.nodeConfiguration)) {
-                    result.nackReasons.add(NegativeAckReason.NODE_CAPACITY_EXCEEDED);
+                    result.addNackReason(NegativeAckReason.NODE_CAPACITY_EXCEEDED);
                 }
             }
         }
@@ -249,7 +297,7 @@ public class StreamProcessor {
             log.trace("Calculated total {}-delay for message in region \"{}\": {} ns",
                     input.mode, input.region.id, result.messageEndTime - input.messageStartTime);
         }
-        ++processedMessages;
+        processedMessages.incrementAndGet();
     }
 
     /**
@@ -258,7 +306,7 @@ public class StreamProcessor {
      * @return Number of processed messages.
      */
     int getProcessedMessages() {
-        return processedMessages;
+        return processedMessages.get();
     }
 
     /**
@@ -368,9 +416,9 @@ public class StreamProcessor {
          */
         private boolean acknowledged;
         /**
-         * List of reasons for why message wasn't acknowledged.
+         * List of reasons for why message wasn't acknowledged, created with the first reason.
          */
-        private final List<NegativeAckReason> nackReasons = new ArrayList<>();
+        private List<NegativeAckReason> nackReasons;
         /**
          * End time of the message.
          */
@@ -389,7 +437,7 @@ public class StreamProcessor {
         }
 
         List<NegativeAckReason> getNackReasons() {
-            return nackReasons;
+            return nackReasons != null ? nackReasons : Collections.emptyList();
         }
 
         long getMessageEndTime() {
@@ -402,7 +450,7 @@ public class StreamProcessor {
 
         public void disableProcessing(NegativeAckReason negativeAckReason) {
             disableProcessing();
-            nackReasons.add(negativeAckReason);
+            addNackReason(negativeAckReason);
         }
 
         public void disableProcessing() {
@@ -412,7 +460,123 @@ public class StreamProcessor {
 
         void unacknowledge(NegativeAckReason negativeAckReason) {
             acknowledged = false;
+            addNackReason(negativeAckReason);
+        }
+
+        private void addNackReason(NegativeAckReason negativeAckReason) {
+            if (nackReasons == null) {
+                nackReasons = new ArrayList<>(2);
+            }
             nackReasons.add(negativeAckReason);
         }
+
+        /**
+         * Resets this result to a processed and acknowledged message, so that it can be reused.
+         */
+        private Result reset(long messageStartTime) {
+            messageProcessed = true;
+            acknowledged = true;
+            messageEndTime = messageStartTime;
+            requiredBandwidth = 0;
+            if (nackReasons != null) {
+                nackReasons.clear();
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Holds the inputs and results of {@link #processBatch} for all nodes in primitive arrays. A single {@link Input}
+     * and {@link Result} object is reused to access the entry of each node, therefore, the objects returned by
+     * {@link #getInput} and {@link #getResult} are only valid until the entry of another node is accessed.
+     */
+    static class Batch {
+
+        /**
+         * Order in which the reasons are added to the list of reasons of a {@link Result} during processing.
+         */
+        private static final NegativeAckReason[] NACK_REASON_ORDER = {
+                NegativeAckReason.NODE_DEACTIVATED,
+                NegativeAckReason.PACKET_LOSS,
+                NegativeAckReason.CHANNEL_CAPACITY_EXCEEDED,
+                NegativeAckReason.NODE_CAPACITY_EXCEEDED,
+                NegativeAckReason.ADDRESS_ROUTING_ERROR
+        };
+
+        private final Input input;
+        private final Result result = new Result();
+        private final int size;
+
+        private final String[] nodeIds;
+        private final CellConfiguration[] nodeConfigurations;
+        private final long[] coreDelays;
+        private final int[] attempts;
+        private final boolean[] messageProcessed;
+        private final boolean[] acknowledged;
+        private final long[] messageEndTimes;
+        private final long[] requiredBandwidths;
+        /**
+         * Bit set of the reasons why the message was not acknowledged, indexed by the ordinal of the reason.
+         */
+        private final int[] nackReasons;
+
+        private Batch(Input input, Collection<String> nodeIds) {
+            this.input = input;
+            this.nodeIds = nodeIds.toArray(new String[0]);
+            this.size = this.nodeIds.length;
+            this.nodeConfigurations = new CellConfiguration[size];
+            this.coreDelays = new long[size];
+            this.attempts = new int[size];
+            this.messageProcessed = new boolean[size];
+            this.acknowledged = new boolean[size];
+            this.messageEndTimes = new long[size];
+            this.requiredBandwidths = new long[size];
+            this.nackReasons = new int[size];
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Returns the input of the node with the given index.
+         */
+        Input getInput(int index) {
+            input.nodeId = nodeIds[index];
+            input.nodeConfiguration = nodeConfigurations[index];
+            return input;
+        }
+
+        /**
+         * Returns the result of the node with the given index.
+         */
+        Result getResult(int index) {
+            result.reset(input.messageStartTime);
+            result.messageProcessed = messageProcessed[index];
+            result.acknowledged = acknowledged[index];
+            result.messageEndTime = messageEndTimes[index];
+            result.requiredBandwidth = requiredBandwidths[index];
+            if (nackReasons[index] != 0) {
+                for (NegativeAckReason reason : NACK_REASON_ORDER) {
+                    if ((nackReasons[index] & (1 << reason.ordinal())) != 0) {
+                        result.addNackReason(reason);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private void store(int index) {
+            nodeConfigurations[index] = input.nodeConfiguration;
+            messageProcessed[index] = result.messageProcessed;
+            acknowledged[index] = result.acknowledged;
+            messageEndTimes[index] = result.messageEndTime;
+            requiredBandwidths[index] = result.requiredBandwidth;
+            int reasons = 0;
+            for (NegativeAckReason reason : result.getNackReasons()) {
+                reasons |= 1 << reason.ordinal();
+            }
+            nackReasons[index] = reasons;
+        }
     }
 }
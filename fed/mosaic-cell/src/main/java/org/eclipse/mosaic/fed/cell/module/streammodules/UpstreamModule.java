@@ -47,6 +47,7 @@ public final class UpstreamModule extends AbstractStreamModule {
 
     @Override
     public void processEvent(Event event) {
+        chainManager.initializeRandomNumberGenerator(moduleName, event);
         // The UpstreamModule is the first module in the chain
         Object resource = event.getResource();
         if (resource == null) {
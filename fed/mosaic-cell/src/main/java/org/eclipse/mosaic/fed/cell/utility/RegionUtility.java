@@ -30,7 +30,6 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 
 /**
  * This class contains static methods to make the region handling easier.
@@ -52,16 +51,11 @@ public class RegionUtility {
      * @return list of all nodes.
      */
     public static List<String> getNodesForRegion(CNetworkProperties region) {
-        final List<String> nodesForRegion = new ArrayList<>();
-        final Set<String> allNodes = SimulationData.INSTANCE.getAllNodesInSimulation();
-        for (String node : allNodes) {
-            final String regionForNode = RegionUtility.getRegionForNode(node).id;
-            if (regionForNode.equals(region.id)) {
-                nodesForRegion.add(node);
-            }
+        // nodes without an assigned region yet are assigned to the region of their position first
+        for (String node : new ArrayList<>(SimulationData.INSTANCE.getNodesWithoutRegion())) {
+            getRegionForNode(node);
         }
-
-        return nodesForRegion;
+        return new ArrayList<>(SimulationData.INSTANCE.getNodesOfRegion(region.id));
     }
 
     /**
@@ -131,16 +125,7 @@ public class RegionUtility {
      * @return list of all nodes within the destination area.
      */
     public static List<String> getNodesForDestinationArea(GeoArea geoArea) {
-        final CartesianArea area = geoArea.toCartesian();
-        List<String> nodes = new ArrayList<>();
-        for (String n : SimulationData.INSTANCE.getAllNodesInSimulation()) {
-            CartesianPoint nodePos = SimulationData.INSTANCE.getPositionOfNode(n);
-            if (nodePos != null && area.contains(nodePos)) {
-                nodes.add(n);
-            }
-        }
-
-        return nodes;
+        return SimulationData.INSTANCE.getNodesInArea(geoArea.toCartesian());
     }
 
     /**
@@ -18,8 +18,6 @@ package org.eclipse.mosaic.fed.cell.viz;
 import org.eclipse.mosaic.fed.cell.config.model.CMobileNetworkProperties;
 import org.eclipse.mosaic.fed.cell.config.model.TransmissionMode;
 
-import org.apache.commons.lang3.tuple.Triple;
-
 import java.io.File;
 import java.util.HashMap;
 import java.util.List;
@@ -35,10 +33,12 @@ public class OnDemandPerRegionBandwidthMeasurements implements StreamListener {
     private final List<CMobileNetworkProperties> regions;
 
     /**
-     * Map which contains all registered {@link PerRegionBandwidthMeasurement}, identifying the measurement instance.
-     * Key is for example: *, region1, server0
+     * Maps which contain all registered {@link PerRegionBandwidthMeasurement}s, identified by the region of the
+     * receiver (uplink) or sender (downlink) and the application class. Nested maps are used, so that
+     * no key objects need to be created for looking up the measurements of a message.
      */
-    private final Map<Triple<String, String, String>, PerRegionBandwidthMeasurement> measurementsRegistry = new HashMap<>();
+    private final Map<String, Map<String, PerRegionBandwidthMeasurement>> uplinkMeasurements = new HashMap<>();
+    private final Map<String, Map<String, PerRegionBandwidthMeasurement>> downlinkMeasurements = new HashMap<>();
 
     /**
      * Creates a new {@link OnDemandPerRegionBandwidthMeasurements} object.
@@ -53,56 +53,49 @@ public class OnDemandPerRegionBandwidthMeasurements implements StreamListener {
 
     @Override
     public void messageSent(StreamParticipant sender, StreamParticipant receiver, StreamProperties properties) {
-        measurementsRegistry
-                .computeIfAbsent(
-                        Triple.of(PerRegionBandwidthMeasurement.WILDCARD_ALL, receiver.getRegion(), properties.getApplicationClass()),
-                        this::createUplinkMeasurement
-                )
-                .messageSent(sender, receiver, properties);
+        final String applicationClass = properties.getApplicationClass();
+
+        PerRegionBandwidthMeasurement uplinkMeasurement = getMeasurement(uplinkMeasurements, receiver.getRegion(), applicationClass);
+        if (uplinkMeasurement == null) {
+            uplinkMeasurement = createMeasurement(
+                    PerRegionBandwidthMeasurement.WILDCARD_ALL, receiver.getRegion(), TransmissionMode.UplinkUnicast, applicationClass
+            );
+            uplinkMeasurements.computeIfAbsent(receiver.getRegion(), k -> new HashMap<>()).put(applicationClass, uplinkMeasurement);
+        }
+        uplinkMeasurement.messageSent(sender, receiver, properties);
 
-        measurementsRegistry
-                .computeIfAbsent(
-                        Triple.of(sender.getRegion(), PerRegionBandwidthMeasurement.WILDCARD_ALL, properties.getApplicationClass()),
-                        this::createDownlinkMeasurement
-                )
-                .messageSent(sender, receiver, properties);
+        PerRegionBandwidthMeasurement downlinkMeasurement = getMeasurement(downlinkMeasurements, sender.getRegion(), applicationClass);
+        if (downlinkMeasurement == null) {
+            downlinkMeasurement = createMeasurement(
+                    sender.getRegion(), PerRegionBandwidthMeasurement.WILDCARD_ALL, TransmissionMode.DownlinkUnicast, applicationClass
+            );
+            downlinkMeasurements.computeIfAbsent(sender.getRegion(), k -> new HashMap<>()).put(applicationClass, downlinkMeasurement);
+        }
+        downlinkMeasurement.messageSent(sender, receiver, properties);
     }
 
-    /**
-     * Creates a uplink measurement.
-     *
-     * @param key Triple object contains the input and output region for the message and the application class..
-     * @return Bandwidth measurement per region.
-     */
-    private PerRegionBandwidthMeasurement createUplinkMeasurement(Triple<String, String, String> key) {
-        return new PerRegionBandwidthMeasurement(
-                parentDir,
-                key.getLeft(),
-                key.getMiddle(),
-                TransmissionMode.UplinkUnicast,
-                key.getRight(),
-                regions
-        );
+    private static PerRegionBandwidthMeasurement getMeasurement(Map<String, Map<String, PerRegionBandwidthMeasurement>> measurements,
+                                                                String region, String applicationClass) {
+        final Map<String, PerRegionBandwidthMeasurement> measurementsOfRegion = measurements.get(region);
+        return measurementsOfRegion != null ? measurementsOfRegion.get(applicationClass) : null;
     }
 
     /**
-     * Creates a downlink measurement.
+     * Creates a measurement.
      *
-     * @param key Triple object contains the input and output region for the message and the application class.
+     * @param from             The region from which the measured messages are sent.
+     * @param to               The region to which the measured messages are sent.
+     * @param mode             The transmission mode of the measured communication.
+     * @param applicationClass The application class of the measured messages.
+     * @return Bandwidth measurement per region.
      */
-    private PerRegionBandwidthMeasurement createDownlinkMeasurement(Triple<String, String, String> key) {
-        return new PerRegionBandwidthMeasurement(
-                parentDir,
-                key.getLeft(),
-                key.getMiddle(),
-                TransmissionMode.DownlinkUnicast,
-                key.getRight(),
-                regions
-        );
+    private PerRegionBandwidthMeasurement createMeasurement(String from, String to, TransmissionMode mode, String applicationClass) {
+        return new PerRegionBandwidthMeasurement(parentDir, from, to, mode, applicationClass, regions);
     }
 
     @Override
     public void finish() {
-        measurementsRegistry.forEach((k, v) -> v.finish());
+        uplinkMeasurements.values().forEach(m -> m.values().forEach(PerRegionBandwidthMeasurement::finish));
+        downlinkMeasurements.values().forEach(m -> m.values().forEach(PerRegionBandwidthMeasurement::finish));
     }
 }
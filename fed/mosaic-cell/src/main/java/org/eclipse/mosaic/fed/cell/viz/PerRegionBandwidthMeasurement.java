@@ -27,7 +27,6 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import org.apache.commons.io.Charsets;
-import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.SystemUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,13 +36,14 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.zip.GZIPOutputStream;
 
 /**
- * Measures the bandwidth acquired by vehicles within each simulation time step.
+ * Measures the bandwidth acquired by vehicles within each simulation time step. The measured values
+ * of the intervals which have not been written to the CSV file yet are kept in a ring buffer of
+ * primitive values, hence, the memory consumption does not grow with the simulation duration.
  */
 public class PerRegionBandwidthMeasurement implements StreamListener {
 
@@ -73,10 +73,10 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
     private final BiMap<String, Integer> indexMap = HashBiMap.create();
 
     /**
-     * List of the transmitted data. Each Array in the list represents one time step.
+     * The transmitted data of all intervals not yet written to the CSV file. Each row represents one time step.
      */
     @VisibleForTesting
-    final TransmittedData transmittedData = new TransmittedData();
+    final TransmittedData transmittedData;
 
     /**
      * The number of data rows written to the CSV file so far.
@@ -117,6 +117,11 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
 
     private final static int EXPORT_STEP_SIZE = 600;
 
+    /**
+     * The initial number of rows kept in memory, which covers the rows kept back during an export.
+     */
+    private final static int INITIAL_WINDOW_SIZE = 4 * EXPORT_STEP_SIZE;
+
     private long nextExport;
 
     /**
@@ -124,6 +129,11 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
      */
     private OutputStreamWriter csvWriter;
 
+    /**
+     * Reused for assembling the lines of the CSV file.
+     */
+    private final StringBuilder csvLine = new StringBuilder();
+
     /**
      * Constructs a new PerRegionBandwidthMeasurement.
      *
@@ -160,7 +170,7 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
             csvName += "#" + (mode.isUplink() ? "Up" : "Dn");
         }
 
-        this.transmittedData.init(indexMap.size());
+        this.transmittedData = new TransmittedData(indexMap.size(), INITIAL_WINDOW_SIZE);
 
         initCsv();
     }
@@ -181,12 +191,11 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
             throw new RuntimeException(e);
         }
 
-        StringBuilder b = new StringBuilder();
-        b.append("time");
+        csvLine.append("time");
         for (int i = 0; i < indexMap.size(); i++) {
-            b.append(";").append(indexMap.inverse().get(i));
+            csvLine.append(";").append(indexMap.inverse().get(i));
         }
-        writeToCsv(b.toString());
+        writeToCsv(csvLine);
         flushCsv();
     }
 
@@ -209,8 +218,8 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
             if (sendingTime > STARTING_TIME_NANO && sendingTime < END_TIME_NANO
                     && receivingTime > STARTING_TIME_NANO && receivingTime < END_TIME_NANO) {
 
-                /* Generate array which contains the bandwidth for each interval the message is sent in. */
-                long[] bpsPerInterval = getBandwidthPerInterval(sendingTime, receivingTime, properties.getBandwidth());
+                /* Determine the number of intervals the message is sent in. */
+                int numberOfIntervals = getNumberOfIntervals(sendingTime, receivingTime);
 
                 /* determine point of time (the row index based on time and INTERVAL) at which the transmission started
                    this value is subtracted by the starting point of the bandwidth measurement
@@ -218,18 +227,17 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
                 int startIntervalIndex = (int) ((sendingTime - STARTING_TIME_NANO - sendingTime % this.interval) / this.interval);
 
                 // add transmitted bits to either sender or receiver region, according to transmission mode
-                final int regionIndex;
+                final Integer regionIndex;
                 if (mode == TransmissionMode.UplinkUnicast) {
-                    regionIndex = ObjectUtils.defaultIfNull(indexMap.get(sender.getRegion()), -1);
+                    regionIndex = indexMap.get(sender.getRegion());
                 } else {
-                    regionIndex = ObjectUtils.defaultIfNull(indexMap.get(receiver.getRegion()), -1);
+                    regionIndex = indexMap.get(receiver.getRegion());
                 }
 
-                if (regionIndex >= 0) {
-                    for (int i = startIntervalIndex; i < startIntervalIndex + bpsPerInterval.length; i++) {
-                        Row transmittedData = getRow(i);
+                if (regionIndex != null) {
+                    for (int i = startIntervalIndex; i < startIntervalIndex + numberOfIntervals; i++) {
                         //add to transmitted data in region
-                        transmittedData.set(regionIndex, bpsPerInterval[i - startIntervalIndex] + transmittedData.get(regionIndex));
+                        transmittedData.add(i, regionIndex, properties.getBandwidth());
                     }
                 }
             }
@@ -282,29 +290,15 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
     }
 
     /**
-     * @return an array containing the bandwidth send in each time interval between sendingTime and receivingTime
+     * @return the number of time intervals between sendingTime and receivingTime
      */
-    private long[] getBandwidthPerInterval(long sendingTime, long receivingTime, long bandwidth) {
-        final long[] bitsPerInterval;
+    private int getNumberOfIntervals(long sendingTime, long receivingTime) {
         long sendingInterval = sendingTime / this.interval;
 
         //integer division where we always want to round up
         long receivingInterval = (receivingTime + this.interval - 1) / this.interval;
 
-        long numberOfIntervals = max(1, receivingInterval - sendingInterval);
-        bitsPerInterval = new long[(int) numberOfIntervals];
-        Arrays.fill(bitsPerInterval, bandwidth);
-        return bitsPerInterval;
-    }
-
-    /**
-     * Gets the row with a specific index.
-     *
-     * @param rowIndex Index of the row.
-     * @return Row element.
-     */
-    private Row getRow(int rowIndex) {
-        return transmittedData.get(rowIndex);
+        return (int) max(1, receivingInterval - sendingInterval);
     }
 
     /**
@@ -333,43 +327,37 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
 
         int endRowIndex = max(csvSize, csvSize + exportSize);
 
-        StringBuffer b;
         for (int rowIndex = csvSize; rowIndex < endRowIndex; rowIndex++) {
-            b = new StringBuffer(Long.toUnsignedString((csvSize * interval) / TIME.SECOND));
-
-            /* Previous version:
-             *      for (Long transmitted: transmittedDataList.get(rowIndex)) {
-             *          b.append(";").append(ObjectUtils.defaultIfNull(transmitted, 0).toString());
-             *      }
-             * was quite slow; especially due to inefficient iteration over the array and
-             * frequent conversions of zeros to string. */
+            csvLine.append((csvSize * interval) / TIME.SECOND);
+
+            // zeros are appended directly, since most of the values are zero usually
             long transmitted;
-            Row row = transmittedData.get(rowIndex);
-            for (int i = 0; i < row.size(); i++) {
-                transmitted = row.get(i);
+            for (int i = 0; i < transmittedData.getColumnSize(); i++) {
+                transmitted = transmittedData.get(rowIndex, i);
                 if (transmitted == 0L) {
-                    b.append(";0");
+                    csvLine.append(";0");
                 } else {
-                    b.append(";").append(Long.toUnsignedString(transmitted));
+                    csvLine.append(';').append(transmitted);
                 }
             }
             transmittedData.clearRow(rowIndex);
 
-            writeToCsv(b.toString());
+            writeToCsv(csvLine);
             csvSize++;
         }
         flushCsv();
     }
 
     /**
-     * Writes measurements to the csv file.
+     * Writes measurements to the csv file and clears the given line afterwards.
      *
-     * @param s String to write to csv file.
+     * @param line Line to write to csv file.
      */
-    private void writeToCsv(String s) {
+    private void writeToCsv(StringBuilder line) {
         try {
-            csvWriter.write(s);
+            csvWriter.append(line);
             csvWriter.write(SystemUtils.LINE_SEPARATOR);
+            line.setLength(0);
         } catch (IOException e) {
             log.error("Could not write line", e);
         }
@@ -384,72 +372,93 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
     }
 
     /**
-     * Wrapper around the actual list of transmitted data.
-     * In order to consume less memory, rows which have been written out
-     * to CSV are replaced with null references.
+     * Holds the transmitted data of all rows which have not been written out to CSV yet in
+     * a ring buffer of primitive values. The window of kept rows starts at the first row which
+     * has not been cleared yet and is only enlarged if a single transmission spans more intervals
+     * than fit into the current window.
      */
     static class TransmittedData {
 
-        private final ArrayList<Row> transmittedDataList = new ArrayList<>();
-        private int columnSize;
+        private final int columnSize;
+
+        /**
+         * All values of the kept rows, row by row. The row with the index i is located at (i % windowSize) * columnSize.
+         */
+        private long[] values;
+        private int windowSize;
+
+        /**
+         * The index of the first row which has not been cleared yet.
+         */
+        private int firstRow;
 
-        void init(int columnSize) {
+        /**
+         * The number of rows, i.e. the index of the last row which has been written to plus one.
+         */
+        private int size;
+
+        TransmittedData(int columnSize, int windowSize) {
             this.columnSize = columnSize;
+            this.windowSize = windowSize;
+            this.values = new long[columnSize * windowSize];
         }
 
         int size() {
-            return transmittedDataList.size();
+            return size;
         }
 
-        Row get(int rowIndex) {
-            if (size() <= rowIndex) {
-                for (int i = size(); i <= rowIndex; i++) {
-                    transmittedDataList.add(null);
-                }
-            }
-            Row row = transmittedDataList.get(rowIndex);
-            if (row == null) {
-                row = new Row(columnSize);
-                transmittedDataList.set(rowIndex, row);
-            }
-            return row;
+        int getColumnSize() {
+            return columnSize;
         }
 
-        void clearRow(int rowIndex) {
-            transmittedDataList.set(rowIndex, null);
+        long get(int rowIndex, int column) {
+            if (rowIndex < firstRow || rowIndex >= size) {
+                return 0;
+            }
+            return values[offset(rowIndex) + column];
         }
-    }
-
-    /**
-     * Wrapper of long array to reduce memory consumption, as the array
-     * which holds the information is only required if needed (e.g. rows
-     * without any measurements should not consume memory)
-     */
-    static class Row {
-
-        private Long[] content = null;
-        private final int size;
 
-        private Row(int size) {
-            this.size = size;
+        /**
+         * Adds the given value to the row and column. Values for rows which have been cleared already are dropped.
+         */
+        void add(int rowIndex, int column, long value) {
+            if (rowIndex < firstRow) {
+                return;
+            }
+            if (rowIndex - firstRow >= windowSize) {
+                enlargeWindow(rowIndex - firstRow + 1);
+            }
+            size = max(size, rowIndex + 1);
+            values[offset(rowIndex) + column] += value;
         }
 
-        long get(int column) {
-            if (content == null) {
-                return 0;
+        /**
+         * Clears the given row, which must be the first row which has not been cleared yet.
+         */
+        void clearRow(int rowIndex) {
+            if (rowIndex >= size) {
+                size = rowIndex + 1;
             }
-            return ObjectUtils.defaultIfNull(content[column], 0L);
+            final int offset = offset(rowIndex);
+            Arrays.fill(values, offset, offset + columnSize, 0L);
+            firstRow = rowIndex + 1;
         }
 
-        void set(int column, long value) {
-            if (content == null) {
-                content = new Long[size];
-            }
-            content[column] = value;
+        private int offset(int rowIndex) {
+            return (rowIndex % windowSize) * columnSize;
         }
 
-        public int size() {
-            return size;
+        private void enlargeWindow(int minimumWindowSize) {
+            int newWindowSize = windowSize;
+            while (newWindowSize < minimumWindowSize) {
+                newWindowSize *= 2;
+            }
+            final long[] newValues = new long[columnSize * newWindowSize];
+            for (int rowIndex = firstRow; rowIndex < size; rowIndex++) {
+                System.arraycopy(values, offset(rowIndex), newValues, (rowIndex % newWindowSize) * columnSize, columnSize);
+            }
+            values = newValues;
+            windowSize = newWindowSize;
         }
     }
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.cell.chain;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties;
+import org.eclipse.mosaic.fed.cell.data.ConfigurationData;
+import org.eclipse.mosaic.fed.cell.data.SimulationData;
+import org.eclipse.mosaic.fed.cell.junit.CellConfigurationRule;
+import org.eclipse.mosaic.fed.cell.junit.CellSimulationRule;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
+import org.eclipse.mosaic.lib.geo.GeoCircle;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.geo.UtmPoint;
+import org.eclipse.mosaic.lib.geo.UtmZone;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+import org.eclipse.mosaic.lib.junit.IpResolverRule;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
+import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
+import org.eclipse.mosaic.lib.model.delay.SimpleRandomDelay;
+import org.eclipse.mosaic.lib.objects.addressing.CellMessageRoutingBuilder;
+import org.eclipse.mosaic.lib.objects.addressing.IpResolver;
+import org.eclipse.mosaic.lib.objects.communication.CellConfiguration;
+import org.eclipse.mosaic.lib.objects.v2x.V2xMessage;
+import org.eclipse.mosaic.rti.DATA;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.RtiAmbassador;
+import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+public class ChainManagerPartitionedTest {
+
+    @Rule
+    public IpResolverRule ipResolverRule = new IpResolverRule();
+
+    private final GeoProjectionRule transformationRule = new GeoProjectionRule(
+            UtmPoint.eastNorth(UtmZone.from(GeoPoint.lonLat(13.3856, 52.5415)), 388405.53, 5820063.64)
+    );
+
+    private final CellConfigurationRule configRule = new CellConfigurationRule()
+            .withNetworkConfig("configs/network_for_moduletest.json")
+            .withRegionConfig("configs/regions_for_moduletest.json");
+
+    @Rule
+    public RuleChain ruleChain = RuleChain.outerRule(transformationRule).around(configRule);
+
+    @Rule
+    public CellSimulationRule simulationRule = new CellSimulationRule();
+
+    private final List<V2xMessage> messages = new ArrayList<>();
+
+    @Before
+    public void setup() {
+        // random delays and losses in all regions, so that the results depend on the drawn random numbers
+        for (CNetworkProperties region : ConfigurationData.INSTANCE.getRegionConfig().regions) {
+            region.uplink.delay = createRandomDelay();
+            region.uplink.transmission.lossProbability = 0.3;
+            region.uplink.capacity = region.uplink.maxCapacity = 100 * DATA.MEGABIT;
+            region.downlink.unicast.delay = createRandomDelay();
+            region.downlink.unicast.transmission.lossProbability = 0.3;
+            region.downlink.capacity = region.downlink.maxCapacity = 100 * DATA.MEGABIT;
+        }
+
+        // four vehicles in Tiergarten and four vehicles in Kreuzberg
+        for (int i = 0; i < 8; i++) {
+            final String vehicle = "veh_" + i;
+            final GeoPoint position = i < 4
+                    ? GeoPoint.latLon(52.513, 13.335 + i * 0.01)
+                    : GeoPoint.latLon(52.5, 13.385 + (i - 4) * 0.01);
+            SimulationData.INSTANCE.setPositionOfNode(vehicle, position.toCartesian());
+            SimulationData.INSTANCE.setCellConfigurationOfNode(vehicle, new CellConfiguration(vehicle, true));
+            IpResolver.getSingleton().registerHost(vehicle);
+        }
+
+        // each vehicle sends messages to another vehicle in its region, and one vehicle sends a geocast to Kreuzberg
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 8; i++) {
+                final String receiver = "veh_" + ((i / 4) * 4 + (i + 1) % 4);
+                messages.add(new SampleV2xMessage(
+                        new CellMessageRoutingBuilder("veh_" + i, null).topoCast(receiver), (100 + 100 * round) * DATA.BYTE
+                ));
+            }
+        }
+        messages.add(new SampleV2xMessage(
+                new CellMessageRoutingBuilder("veh_0", null).geoBroadcastBasedOnUnicast(
+                        new GeoCircle(GeoPoint.latLon(52.5, 13.4), 2000)
+                ), 200 * DATA.BYTE
+        ));
+    }
+
+    @Test
+    public void processEvents_partitionedByRegion_sameResultsForAnyNumberOfThreads() throws Exception {
+        // RUN
+        final List<String> partitionedSingleThread = simulate(1);
+        final List<String> partitioned = simulate(3);
+
+        // ASSERT
+        // some of the 40 unicasts and the geocast to four receivers are lost
+        assertTrue(partitionedSingleThread.size() > 0);
+        assertTrue(partitionedSingleThread.size() < 44);
+        assertEquals(partitionedSingleThread, partitioned);
+    }
+
+    @Test
+    public void processEvents_sequential_randomNumbersOfSimulation() throws Exception {
+        // SETUP
+        final RandomNumberGenerator rng = new DefaultRandomNumberGenerator(182931861823L);
+
+        // RUN
+        final ChainManager chainManager = new ChainManager(
+                mock(RtiAmbassador.class), rng, new AmbassadorParameter("Cell", new File("cell_config.json"))
+        );
+
+        // ASSERT
+        assertSame(rng, chainManager.getRandomNumberGenerator());
+    }
+
+    private static SimpleRandomDelay createRandomDelay() {
+        final SimpleRandomDelay delay = new SimpleRandomDelay();
+        delay.minDelay = 50 * TIME.MILLI_SECOND;
+        delay.maxDelay = 200 * TIME.MILLI_SECOND;
+        delay.steps = 4;
+        return delay;
+    }
+
+    /**
+     * Sends all messages at the same time and advances the time of the {@link ChainManager} until all
+     * events are processed.
+     *
+     * @return all interactions sent to the RTI, in the order they were sent
+     */
+    private List<String> simulate(int regionThreads) throws Exception {
+        ConfigurationData.INSTANCE.getCellConfig().regionThreads = regionThreads;
+
+        final List<String> interactions = new ArrayList<>();
+        final TreeSet<Long> requestedTimes = new TreeSet<>();
+        final RtiAmbassador rti = mock(RtiAmbassador.class);
+        doAnswer(invocation -> requestedTimes.add(invocation.getArgument(0))).when(rti).requestAdvanceTime(anyLong());
+        doAnswer(invocation -> interactions.add(toString(invocation.getArgument(0))))
+                .when(rti).triggerInteraction(isA(Interaction.class));
+
+        final ChainManager chainManager = new ChainManager(
+                rti, new DefaultRandomNumberGenerator(182931861823L), new AmbassadorParameter("Cell", new File("cell_config.json"))
+        );
+        for (V2xMessage message : messages) {
+            chainManager.startEvent(new V2xMessageTransmission(10 * TIME.SECOND, message));
+        }
+        while (!requestedTimes.isEmpty()) {
+            chainManager.advanceTime(requestedTimes.pollFirst());
+        }
+        chainManager.printStatistics();
+        return interactions;
+    }
+
+    private static String toString(Interaction interaction) {
+        if (interaction instanceof V2xMessageReception) {
+            final V2xMessageReception reception = (V2xMessageReception) interaction;
+            return String.format("t=%d reception msg=%d receiver=%s",
+                    reception.getTime(), reception.getMessageId(), reception.getReceiverName());
+        }
+        return interaction.getTypeId();
+    }
+}
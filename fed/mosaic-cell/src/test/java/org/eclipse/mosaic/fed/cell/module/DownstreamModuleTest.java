@@ -531,6 +531,49 @@ public class DownstreamModuleTest {
         assertEquals(0L, ConfigurationData.INSTANCE.getNetworkConfig().globalNetwork.downlink.capacity);
     }
 
+    @Test
+    public void testProcessMessage_multipleReceiversRegionLimited() throws Exception {
+        // SETUP
+        // TCP
+        routing.set(
+                new CellMessageRoutingBuilder("veh_0", null)
+                        .protocol(ProtocolType.TCP)
+                        .topoCast(new byte[]{1, 2, 3, 4})
+        );
+        SampleV2xMessage sampleV2XMessage = new SampleV2xMessage(routing.get(), 10 * DATA.BYTE);
+        SimulationData.INSTANCE.setCellConfigurationOfNode("veh_1", new CellConfiguration("veh_1", false));
+        SimulationData.INSTANCE.setCellConfigurationOfNode("veh_2", new CellConfiguration("veh_2", true));
+
+        final Multimap<CNetworkProperties, String> receivers = ArrayListMultimap.create();
+        receivers.putAll(RegionUtility.getRegionForNode("veh_0"), Arrays.asList("veh_0", "veh_1", "veh_2"));
+        GeocasterResult geocasterResult = new GeocasterResult(receivers, TransmissionMode.DownlinkUnicast, sampleV2XMessage, false);
+        Event event = new Event(10 * TIME.SECOND, downstreamModule,
+                new CellModuleMessage.Builder("Geocaster", "Downstream").resource(geocasterResult).build());
+
+        ConfigurationData.INSTANCE.getNetworkConfig().globalNetwork.downlink.capacity = 1120 * DATA.BIT;
+        ConfigurationData.INSTANCE.getNetworkConfig().globalNetwork.downlink.maxCapacity = 1120 * DATA.BIT;
+
+        // RUN
+        downstreamModule.processEvent(event);
+
+        // ASSERT
+        // veh_0 consumes the whole capacity of the region, veh_1 is deactivated, and no capacity is left for veh_2
+        assertEquals(1, rtiV2xReceptionsSent.size());
+        assertEquals("veh_0", ((V2xMessageReception) rtiV2xReceptionsSent.get(0)).getReceiverName());
+        assertEquals(1, cellModuleMessages.size());
+        assertEquals(1120 * DATA.BIT, ((StreamResult) cellModuleMessages.get(0).getResource()).getConsumedBandwidth());
+
+        assertEquals(3, rtiV2xAcknowledgementsSent.size());
+        assertTrue(((V2xMessageAcknowledgement) rtiV2xAcknowledgementsSent.get(0)).isAcknowledged());
+        assertEquals(Arrays.asList(NegativeAckReason.NODE_DEACTIVATED),
+                ((V2xMessageAcknowledgement) rtiV2xAcknowledgementsSent.get(1)).getNegativeReasons());
+        assertEquals(Arrays.asList(NegativeAckReason.CHANNEL_CAPACITY_EXCEEDED),
+                ((V2xMessageAcknowledgement) rtiV2xAcknowledgementsSent.get(2)).getNegativeReasons());
+
+        assertEquals(0L, ConfigurationData.INSTANCE.getNetworkConfig().globalNetwork.downlink.capacity);
+        assertEquals(Long.MAX_VALUE * DATA.BIT, SimulationData.INSTANCE.getCellConfigurationOfNode("veh_2").getAvailableDownlinkBitrate());
+    }
+
     @Test
     public void testProcessMessage_packetLossTcp() throws Exception {
         // SETUP
@@ -17,6 +17,7 @@ package org.eclipse.mosaic.fed.cell.utility;
 
 import static org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties.GLOBAL_NETWORK_ID;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.eclipse.mosaic.fed.cell.config.model.CMobileNetworkProperties;
 import org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties;
@@ -24,6 +25,11 @@ import org.eclipse.mosaic.fed.cell.data.ConfigurationData;
 import org.eclipse.mosaic.fed.cell.data.SimulationData;
 import org.eclipse.mosaic.fed.cell.junit.CellConfigurationRule;
 import org.eclipse.mosaic.fed.cell.junit.CellSimulationRule;
+import org.eclipse.mosaic.lib.geo.CartesianArea;
+import org.eclipse.mosaic.lib.geo.CartesianCircle;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.CartesianRectangle;
+import org.eclipse.mosaic.lib.geo.GeoArea;
 import org.eclipse.mosaic.lib.geo.GeoCircle;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.geo.GeoPolygon;
@@ -38,7 +44,10 @@ import org.junit.Test;
 import org.junit.rules.RuleChain;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
 
 /**
  * Class that tests methods of the RegionUtility of the cell.
@@ -166,4 +175,73 @@ public class RegionUtilityTest {
         assertEquals(sampleRegion3.id, RegionUtility.getRegionForNode("nodeWithinBoundary3").id);
         assertEquals(GLOBAL_NETWORK_ID, RegionUtility.getRegionForNode("nodeOutsideBoundary3").id);
     }
+
+    /**
+     * Tests if the nodes of a region are updated when nodes move into another region or are removed.
+     */
+    @Test
+    public void testGetNodesForRegion() {
+        // SETUP
+        CMobileNetworkProperties sampleRegion3 = ConfigurationData.INSTANCE.getRegionConfig().regions.get(2);
+        CNetworkProperties globalNetwork = ConfigurationData.INSTANCE.getNetworkConfig().globalNetwork;
+        CartesianPoint withinRegion3 = GeoProjection.getInstance().geographicToCartesian(GeoPoint.lonLat(13.34, 52.53));
+        CartesianPoint outsideRegions = GeoProjection.getInstance().geographicToCartesian(GeoPoint.lonLat(13.30, 52.57));
+
+        SimulationData.INSTANCE.setPositionOfNode("veh_0", withinRegion3);
+        SimulationData.INSTANCE.setPositionOfNode("veh_1", withinRegion3);
+        SimulationData.INSTANCE.setPositionOfNode("veh_2", outsideRegions);
+
+        // RUN + ASSERT
+        assertEquals(Set.of("veh_0", "veh_1"), new HashSet<>(RegionUtility.getNodesForRegion(sampleRegion3)));
+        assertEquals(Set.of("veh_2"), new HashSet<>(RegionUtility.getNodesForRegion(globalNetwork)));
+        assertTrue(SimulationData.INSTANCE.getNodesWithoutRegion().isEmpty());
+
+        // RUN (move veh_1 to the global network, remove veh_0)
+        SimulationData.INSTANCE.setRegionOfNode("veh_1", RegionUtility.getRegionForPosition(outsideRegions));
+        SimulationData.INSTANCE.removeNode("veh_0");
+
+        // ASSERT
+        assertTrue(RegionUtility.getNodesForRegion(sampleRegion3).isEmpty());
+        assertEquals(Set.of("veh_1", "veh_2"), new HashSet<>(RegionUtility.getNodesForRegion(globalNetwork)));
+    }
+
+    /**
+     * Tests if the nodes within a destination area are found using the grid index, also after nodes have moved.
+     */
+    @Test
+    public void testGetNodesForDestinationArea() {
+        // SETUP
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            SimulationData.INSTANCE.setPositionOfNode("veh_" + i, randomPoint(random));
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            SimulationData.INSTANCE.setPositionOfNode("veh_" + i, randomPoint(random));
+        }
+        SimulationData.INSTANCE.removeNode("veh_1");
+
+        // RUN + ASSERT
+        assertNodesInArea(new CartesianCircle(CartesianPoint.xy(2500, 2500), 300));
+        assertNodesInArea(new CartesianCircle(CartesianPoint.xy(0, 0), 1000));
+        assertNodesInArea(new CartesianRectangle(CartesianPoint.xy(-10000, -10000), CartesianPoint.xy(10000, 10000)));
+        assertNodesInArea(new CartesianRectangle(CartesianPoint.xy(4000, 1000), CartesianPoint.xy(1000, 1200)));
+    }
+
+    private static CartesianPoint randomPoint(Random random) {
+        return CartesianPoint.xy(random.nextDouble() * 5000, random.nextDouble() * 5000);
+    }
+
+    private static void assertNodesInArea(CartesianArea cartesianArea) {
+        GeoArea geoArea = cartesianArea.toGeo();
+        CartesianArea area = geoArea.toCartesian();
+        Set<String> expected = new HashSet<>();
+        for (String node : SimulationData.INSTANCE.getAllNodesInSimulation()) {
+            if (area.contains(SimulationData.INSTANCE.getPositionOfNode(node))) {
+                expected.add(node);
+            }
+        }
+        List<String> actual = RegionUtility.getNodesForDestinationArea(geoArea);
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected, new HashSet<>(actual));
+    }
 }
@@ -166,6 +166,30 @@ public class PerRegionBandwidthMeasurementTest {
         assertEquals(0, bandwidthMeasurement[4]);
     }
 
+    @Test
+    public void transmissionExceedingKeptIntervals() throws IOException {
+        setup();
+
+        // RUN
+        sendStreamWithBandwidth(1.2, 1.8, 600);
+        sendStreamWithBandwidth(1.2, 5000.5, 100);
+
+        // ASSERT
+        // the first 4200 intervals are written out already, as the end of the transmission exceeds the export time
+        assertEquals(5001, measurement.transmittedData.size());
+        assertEquals(100, measurement.transmittedData.get(4200, 1));
+        assertEquals(100, measurement.transmittedData.get(5000, 1));
+        assertEquals(0, measurement.transmittedData.get(5001, 1));
+
+        measurement.finish();
+        List<String> lines = Files.readLines(targetFile, StandardCharsets.UTF_8);
+        assertEquals("0;0;0;0", lines.get(1));
+        assertEquals("1;0;700;0", lines.get(2));
+        assertEquals("2;0;100;0", lines.get(3));
+        assertEquals("5000;0;100;0", lines.get(5001));
+        assertNumberOfLinesInExportedCsv(5002);
+    }
+
     @Test
     public void csvExportInIntervals() throws IOException {
         setup();
@@ -261,7 +285,7 @@ public class PerRegionBandwidthMeasurementTest {
         long[] measurement = new long[rows];
         Arrays.fill(measurement, 0L);
         for (int i = 0; i < this.measurement.transmittedData.size(); i++) {
-            measurement[i] = this.measurement.transmittedData.get(i).get(columns);
+            measurement[i] = this.measurement.transmittedData.get(i, columns);
         }
         return measurement;
     }
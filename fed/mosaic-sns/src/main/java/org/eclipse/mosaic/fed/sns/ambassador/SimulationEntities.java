@@ -15,6 +15,7 @@
 
 package org.eclipse.mosaic.fed.sns.ambassador;
 
+import org.eclipse.mosaic.lib.geo.Area;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 
 import java.util.HashMap;
@@ -26,10 +27,16 @@ import java.util.Map;
 enum SimulationEntities {
     INSTANCE;
 
+    /**
+     * Default width and height in m of the grid cells used for indexing the positions of online nodes.
+     */
+    static final double DEFAULT_INDEX_CELL_SIZE = 250d;
+
     /**
      * There are two kinds of nodes: those who are online (and can send and receive messages).
+     * Their positions are spatially indexed to allow fast range queries.
      */
-    private final HashMap<String, SimulationNode> onlineNodes = new HashMap<>();
+    private final SpatialNodeIndex onlineNodes = new SpatialNodeIndex(DEFAULT_INDEX_CELL_SIZE);
 
     /**
      * Offline nodes (may get switched on).
@@ -45,6 +52,36 @@ enum SimulationEntities {
         return onlineNodes;
     }
 
+    /**
+     * Gets all nodes currently known as online which are located within the given area.
+     * Uses the spatial index over all online nodes instead of checking each of them.
+     *
+     * @param area the area to search for nodes
+     * @return a new map containing all online nodes within the area
+     */
+    public Map<String, SimulationNode> getOnlineNodesInArea(Area<CartesianPoint> area) {
+        return onlineNodes.getNodesInArea(area);
+    }
+
+    /**
+     * Gets all other nodes currently known as online which are located within the communication radius of the given node.
+     *
+     * @param nodeName the name of the online node
+     * @return a new map containing all other online nodes within the communication radius of the node
+     */
+    public Map<String, SimulationNode> getOnlineNodesInRange(String nodeName) {
+        return onlineNodes.getNodesInRange(nodeName);
+    }
+
+    /**
+     * Sets the cell size of the grid used to spatially index online nodes.
+     *
+     * @param cellSize width and height of a grid cell in m
+     */
+    public void setIndexCellSize(double cellSize) {
+        onlineNodes.setCellSize(cellSize);
+    }
+
     /**
      * Gets information (position, communication radius) for one individual node currently known as online.
      *
@@ -78,7 +115,7 @@ enum SimulationEntities {
             SimulationNode nodeData = new SimulationNode();
             nodeData.setPosition(position);
             nodeData.setRadius(radius);
-            onlineNodes.put(nodeName, nodeData);
+            onlineNodes.addOrUpdate(nodeName, nodeData);
         } else {
             throw new RuntimeException("Unable to move node=" + nodeName + " to position=" + position);
         }
@@ -92,7 +129,9 @@ enum SimulationEntities {
      */
     public void updateOnlineNode(String nodeName, CartesianPoint position) {
         if (nodeName != null && position != null) {
-            onlineNodes.get(nodeName).setPosition(position);
+            SimulationNode nodeData = onlineNodes.get(nodeName);
+            nodeData.setPosition(position);
+            onlineNodes.addOrUpdate(nodeName, nodeData);
         } else {
             throw new RuntimeException("Unable to update node=" + nodeName + " to position=" + position);
         }
@@ -116,7 +155,7 @@ enum SimulationEntities {
      * Removes the node (due to simplicity and speed from both maps - on/offlineNodes).
      */
     public void removeNode(String nodeId) {
-        onlineNodes.remove(nodeId);
+        onlineNodes.removeNode(nodeId);
         offlineNodes.remove(nodeId);
     }
 
@@ -131,10 +170,12 @@ enum SimulationEntities {
             SimulationNode nodeData = new SimulationNode();
             nodeData.setPosition(offlineNodes.get(nodeName));
             nodeData.setRadius(communicationRadius);
-            onlineNodes.put(nodeName, nodeData);
+            onlineNodes.addOrUpdate(nodeName, nodeData);
             offlineNodes.remove(nodeName);
         } else {
-            onlineNodes.get(nodeName).setRadius(communicationRadius);
+            SimulationNode nodeData = onlineNodes.get(nodeName);
+            nodeData.setRadius(communicationRadius);
+            onlineNodes.addOrUpdate(nodeName, nodeData);
         }
     }
 
@@ -145,8 +186,7 @@ enum SimulationEntities {
      */
     public void disableWifi(String nodeName) {
         if (isNodeOnline(nodeName)) {
-            offlineNodes.put(nodeName, onlineNodes.get(nodeName).getPosition());
-            onlineNodes.remove(nodeName);
+            offlineNodes.put(nodeName, onlineNodes.removeNode(nodeName).getPosition());
         }
     }
 
@@ -154,7 +194,7 @@ enum SimulationEntities {
      * Clears all used maps and thereby resets the state of the entities.
      */
     public void reset() {
-        onlineNodes.clear();
+        onlineNodes.reset();
         offlineNodes.clear();
     }
 }
@@ -39,12 +39,16 @@ import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InteractionDispatcher;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Implementation of the Simple Network Simulator (SNS).
@@ -75,6 +79,27 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
      */
     private VehicleUpdates latestVehicleUpdates;
 
+    /**
+     * If {@code true}, all transmissions of the same simulation time are simulated as one batch.
+     */
+    private boolean batchTransmissions;
+
+    /**
+     * Transmissions of the current simulation time which have not been simulated yet (only used if batching is enabled).
+     */
+    private final List<V2xMessageTransmission> pendingTransmissions = new ArrayList<>();
+
+    /**
+     * Passes each received interaction to the according process method.
+     */
+    private final InteractionDispatcher interactionDispatcher = new InteractionDispatcher()
+            .registerWithSubtypes(RsuRegistration.class, this::process)
+            .registerWithSubtypes(TrafficLightRegistration.class, this::process)
+            .registerWithSubtypes(ChargingStationRegistration.class, this::process)
+            .registerWithSubtypes(VehicleUpdates.class, this::process)
+            .registerWithSubtypes(AdHocCommunicationConfiguration.class, this::process)
+            .register(V2xMessageTransmission.class, this::process);
+
     /**
      * Construct the Ambassador.
      *
@@ -99,6 +124,8 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
                 log.info("Detected GammaSpeedDelay for. The SNS is currently ignoring speed of entities in its evaluation of delay values");
             }
             this.singlehopRadius = configuration.singlehopRadius;
+            this.batchTransmissions = configuration.batchTransmissions;
+            SimulationEntities.INSTANCE.setIndexCellSize(configuration.nodeIndexCellSize);
             final RandomNumberGenerator rng = rti.createRandomNumberGenerator();
             transmissionSimulator = new TransmissionSimulator(rng, configuration);
         } catch (InstantiationException e) {
@@ -111,19 +138,12 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
     @Override
     protected void processInteraction(Interaction interaction) throws InternalFederateException {
         try {
-            if (interaction.getTypeId().startsWith(RsuRegistration.TYPE_ID)) {
-                this.process((RsuRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(TrafficLightRegistration.TYPE_ID)) {
-                this.process((TrafficLightRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(ChargingStationRegistration.TYPE_ID)) {
-                this.process((ChargingStationRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(VehicleUpdates.TYPE_ID)) {
-                this.process((VehicleUpdates) interaction);
-            } else if (interaction.getTypeId().startsWith(AdHocCommunicationConfiguration.TYPE_ID)) {
-                this.process((AdHocCommunicationConfiguration) interaction);
-            } else if (interaction.getTypeId().equals(V2xMessageTransmission.TYPE_ID)) {
-                this.process((V2xMessageTransmission) interaction);
-            } else {
+            // any other interaction may change the state of nodes, therefore pending transmissions are simulated beforehand
+            if (!pendingTransmissions.isEmpty() && (!interaction.getTypeId().equals(V2xMessageTransmission.TYPE_ID)
+                    || interaction.getTime() != pendingTransmissions.get(0).getTime())) {
+                processPendingTransmissions();
+            }
+            if (!interactionDispatcher.dispatch(interaction)) {
                 log.warn("Received unknown interaction={} @time={}", interaction.getTypeId(), TIME.format(interaction.getTime()));
             }
         } catch (Exception e) {
@@ -207,17 +227,46 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
         }
     }
 
+    @Override
+    protected void processTimeAdvanceGrant(long time) throws InternalFederateException {
+        processPendingTransmissions();
+    }
+
     private void process(V2xMessageTransmission interaction) throws InternalFederateException {
         DestinationType type = interaction.getMessage().getRouting().getDestination().getType();
         if (type != DestinationType.AD_HOC_GEOCAST && type != DestinationType.AD_HOC_TOPOCAST) {
             return;
         }
+        if (batchTransmissions) {
+            pendingTransmissions.add(interaction);
+            return;
+        }
         // Calculate transmission
         Map<String, TransmissionResult> transmissionResults = transmissionSimulator.preProcessInteraction(interaction);
         // send transmission results to rti
         prepareV2xMessageReceptions(transmissionResults, interaction);
     }
 
+    /**
+     * Simulates all collected transmissions of the current simulation time as one batch and
+     * sends the receptions ordered by transmission and receiver name to the RTI.
+     */
+    private void processPendingTransmissions() throws InternalFederateException {
+        if (pendingTransmissions.isEmpty()) {
+            return;
+        }
+        try {
+            List<Map<String, TransmissionResult>> transmissionResults = transmissionSimulator.preProcessInteractions(pendingTransmissions);
+            for (int i = 0; i < pendingTransmissions.size(); i++) {
+                if (transmissionResults.get(i) != null) {
+                    prepareV2xMessageReceptions(new TreeMap<>(transmissionResults.get(i)), pendingTransmissions.get(i));
+                }
+            }
+        } finally {
+            pendingTransmissions.clear();
+        }
+    }
+
     /**
      * Adds or Updates vehicles positions (which is the same from the view of SNS - mainly new positions).
      *
@@ -305,6 +354,9 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
 
     @Override
     public void finishSimulation() throws InternalFederateException {
+        if (transmissionSimulator != null) {
+            transmissionSimulator.shutdown();
+        }
         log.info("Finished simulation");
     }
 
@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sns.ambassador;
+
+import org.eclipse.mosaic.lib.geo.Area;
+import org.eclipse.mosaic.lib.geo.Bounds;
+import org.eclipse.mosaic.lib.geo.CartesianCircle;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+
+import com.carrotsearch.hppc.IntArrayList;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import com.carrotsearch.hppc.ObjectIntHashMap;
+import com.carrotsearch.hppc.cursors.ObjectCursor;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only view on {@link SimulationNode}s by their names, which additionally holds a uniform grid
+ * over the positions of all nodes. The grid is updated incrementally whenever a node is added, moved,
+ * or removed, and allows to find all nodes within an {@link Area} by only checking nodes located in the
+ * grid cells overlapping the bounds of the area. As the grid cells are stored sparsely, the grid
+ * does not need to know the bounds of the scenario in advance.
+ * <br>
+ * Internally, each node is assigned an integer id, which is used as index into primitive arrays holding
+ * the positions and communication radii of all nodes. Ids of removed nodes are reused. This way, range queries iterate over
+ * primitive data only and avoid hashing of node names.
+ */
+class SpatialNodeIndex extends AbstractMap<String, SimulationNode> {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * All indexed nodes by their names.
+     */
+    private final Map<String, SimulationNode> nodesByName = new HashMap<>();
+
+    /**
+     * Unmodifiable view on {@link #nodesByName}, returned to callers of {@link #entrySet()}.
+     */
+    private final Map<String, SimulationNode> nodesView = Collections.unmodifiableMap(nodesByName);
+
+    /**
+     * The integer id assigned to each indexed node.
+     */
+    private final ObjectIntHashMap<String> idOfNode = new ObjectIntHashMap<>();
+
+    /**
+     * Ids of removed nodes, which can be reused.
+     */
+    private final IntArrayList freeIds = new IntArrayList();
+
+    /**
+     * The ids of all nodes located in a grid cell. Only non-empty cells are stored.
+     */
+    private final LongObjectHashMap<IntArrayList> cells = new LongObjectHashMap<>();
+
+    /**
+     * Number of ids assigned so far (including ids of removed nodes).
+     */
+    private int idCount = 0;
+
+    /*
+     * Node data by id (structure of arrays).
+     */
+    private String[] names = new String[INITIAL_CAPACITY];
+    private SimulationNode[] nodes = new SimulationNode[INITIAL_CAPACITY];
+    private double[] posX = new double[INITIAL_CAPACITY];
+    private double[] posY = new double[INITIAL_CAPACITY];
+    private double[] posZ = new double[INITIAL_CAPACITY];
+    private double[] radius = new double[INITIAL_CAPACITY];
+    private long[] cellOfNode = new long[INITIAL_CAPACITY];
+
+    /**
+     * Width and height of a single grid cell in m.
+     */
+    private double cellSize;
+
+    SpatialNodeIndex(double cellSize) {
+        setCellSize(cellSize);
+    }
+
+    /**
+     * Sets the width and height of the grid cells and re-indexes all currently known nodes.
+     *
+     * @param cellSize width and height of a grid cell in m
+     */
+    void setCellSize(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size of spatial node index must be positive, but was " + cellSize);
+        }
+        this.cellSize = cellSize;
+        cells.clear();
+        for (int id = 0; id < idCount; id++) {
+            if (nodes[id] != null) {
+                addToCell(id, toCellKey(posX[id], posY[id]));
+            }
+        }
+    }
+
+    /**
+     * Adds a node to the index, or updates its grid cell if the node is already indexed. Must be called
+     * every time the position or the communication radius of the node has changed.
+     *
+     * @param nodeName the name of the node
+     * @param node     the node holding its current position
+     */
+    void addOrUpdate(String nodeName, SimulationNode node) {
+        final CartesianPoint position = node.getPosition();
+        final long newCell = toCellKey(position.getX(), position.getY());
+
+        final int existingId = idOfNode.getOrDefault(nodeName, -1);
+        final int id;
+        if (existingId >= 0) {
+            id = existingId;
+            if (cellOfNode[id] != newCell) {
+                removeFromCell(id);
+                addToCell(id, newCell);
+            }
+        } else {
+            id = freeIds.isEmpty() ? idCount++ : freeIds.remove(freeIds.size() - 1);
+            ensureCapacity(id + 1);
+            idOfNode.put(nodeName, id);
+            names[id] = nodeName;
+            addToCell(id, newCell);
+        }
+        nodes[id] = node;
+        posX[id] = position.getX();
+        posY[id] = position.getY();
+        posZ[id] = position.getZ();
+        radius[id] = node.getRadius();
+        nodesByName.put(nodeName, node);
+    }
+
+    /**
+     * Removes a node from the index.
+     *
+     * @param nodeName the name of the node to remove
+     * @return the removed node, or {@code null} if the node was not indexed
+     */
+    SimulationNode removeNode(String nodeName) {
+        final int id = idOfNode.getOrDefault(nodeName, -1);
+        if (id >= 0) {
+            removeFromCell(id);
+            idOfNode.remove(nodeName);
+            names[id] = null;
+            nodes[id] = null;
+            freeIds.add(id);
+        }
+        return nodesByName.remove(nodeName);
+    }
+
+    /**
+     * Removes all nodes from the index.
+     */
+    void reset() {
+        nodesByName.clear();
+        idOfNode.clear();
+        freeIds.clear();
+        cells.clear();
+        Arrays.fill(names, 0, idCount, null);
+        Arrays.fill(nodes, 0, idCount, null);
+        idCount = 0;
+    }
+
+    /**
+     * Collects all indexed nodes located within the given area.
+     *
+     * @param area the area to search nodes in
+     * @return a new map containing all nodes within the area by their names
+     */
+    Map<String, SimulationNode> getNodesInArea(Area<CartesianPoint> area) {
+        final Map<String, SimulationNode> result = new HashMap<>();
+        if (nodesByName.isEmpty()) {
+            return result;
+        }
+
+        final Bounds<CartesianPoint> bounds = area.getBounds();
+        final double minCol = Math.floor(bounds.getSideD() / cellSize);
+        final double maxCol = Math.floor(bounds.getSideB() / cellSize);
+        final double minRow = Math.floor(bounds.getSideA() / cellSize);
+        final double maxRow = Math.floor(bounds.getSideC() / cellSize);
+
+        // for very large areas it is cheaper to visit only the occupied cells instead of all cells covered by the area
+        if ((maxCol - minCol + 1) * (maxRow - minRow + 1) > cells.size()) {
+            for (ObjectCursor<IntArrayList> cell : cells.values()) {
+                collectNodesInArea(cell.value, area, result);
+            }
+            return result;
+        }
+
+        for (int col = (int) minCol; col <= (int) maxCol; col++) {
+            for (int row = (int) minRow; row <= (int) maxRow; row++) {
+                final IntArrayList cell = cells.get(toCellKey(col, row));
+                if (cell != null) {
+                    collectNodesInArea(cell, area, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Collects all other indexed nodes located within the communication radius of the given node.
+     *
+     * @param nodeName the name of the node
+     * @return a new map containing all other nodes within the communication radius of the node by their names
+     */
+    Map<String, SimulationNode> getNodesInRange(String nodeName) {
+        final int id = idOfNode.getOrDefault(nodeName, -1);
+        if (id < 0) {
+            return new HashMap<>();
+        }
+        final Map<String, SimulationNode> result = getNodesInArea(
+                new CartesianCircle(CartesianPoint.xyz(posX[id], posY[id], posZ[id]), radius[id])
+        );
+        result.remove(nodeName);
+        return result;
+    }
+
+    private void collectNodesInArea(IntArrayList cell, Area<CartesianPoint> area, Map<String, SimulationNode> result) {
+        final int[] ids = cell.buffer;
+        if (area instanceof CartesianCircle) {
+            // most queries are circular (single hop range), which can be checked on the primitive positions directly
+            final CartesianCircle circle = (CartesianCircle) area;
+            final CartesianPoint center = circle.getCenter();
+            for (int i = 0; i < cell.size(); i++) {
+                final int id = ids[i];
+                final double dx = posX[id] - center.getX();
+                final double dy = posY[id] - center.getY();
+                final double dz = posZ[id] - center.getZ();
+                if (Math.sqrt(dx * dx + dy * dy + dz * dz) <= circle.getRadius()) {
+                    result.put(names[id], nodes[id]);
+                }
+            }
+        } else {
+            for (int i = 0; i < cell.size(); i++) {
+                final int id = ids[i];
+                if (area.contains(nodes[id].getPosition())) {
+                    result.put(names[id], nodes[id]);
+                }
+            }
+        }
+    }
+
+    private void addToCell(int id, long cellKey) {
+        cellOfNode[id] = cellKey;
+        IntArrayList cell = cells.get(cellKey);
+        if (cell == null) {
+            cell = new IntArrayList();
+            cells.put(cellKey, cell);
+        }
+        cell.add(id);
+    }
+
+    private void removeFromCell(int id) {
+        final long cellKey = cellOfNode[id];
+        final IntArrayList cell = cells.get(cellKey);
+        if (cell != null) {
+            cell.removeFirst(id);
+            if (cell.isEmpty()) {
+                cells.remove(cellKey);
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= nodes.length) {
+            return;
+        }
+        final int newCapacity = Math.max(capacity, nodes.length * 2);
+        names = Arrays.copyOf(names, newCapacity);
+        nodes = Arrays.copyOf(nodes, newCapacity);
+        posX = Arrays.copyOf(posX, newCapacity);
+        posY = Arrays.copyOf(posY, newCapacity);
+        posZ = Arrays.copyOf(posZ, newCapacity);
+        radius = Arrays.copyOf(radius, newCapacity);
+        cellOfNode = Arrays.copyOf(cellOfNode, newCapacity);
+    }
+
+    private long toCellKey(double x, double y) {
+        return toCellKey((int) Math.floor(x / cellSize), (int) Math.floor(y / cellSize));
+    }
+
+    private static long toCellKey(int col, int row) {
+        return ((long) col << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public SimulationNode get(Object key) {
+        return nodesByName.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return nodesByName.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return nodesByName.size();
+    }
+
+    @Override
+    public Set<Entry<String, SimulationNode>> entrySet() {
+        return nodesView.entrySet();
+    }
+}
@@ -23,6 +23,7 @@ import org.eclipse.mosaic.lib.geo.Area;
 import org.eclipse.mosaic.lib.geo.CartesianCircle;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.geo.GeoArea;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
 import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
 import org.eclipse.mosaic.lib.model.transmission.TransmissionResult;
 import org.eclipse.mosaic.lib.objects.addressing.DestinationAddressContainer;
@@ -35,9 +36,18 @@ import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class TransmissionSimulator {
 
@@ -64,6 +74,22 @@ public class TransmissionSimulator {
      */
     private final RandomNumberGenerator randomNumberGenerator;
 
+    /**
+     * Caches the potential receivers per destination area while a batch of transmissions is simulated.
+     * Is {@code null} if no batch is currently processed.
+     */
+    private Map<Area<CartesianPoint>, Map<String, SimulationNode>> batchReceiversCache;
+
+    /**
+     * Executor used to simulate the transmissions of a batch in parallel. Is {@code null} if parallel simulation
+     * is disabled and all transmissions are simulated sequentially using {@link #randomNumberGenerator}.
+     */
+    private final ExecutorService executorService;
+
+    /**
+     * Seed from which the random number generators of each transmission are derived if simulated in parallel.
+     */
+    private final long transmissionSeed;
 
     /**
      * Constructor for {@link TransmissionSimulator}, sets the configuration, transmission models & RNG.
@@ -81,9 +107,105 @@ public class TransmissionSimulator {
         this.randomNumberGenerator = randomNumberGenerator;
         // set transmission model from configuration
         this.transmissionModel = config.adhocTransmissionModel;
+        // setup parallel simulation of batched transmissions, the seed is only drawn if used to keep the sequential results
+        if (config.batchTransmissions && config.parallelTransmissionThreads > 0) {
+            final AtomicInteger threadCount = new AtomicInteger();
+            this.executorService = Executors.newFixedThreadPool(config.parallelTransmissionThreads, runnable -> {
+                Thread thread = new Thread(runnable, "sns-transmission-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.transmissionSeed = randomNumberGenerator.nextLong(0, Long.MAX_VALUE);
+        } else {
+            this.executorService = null;
+            this.transmissionSeed = 0;
+        }
+    }
+
+    /**
+     * Simulates all given transmissions as one batch. All transmissions must share the same simulation time, so that
+     * the positions of all nodes do not change during the batch. This allows to share the look-up of potential receivers
+     * between all transmissions addressing the same area, e.g. subsequent broadcasts of the same sender. The
+     * transmissions are simulated in the given order to keep the results reproducible.
+     * <br>
+     * If parallel simulation is enabled, the transmissions are simulated concurrently, each using its own
+     * random number generator seeded by the id of the message. Thus, results are reproducible independent
+     * of the number of threads used.
+     *
+     * @param interactions the transmissions to simulate, all having the same simulation time
+     * @return the transmission results for each transmission in the same order as the given transmissions,
+     *         entries may be {@code null} if a transmission could not be simulated
+     */
+    List<Map<String, TransmissionResult>> preProcessInteractions(List<V2xMessageTransmission> interactions) {
+        if (executorService != null) {
+            batchReceiversCache = new ConcurrentHashMap<>();
+            try {
+                return preProcessInteractionsInParallel(interactions);
+            } finally {
+                batchReceiversCache = null;
+            }
+        }
+
+        final List<Map<String, TransmissionResult>> transmissionResults = new ArrayList<>(interactions.size());
+        batchReceiversCache = new HashMap<>();
+        try {
+            for (V2xMessageTransmission interaction : interactions) {
+                transmissionResults.add(preProcessInteraction(interaction));
+            }
+        } finally {
+            batchReceiversCache = null;
+        }
+        return transmissionResults;
+    }
+
+    private List<Map<String, TransmissionResult>> preProcessInteractionsInParallel(List<V2xMessageTransmission> interactions) {
+        final List<Callable<Map<String, TransmissionResult>>> tasks = new ArrayList<>(interactions.size());
+        for (V2xMessageTransmission interaction : interactions) {
+            tasks.add(() -> preProcessInteraction(interaction, createRandomNumberGenerator(interaction)));
+        }
+        try {
+            final List<Map<String, TransmissionResult>> transmissionResults = new ArrayList<>(interactions.size());
+            for (Future<Map<String, TransmissionResult>> future : executorService.invokeAll(tasks)) {
+                transmissionResults.add(future.get());
+            }
+            return transmissionResults;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Creates a random number generator for a single transmission, which is seeded deterministically
+     * by the id of the transmitted message.
+     */
+    private RandomNumberGenerator createRandomNumberGenerator(V2xMessageTransmission interaction) {
+        // mix seed and message id using the finalizer of SplitMix64 to obtain uncorrelated streams for subsequent ids
+        long seed = transmissionSeed + 0x9E3779B97F4A7C15L * (interaction.getMessageId() + 1L);
+        seed = (seed ^ (seed >>> 30)) * 0xBF58476D1CE4E5B9L;
+        seed = (seed ^ (seed >>> 27)) * 0x94D049BB133111EBL;
+        return new DefaultRandomNumberGenerator(seed ^ (seed >>> 31));
+    }
+
+    /**
+     * Shuts down the thread pool used for parallel simulation of transmissions, if any.
+     */
+    void shutdown() {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
     }
 
     Map<String, TransmissionResult> preProcessInteraction(V2xMessageTransmission interaction) {
+        return preProcessInteraction(interaction, randomNumberGenerator);
+    }
+
+    private Map<String, TransmissionResult> preProcessInteraction(V2xMessageTransmission interaction, RandomNumberGenerator rng) {
         final String senderName = interaction.getSourceName();
         if (!isValidSender(senderName)) {
             return null;
@@ -99,7 +221,7 @@ public class TransmissionSimulator {
                             interaction.getMessage().getId(), senderName, TIME.format(interaction.getTime())
                     );
                 }
-                transmissionResults = sendMessageAsTopocast(senderName, dac);
+                transmissionResults = sendMessageAsTopocast(senderName, dac, rng);
                 break;
             case AD_HOC_GEOCAST:
                 if (log.isDebugEnabled()) {
@@ -108,7 +230,7 @@ public class TransmissionSimulator {
                             interaction.getMessage().getId(), senderName, TIME.format(interaction.getTime())
                     );
                 }
-                transmissionResults = sendMessageAsGeocast(senderName, dac);
+                transmissionResults = sendMessageAsGeocast(senderName, dac, rng);
                 break;
             default:
                 log.debug(
@@ -153,6 +275,11 @@ public class TransmissionSimulator {
      * @return a Map containing the summarized transmission results
      */
     protected Map<String, TransmissionResult> sendMessageAsTopocast(String senderName, DestinationAddressContainer dac) {
+        return sendMessageAsTopocast(senderName, dac, randomNumberGenerator);
+    }
+
+    private Map<String, TransmissionResult> sendMessageAsTopocast(String senderName, DestinationAddressContainer dac,
+                                                                  RandomNumberGenerator rng) {
         NetworkAddress destinationAddress = dac.getAddress();
         if (destinationAddress.isAnycast()) { // check for valid destination address
             log.warn(
@@ -170,9 +297,8 @@ public class TransmissionSimulator {
         SimulationNode sender = SimulationEntities.INSTANCE.getOnlineNode(senderName);
         Map<String, SimulationNode> allPotentialReceivers;
         if (destinationAddress.isBroadcast()) { // SingleHopBroadCast
-            allPotentialReceivers = getPotentialBroadcastReceivers(getTopocastDestinationArea(sender));
-            // remove sender as single radios could not transmit and receive at the same time
-            allPotentialReceivers.remove(senderName);
+            // does not contain the sender, as single radios could not transmit and receive at the same time
+            allPotentialReceivers = getPotentialBroadcastReceivers(senderName, sender);
         } else { // SingleHopUniCast
             allPotentialReceivers = getAddressedReceiver(destinationAddress, getTopocastDestinationArea(sender));
         }
@@ -180,7 +306,7 @@ public class TransmissionSimulator {
 
         // perform actual transmission
         TransmissionParameter transmissionParameter = new TransmissionParameter(
-                randomNumberGenerator,
+                rng,
                 config.singlehopDelay,
                 config.singlehopTransmission,
                 SINGLE_HOP_TTL
@@ -209,6 +335,11 @@ public class TransmissionSimulator {
      * @return a Map containing the summarized transmission results
      */
     protected Map<String, TransmissionResult> sendMessageAsGeocast(String senderName, DestinationAddressContainer dac) {
+        return sendMessageAsGeocast(senderName, dac, randomNumberGenerator);
+    }
+
+    private Map<String, TransmissionResult> sendMessageAsGeocast(String senderName, DestinationAddressContainer dac,
+                                                                 RandomNumberGenerator rng) {
         if (dac.getGeoArea() == null) {
             return Collections.EMPTY_MAP;
         }
@@ -225,7 +356,7 @@ public class TransmissionSimulator {
             ttl = Math.min(dac.getTimeToLive(), config.maximumTtl); // ttl can't be higher than maximumTtl
         }
         TransmissionParameter transmissionParameter = new TransmissionParameter(
-                randomNumberGenerator,
+                rng,
                 config.singlehopDelay,
                 config.singlehopTransmission,
                 ttl
@@ -240,18 +371,41 @@ public class TransmissionSimulator {
     }
 
     /**
-     * Collects all nodes within the specified destination area.
+     * Collects all nodes within the specified destination area. While a batch of transmissions is simulated,
+     * the nodes found for an area are cached and reused for all further transmissions addressing the same area.
      *
      * @param destinationArea destination area for transmission
-     * @return a map containing the
+     * @return a new map containing all online nodes within the destination area
      */
     private Map<String, SimulationNode> getPotentialBroadcastReceivers(Area<CartesianPoint> destinationArea) {
-        return getEntitiesInArea(SimulationEntities.INSTANCE.getAllOnlineNodes(), destinationArea);
+        if (batchReceiversCache == null) {
+            return SimulationEntities.INSTANCE.getOnlineNodesInArea(destinationArea);
+        }
+        // return a copy, since the transmission models may modify the map of receivers
+        return new HashMap<>(batchReceiversCache.computeIfAbsent(destinationArea, SimulationEntities.INSTANCE::getOnlineNodesInArea));
+    }
+
+    /**
+     * Collects all other nodes within the communication radius of the sender, which are looked up on the positions and
+     * radii held by the spatial index. While a batch of transmissions is simulated, the cached nodes of the sender's range are reused.
+     *
+     * @param senderName the name of the sender
+     * @param sender     the sender
+     * @return a new map containing all online nodes except the sender within the communication radius of the sender
+     */
+    private Map<String, SimulationNode> getPotentialBroadcastReceivers(String senderName, SimulationNode sender) {
+        if (batchReceiversCache == null) {
+            return SimulationEntities.INSTANCE.getOnlineNodesInRange(senderName);
+        }
+        final Map<String, SimulationNode> receivers = getPotentialBroadcastReceivers(getTopocastDestinationArea(sender));
+        receivers.remove(senderName);
+        return receivers;
     }
 
     /**
      * This method collects all entities, that are within the given {@link GeoArea}.
      * It is static because it is also required in some of the {@link AdhocTransmissionModel}s.
+     * If the given entities are the spatially indexed online nodes, only entities near the area are checked.
      *
      * @param relevantEntities a map of all entities and their names, which should be checked against the area
      * @param range            the {@link GeoArea} within which the entities should be.
@@ -260,6 +414,9 @@ public class TransmissionSimulator {
      */
     public static Map<String, SimulationNode> getEntitiesInArea(
             Map<String, SimulationNode> relevantEntities, Area<CartesianPoint> range) {
+        if (relevantEntities instanceof SpatialNodeIndex) {
+            return ((SpatialNodeIndex) relevantEntities).getNodesInArea(range);
+        }
         Map<String, SimulationNode> results = new HashMap<>();
 
         for (Map.Entry<String, SimulationNode> entityEntry : relevantEntities.entrySet()) {
@@ -42,6 +42,27 @@ public class CSns {
      */
     public double singlehopRadius = 509.4;
 
+    /**
+     * Width and height in m of the grid cells used to spatially index the positions of all
+     * online nodes. Values in the range of the typical communication radius are reasonable.
+     */
+    public double nodeIndexCellSize = 250;
+
+    /**
+     * If {@code true}, all transmissions sent at the same simulation time are collected and simulated
+     * together as one batch, sharing the look-up of receivers between transmissions addressing the same area.
+     * Receptions are then emitted ordered by transmission and receiver name.
+     */
+    public boolean batchTransmissions = false;
+
+    /**
+     * Number of threads used to simulate the transmissions of a batch in parallel (requires {@link #batchTransmissions}).
+     * If greater than zero, each transmission uses its own random number generator, which is derived from the
+     * message id. Results are therefore independent of the number of threads. If zero, all transmissions are simulated
+     * sequentially using one shared random number generator.
+     */
+    public int parallelTransmissionThreads = 0;
+
     /**
      * Defines the {@link AdhocTransmissionModel} to be used for transmissions.
      */
@@ -17,7 +17,6 @@ package org.eclipse.mosaic.fed.sns.model;
 
 import org.eclipse.mosaic.fed.sns.ambassador.SimulationNode;
 import org.eclipse.mosaic.fed.sns.ambassador.TransmissionSimulator;
-import org.eclipse.mosaic.lib.geo.CartesianArea;
 import org.eclipse.mosaic.lib.geo.CartesianCircle;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.misc.Tuple;
@@ -27,6 +26,7 @@ import org.eclipse.mosaic.lib.model.transmission.TransmissionResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -99,66 +99,80 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
     private Map<String, TransmissionResult> flooding(
             String senderName, Map<String, SimulationNode> receivers,
             TransmissionParameter transmissionParameter, Map<String, SimulationNode> currentNodes) {
-        Map<String, TransmissionResult> results = new HashMap<>();
-        receivers.forEach((receiverName, receiver) -> results.put(receiverName, new TransmissionResult(false, 0)));
-
-        // this map is used to represent all entities, that will be flooding
-        Map<String, SimulationNode> floodingEntities = new HashMap<>();
-        floodingEntities.put(senderName, currentNodes.get(senderName));
+        // copy all receivers into a table indexed by integers, to avoid hashing of names within the flooding steps
+        final FloodingTable table = new FloodingTable(receivers, senderName);
 
-        // in the beginning this reflects all receivers except the sender
-        Map<String, SimulationNode> receiversUnsatisfied = new HashMap<>(receivers);
+        // in the beginning this reflects all receivers (the sender may be part of the receivers after forwarding)
+        final BitSet receiversUnsatisfied = new BitSet(table.size);
+        receiversUnsatisfied.set(0, table.size);
 
-        // this map holds all entities, that can be reached with a single hop
-        Map<String, SimulationNode> entitiesInReach;
+        // this set is used to represent all entities, that will be flooding, the sender is flooding in the first step
+        BitSet floodingEntities = new BitSet(table.size);
 
         int currentDepth = 0;
         while (!receiversUnsatisfied.isEmpty() && currentDepth < transmissionParameter.ttl) {
+            // this set reflects all future sender after a flooding step is completed
+            final BitSet foundAndSuccessfulTransmission = new BitSet(table.size);
+            if (currentDepth == 0) {
+                final SimulationNode sender = currentNodes.get(senderName);
+                final CartesianPoint senderPosition = sender.getPosition();
+                floodingStep(
+                        table, senderPosition.getX(), senderPosition.getY(), senderPosition.getZ(), sender.getRadius(), 0, 0,
+                        receiversUnsatisfied, foundAndSuccessfulTransmission, transmissionParameter
+                );
+            }
             ++currentDepth;
 
-            // this map reflects all future sender after a flooding step is completed
-            Map<String, SimulationNode> foundAndSuccessfulTransmission = new HashMap<>();
-
             // do this for all of the currently sending entities
-            for (Map.Entry<String, SimulationNode> floodingEntityEntry : floodingEntities.entrySet()) {
-                CartesianArea singleHopReachArea = new CartesianCircle(
-                        floodingEntityEntry.getValue().getPosition(),
-                        floodingEntityEntry.getValue().getRadius()
+            for (int entity = floodingEntities.nextSetBit(0); entity >= 0; entity = floodingEntities.nextSetBit(entity + 1)) {
+                final boolean isSender = entity == table.senderIndex;
+                floodingStep(
+                        table, table.posX[entity], table.posY[entity], table.posZ[entity], table.radius[entity],
+                        isSender ? 0 : table.results[entity].numberOfHops, // determine previous numberOfHops
+                        isSender ? 0 : table.results[entity].delay, // determine previous delay
+                        receiversUnsatisfied, foundAndSuccessfulTransmission, transmissionParameter
                 );
-                // only search for unsatisfied receivers
-                entitiesInReach = TransmissionSimulator.getEntitiesInArea(receiversUnsatisfied, singleHopReachArea);
-
-                // simulate transmission for unsatisfied receivers in reach
+            }
+            floodingEntities = foundAndSuccessfulTransmission; // new entities which will be used as start nodes
+        }
 
-                Map<String, TransmissionResult> transmissionResults = new HashMap<>();
-                for (Map.Entry<String, SimulationNode> entry : entitiesInReach.entrySet()) {
-                    transmissionResults.put(
-                            entry.getKey(),
-                            simulateTransmission(
-                                    transmissionParameter.randomNumberGenerator,
-                                    transmissionParameter.delay, transmissionParameter.transmission
-                            )
-                    );
-                }
+        final Map<String, TransmissionResult> results = new HashMap<>();
+        for (int i = 0; i < table.size; i++) {
+            results.put(table.names[i], table.results[i] != null ? table.results[i] : new TransmissionResult(false, 0));
+        }
+        return results;
+    }
 
-                int previousNumberOfHops = floodingEntityEntry.getKey().equals(senderName)
-                        ? 0 : results.get(floodingEntityEntry.getKey()).numberOfHops; // determine previous numberOfHops
-                long previousDelay = floodingEntityEntry.getKey().equals(senderName)
-                        ? 0 : results.get(floodingEntityEntry.getKey()).delay; // determine previous delay
-                transmissionResults.forEach((receiverName, transmissionResult) -> {
-                    // if entity hasn't been satisfied yet use it as new sender
-                    if (transmissionResult.success && receiversUnsatisfied.remove(receiverName) != null) {
-                        transmissionResult.numberOfHops = previousNumberOfHops + 1;
-                        transmissionResult.delay += previousDelay;
-                        foundAndSuccessfulTransmission.put(receiverName, receivers.get(receiverName));
-                        results.put(receiverName, transmissionResult);
-                    }
-                });
+    /**
+     * Simulates a single flooding step of one entity, which sends the message to all unsatisfied receivers in its reach.
+     * Receivers which have been reached successfully are marked as satisfied and will flood the message in the next step.
+     */
+    private void floodingStep(FloodingTable table, double x, double y, double z, double radius,
+                              int previousNumberOfHops, long previousDelay,
+                              BitSet receiversUnsatisfied, BitSet foundAndSuccessfulTransmission,
+                              TransmissionParameter transmissionParameter) {
+        // only search for unsatisfied receivers
+        for (int receiver = receiversUnsatisfied.nextSetBit(0); receiver >= 0; receiver = receiversUnsatisfied.nextSetBit(receiver + 1)) {
+            final double dx = table.posX[receiver] - x;
+            final double dy = table.posY[receiver] - y;
+            final double dz = table.posZ[receiver] - z;
+            if (Math.sqrt(dx * dx + dy * dy + dz * dz) > radius) {
+                continue;
+            }
+            // simulate transmission for unsatisfied receivers in reach
+            final TransmissionResult transmissionResult = simulateTransmission(
+                    transmissionParameter.randomNumberGenerator,
+                    transmissionParameter.delay, transmissionParameter.transmission
+            );
+            // if entity hasn't been satisfied yet use it as new sender
+            if (transmissionResult.success) {
+                receiversUnsatisfied.clear(receiver);
+                transmissionResult.numberOfHops = previousNumberOfHops + 1;
+                transmissionResult.delay += previousDelay;
+                foundAndSuccessfulTransmission.set(receiver);
+                table.results[receiver] = transmissionResult;
             }
-            floodingEntities.clear(); // reset flooding entities
-            floodingEntities.putAll(foundAndSuccessfulTransmission); // new entities which will be used as start nodes
         }
-        return results;
     }
 
     /**
@@ -225,6 +239,50 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
 
     }
 
+    /**
+     * Holds names, positions, and radii of all receivers of a flooding in arrays, indexed by the
+     * order of the receivers map. Also holds the results of all receivers reached so far.
+     */
+    private static class FloodingTable {
+
+        private final int size;
+        private final String[] names;
+        private final double[] posX;
+        private final double[] posY;
+        private final double[] posZ;
+        private final double[] radius;
+        private final TransmissionResult[] results;
+
+        /**
+         * Index of the flooding sender within the receivers, or -1 if the sender is not a receiver.
+         */
+        private int senderIndex = -1;
+
+        private FloodingTable(Map<String, SimulationNode> receivers, String senderName) {
+            size = receivers.size();
+            names = new String[size];
+            posX = new double[size];
+            posY = new double[size];
+            posZ = new double[size];
+            radius = new double[size];
+            results = new TransmissionResult[size];
+
+            int i = 0;
+            for (Map.Entry<String, SimulationNode> receiver : receivers.entrySet()) {
+                final CartesianPoint position = receiver.getValue().getPosition();
+                names[i] = receiver.getKey();
+                posX[i] = position.getX();
+                posY[i] = position.getY();
+                posZ[i] = position.getZ();
+                radius[i] = receiver.getValue().getRadius();
+                if (names[i].equals(senderName)) {
+                    senderIndex = i;
+                }
+                i++;
+            }
+        }
+    }
+
     /**
      * This helper method evaluates if a GeoCast can be executed without forwarding the
      * destination area in any form. This boils down to checking if the communication-radius
@@ -16,6 +16,7 @@
 package org.eclipse.mosaic.fed.sns.ambassador;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
@@ -58,6 +59,8 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -94,9 +97,22 @@ public class SnsAmbassadorTest {
 
     @Before
     public void setup() throws Exception {
-        final File configurationFile =
-                new File(Objects.requireNonNull(this.getClass().getClassLoader().getResource("sns_config_complex_multihop.json")).toURI());
+        initializeAmbassador("sns_config_complex_multihop.json");
 
+        doAnswer((invocationOnMock) -> {
+            messagesSent.add(((V2xMessageReception) invocationOnMock.getArguments()[0]));
+            return null;
+        }).when(rtiMock).triggerInteraction(isA(V2xMessageReception.class));
+
+    }
+
+    private void initializeAmbassador(String configurationFileName) throws Exception {
+        initializeAmbassador(
+                new File(Objects.requireNonNull(this.getClass().getClassLoader().getResource(configurationFileName)).toURI())
+        );
+    }
+
+    private void initializeAmbassador(File configurationFile) throws Exception {
         final AmbassadorParameter ambassadorParameter = new AmbassadorParameter("sns", configurationFile);
 
         when(rtiMock.createRandomNumberGenerator()).thenReturn(new DefaultRandomNumberGenerator(89989123L));
@@ -105,12 +121,6 @@ public class SnsAmbassadorTest {
         ambassador = new SnsAmbassador(ambassadorParameter);
         ambassador.setRtiAmbassador(rtiMock);
         ambassador.initialize(0, 1000 * TIME.SECOND);
-
-        doAnswer((invocationOnMock) -> {
-            messagesSent.add(((V2xMessageReception) invocationOnMock.getArguments()[0]));
-            return null;
-        }).when(rtiMock).triggerInteraction(isA(V2xMessageReception.class));
-
     }
 
     @After
@@ -181,6 +191,100 @@ public class SnsAmbassadorTest {
 
     }
 
+    @Test
+    public void topoBroadcast_batchedTransmissions() throws Exception {
+        initializeAmbassador("sns_config_batched.json");
+
+        // PREPARE
+        addVehicle("veh_0");
+        addVehicle("veh_1");
+        addVehicle("veh_2");
+        configureAdHoc("veh_0", 700d);
+        configureAdHoc("veh_1", 700d);
+        configureAdHoc("veh_2", 700d);
+
+        // Distance between vehicles: 680m
+        moveVehicle("veh_0", GeoPoint.latLon(52.31, 13.41));
+        moveVehicle("veh_1", GeoPoint.latLon(52.31, 13.40));
+        moveVehicle("veh_2", GeoPoint.latLon(52.31, 13.39));
+
+        // RUN
+        messagesSent.clear();
+        ambassador.processInteraction(createTransmission(
+                new AdHocMessageRoutingBuilder("veh_1", vehToPosition.get("veh_1")).viaChannel(AdHocChannel.CCH).topoBroadCast()
+        ));
+        ambassador.processInteraction(createTransmission(
+                new AdHocMessageRoutingBuilder("veh_0", vehToPosition.get("veh_0")).viaChannel(AdHocChannel.CCH).topoBroadCast()
+        ));
+        // ASSERT transmissions are not simulated before time advance is granted
+        assertTrue(messagesSent.isEmpty());
+
+        ambassador.advanceTime(200 * TIME.NANO_SECOND);
+
+        // ASSERT receptions are emitted ordered by transmission and receiver
+        assertEquals(3, messagesSent.size());
+        assertEquals("veh_0", messagesSent.get(0).getReceiverName());
+        assertEquals("veh_2", messagesSent.get(1).getReceiverName());
+        assertEquals("veh_1", messagesSent.get(2).getReceiverName());
+    }
+
+    @Test
+    public void geoBroadcast_parallelTransmissions_sameResultsForDifferentThreadCounts() throws Exception {
+        List<String> resultsSingleThread = simulateParallelGeoBroadcasts(true, 1);
+        List<String> resultsMultipleThreads = simulateParallelGeoBroadcasts(true, 4);
+
+        assertFalse(resultsSingleThread.isEmpty());
+        assertEquals(resultsSingleThread, resultsMultipleThreads);
+    }
+
+    @Test
+    public void geoBroadcast_parallelTransmissionsWithoutBatch_sameResultsAsSequential() throws Exception {
+        List<String> resultsSequential = simulateParallelGeoBroadcasts(false, 0);
+        List<String> resultsParallelThreadsConfigured = simulateParallelGeoBroadcasts(false, 4);
+
+        assertFalse(resultsSequential.isEmpty());
+        assertEquals(resultsSequential, resultsParallelThreadsConfigured);
+    }
+
+    private List<String> simulateParallelGeoBroadcasts(boolean batchTransmissions, int threads) throws Exception {
+        SimulationEntities.INSTANCE.reset();
+        messagesSent.clear();
+
+        File configurationFile = temporaryFolder.newFile();
+        Files.write(configurationFile.toPath(), ("{"
+                + "\"batchTransmissions\": " + batchTransmissions + ", \"parallelTransmissionThreads\": " + threads + ","
+                + "\"adhocTransmissionModel\": { \"type\": \"SophisticatedAdhocTransmissionModel\" },"
+                + "\"singlehopDelay\": { \"type\": \"SimpleRandomDelay\", \"steps\": 10, \"minDelay\": \"1 ms\", \"maxDelay\": \"5 ms\" },"
+                + "\"singlehopTransmission\": { \"lossProbability\": 0.3, \"maxRetries\": 0 }"
+                + "}").getBytes(StandardCharsets.UTF_8));
+        initializeAmbassador(configurationFile);
+
+        for (int i = 0; i < 10; i++) {
+            addVehicle("veh_" + i);
+            configureAdHoc("veh_" + i, 200d);
+            moveVehicle("veh_" + i, GeoPoint.latLon(52.31, 13.40 + i * 0.001));
+        }
+
+        List<V2xMessageTransmission> transmissions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            transmissions.add(createTransmission(new AdHocMessageRoutingBuilder("veh_" + i, vehToPosition.get("veh_" + i))
+                    .viaChannel(AdHocChannel.CCH)
+                    .geoBroadCast(new GeoCircle(vehToPosition.get("veh_" + (9 - i)), 300)), 1000 + i
+            ));
+        }
+        for (V2xMessageTransmission transmission : transmissions) {
+            ambassador.processInteraction(transmission);
+        }
+        ambassador.advanceTime(200 * TIME.NANO_SECOND);
+        ambassador.finishSimulation();
+
+        List<String> results = new ArrayList<>();
+        for (V2xMessageReception reception : messagesSent) {
+            results.add(reception.getMessageId() + ":" + reception.getReceiverName() + ":" + reception.getTime());
+        }
+        return results;
+    }
+
     private void assertReceivedMessages(String... vehicleNames) {
         Set<String> sent = new HashSet<>();
         for (V2xMessageReception message : messagesSent) {
@@ -196,6 +300,22 @@ public class SnsAmbassadorTest {
     private void sendMessage(MessageRouting routing) throws InternalFederateException {
         messagesSent.clear();
 
+        ambassador.processInteraction(createTransmission(routing));
+        ambassador.advanceTime(200 * TIME.NANO_SECOND); // advance time so processTimeAdvanceGrant is called
+    }
+
+    private V2xMessageTransmission createTransmission(MessageRouting routing, int messageId) {
+        V2xMessage v2xMessage = new V2xMessage(routing, messageId) {
+            @Nonnull
+            @Override
+            public EncodedPayload getPayload() {
+                return new EncodedPayload(0);
+            }
+        };
+        return new V2xMessageTransmission(0, v2xMessage);
+    }
+
+    private V2xMessageTransmission createTransmission(MessageRouting routing) {
         V2xMessage v2xMessage = new V2xMessage(routing) {
             @Nonnull
             @Override
@@ -203,9 +323,7 @@ public class SnsAmbassadorTest {
                 return new EncodedPayload(0);
             }
         };
-        V2xMessageTransmission v2xMessageTransmission = new V2xMessageTransmission(0, v2xMessage);
-        ambassador.processInteraction(v2xMessageTransmission);
-        ambassador.advanceTime(200 * TIME.NANO_SECOND); // advance time so processTimeAdvanceGrant is called
+        return new V2xMessageTransmission(0, v2xMessage);
     }
 
     private void configureAdHoc(String vehicleName, Double radius) throws InternalFederateException {
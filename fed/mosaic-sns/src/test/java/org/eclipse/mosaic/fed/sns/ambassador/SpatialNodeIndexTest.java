@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sns.ambassador;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.fed.sns.model.SophisticatedAdhocTransmissionModel;
+import org.eclipse.mosaic.fed.sns.model.TransmissionParameter;
+import org.eclipse.mosaic.lib.geo.Area;
+import org.eclipse.mosaic.lib.geo.CartesianCircle;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.CartesianPolygon;
+import org.eclipse.mosaic.lib.geo.CartesianRectangle;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
+import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
+import org.eclipse.mosaic.lib.model.delay.ConstantDelay;
+import org.eclipse.mosaic.lib.model.transmission.CTransmission;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tests for {@link SpatialNodeIndex}.
+ */
+public class SpatialNodeIndexTest {
+
+    private final RandomNumberGenerator rng = new DefaultRandomNumberGenerator(4711L);
+
+    private SpatialNodeIndex index;
+
+    @Before
+    public void setup() {
+        index = new SpatialNodeIndex(100);
+    }
+
+    @Test
+    public void getNodesInArea_circle() {
+        index.addOrUpdate("veh_0", createNode(0, 0));
+        index.addOrUpdate("veh_1", createNode(50, 50));
+        index.addOrUpdate("veh_2", createNode(-150, 20));
+        index.addOrUpdate("veh_3", createNode(400, 400));
+
+        Map<String, SimulationNode> result = index.getNodesInArea(new CartesianCircle(CartesianPoint.xy(0, 0), 160));
+
+        assertEquals(3, result.size());
+        assertTrue(result.containsKey("veh_0"));
+        assertTrue(result.containsKey("veh_1"));
+        assertTrue(result.containsKey("veh_2"));
+    }
+
+    @Test
+    public void getNodesInArea_afterMoveAndRemove() {
+        SimulationNode node = createNode(0, 0);
+        index.addOrUpdate("veh_0", node);
+        index.addOrUpdate("veh_1", createNode(10, 10));
+
+        node.setPosition(CartesianPoint.xy(1000, 1000));
+        index.addOrUpdate("veh_0", node);
+        index.removeNode("veh_1");
+
+        assertEquals(0, index.getNodesInArea(new CartesianCircle(CartesianPoint.xy(0, 0), 100)).size());
+        assertEquals(1, index.getNodesInArea(new CartesianCircle(CartesianPoint.xy(1000, 1000), 100)).size());
+        assertEquals(1, index.size());
+        assertNull(index.get("veh_1"));
+    }
+
+    @Test
+    public void getNodesInArea_sameResultAsFullScan() {
+        for (int i = 0; i < 1000; i++) {
+            index.addOrUpdate("veh_" + i, createNode(rng.nextDouble(-2000, 2000), rng.nextDouble(-2000, 2000)));
+        }
+        // move half of the nodes
+        for (int i = 0; i < 500; i++) {
+            SimulationNode node = index.get("veh_" + i);
+            node.setPosition(CartesianPoint.xy(rng.nextDouble(-2000, 2000), rng.nextDouble(-2000, 2000)));
+            index.addOrUpdate("veh_" + i, node);
+        }
+
+        assertSameAsFullScan(new CartesianCircle(CartesianPoint.xy(120, -340), 509.4));
+        assertSameAsFullScan(new CartesianRectangle(CartesianPoint.xy(-800, -100), CartesianPoint.xy(300, 1200)));
+        assertSameAsFullScan(new CartesianPolygon(
+                CartesianPoint.xy(-1000, -1000), CartesianPoint.xy(1000, -500), CartesianPoint.xy(0, 1500)
+        ));
+        assertSameAsFullScan(new CartesianCircle(CartesianPoint.xy(0, 0), Double.MAX_VALUE));
+    }
+
+    @Test
+    public void getNodesInRange_radiusOfNode() {
+        SimulationNode node = createNode(0, 0);
+        index.addOrUpdate("veh_0", node);
+        index.addOrUpdate("veh_1", createNode(80, 0));
+        index.addOrUpdate("veh_2", createNode(0, 150));
+
+        Map<String, SimulationNode> inRange = index.getNodesInRange("veh_0");
+
+        node.setRadius(200);
+        index.addOrUpdate("veh_0", node);
+        Map<String, SimulationNode> inExtendedRange = index.getNodesInRange("veh_0");
+
+        assertEquals(1, inRange.size());
+        assertTrue(inRange.containsKey("veh_1"));
+        assertEquals(2, inExtendedRange.size());
+        assertTrue(inExtendedRange.containsKey("veh_2"));
+        assertTrue(index.getNodesInRange("veh_unknown").isEmpty());
+    }
+
+    @Test
+    public void setCellSize_reindexesNodes() {
+        index.addOrUpdate("veh_0", createNode(0, 0));
+        index.addOrUpdate("veh_1", createNode(450, 0));
+
+        index.setCellSize(10);
+
+        assertEquals(2, index.getNodesInArea(new CartesianCircle(CartesianPoint.xy(0, 0), 500)).size());
+    }
+
+    @Test
+    public void simulateGeocast_sameReceiversAsNodeMap() {
+        final int nodes = 1000;
+        // one node per 50 x 50 m
+        final double extent = Math.sqrt(nodes) * 50 / 2;
+        final Map<String, SimulationNode> nodeMap = new HashMap<>();
+        for (int i = 0; i < nodes; i++) {
+            SimulationNode node = createNode(rng.nextDouble(-extent, extent), rng.nextDouble(-extent, extent));
+            nodeMap.put("veh_" + i, node);
+            index.addOrUpdate("veh_" + i, node);
+        }
+        final List<String> senders = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            senders.add("veh_" + rng.nextInt(nodes));
+        }
+
+        assertEquals(runQueries(nodeMap, senders), runQueries(index, senders));
+    }
+
+    /**
+     * Looks up the receivers of a geocast around each sender and simulates the flooding to them.
+     *
+     * @return the names of the receivers reached by each sender
+     */
+    private static List<Set<String>> runQueries(Map<String, SimulationNode> nodes, List<String> senders) {
+        final SophisticatedAdhocTransmissionModel transmissionModel = new SophisticatedAdhocTransmissionModel();
+        final RandomNumberGenerator rng = new DefaultRandomNumberGenerator(1234L);
+        final List<Set<String>> receivers = new ArrayList<>();
+        for (String sender : senders) {
+            Map<String, SimulationNode> destination = TransmissionSimulator.getEntitiesInArea(
+                    nodes, new CartesianCircle(nodes.get(sender).getPosition(), 400)
+            );
+            TransmissionParameter transmissionParameter = new TransmissionParameter(rng, new ConstantDelay(), new CTransmission(), 10);
+            receivers.add(new HashSet<>(transmissionModel.simulateGeocast(sender, destination, transmissionParameter, nodes).keySet()));
+        }
+        return receivers;
+    }
+
+    private void assertSameAsFullScan(Area<CartesianPoint> area) {
+        Map<String, SimulationNode> expected = new HashMap<>();
+        index.forEach((name, node) -> {
+            if (area.contains(node.getPosition())) {
+                expected.put(name, node);
+            }
+        });
+        assertEquals(expected, index.getNodesInArea(area));
+    }
+
+    private static SimulationNode createNode(double x, double y) {
+        SimulationNode node = new SimulationNode();
+        node.setPosition(CartesianPoint.xy(x, y));
+        node.setRadius(100);
+        return node;
+    }
+}
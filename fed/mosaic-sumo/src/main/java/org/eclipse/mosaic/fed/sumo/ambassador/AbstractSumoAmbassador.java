@@ -94,6 +94,7 @@ import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
 import org.eclipse.mosaic.rti.api.FederateExecutor;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InteractionDispatcher;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.federatestarter.ExecutableFederateExecutor;
 import org.eclipse.mosaic.rti.api.federatestarter.NopFederateExecutor;
@@ -167,6 +168,11 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
      */
     private final List<Interaction> interactionList = new ArrayList<>();
 
+    /**
+     * Passes each interaction to the according receive method, once it is processed.
+     */
+    private final InteractionDispatcher interactionDispatcher = createInteractionDispatcher();
+
     /**
      * List of vehicles that are simulated externally.
      */
@@ -484,51 +490,39 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
             throw new InternalFederateException("Interaction time lies in the future:" + interaction.getTime() + ", current time:" + time);
         }
 
-        if (interaction.getTypeId().equals(VehicleFederateAssignment.TYPE_ID)) {
-            receiveInteraction((VehicleFederateAssignment) interaction);
-        } else if (interaction.getTypeId().equals(VehicleUpdates.TYPE_ID)) {
-            receiveInteraction((VehicleUpdates) interaction);
-        } else if (interaction.getTypeId().equals(VehicleSlowDown.TYPE_ID)) {
-            receiveInteraction((VehicleSlowDown) interaction);
-        } else if (interaction.getTypeId().equals(VehicleRouteChange.TYPE_ID)) {
-            receiveInteraction((VehicleRouteChange) interaction);
-        } else if (interaction.getTypeId().equals(TrafficLightStateChange.TYPE_ID)) {
-            receiveInteraction((TrafficLightStateChange) interaction);
-        } else if (interaction.getTypeId().equals(SumoTraciRequest.TYPE_ID)) {
-            receiveInteraction((SumoTraciRequest) interaction);
-        } else if (interaction.getTypeId().equals(VehicleLaneChange.TYPE_ID)) {
-            receiveInteraction((VehicleLaneChange) interaction);
-        } else if (interaction.getTypeId().equals(VehicleStop.TYPE_ID)) {
-            receiveInteraction((VehicleStop) interaction);
-        } else if (interaction.getTypeId().equals(VehicleResume.TYPE_ID)) {
-            receiveInteraction((VehicleResume) interaction);
-        } else if (interaction.getTypeId().equals(VehicleParametersChange.TYPE_ID)) {
-            receiveInteraction((VehicleParametersChange) interaction);
-        } else if (interaction.getTypeId().equals(VehicleSensorActivation.TYPE_ID)) {
-            receiveInteraction((VehicleSensorActivation) interaction);
-        } else if (interaction.getTypeId().equals(VehicleSpeedChange.TYPE_ID)) {
-            receiveInteraction((VehicleSpeedChange) interaction);
-        } else if (interaction.getTypeId().equals(VehicleSightDistanceConfiguration.TYPE_ID)) {
-            receiveInteraction((VehicleSightDistanceConfiguration) interaction);
-        } else if (interaction.getTypeId().equals(InductionLoopDetectorSubscription.TYPE_ID)) {
-            receiveInteraction((InductionLoopDetectorSubscription) interaction);
-        } else if (interaction.getTypeId().equals(LaneAreaDetectorSubscription.TYPE_ID)) {
-            receiveInteraction((LaneAreaDetectorSubscription) interaction);
-        } else if (interaction.getTypeId().equals(TrafficLightSubscription.TYPE_ID)) {
-            this.receiveInteraction((TrafficLightSubscription) interaction);
-        } else if (interaction.getTypeId().equals(LanePropertyChange.TYPE_ID)) {
-            receiveInteraction((LanePropertyChange) interaction);
-        } else if (interaction.getTypeId().equals(TrafficSignRegistration.TYPE_ID)) {
-            this.receiveInteraction((TrafficSignRegistration) interaction);
-        } else if (interaction.getTypeId().equals(TrafficSignSpeedLimitChange.TYPE_ID)) {
-            this.receiveInteraction((TrafficSignSpeedLimitChange) interaction);
-        } else if (interaction.getTypeId().equals(TrafficSignLaneAssignmentChange.TYPE_ID)) {
-            this.receiveInteraction((TrafficSignLaneAssignmentChange) interaction);
-        } else {
+        if (!interactionDispatcher.dispatch(interaction)) {
             log.warn(UNKNOWN_INTERACTION + interaction.getTypeId());
         }
     }
 
+    /**
+     * Creates the dispatcher which passes each interaction processed in {@link #processInteractionAdvanced}
+     * to the according receive method.
+     */
+    private InteractionDispatcher createInteractionDispatcher() {
+        return new InteractionDispatcher()
+                .register(VehicleFederateAssignment.class, this::receiveInteraction)
+                .register(VehicleUpdates.class, this::receiveInteraction)
+                .register(VehicleSlowDown.class, this::receiveInteraction)
+                .register(VehicleRouteChange.class, this::receiveInteraction)
+                .register(TrafficLightStateChange.class, this::receiveInteraction)
+                .register(SumoTraciRequest.class, this::receiveInteraction)
+                .register(VehicleLaneChange.class, this::receiveInteraction)
+                .register(VehicleStop.class, this::receiveInteraction)
+                .register(VehicleResume.class, this::receiveInteraction)
+                .register(VehicleParametersChange.class, this::receiveInteraction)
+                .register(VehicleSensorActivation.class, this::receiveInteraction)
+                .register(VehicleSpeedChange.class, this::receiveInteraction)
+                .register(VehicleSightDistanceConfiguration.class, this::receiveInteraction)
+                .register(InductionLoopDetectorSubscription.class, this::receiveInteraction)
+                .register(LaneAreaDetectorSubscription.class, this::receiveInteraction)
+                .register(TrafficLightSubscription.class, this::receiveInteraction)
+                .register(LanePropertyChange.class, this::receiveInteraction)
+                .register(TrafficSignRegistration.class, this::receiveInteraction)
+                .register(TrafficSignSpeedLimitChange.class, this::receiveInteraction)
+                .register(TrafficSignLaneAssignmentChange.class, this::receiveInteraction);
+    }
+
     /**
      * Extract data from received {@link VehicleFederateAssignment} interactions and add vehicle to list of externally simulated vehicles.
      *
@@ -1192,25 +1186,32 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
             throw new InternalFederateException("Error during advance time (" + time + "): Sumo not yet ready.");
         }
 
-        // send cached interactions
-        for (Interaction interaction : interactionList) {
-            processInteractionAdvanced(interaction, time);
-        }
-        interactionList.clear();
+        // commands resulting from interactions and events are sent in batches to SUMO
+        bridge.beginCommandBatch();
+        try {
+            // send cached interactions
+            for (Interaction interaction : interactionList) {
+                processInteractionAdvanced(interaction, time);
+            }
+            interactionList.clear();
 
-        if (time < nextTimeStep) {
-            // process time advance only if time is equal or greater than the next simulation time step
-            return;
-        }
+            if (time < nextTimeStep) {
+                // process time advance only if time is equal or greater than the next simulation time step
+                return;
+            }
 
-        if (time > lastAdvanceTime) {
-            // actually add vehicles in sumo, before we reach the next advance time
-            flushNotYetAddedVehicles(lastAdvanceTime);
-        }
+            if (time > lastAdvanceTime) {
+                // actually add vehicles in sumo, before we reach the next advance time
+                flushNotYetAddedVehicles(lastAdvanceTime);
+            }
 
-        // schedule events, e.g. change speed events
-        int scheduled = eventScheduler.scheduleEvents(time);
-        log.debug("scheduled {} events at time {}", scheduled, TIME.format(time));
+            // schedule events, e.g. change speed events
+            int scheduled = eventScheduler.scheduleEvents(time);
+            log.debug("scheduled {} events at time {}", scheduled, TIME.format(time));
+        } finally {
+            // always leave the batch mode, so that no further commands are held back if an interaction or event failed
+            bridge.endCommandBatch();
+        }
 
         try {
             if (log.isTraceEnabled()) {
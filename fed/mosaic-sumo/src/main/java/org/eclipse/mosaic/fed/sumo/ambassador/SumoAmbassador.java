@@ -30,6 +30,7 @@ import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
 import org.eclipse.mosaic.rti.api.FederateAmbassador;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InteractionDispatcher;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 
@@ -76,6 +77,14 @@ public class SumoAmbassador extends AbstractSumoAmbassador {
      */
     private final List<VehicleRegistration> notYetSubscribedVehicles = new ArrayList<>();
 
+    /**
+     * Passes interactions which are processed directly after their reception to the according receive method.
+     */
+    private final InteractionDispatcher initialInteractionDispatcher = new InteractionDispatcher()
+            .register(VehicleRoutesInitialization.class, this::receiveInteraction)
+            .register(VehicleTypesInitialization.class, this::receiveInteraction)
+            .register(VehicleRegistration.class, this::receiveInteraction);
+
     /**
      * Constructor for {@link SumoAmbassador}.
      *
@@ -99,13 +108,7 @@ public class SumoAmbassador extends AbstractSumoAmbassador {
     @Override
     public synchronized void processInteraction(Interaction interaction) throws InternalFederateException {
         // Init and VehicleRegistration are processed directly...
-        if (interaction.getTypeId().equals(VehicleRoutesInitialization.TYPE_ID)) {
-            this.receiveInteraction((VehicleRoutesInitialization) interaction);
-        } else if (interaction.getTypeId().equals(VehicleTypesInitialization.TYPE_ID)) {
-            this.receiveInteraction((VehicleTypesInitialization) interaction);
-        } else if (interaction.getTypeId().equals(VehicleRegistration.TYPE_ID)) {
-            this.receiveInteraction((VehicleRegistration) interaction);
-        } else {
+        if (!initialInteractionDispatcher.dispatch(interaction)) {
             // ... everything else is saved for later
             super.processInteraction(interaction);
         }
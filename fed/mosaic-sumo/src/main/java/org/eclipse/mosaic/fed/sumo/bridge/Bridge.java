@@ -23,6 +23,7 @@ import org.eclipse.mosaic.fed.sumo.bridge.facades.VehicleFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.traci.AbstractTraciCommand;
 import org.eclipse.mosaic.fed.sumo.util.MosaicConformVehicleIdTransformer;
 import org.eclipse.mosaic.lib.util.objects.IdTransformer;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
 
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
@@ -105,4 +106,48 @@ public interface Bridge {
     void emergencyExit(Throwable e);
 
     void onCommandCompleted();
+
+    /**
+     * Starts a batch of commands. Until {@link #endCommandBatch()} is called, all commands without result
+     * which are executed via {@link #executeBatchable} may be collected and sent to SUMO together
+     * in one message, instead of waiting for the response of each single command.
+     */
+    void beginCommandBatch();
+
+    /**
+     * Executes the commands of the given {@link BatchableCommand}. If a command batch has been started, the commands
+     * may not be executed immediately, but as soon as the batch is sent. In this case, the failure handler is called
+     * after the batch has been sent and the response of the failed command has been read.
+     *
+     * @param command        the command(s) to execute
+     * @param failureHandler called if a command fails
+     * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
+     */
+    void executeBatchable(BatchableCommand command, CommandFailureHandler failureHandler) throws InternalFederateException;
+
+    /**
+     * Sends all commands collected since {@link #beginCommandBatch()} and ends the batch. Afterwards, all commands are
+     * executed immediately again.
+     *
+     * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
+     */
+    void endCommandBatch() throws InternalFederateException;
+
+    @FunctionalInterface
+    interface BatchableCommand {
+
+        void execute() throws CommandException, InternalFederateException;
+    }
+
+    @FunctionalInterface
+    interface CommandFailureHandler {
+
+        /**
+         * Called if a command could not be executed.
+         *
+         * @param e either a {@link CommandException} describing the error status returned by SUMO,
+         *          or an {@link IllegalArgumentException} if the command could not be created.
+         */
+        void onFailure(Exception e) throws InternalFederateException;
+    }
 }
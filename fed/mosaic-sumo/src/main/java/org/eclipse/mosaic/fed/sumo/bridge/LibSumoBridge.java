@@ -22,6 +22,7 @@ import org.eclipse.mosaic.fed.sumo.bridge.facades.SimulationFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.TrafficLightFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.VehicleFacade;
 import org.eclipse.mosaic.fed.sumo.config.CSumo;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
 
 import org.eclipse.sumo.libsumo.Simulation;
 import org.eclipse.sumo.libsumo.StringVector;
@@ -107,7 +108,11 @@ public class LibSumoBridge implements Bridge {
 
     @Override
     public void close() {
-        Simulation.close();
+        try {
+            Simulation.close();
+        } finally {
+            simulationControl.close();
+        }
     }
 
     @Override
@@ -129,4 +134,23 @@ public class LibSumoBridge implements Bridge {
     public void onCommandCompleted() {
         //nop
     }
+
+    @Override
+    public void beginCommandBatch() {
+        // nop, commands are executed within the same process without any communication overhead
+    }
+
+    @Override
+    public void executeBatchable(BatchableCommand command, CommandFailureHandler failureHandler) throws InternalFederateException {
+        try {
+            command.execute();
+        } catch (IllegalArgumentException | CommandException e) {
+            failureHandler.onFailure(e);
+        }
+    }
+
+    @Override
+    public void endCommandBatch() {
+        // nop
+    }
 }
@@ -23,6 +23,7 @@ import org.eclipse.mosaic.fed.sumo.bridge.facades.RouteFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.SimulationFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.TrafficLightFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.VehicleFacade;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.TraciCommandBatch;
 import org.eclipse.mosaic.fed.sumo.config.CSumo;
 import org.eclipse.mosaic.lib.objects.traffic.SumoTraciResult;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
@@ -33,6 +34,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.DataInputStream;
@@ -64,6 +66,8 @@ public class TraciClientBridge implements Bridge {
 
     private final SimulationTraciRequest simulationTraciRequest;
 
+    private final TraciCommandBatch commandBatch = new TraciCommandBatch(this);
+
     private SumoVersion currentVersion;
     private ByteArrayOutputStream outCapture;
     private ByteArrayOutputStream inCapture;
@@ -93,10 +97,11 @@ public class TraciClientBridge implements Bridge {
             inCapture = new ByteArrayOutputStream();
             outCapture = new ByteArrayOutputStream();
             this.in = new DataInputStream(new TeeInputStream(new BufferedInputStream(sumoServerSocket.getInputStream()), inCapture));
-            this.out = new DataOutputStream(new TeeOutputStream(sumoServerSocket.getOutputStream(), outCapture));
+            this.out = new DataOutputStream(new TeeOutputStream(new BufferedOutputStream(sumoServerSocket.getOutputStream()), outCapture));
         } else {
             this.in = new DataInputStream(new BufferedInputStream(sumoServerSocket.getInputStream()));
-            this.out = new DataOutputStream(sumoServerSocket.getOutputStream());
+            // each message is flushed after it has been written completely
+            this.out = new DataOutputStream(new BufferedOutputStream(sumoServerSocket.getOutputStream()));
         }
         this.sumoServerSocket = sumoServerSocket;
         this.commandRegister = commandRegister;
@@ -181,6 +186,7 @@ public class TraciClientBridge implements Bridge {
             log.error("Simulation could not be closed properly.", e);
         } finally {
             closeStreamsAndSockets();
+            simulationControl.close();
         }
     }
 
@@ -222,10 +228,36 @@ public class TraciClientBridge implements Bridge {
         return commandRegister;
     }
 
+    /**
+     * Returns the batch which collects commands between {@link #beginCommandBatch()} and {@link #endCommandBatch()}.
+     */
+    public TraciCommandBatch getCommandBatch() {
+        return commandBatch;
+    }
+
+    @Override
+    public void beginCommandBatch() {
+        commandBatch.begin();
+    }
+
+    @Override
+    public void executeBatchable(BatchableCommand command, CommandFailureHandler failureHandler) throws InternalFederateException {
+        commandBatch.execute(command, failureHandler);
+    }
+
+    @Override
+    public void endCommandBatch() throws InternalFederateException {
+        commandBatch.end();
+    }
+
     @Override
     public void emergencyExit(Throwable e) {
         log.error("Close all TraCI streams due to an error", e);
         closeStreamsAndSockets();
+        // the connection might fail while the bridge is still created
+        if (simulationControl != null) {
+            simulationControl.close();
+        }
     }
 
     @Override
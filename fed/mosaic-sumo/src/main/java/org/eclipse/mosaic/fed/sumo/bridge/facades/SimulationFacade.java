@@ -82,6 +82,11 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class SimulationFacade {
 
@@ -91,6 +96,11 @@ public class SimulationFacade {
      */
     private final static double FUEL_DENSITY = 0.74; // g/m^3
 
+    /**
+     * The bits of the encoded vehicle signals which are relevant for decoding {@link VehicleSignals}.
+     */
+    private final static int VEHICLE_SIGNALS_MASK = 0b10001111;
+
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
     private final Bridge bridge;
@@ -127,12 +137,33 @@ public class SimulationFacade {
      */
     private List<String> currentTeleportingList;
 
+    /**
+     * Decoded {@link VehicleSignals} by their encoded value, which are shared between all vehicles
+     * if {@link CSumo#compactVehicleUpdates} is enabled.
+     */
+    private final VehicleSignals[] sharedVehicleSignals = new VehicleSignals[VEHICLE_SIGNALS_MASK + 1];
+
+    /**
+     * Pool used to process vehicle subscription results in parallel, or {@code null} if they are processed sequentially.
+     */
+    private final ForkJoinPool vehicleProcessingPool;
+
+    /**
+     * The index of each vehicle within the subscription results of the current simulation step.
+     * Only available while vehicle subscription results are processed in parallel.
+     */
+    private Map<String, Integer> parallelProcessingOrder;
+
     private static class SumoVehicleState {
         private final String id;
         private VehicleData currentVehicleData = null;
         private VehicleData lastVehicleData = null;
         private Double frontSensorDistance = null;
         private Double rearSensorDistance = null;
+        /**
+         * Set during parallel processing, if the sensor data depends on a vehicle which is processed before this vehicle.
+         */
+        private boolean recalculateSensors = false;
 
         private SumoVehicleState(String id) {
             this.id = id;
@@ -192,6 +223,20 @@ public class SimulationFacade {
 
         this.vehicleSubscribeSurrounding = bridge.getCommandRegister().getOrCreate(VehicleSubscribeSurroundingVehicle.class);
         this.vehicleSubscriptionFilterFieldOfVision = bridge.getCommandRegister().getOrCreate(VehicleSubscriptionSetFieldOfVision.class);
+
+        this.vehicleProcessingPool = sumoConfiguration.parallelVehicleProcessingThreads > 0
+                ? new ForkJoinPool(sumoConfiguration.parallelVehicleProcessingThreads)
+                : null;
+    }
+
+    /**
+     * Releases the resources held by this facade, i.e. stops the threads processing vehicle subscription results in parallel.
+     * Must be called when the bridge is closed, as the facade cannot be used for further simulation steps afterwards.
+     */
+    public void close() {
+        if (vehicleProcessingPool != null) {
+            vehicleProcessingPool.shutdown();
+        }
     }
 
     /**
@@ -439,27 +484,26 @@ public class SimulationFacade {
 
             final Map<String, String> vehicleSegmentInfo = calculateVehicleSegmentInfo(subscriptions);
 
-            final List<VehicleData> addedVehicles = new LinkedList<>();
-            final List<VehicleData> updatedVehicles = new LinkedList<>();
+            final List<VehicleData> addedVehicles = new ArrayList<>();
+            final List<VehicleData> updatedVehicles = new ArrayList<>();
 
             final List<InductionLoopInfo> updatedInductionLoops = new ArrayList<>();
             final List<LaneAreaDetectorInfo> updatedLaneAreas = new ArrayList<>();
             final Map<String, TrafficLightGroupInfo> trafficLightGroupInfos = new HashMap<>();
 
+            for (SumoVehicleState sumoVehicle : processVehicleSubscriptionResults(time, subscriptions, vehicleSegmentInfo)) {
+                if (sumoVehicle == null) {
+                    continue;
+                }
+                if (sumoVehicle.isAdded()) {
+                    addedVehicles.add(sumoVehicle.currentVehicleData);
+                } else if (sumoVehicle.isUpdated()) {
+                    updatedVehicles.add(sumoVehicle.currentVehicleData);
+                }
+            }
+
             for (AbstractSubscriptionResult subscriptionResult : subscriptions) {
-                if (subscriptionResult instanceof VehicleSubscriptionResult) {
-                    final SumoVehicleState sumoVehicle = processVehicleSubscriptionResult(
-                            time, (VehicleSubscriptionResult) subscriptionResult, vehicleSegmentInfo
-                    );
-                    if (sumoVehicle == null) {
-                        continue;
-                    }
-                    if (sumoVehicle.isAdded()) {
-                        addedVehicles.add(sumoVehicle.currentVehicleData);
-                    } else if (sumoVehicle.isUpdated()) {
-                        updatedVehicles.add(sumoVehicle.currentVehicleData);
-                    }
-                } else if (subscriptionResult instanceof InductionLoopSubscriptionResult) {
+                if (subscriptionResult instanceof InductionLoopSubscriptionResult) {
                     final InductionLoopInfo inductionLoopInfo = processInductionLoopSubscriptionResult(
                             time, (InductionLoopSubscriptionResult) subscriptionResult
                     );
@@ -498,12 +542,99 @@ public class SimulationFacade {
         }
     }
 
+    /**
+     * Processes all vehicle subscription results, either sequentially or in parallel if configured.
+     *
+     * @return the state of each processed vehicle in the order of the subscription results,
+     *         entries are {@code null} for vehicles which have been skipped
+     */
+    private List<SumoVehicleState> processVehicleSubscriptionResults(final long time,
+                                                                     final List<AbstractSubscriptionResult> subscriptions,
+                                                                     final Map<String, String> vehicleSegmentInfo
+    ) throws CommandException, InternalFederateException {
+        final List<VehicleSubscriptionResult> vehicles = new ArrayList<>();
+        for (AbstractSubscriptionResult subscriptionResult : subscriptions) {
+            if (subscriptionResult instanceof VehicleSubscriptionResult) {
+                vehicles.add((VehicleSubscriptionResult) subscriptionResult);
+            }
+        }
+
+        if (vehicleProcessingPool == null || vehicles.size() < 2) {
+            final List<SumoVehicleState> processedVehicles = new ArrayList<>(vehicles.size());
+            for (VehicleSubscriptionResult veh : vehicles) {
+                processedVehicles.add(processVehicleSubscriptionResult(time, getOrCreateVehicleState(veh.id), veh, vehicleSegmentInfo));
+            }
+            return processedVehicles;
+        }
+        return processVehicleSubscriptionResultsInParallel(time, vehicles, vehicleSegmentInfo);
+    }
+
+    /**
+     * Processes all vehicle subscription results in parallel. All steps which are not thread-safe, such as creating
+     * vehicle states or calling TraCI, are done beforehand. The sensor data of a vehicle depends on the data of its leader
+     * which, if processed sequentially, would already be updated if the leader is processed first. To achieve the same
+     * results as with sequential processing, the sensor data of such vehicles are recalculated afterwards.
+     */
+    private List<SumoVehicleState> processVehicleSubscriptionResultsInParallel(final long time,
+                                                                               final List<VehicleSubscriptionResult> vehicles,
+                                                                               final Map<String, String> vehicleSegmentInfo
+    ) throws CommandException, InternalFederateException {
+        final List<SumoVehicleState> vehicleStates = new ArrayList<>(vehicles.size());
+        parallelProcessingOrder = new HashMap<>();
+        boolean potentiallyTeleporting = false;
+        for (int i = 0; i < vehicles.size(); i++) {
+            final VehicleSubscriptionResult veh = vehicles.get(i);
+            final SumoVehicleState sumoVehicle = getOrCreateVehicleState(veh.id);
+            vehicleStates.add(sumoVehicle);
+            parallelProcessingOrder.put(veh.id, i);
+            potentiallyTeleporting |= sumoVehicle.lastVehicleData != null && (veh.position == null || !veh.position.isValid());
+        }
+        if (potentiallyTeleporting && currentTeleportingList == null) {
+            currentTeleportingList = getTeleportingList.execute(bridge);
+        }
+
+        final List<SumoVehicleState> processedVehicles;
+        try {
+            processedVehicles = vehicleProcessingPool.submit(() -> IntStream.range(0, vehicles.size()).parallel()
+                    .mapToObj(i -> {
+                        try {
+                            return processVehicleSubscriptionResult(time, vehicleStates.get(i), vehicles.get(i), vehicleSegmentInfo);
+                        } catch (CommandException | InternalFederateException e) {
+                            throw new CompletionException(e);
+                        }
+                    })
+                    .collect(Collectors.toList())
+            ).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            }
+            if (e.getCause() instanceof InternalFederateException) {
+                throw (InternalFederateException) e.getCause();
+            }
+            throw e;
+        } finally {
+            parallelProcessingOrder = null;
+        }
+
+        for (int i = 0; i < processedVehicles.size(); i++) {
+            final SumoVehicleState sumoVehicle = processedVehicles.get(i);
+            if (sumoVehicle != null && sumoVehicle.recalculateSensors) {
+                final VehicleSubscriptionResult veh = vehicles.get(i);
+                sumoVehicle.recalculateSensors = false;
+                sumoVehicle.currentVehicleData = new VehicleData.Builder(time, veh.id).copyFrom(sumoVehicle.currentVehicleData)
+                        .sensors(createSensorData(sumoVehicle, veh.leadingVehicle, veh.followerVehicle, veh.minGap))
+                        .create();
+            }
+        }
+        return processedVehicles;
+    }
+
     private SumoVehicleState processVehicleSubscriptionResult(final long time,
+                                                              final SumoVehicleState sumoVehicle,
                                                               final VehicleSubscriptionResult veh,
                                                               final Map<String, String> vehicleSegmentInfo
     ) throws CommandException, InternalFederateException {
-
-        final SumoVehicleState sumoVehicle = getOrCreateVehicleState(veh.id);
         final VehicleStopMode vehicleStopMode = VehicleStopMode.fromSumoInt(veh.stoppedStateEncoded);
         final boolean isParking = vehicleStopMode.isParking();
         final boolean hasInvalidPosition = veh.position == null || !veh.position.isValid();
@@ -549,17 +680,17 @@ public class SimulationFacade {
             // if the vehicle is waiting to leave a parking area, we assume it's still parked and copy previous vehicle data
             vehicleDataBuilder.copyFrom(sumoVehicle.lastVehicleData);
         } else {
+            setPosition(vehicleDataBuilder, veh.position, sumoVehicle.lastVehicleData);
             vehicleDataBuilder
-                    .position(veh.position.getGeographicPosition(), veh.position.getProjectedPosition())
                     .movement(veh.speed, veh.acceleration, fixDistanceDriven(veh.distanceDriven, sumoVehicle.lastVehicleData))
                     .orientation(DriveDirection.UNAVAILABLE, veh.heading, veh.slope)
-                    .route(veh.routeId)
+                    .route(getRouteId(veh, sumoVehicle.lastVehicleData))
                     .signals(decodeVehicleSignals(veh.signalsEncoded))
                     .stopped(vehicleStopMode)
                     .sensors(createSensorData(sumoVehicle, veh.leadingVehicle, veh.followerVehicle, veh.minGap))
                     .laneArea(vehicleSegmentInfo.get(veh.id));
             if (sumoConfiguration.subscriptions != null && sumoConfiguration.subscriptions.contains(CSumo.SUBSCRIPTION_TRAINS)) {
-                vehicleDataBuilder.additional(extractTrainData(veh));
+                vehicleDataBuilder.additional(extractTrainData(veh, sumoVehicle.lastVehicleData));
             }
             if (isParking) {
                 if (!sumoVehicle.lastVehicleData.isStopped()) {
@@ -569,10 +700,8 @@ public class SimulationFacade {
                         // use the last known road position, otherwise we can not retrieve a valid one
                         .road(sumoVehicle.lastVehicleData.getRoadPosition())
                         // for parking vehicles, there are no consumptions and emissions to measure
-                        .consumptions(new VehicleConsumptions(
-                                new Consumptions(0d), sumoVehicle.lastVehicleData.getVehicleConsumptions().getAllConsumptions())
-                        ).emissions(new VehicleEmissions(
-                                new Emissions(0d, 0d, 0d, 0d, 0d), sumoVehicle.lastVehicleData.getVehicleEmissions().getAllEmissions()));
+                        .consumptions(createConsumptions(new Consumptions(0d), sumoVehicle.lastVehicleData, false))
+                        .emissions(createEmissions(new Emissions(0d, 0d, 0d, 0d, 0d), sumoVehicle.lastVehicleData, false));
             } else {
                 vehicleDataBuilder
                         .road(getRoadPosition(veh, sumoVehicle.lastVehicleData))
@@ -585,7 +714,32 @@ public class SimulationFacade {
         return sumoVehicle;
     }
 
-    private PublicTransportData extractTrainData(VehicleSubscriptionResult veh) {
+    private void setPosition(VehicleData.Builder vehicleDataBuilder, Position position, VehicleData lastVehicleData) {
+        if (sumoConfiguration.compactVehicleUpdates && lastVehicleData != null
+                && position.getProjectedPosition().equals(lastVehicleData.getProjectedPosition())) {
+            // vehicle has not moved, share the positions with the previous vehicle data
+            vehicleDataBuilder.position(lastVehicleData.getPosition(), lastVehicleData.getProjectedPosition());
+        } else {
+            vehicleDataBuilder.position(position.getGeographicPosition(), position.getProjectedPosition());
+        }
+    }
+
+    private String getRouteId(VehicleSubscriptionResult veh, VehicleData lastVehicleData) {
+        if (sumoConfiguration.compactVehicleUpdates && lastVehicleData != null
+                && Objects.equals(veh.routeId, lastVehicleData.getRouteId())) {
+            return lastVehicleData.getRouteId();
+        }
+        return veh.routeId;
+    }
+
+    private PublicTransportData extractTrainData(VehicleSubscriptionResult veh, VehicleData lastVehicleData) {
+        if (sumoConfiguration.compactVehicleUpdates && lastVehicleData != null
+                && lastVehicleData.getAdditionalData() instanceof PublicTransportData) {
+            final PublicTransportData lastTrainData = (PublicTransportData) lastVehicleData.getAdditionalData();
+            if (Objects.equals(veh.line, lastTrainData.getLineId()) && Objects.equals(veh.nextStops, lastTrainData.getNextStops())) {
+                return lastTrainData;
+            }
+        }
         return new PublicTransportData.Builder().withLineId(veh.line).nextStops(veh.nextStops).build();
     }
 
@@ -710,7 +864,7 @@ public class SimulationFacade {
                 && leadingVehicle.getDistance() < vehicleState.frontSensorDistance
         ) {
             frontDistance = leadingVehicle.getDistance() + minGap;
-            VehicleData leadingVehicleData = getLastKnownVehicleData(leadingVehicle.getOtherVehicleId());
+            VehicleData leadingVehicleData = getLeadingVehicleData(vehicleState, leadingVehicle.getOtherVehicleId());
             leaderSpeed = leadingVehicleData != null ? leadingVehicleData.getSpeed() : -1;
         }
         if (hasBackSensorActivated
@@ -719,12 +873,46 @@ public class SimulationFacade {
             // using the own minGap is not 100% correct here, but it would be very expensive to fetch the minGap of the follower
             rearDistance = followerVehicle.getDistance() + minGap;
         }
+        final VehicleData lastVehicleData = vehicleState.lastVehicleData;
+        if (sumoConfiguration.compactVehicleUpdates && lastVehicleData != null
+                && hasSensorValues(lastVehicleData.getVehicleSensors(), frontDistance, rearDistance, leaderSpeed)) {
+            return lastVehicleData.getVehicleSensors();
+        }
         return new VehicleSensors(
                 new DistanceSensor(frontDistance, rearDistance, -1d, -1d),
                 new RadarSensor(leaderSpeed)
         );
     }
 
+    /**
+     * Returns the data of the leading vehicle as known at the time the given vehicle is processed. If vehicles are processed
+     * in parallel and the leader would have been processed before the given vehicle, its data might not be available yet.
+     * In this case, {@code null} is returned and the sensor data of the given vehicle is marked to be recalculated.
+     */
+    private VehicleData getLeadingVehicleData(SumoVehicleState vehicleState, String leadingVehicleId) {
+        final Map<String, Integer> processingOrder = parallelProcessingOrder;
+        if (processingOrder == null) {
+            return getLastKnownVehicleData(leadingVehicleId);
+        }
+        final Integer leaderIndex = processingOrder.get(leadingVehicleId);
+        if (leaderIndex != null && leaderIndex < processingOrder.get(vehicleState.id)) {
+            vehicleState.recalculateSensors = true;
+            return null;
+        }
+        // the leader has not been processed yet, or will not be processed at all within this simulation step
+        SumoVehicleState leadingVehicle = sumoVehicles.get(leadingVehicleId);
+        return leadingVehicle != null ? leadingVehicle.lastVehicleData : null;
+    }
+
+    private static boolean hasSensorValues(VehicleSensors sensors, double frontDistance, double rearDistance, double leaderSpeed) {
+        return sensors != null
+                && sensors.distance.front.matches(frontDistance)
+                && sensors.distance.back.matches(rearDistance)
+                && sensors.distance.left.matches(-1d)
+                && sensors.distance.right.matches(-1d)
+                && sensors.radar.speedFrontVehicle == leaderSpeed;
+    }
+
     /**
      * Maps vehicles to the their current lane segments (on which a vehicle is located).
      *
@@ -756,11 +944,22 @@ public class SimulationFacade {
      * @return The vehicle consumption.
      */
     private VehicleConsumptions calculateConsumptions(VehicleSubscriptionResult veh, VehicleData lastVehicleData) {
-        final Consumptions currentConsumptions = new Consumptions(fixFuelConsumptionValue(veh.fuel));
+        return createConsumptions(new Consumptions(fixFuelConsumptionValue(veh.fuel)), lastVehicleData, true);
+    }
+
+    private VehicleConsumptions createConsumptions(Consumptions currentConsumptions, VehicleData lastVehicleData, boolean accumulate) {
         if (lastVehicleData != null && lastVehicleData.getVehicleConsumptions() != null) {
+            final VehicleConsumptions lastConsumptions = lastVehicleData.getVehicleConsumptions();
+            if (sumoConfiguration.compactVehicleUpdates && currentConsumptions.getFuel() == 0d
+                    && lastConsumptions.getCurrentConsumptions().getFuel() == 0d) {
+                // nothing consumed since the previous step, hence both current and accumulated consumptions are unchanged
+                return lastConsumptions;
+            }
             return new VehicleConsumptions(
                     currentConsumptions,
-                    lastVehicleData.getVehicleConsumptions().getAllConsumptions().addConsumptions(currentConsumptions)
+                    accumulate
+                            ? lastConsumptions.getAllConsumptions().addConsumptions(currentConsumptions)
+                            : lastConsumptions.getAllConsumptions()
             );
         }
         return new VehicleConsumptions(currentConsumptions, currentConsumptions);
@@ -787,15 +986,31 @@ public class SimulationFacade {
                 fixEmissionValue(veh.hc),
                 fixEmissionValue(veh.pmx),
                 fixEmissionValue(veh.nox));
+        return createEmissions(currentEmissions, lastVehicleData, true);
+    }
+
+    private VehicleEmissions createEmissions(Emissions currentEmissions, VehicleData lastVehicleData, boolean accumulate) {
         if (lastVehicleData != null && lastVehicleData.getVehicleEmissions() != null) {
+            final VehicleEmissions lastEmissions = lastVehicleData.getVehicleEmissions();
+            if (sumoConfiguration.compactVehicleUpdates && isZero(currentEmissions) && isZero(lastEmissions.getCurrentEmissions())) {
+                // nothing emitted since the previous step, hence both current and accumulated emissions are unchanged
+                return lastEmissions;
+            }
             return new VehicleEmissions(
                     currentEmissions,
-                    lastVehicleData.getVehicleEmissions().getAllEmissions().addEmissions(currentEmissions)
+                    accumulate
+                            ? lastEmissions.getAllEmissions().addEmissions(currentEmissions)
+                            : lastEmissions.getAllEmissions()
             );
         }
         return new VehicleEmissions(currentEmissions, currentEmissions);
     }
 
+    private static boolean isZero(Emissions emissions) {
+        return emissions.getCo2() == 0d && emissions.getCo() == 0d && emissions.getHc() == 0d
+                && emissions.getPmx() == 0d && emissions.getNox() == 0d;
+    }
+
     private double fixEmissionValue(double consumption) {
         return consumption * (sumoConfiguration.updateInterval / 1000d);
     }
@@ -813,7 +1028,10 @@ public class SimulationFacade {
         }
 
         IRoadPosition roadPosition = null;
-        if (!veh.edgeId.contains(":")) {
+        if (sumoConfiguration.compactVehicleUpdates && lastVehicleData != null
+                && isSameRoadPosition(lastVehicleData.getRoadPosition(), veh)) {
+            roadPosition = lastVehicleData.getRoadPosition();
+        } else if (!veh.edgeId.contains(":")) {
             roadPosition = createRoadPosition(
                     veh.edgeId,
                     veh.laneIndex,
@@ -826,6 +1044,14 @@ public class SimulationFacade {
         return roadPosition;
     }
 
+    private static boolean isSameRoadPosition(IRoadPosition roadPosition, VehicleSubscriptionResult veh) {
+        return roadPosition != null
+                && veh.edgeId.equals(roadPosition.getConnectionId())
+                && veh.laneIndex == roadPosition.getLaneIndex()
+                && veh.lanePosition == roadPosition.getOffset()
+                && veh.lateralLanePosition == roadPosition.getLateralLanePosition();
+    }
+
     /**
      * Fixing the driven distance.
      *
@@ -858,9 +1084,22 @@ public class SimulationFacade {
      * This method decodes the vehicle signals.
      *
      * @param signalsEncoded Encoded number indicating the vehicle signals.
-     * @return a new {@link VehicleSignals} object
+     * @return a {@link VehicleSignals} object, which is shared between vehicles if compact vehicle updates are enabled
      */
     private VehicleSignals decodeVehicleSignals(int signalsEncoded) {
+        if (sumoConfiguration.compactVehicleUpdates) {
+            final int key = signalsEncoded & VEHICLE_SIGNALS_MASK;
+            VehicleSignals signals = sharedVehicleSignals[key];
+            if (signals == null) {
+                signals = createVehicleSignals(key);
+                sharedVehicleSignals[key] = signals;
+            }
+            return signals;
+        }
+        return createVehicleSignals(signalsEncoded);
+    }
+
+    private static VehicleSignals createVehicleSignals(int signalsEncoded) {
         boolean blinkerRight = getBit(signalsEncoded, 0);
         boolean blinkerLeft = getBit(signalsEncoded, 1);
         boolean blinkerEmergency = getBit(signalsEncoded, 2);
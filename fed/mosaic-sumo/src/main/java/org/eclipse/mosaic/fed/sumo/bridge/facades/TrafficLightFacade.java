@@ -279,11 +279,12 @@ public class TrafficLightFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void setPhaseRemainingDuration(String trafficLightGroupId, double phaseRemainingDurationS) throws InternalFederateException {
-        try {
-            setPhaseRemainingDuration.execute(bridge, trafficLightGroupId, phaseRemainingDurationS);
-        } catch (CommandException e) {
-            throw new InternalFederateException("Could not set remaining phase duration for traffic light", e);
-        }
+        bridge.executeBatchable(
+                () -> setPhaseRemainingDuration.execute(bridge, trafficLightGroupId, phaseRemainingDurationS),
+                e -> {
+                    throw new InternalFederateException("Could not set remaining phase duration for traffic light", e);
+                }
+        );
     }
 
     /**
@@ -294,11 +295,12 @@ public class TrafficLightFacade {
      * @throws InternalFederateException if couldn't set program for traffic light
      */
     public void setProgramById(String trafficLightGroupId, String programId) throws InternalFederateException {
-        try {
-            setProgram.execute(bridge, trafficLightGroupId, programId);
-        } catch (CommandException e) {
-            throw new InternalFederateException("Could not set program for traffic light", e);
-        }
+        bridge.executeBatchable(
+                () -> setProgram.execute(bridge, trafficLightGroupId, programId),
+                e -> {
+                    throw new InternalFederateException("Could not set program for traffic light", e);
+                }
+        );
     }
 
     /**
@@ -309,11 +311,12 @@ public class TrafficLightFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void setPhaseIndex(String trafficLightGroupId, int phaseId) throws InternalFederateException {
-        try {
-            setPhaseIndex.execute(bridge, trafficLightGroupId, phaseId);
-        } catch (CommandException e) {
-            throw new InternalFederateException("Could not change phase for traffic light group " + trafficLightGroupId, e);
-        }
+        bridge.executeBatchable(
+                () -> setPhaseIndex.execute(bridge, trafficLightGroupId, phaseId),
+                e -> {
+                    throw new InternalFederateException("Could not change phase for traffic light group " + trafficLightGroupId, e);
+                }
+        );
     }
 
     /**
@@ -324,10 +327,11 @@ public class TrafficLightFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void setPhase(String trafficLightGroupId, List<TrafficLightState> stateList) throws InternalFederateException {
-        try {
-            setState.execute(bridge, trafficLightGroupId, TrafficLightStateDecoder.encodeStateList(stateList));
-        } catch (CommandException e) {
-            throw new InternalFederateException("Could not change state for traffic light group " + trafficLightGroupId, e);
-        }
+        bridge.executeBatchable(
+                () -> setState.execute(bridge, trafficLightGroupId, TrafficLightStateDecoder.encodeStateList(stateList)),
+                e -> {
+                    throw new InternalFederateException("Could not change state for traffic light group " + trafficLightGroupId, e);
+                }
+        );
     }
 }
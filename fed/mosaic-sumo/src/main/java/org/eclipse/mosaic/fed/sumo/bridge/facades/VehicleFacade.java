@@ -239,11 +239,10 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void changeLane(String vehicle, int lane, long duration) throws InternalFederateException {
-        try {
-            changeLane.execute(bridge, vehicle, lane, duration);
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Could not change lane for vehicle {}", vehicle);
-        }
+        bridge.executeBatchable(
+                () -> changeLane.execute(bridge, vehicle, lane, duration),
+                e -> log.warn("Could not change lane for vehicle {}", vehicle)
+        );
     }
 
     /**
@@ -255,11 +254,10 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void slowDown(String vehicle, double newSpeedMps, long duration) throws InternalFederateException {
-        try {
-            slowDown.execute(bridge, vehicle, newSpeedMps, duration);
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Could not slow down vehicle {}", vehicle);
-        }
+        bridge.executeBatchable(
+                () -> slowDown.execute(bridge, vehicle, newSpeedMps, duration),
+                e -> log.warn("Could not slow down vehicle {}", vehicle)
+        );
     }
 
     /**
@@ -274,11 +272,12 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void stop(String vehicle, String edgeId, double position, int laneIndex, long duration, VehicleStopMode stopMode) throws InternalFederateException {
-        try {
-            stop.execute(bridge, vehicle, edgeId, position, laneIndex, duration, VehicleStopMode.toSumoInt(stopMode));
-        } catch (IllegalArgumentException | CommandException e) {
-            throw new InternalFederateException("Could not stop vehicle " + vehicle, e);
-        }
+        bridge.executeBatchable(
+                () -> stop.execute(bridge, vehicle, edgeId, position, laneIndex, duration, VehicleStopMode.toSumoInt(stopMode)),
+                e -> {
+                    throw new InternalFederateException("Could not stop vehicle " + vehicle, e);
+                }
+        );
     }
 
     /**
@@ -288,11 +287,10 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void resume(String vehicle) throws InternalFederateException {
-        try {
-            resume.execute(bridge, vehicle);
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Could not resume vehicle {}", vehicle);
-        }
+        bridge.executeBatchable(
+                () -> resume.execute(bridge, vehicle),
+                e -> log.warn("Could not resume vehicle {}", vehicle)
+        );
     }
 
     /**
@@ -303,19 +301,17 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void setRouteById(String vehicle, String routeId) throws InternalFederateException {
-        try {
-            setRouteById.execute(bridge, vehicle, routeId);
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Route for vehicle " + vehicle + " could not be changed", e);
-        }
+        bridge.executeBatchable(
+                () -> setRouteById.execute(bridge, vehicle, routeId),
+                e -> log.warn("Route for vehicle " + vehicle + " could not be changed", e)
+        );
     }
 
     public void highlight(String vehicleId, Color color) throws InternalFederateException {
-        try {
-            highlight.execute(bridge, vehicleId, color);
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Could not highlight vehicle {}", vehicleId);
-        }
+        bridge.executeBatchable(
+                () -> highlight.execute(bridge, vehicleId, color),
+                e -> log.warn("Could not highlight vehicle {}", vehicleId)
+        );
     }
 
     /**
@@ -326,11 +322,10 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void setMaxSpeed(String vehicleId, double speed) throws InternalFederateException {
-        try {
-            setMaxSpeed.execute(bridge, vehicleId, speed);
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Could not set max speed for vehicle {}", vehicleId);
-        }
+        bridge.executeBatchable(
+                () -> setMaxSpeed.execute(bridge, vehicleId, speed),
+                e -> log.warn("Could not set max speed for vehicle {}", vehicleId)
+        );
     }
 
     /**
@@ -341,11 +336,10 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void setImperfection(String vehicleId, double imperfectionValue) throws InternalFederateException {
-        try {
-            setImperfection.execute(bridge, vehicleId, imperfectionValue);
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Could not set imperfection for vehicle {}", vehicleId);
-        }
+        bridge.executeBatchable(
+                () -> setImperfection.execute(bridge, vehicleId, imperfectionValue),
+                e -> log.warn("Could not set imperfection for vehicle {}", vehicleId)
+        );
     }
 
     /**
@@ -356,11 +350,10 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void setMaxAcceleration(String vehicleId, double maxAcceleration) throws InternalFederateException {
-        try {
-            setMaxAcceleration.execute(bridge, vehicleId, maxAcceleration);
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Could not set maximum acceleration for vehicle {}", vehicleId);
-        }
+        bridge.executeBatchable(
+                () -> setMaxAcceleration.execute(bridge, vehicleId, maxAcceleration),
+                e -> log.warn("Could not set maximum acceleration for vehicle {}", vehicleId)
+        );
     }
 
     /**
@@ -371,11 +364,10 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void setMaxDeceleration(String vehicleId, double maxDeceleration) throws InternalFederateException {
-        try {
-            setMaxDeceleration.execute(bridge, vehicleId, maxDeceleration);
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Could not set maximum deceleration for vehicle {}", vehicleId);
-        }
+        bridge.executeBatchable(
+                () -> setMaxDeceleration.execute(bridge, vehicleId, maxDeceleration),
+                e -> log.warn("Could not set maximum deceleration for vehicle {}", vehicleId)
+        );
     }
 
     /**
@@ -386,11 +378,10 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void setMinimumGap(String vehicleId, double minGap) throws InternalFederateException {
-        try {
-            setMinGap.execute(bridge, vehicleId, minGap);
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Could not set minimum gap for vehicle {}", vehicleId);
-        }
+        bridge.executeBatchable(
+                () -> setMinGap.execute(bridge, vehicleId, minGap),
+                e -> log.warn("Could not set minimum gap for vehicle {}", vehicleId)
+        );
     }
 
     /**
@@ -401,11 +392,10 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void setReactionTime(String vehicleId, double reactionTime) throws InternalFederateException {
-        try {
-            setReactionTime.execute(bridge, vehicleId, reactionTime);
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Could not set reaction time for vehicle {}", vehicleId);
-        }
+        bridge.executeBatchable(
+                () -> setReactionTime.execute(bridge, vehicleId, reactionTime),
+                e -> log.warn("Could not set reaction time for vehicle {}", vehicleId)
+        );
     }
 
     /**
@@ -416,11 +406,10 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void setVehicleLength(String vehicleId, double vehicleLength) throws InternalFederateException {
-        try {
-            setVehicleLength.execute(bridge, vehicleId, vehicleLength);
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Could not set vehicle length for vehicle {}", vehicleId);
-        }
+        bridge.executeBatchable(
+                () -> setVehicleLength.execute(bridge, vehicleId, vehicleLength),
+                e -> log.warn("Could not set vehicle length for vehicle {}", vehicleId)
+        );
     }
 
 
@@ -432,11 +421,10 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void setSpeedFactor(String vehicleId, double speedFactor) throws InternalFederateException {
-        try {
-            setSpeedFactor.execute(bridge, vehicleId, speedFactor);
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Could not set speed factor for vehicle {}", vehicleId);
-        }
+        bridge.executeBatchable(
+                () -> setSpeedFactor.execute(bridge, vehicleId, speedFactor),
+                e -> log.warn("Could not set speed factor for vehicle {}", vehicleId)
+        );
     }
 
     /**
@@ -447,11 +435,10 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void setLaneChangeMode(String vehicleId, SumoLaneChangeMode laneChangeMode) throws InternalFederateException {
-        try {
-            setLaneChangeMode.execute(bridge, vehicleId, laneChangeMode.getAsInteger());
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Could not set lane change mode for vehicle {}", vehicleId);
-        }
+        bridge.executeBatchable(
+                () -> setLaneChangeMode.execute(bridge, vehicleId, laneChangeMode.getAsInteger()),
+                e -> log.warn("Could not set lane change mode for vehicle {}", vehicleId)
+        );
     }
 
     /**
@@ -462,11 +449,10 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void setSpeedMode(String vehicleId, SumoSpeedMode speedMode) throws InternalFederateException {
-        try {
-            setSpeedMode.execute(bridge, vehicleId, speedMode.getAsInteger());
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Could not set speed mode for vehicle {}", vehicleId);
-        }
+        bridge.executeBatchable(
+                () -> setSpeedMode.execute(bridge, vehicleId, speedMode.getAsInteger()),
+                e -> log.warn("Could not set speed mode for vehicle {}", vehicleId)
+        );
     }
 
     /**
@@ -480,11 +466,10 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void setColor(String vehicleId, int red, int green, int blue, int alpha) throws InternalFederateException {
-        try {
-            setColor.execute(bridge, vehicleId, red, green, blue, alpha);
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Could not set color for vehicle {}", vehicleId);
-        }
+        bridge.executeBatchable(
+                () -> setColor.execute(bridge, vehicleId, red, green, blue, alpha),
+                e -> log.warn("Could not set color for vehicle {}", vehicleId)
+        );
     }
 
     /**
@@ -495,11 +480,10 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void setSpeed(String vehicleId, double speed) throws InternalFederateException {
-        try {
-            setSpeed.execute(bridge, vehicleId, speed);
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Could not set speed for vehicle {}", vehicleId);
-        }
+        bridge.executeBatchable(
+                () -> setSpeed.execute(bridge, vehicleId, speed),
+                e -> log.warn("Could not set speed for vehicle {}", vehicleId)
+        );
     }
 
     /**
@@ -511,11 +495,10 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void setParameter(String vehicleId, String parameter, String value) throws InternalFederateException {
-        try {
-            setParameter.execute(bridge, vehicleId, parameter, value);
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Could not set parameter {} for vehicle {}", parameter, vehicleId);
-        }
+        bridge.executeBatchable(
+                () -> setParameter.execute(bridge, vehicleId, parameter, value),
+                e -> log.warn("Could not set parameter {} for vehicle {}", parameter, vehicleId)
+        );
     }
 
     /**
@@ -527,11 +510,10 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void setParameter(String vehicleId, String parameter, double value) throws InternalFederateException {
-        try {
-            setParameter.execute(bridge, vehicleId, parameter, value);
-        } catch (IllegalArgumentException | CommandException e) {
-            log.warn("Could not set parameter {} for vehicle {}", parameter, vehicleId);
-        }
+        bridge.executeBatchable(
+                () -> setParameter.execute(bridge, vehicleId, parameter, value),
+                e -> log.warn("Could not set parameter {} for vehicle {}", parameter, vehicleId)
+        );
     }
 
     /**
@@ -580,12 +562,13 @@ public class VehicleFacade {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public void moveToXY(String vehicleId, CartesianPoint cartesianPoint, double angle, VehicleSetMoveToXY.Mode mode) throws InternalFederateException {
-        try {
-            log.trace("Trying to move vehicle {} to position {} with angle {} and mode {}", vehicleId, cartesianPoint, angle, mode);
-            moveToXY.execute(bridge, vehicleId, "", 0, cartesianPoint, angle, mode);
-        } catch (IllegalArgumentException | CommandException e) {
-            throw new InternalFederateException("Could not move vehicle " + vehicleId, e);
-        }
+        log.trace("Trying to move vehicle {} to position {} with angle {} and mode {}", vehicleId, cartesianPoint, angle, mode);
+        bridge.executeBatchable(
+                () -> moveToXY.execute(bridge, vehicleId, "", 0, cartesianPoint, angle, mode),
+                e -> {
+                    throw new InternalFederateException("Could not move vehicle " + vehicleId, e);
+                }
+        );
     }
 
 
@@ -18,6 +18,7 @@ package org.eclipse.mosaic.fed.sumo.bridge.traci;
 import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
 import org.eclipse.mosaic.fed.sumo.bridge.CommandException;
 import org.eclipse.mosaic.fed.sumo.bridge.SumoVersion;
+import org.eclipse.mosaic.fed.sumo.bridge.TraciClientBridge;
 import org.eclipse.mosaic.fed.sumo.bridge.TraciVersion;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.Status;
 import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.SumoVar;
@@ -46,6 +47,9 @@ import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -110,6 +114,12 @@ public abstract class AbstractTraciCommand<T> {
      */
     protected void execute(Bridge bridge, Object... arguments) throws CommandException, InternalFederateException {
         if (checkVersion(bridge)) {
+            final TraciCommandBatch commandBatch = getCommandBatch(bridge);
+            if (commandBatch != null && commandBatch.isCollecting() && readers.isEmpty()) {
+                // the response of this command contains a status only, therefore it can be sent later together with other commands
+                commandBatch.add(this, arguments);
+                return;
+            }
             sendMessageToTraci(bridge, arguments);
             readResults(bridge, false);
         }
@@ -152,6 +162,44 @@ public abstract class AbstractTraciCommand<T> {
         }
     }
 
+    /**
+     * Call this method to execute the command with the given arguments. The order of arguments must match
+     * the order of parameter writers which have been defined in the constructor. Instead of calling the configured
+     * readers, the whole response following the status is passed to the given {@link ResponseDecoder}, which
+     * is responsible to read exactly the given number of bytes.
+     *
+     * @return the result of the decoder, or {@code null} if the command is not supported by the current version of SUMO
+     * @throws CommandException          if the status code of the response is ERROR. The connection to SUMO is still available.
+     * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
+     */
+    @Nullable
+    protected <R> R executeAndDecode(Bridge bridge, ResponseDecoder<R> decoder, Object... arguments)
+            throws CommandException, InternalFederateException {
+        if (!checkVersion(bridge)) {
+            return null;
+        }
+        sendMessageToTraci(bridge, arguments);
+        try {
+            int messageBytesLeft = bridge.getIn().readInt() - 4;
+
+            Status status = readStatus(bridge.getIn(), messageBytesLeft);
+            messageBytesLeft -= getStatusBytesRead();
+
+            if (status.getResultType() != Status.STATUS_OK) {
+                throw new CommandException(String.format("TraCI Command failed: %s", status.getDescription()), status);
+            }
+            return decoder.decode(bridge.getIn(), messageBytesLeft);
+        } catch (CommandException e) {
+            throw e;
+        } catch (Exception t) {
+            bridge.emergencyExit(t);
+            String className = this.getClass().getSimpleName();
+            throw new InternalFederateException("Error during reading response from TraCI command " + className + ".", t);
+        } finally {
+            bridge.onCommandCompleted();
+        }
+    }
+
     private boolean checkVersion(Bridge bridge) {
         if (!support.isSupported(bridge)) {
             log.warn("The command {} will be skipped since it is not available with the current supportedVersion of SUMO (is: {})",
@@ -162,6 +210,11 @@ public abstract class AbstractTraciCommand<T> {
         return true;
     }
 
+    @Nullable
+    private static TraciCommandBatch getCommandBatch(Bridge bridge) {
+        return bridge instanceof TraciClientBridge ? ((TraciClientBridge) bridge).getCommandBatch() : null;
+    }
+
     /**
      * Writes the provided arguments to the {@link java.io.DataOutputStream} of the {@link Bridge}
      * in the way it has been defined by the constructor of the extending command implementation.
@@ -169,52 +222,94 @@ public abstract class AbstractTraciCommand<T> {
      * their actual content as bytes to the {@link java.io.DataOutputStream}. If a writer
      * is variable, the next argument from the list of given arguments is used accordingly.
      * This implies, that the length of the passed arguments array must match the length of the writers which
-     * are supposed to write variable content.
+     * are supposed to write variable content. Commands which have been collected in a batch before are sent beforehand,
+     * so that the order of all commands is kept.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private void sendMessageToTraci(Bridge bridge, Object[] arguments) throws InternalFederateException {
+        final TraciCommandBatch commandBatch = getCommandBatch(bridge);
+        if (commandBatch != null) {
+            commandBatch.send();
+        }
         try {
+            final int contentLength = getContentLength(arguments);
+            bridge.getOut().writeInt(4 + getCommandLength(contentLength));
+            writeCommand(bridge.getOut(), arguments, contentLength);
+            bridge.getOut().flush();
+        } catch (Exception t) {
+            bridge.emergencyExit(t);
+            throw new InternalFederateException("Error during executing TraCI command " + this.getClass().getSimpleName(), t);
+        }
+    }
 
-            int messageLength = 0;
-            int i = 0;
-            for (AbstractTraciParameterWriter block : writers) {
-                if (block.isVariable()) {
-                    Validate.isTrue(i < arguments.length,
-                            "Too many arguments given. Please revise writer configuration in the constructor."
-                    );
-                    messageLength += block.getVariableLength(arguments[i++]);
-                } else {
-                    messageLength += block.getLength();
-                }
-            }
+    /**
+     * Writes this command including its length header to the given stream, without the header of the whole message.
+     * Used to send multiple commands within one message.
+     */
+    void writeCommand(DataOutputStream out, Object[] arguments) throws IOException {
+        writeCommand(out, arguments, getContentLength(arguments));
+    }
 
-            Validate.isTrue(i == arguments.length,
-                    "Too few arguments given. Please revise writer configuration in the constructor."
-            );
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void writeCommand(DataOutputStream out, Object[] arguments, int contentLength) throws IOException {
+        if (contentLength < 255) {
+            out.writeByte(1 + contentLength);
+        } else {
+            // 255 is the maximum possible command length. Other cases require to set the
+            // command length to zero and use an integer field instead.
+            out.writeByte(0);
+            out.writeInt(1 + 4 + contentLength);
+        }
 
-            if (messageLength < 255) {
-                bridge.getOut().writeInt(4 + 1 + messageLength);
-                bridge.getOut().writeByte(1 + messageLength);
+        int i = 0;
+        for (AbstractTraciParameterWriter block : writers) {
+            if (block.isVariable()) {
+                block.writeVariableArgument(out, arguments[i++]);
             } else {
-                // 255 is the maximum possible command length. Other cases require to set the
-                // command length to zero and use an integer field instead.
-                bridge.getOut().writeInt(4 + 1 + 4 + messageLength);
-                bridge.getOut().writeByte(0);
-                bridge.getOut().writeInt(1 + 4 + messageLength);
+                block.write(out);
             }
+        }
+    }
 
-            i = 0;
-            for (AbstractTraciParameterWriter block : writers) {
-                if (block.isVariable()) {
-                    block.writeVariableArgument(bridge.getOut(), arguments[i++]);
-                } else {
-                    block.write(bridge.getOut());
-                }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int getContentLength(Object[] arguments) {
+        int contentLength = 0;
+        int i = 0;
+        for (AbstractTraciParameterWriter block : writers) {
+            if (block.isVariable()) {
+                Validate.isTrue(i < arguments.length,
+                        "Too many arguments given. Please revise writer configuration in the constructor."
+                );
+                contentLength += block.getVariableLength(arguments[i++]);
+            } else {
+                contentLength += block.getLength();
             }
-        } catch (Exception t) {
-            bridge.emergencyExit(t);
-            throw new InternalFederateException("Error during executing TraCI command " + this.getClass().getSimpleName(), t);
         }
+
+        Validate.isTrue(i == arguments.length,
+                "Too few arguments given. Please revise writer configuration in the constructor."
+        );
+        return contentLength;
+    }
+
+    private static int getCommandLength(int contentLength) {
+        return contentLength < 255 ? 1 + contentLength : 1 + 4 + contentLength;
+    }
+
+    /**
+     * Reads the status response of a single command, which is sent by SUMO for each command of a message.
+     */
+    static Status readStatus(DataInputStream in, int messageBytesLeft) throws IOException {
+        COMMAND_LENGTH_READER.read(in, messageBytesLeft);
+        // requested command variable
+        in.readUnsignedByte();
+        return STATUS_READER.read(in, messageBytesLeft - COMMAND_LENGTH_READER.getNumberOfBytesRead() - 1);
+    }
+
+    /**
+     * Returns the number of bytes read by the last call of {@link #readStatus}.
+     */
+    static int getStatusBytesRead() {
+        return COMMAND_LENGTH_READER.getNumberOfBytesRead() + 1 + STATUS_READER.getNumberOfBytesRead();
     }
 
     /**
@@ -235,15 +330,8 @@ public abstract class AbstractTraciCommand<T> {
         try {
             int messageBytesLeft = bridge.getIn().readInt() - 4;
 
-            COMMAND_LENGTH_READER.read(bridge.getIn(), messageBytesLeft);
-            messageBytesLeft -= COMMAND_LENGTH_READER.getNumberOfBytesRead();
-
-            // requested command variable
-            bridge.getIn().readUnsignedByte();
-            messageBytesLeft -= 1;
-
-            Status status = STATUS_READER.read(bridge.getIn(), messageBytesLeft);
-            messageBytesLeft -= STATUS_READER.getNumberOfBytesRead();
+            Status status = readStatus(bridge.getIn(), messageBytesLeft);
+            messageBytesLeft -= getStatusBytesRead();
 
             final List<T> results = new ArrayList<>();
             if (status.getResultType() == Status.STATUS_OK) {
@@ -307,6 +395,23 @@ public abstract class AbstractTraciCommand<T> {
      */
     protected abstract T constructResult(Status status, Object... objects);
 
+    /**
+     * Decodes the response of a command directly from the input stream, without using the configured readers.
+     *
+     * @param <R> the type of the decoded result
+     */
+    protected interface ResponseDecoder<R> {
+
+        /**
+         * Reads and decodes the remaining bytes of the response.
+         *
+         * @param in        the stream to read the response from
+         * @param bytesLeft the number of bytes of the response which are left on the stream
+         * @return the decoded result
+         */
+        R decode(DataInputStream in, int bytesLeft) throws IOException;
+    }
+
     protected final static class TraciCommandWriterBuilder {
 
         private final AbstractTraciCommand<?> command;
@@ -22,9 +22,12 @@ import org.eclipse.mosaic.fed.sumo.bridge.api.complex.AbstractSubscriptionResult
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.Status;
 import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandSimulationControl;
 import org.eclipse.mosaic.fed.sumo.bridge.traci.reader.AllSubscriptionsTraciReader;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.reader.BufferedSubscriptionDecoder;
+import org.eclipse.mosaic.fed.sumo.config.CSumo;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -34,6 +37,11 @@ public class SimulationSimulateStep
         extends AbstractTraciCommand<AbstractSubscriptionResult>
         implements org.eclipse.mosaic.fed.sumo.bridge.api.SimulationSimulateStep {
 
+    /**
+     * Decoder for the whole step response, or {@code null} if the configured readers should be used.
+     */
+    private final BufferedSubscriptionDecoder subscriptionDecoder;
+
     /**
      * Creates a {@link SimulationSimulateStep} traci command, which
      * can late be executed with a given time value.
@@ -41,8 +49,27 @@ public class SimulationSimulateStep
      */
     @SuppressWarnings("WeakerAccess")
     public SimulationSimulateStep() {
+        this(false);
+    }
+
+    /**
+     * Creates a {@link SimulationSimulateStep} traci command, which decodes the subscription results
+     * with a {@link BufferedSubscriptionDecoder} if configured in the given {@link CSumo} configuration.
+     * Access needs to be public, because command is called using Reflection.
+     *
+     * @param bridge            connection to SUMO
+     * @param sumoConfiguration the configuration of the SUMO ambassador
+     */
+    @SuppressWarnings("WeakerAccess")
+    public SimulationSimulateStep(Bridge bridge, CSumo sumoConfiguration) {
+        this(sumoConfiguration.useBufferedSubscriptionDecoder);
+    }
+
+    private SimulationSimulateStep(boolean useBufferedDecoder) {
         super(TraciVersion.LOWEST);
 
+        subscriptionDecoder = useBufferedDecoder ? new BufferedSubscriptionDecoder() : null;
+
         write()
                 .command(CommandSimulationControl.COMMAND_SIMULATION_STEP)
                 .writeDoubleParam();
@@ -52,7 +79,8 @@ public class SimulationSimulateStep
     }
 
     /**
-     * This method executes the command with the given arguments in order to set the simulation step.
+     * This method executes the command with the given arguments in order to set the simulation step. If the
+     * {@link BufferedSubscriptionDecoder} is used, the returned list and its results are reused with the next call.
      *
      * @param bridge Connection to SUMO.
      * @param time   Time step.
@@ -61,6 +89,11 @@ public class SimulationSimulateStep
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     public List<AbstractSubscriptionResult> execute(Bridge bridge, long time) throws CommandException, InternalFederateException {
+        if (subscriptionDecoder != null) {
+            final List<AbstractSubscriptionResult> results =
+                    super.executeAndDecode(bridge, subscriptionDecoder::decode, (double) (time) / TIME.SECOND);
+            return results != null ? results : new ArrayList<>();
+        }
         return super.executeAndReturnList(bridge, (double) (time) / TIME.SECOND);
     }
 
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2020 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.CommandException;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.Status;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collects multiple TraCI commands without result (e.g. changing the speed of a vehicle) and sends them
+ * within one single TraCI message. SUMO answers such a message with one status response per command in the same order,
+ * hence only one round trip is required for all collected commands, instead of one round trip per command.
+ * <br>
+ * Commands are only collected while executed via {@link #execute}, after the batch has been started via {@link #begin()}.
+ * Any other command sends all collected commands beforehand, which keeps the order of all commands.
+ */
+public class TraciCommandBatch {
+
+    private final Bridge bridge;
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+    private final DataOutputStream bufferOut = new DataOutputStream(buffer);
+
+    /**
+     * The commands written to the buffer, in the same order, with the handler to be called if the command fails.
+     */
+    private final List<PendingCommand> pendingCommands = new ArrayList<>();
+
+    private boolean started = false;
+
+    /**
+     * The failure handler of the commands currently executed via {@link #execute}, or {@code null} if commands
+     * are executed immediately.
+     */
+    private Bridge.CommandFailureHandler currentFailureHandler = null;
+
+    public TraciCommandBatch(Bridge bridge) {
+        this.bridge = bridge;
+    }
+
+    /**
+     * Starts collecting commands executed via {@link #execute}.
+     */
+    public void begin() {
+        started = true;
+    }
+
+    /**
+     * Executes the given command(s). If the batch has been started, all commands without result are collected and not sent
+     * until {@link #send()} or {@link #end()} is called.
+     */
+    public void execute(Bridge.BatchableCommand command, Bridge.CommandFailureHandler failureHandler) throws InternalFederateException {
+        currentFailureHandler = started ? failureHandler : null;
+        try {
+            command.execute();
+        } catch (IllegalArgumentException | CommandException e) {
+            // the command has been executed immediately
+            failureHandler.onFailure(e);
+        } finally {
+            currentFailureHandler = null;
+        }
+    }
+
+    /**
+     * Sends all collected commands and stops collecting commands.
+     */
+    public void end() throws InternalFederateException {
+        started = false;
+        send();
+    }
+
+    /**
+     * Returns {@code true}, if commands without result are currently to be added to this batch instead of executing them.
+     */
+    boolean isCollecting() {
+        return currentFailureHandler != null;
+    }
+
+    void add(AbstractTraciCommand<?> command, Object[] arguments) throws InternalFederateException {
+        try {
+            command.writeCommand(bufferOut, arguments);
+        } catch (Exception e) {
+            bridge.emergencyExit(e);
+            throw new InternalFederateException("Error during executing TraCI command " + command.getClass().getSimpleName(), e);
+        }
+        pendingCommands.add(new PendingCommand(command, arguments, currentFailureHandler));
+    }
+
+    /**
+     * Sends all collected commands within one message and reads the status response of each command. Afterwards,
+     * the failure handlers of all failed commands are called. If any failure handler throws an {@link InternalFederateException},
+     * the first of these exceptions is rethrown after all failure handlers have been called, naming the failed command and its arguments.
+     */
+    void send() throws InternalFederateException {
+        if (pendingCommands.isEmpty()) {
+            return;
+        }
+        final List<PendingCommand> sentCommands = new ArrayList<>(pendingCommands);
+        final List<Status> responses = new ArrayList<>(sentCommands.size());
+        pendingCommands.clear();
+        try {
+            bridge.getOut().writeInt(4 + buffer.size());
+            buffer.writeTo(bridge.getOut());
+            bridge.getOut().flush();
+            buffer.reset();
+
+            int messageBytesLeft = bridge.getIn().readInt() - 4;
+            for (int i = 0; i < sentCommands.size(); i++) {
+                responses.add(AbstractTraciCommand.readStatus(bridge.getIn(), messageBytesLeft));
+                messageBytesLeft -= AbstractTraciCommand.getStatusBytesRead();
+            }
+        } catch (Exception e) {
+            bridge.emergencyExit(e);
+            throw new InternalFederateException("Error during executing batch of " + sentCommands.size() + " TraCI commands", e);
+        } finally {
+            bridge.onCommandCompleted();
+        }
+
+        InternalFederateException handlerException = null;
+        for (int i = 0; i < sentCommands.size(); i++) {
+            final Status status = responses.get(i);
+            if (status.getResultType() == Status.STATUS_OK) {
+                continue;
+            }
+            final PendingCommand failedCommand = sentCommands.get(i);
+            try {
+                failedCommand.failureHandler.onFailure(new CommandException(
+                        String.format("TraCI Command %s failed: %s", failedCommand.description, status.getDescription()), status
+                ));
+            } catch (InternalFederateException e) {
+                if (handlerException == null) {
+                    handlerException = new InternalFederateException("Batched TraCI command " + failedCommand.description + " failed", e);
+                }
+            }
+        }
+        if (handlerException != null) {
+            throw handlerException;
+        }
+    }
+
+    private static class PendingCommand {
+
+        /**
+         * The name of the command with its arguments, e.g. {@code VehicleSetSpeed[veh_0, 10.0]}.
+         */
+        private final String description;
+        private final Bridge.CommandFailureHandler failureHandler;
+
+        private PendingCommand(AbstractTraciCommand<?> command, Object[] arguments, Bridge.CommandFailureHandler failureHandler) {
+            this.description = command.getClass().getSimpleName() + Arrays.deepToString(arguments);
+            this.failureHandler = failureHandler;
+        }
+    }
+}
@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci.reader;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.AbstractSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.LeadFollowVehicle;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.VehicleSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandVariableSubscriptions;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.TraciDatatypes;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.util.objects.Position;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Decodes the response of a simulation step, which contains the results of all subscriptions. In contrast to
+ * {@link AllSubscriptionsTraciReader}, the whole response is read into a reusable buffer at once, and vehicle
+ * subscriptions are parsed directly into {@link VehicleSubscriptionResult}s which are reused with each call.
+ * Primitive values are not boxed, and strings which occur repeatedly (such as vehicle, edge, and route ids)
+ * are taken from a cache instead of being created again with each step. All other subscription results,
+ * as well as rarely used vehicle variables (e.g. next stops), are read using the common readers.
+ * <br>
+ * The list returned by {@link #decode} and the vehicle results within are only valid until the next call of this method.
+ */
+public class BufferedSubscriptionDecoder {
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final int STRING_CACHE_SIZE = 1 << 15;
+
+    private static final int FIELD_UNKNOWN = 0;
+    private static final int FIELD_POSITION = 1;
+    private static final int FIELD_HEADING = 2;
+    private static final int FIELD_SPEED = 3;
+    private static final int FIELD_ACCELERATION = 4;
+    private static final int FIELD_SLOPE = 5;
+    private static final int FIELD_DISTANCE = 6;
+    private static final int FIELD_STOP_STATE = 7;
+    private static final int FIELD_SIGNALS = 8;
+    private static final int FIELD_MIN_GAP = 9;
+    private static final int FIELD_ROUTE_ID = 10;
+    private static final int FIELD_EDGE_ID = 11;
+    private static final int FIELD_LANE_INDEX = 12;
+    private static final int FIELD_LANE_POSITION = 13;
+    private static final int FIELD_LATERAL_LANE_POSITION = 14;
+    private static final int FIELD_CO = 15;
+    private static final int FIELD_CO2 = 16;
+    private static final int FIELD_PMX = 17;
+    private static final int FIELD_HC = 18;
+    private static final int FIELD_NOX = 19;
+    private static final int FIELD_FUEL = 20;
+    private static final int FIELD_ELECTRICITY = 21;
+    private static final int FIELD_LEADER = 22;
+    private static final int FIELD_FOLLOWER = 23;
+    private static final int FIELD_LINE = 24;
+    private static final int FIELD_LENGTH = 25;
+    private static final int FIELD_WIDTH = 26;
+    private static final int FIELD_HEIGHT = 27;
+
+    /**
+     * Maps the identifier of each subscription variable to the field of the {@link VehicleSubscriptionResult} it is stored in.
+     */
+    private static final int[] FIELD_OF_VARIABLE = new int[256];
+
+    static {
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_POSITION.var] = FIELD_POSITION;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_POSITION_3D.var] = FIELD_POSITION;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_ANGLE.var] = FIELD_HEADING;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_SPEED.var] = FIELD_SPEED;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_ACCELERATION.var] = FIELD_ACCELERATION;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_SLOPE.var] = FIELD_SLOPE;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_DISTANCE.var] = FIELD_DISTANCE;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_STOP_STATE.var] = FIELD_STOP_STATE;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_SIGNAL_STATES.var] = FIELD_SIGNALS;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_MIN_GAP.var] = FIELD_MIN_GAP;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_ROUTE_ID.var] = FIELD_ROUTE_ID;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_ROAD_ID.var] = FIELD_EDGE_ID;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_LANE_INDEX.var] = FIELD_LANE_INDEX;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_LANE_POSITION.var] = FIELD_LANE_POSITION;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_LATERAL_LANE_POSITION.var] = FIELD_LATERAL_LANE_POSITION;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_EMISSIONS_CO.var] = FIELD_CO;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_EMISSIONS_CO2.var] = FIELD_CO2;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_EMISSIONS_PMX.var] = FIELD_PMX;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_EMISSIONS_HC.var] = FIELD_HC;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_EMISSIONS_NOX.var] = FIELD_NOX;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_EMISSIONS_FUEL.var] = FIELD_FUEL;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_EMISSIONS_ELECTRICITY.var] = FIELD_ELECTRICITY;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_LEADER.var] = FIELD_LEADER;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_FOLLOWER.var] = FIELD_FOLLOWER;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_LINE.var] = FIELD_LINE;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_LENGTH.var] = FIELD_LENGTH;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_WIDTH.var] = FIELD_WIDTH;
+        FIELD_OF_VARIABLE[CommandRetrieveVehicleState.VAR_HEIGHT.var] = FIELD_HEIGHT;
+    }
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * Used for all subscription results other than vehicle subscriptions.
+     */
+    private final AllSubscriptionsTraciReader fallbackReader = new AllSubscriptionsTraciReader();
+
+    /**
+     * Used for vehicle subscription variables which are not decoded directly from the buffer.
+     */
+    private final VehicleSubscriptionTraciReader fallbackVehicleReader = new VehicleSubscriptionTraciReader();
+
+    private final StringCache stringCache = new StringCache(STRING_CACHE_SIZE);
+
+    private final List<VehicleSubscriptionResult> vehicleResults = new ArrayList<>();
+    private final List<AbstractSubscriptionResult> results = new ArrayList<>();
+
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+
+    /**
+     * Reads the given number of bytes from the stream and decodes all subscription results contained therein.
+     * The bytes are expected to start with the number of subscription results, directly after the status of the response.
+     *
+     * @param in        the stream to read the response from
+     * @param bytesLeft the number of bytes of the response left on the stream
+     * @return a list of all subscription results, which is reused by the next call of this method
+     * @throws IOException if the response could not be read
+     */
+    public List<AbstractSubscriptionResult> decode(DataInputStream in, int bytesLeft) throws IOException {
+        readIntoBuffer(in, bytesLeft);
+
+        results.clear();
+        int usedVehicleResults = 0;
+
+        int iterations = buffer.getInt();
+        while (iterations > 0 && buffer.hasRemaining()) {
+            iterations--;
+
+            final int start = buffer.position();
+            int commandLength = buffer.get() & 0xFF;
+            if (commandLength == 0) {
+                commandLength = buffer.getInt();
+            }
+            final int end = start + commandLength;
+
+            final int responseType = buffer.get() & 0xFF;
+            if (responseType == CommandVariableSubscriptions.RESPONSE_SUBSCRIBE_VEHICLE_VALUES) {
+                if (usedVehicleResults == vehicleResults.size()) {
+                    vehicleResults.add(new VehicleSubscriptionResult());
+                }
+                final VehicleSubscriptionResult result = vehicleResults.get(usedVehicleResults++);
+                decodeVehicle(result);
+                results.add(result);
+            } else {
+                // rewind to the response type, which is read by the fallback reader as well
+                buffer.position(buffer.position() - 1);
+                results.add(fallbackReader.read(createStream(end), end - buffer.position()));
+            }
+            // discard any unused bytes
+            buffer.position(end);
+        }
+        return results;
+    }
+
+    private void readIntoBuffer(DataInputStream in, int length) throws IOException {
+        if (buffer.capacity() < length) {
+            buffer = ByteBuffer.allocate(Integer.highestOneBit(length) << 1);
+        }
+        buffer.clear();
+        in.readFully(buffer.array(), 0, length);
+        buffer.limit(length);
+    }
+
+    private DataInputStream createStream(int end) {
+        return new DataInputStream(new ByteArrayInputStream(buffer.array(), buffer.position(), end - buffer.position()));
+    }
+
+    private void decodeVehicle(VehicleSubscriptionResult result) throws IOException {
+        reset(result);
+        result.id = Bridge.VEHICLE_ID_TRANSFORMER.fromExternalId(readString());
+
+        final int varCount = buffer.get() & 0xFF;
+        for (int i = 0; i < varCount; i++) {
+            final int varId = buffer.get() & 0xFF;
+            final int varStatus = buffer.get() & 0xFF;
+            if (varStatus != 0x00) {
+                log.warn("Could not read subscription variable {}: {}", String.format("%02X ", varId), readWithFallback(varId));
+                continue;
+            }
+            final int field = FIELD_OF_VARIABLE[varId];
+            final byte type = buffer.get(buffer.position());
+            if (type == TraciDatatypes.DOUBLE) {
+                buffer.get();
+                setDouble(result, field, varId, buffer.getDouble());
+            } else if (type == TraciDatatypes.INTEGER) {
+                buffer.get();
+                setInt(result, field, varId, buffer.getInt());
+            } else if (type == TraciDatatypes.UBYTE) {
+                buffer.get();
+                setInt(result, field, varId, buffer.get() & 0xFF);
+            } else if (type == TraciDatatypes.STRING) {
+                buffer.get();
+                setString(result, field, varId, readString());
+            } else if (type == TraciDatatypes.POSITION2D || type == TraciDatatypes.POSITION3D) {
+                buffer.get();
+                result.position = readPosition(type == TraciDatatypes.POSITION3D);
+            } else if (type == TraciDatatypes.COMPOUND && (field == FIELD_LEADER || field == FIELD_FOLLOWER)) {
+                buffer.get();
+                buffer.getInt(); // number of compound items, can be ignored
+                if (field == FIELD_LEADER) {
+                    result.leadingVehicle = readLeadFollowVehicle();
+                } else {
+                    result.followerVehicle = readLeadFollowVehicle();
+                }
+            } else {
+                fallbackVehicleReader.handleSubscriptionVariable(result, varId, readWithFallback(varId));
+            }
+        }
+    }
+
+    private Object readWithFallback(int varId) throws IOException {
+        final TypeBasedTraciReader typeBasedReader = fallbackVehicleReader.getTypeBasedTraciReader();
+        typeBasedReader.setNextCompoundVarId(varId);
+        final Object value = typeBasedReader.read(createStream(buffer.limit()), buffer.remaining());
+        buffer.position(buffer.position() + typeBasedReader.getNumberOfBytesRead());
+        return value;
+    }
+
+    private void setDouble(VehicleSubscriptionResult result, int field, int varId, double value) {
+        switch (field) {
+            case FIELD_HEADING:
+                result.heading = value;
+                break;
+            case FIELD_SPEED:
+                result.speed = value;
+                break;
+            case FIELD_ACCELERATION:
+                result.acceleration = value;
+                break;
+            case FIELD_SLOPE:
+                result.slope = value;
+                break;
+            case FIELD_DISTANCE:
+                result.distanceDriven = value;
+                break;
+            case FIELD_MIN_GAP:
+                result.minGap = value;
+                break;
+            case FIELD_LANE_POSITION:
+                result.lanePosition = value;
+                break;
+            case FIELD_LATERAL_LANE_POSITION:
+                result.lateralLanePosition = value;
+                break;
+            case FIELD_CO:
+                result.co = value;
+                break;
+            case FIELD_CO2:
+                result.co2 = value;
+                break;
+            case FIELD_PMX:
+                result.pmx = value;
+                break;
+            case FIELD_HC:
+                result.hc = value;
+                break;
+            case FIELD_NOX:
+                result.nox = value;
+                break;
+            case FIELD_FUEL:
+                result.fuel = value;
+                break;
+            case FIELD_ELECTRICITY:
+                result.electricity = value;
+                break;
+            case FIELD_LENGTH:
+                result.length = value;
+                break;
+            case FIELD_WIDTH:
+                result.width = value;
+                break;
+            case FIELD_HEIGHT:
+                result.height = value;
+                break;
+            default:
+                fallbackVehicleReader.handleSubscriptionVariable(result, varId, value);
+        }
+    }
+
+    private void setInt(VehicleSubscriptionResult result, int field, int varId, int value) {
+        switch (field) {
+            case FIELD_STOP_STATE:
+                result.stoppedStateEncoded = value;
+                break;
+            case FIELD_SIGNALS:
+                result.signalsEncoded = value;
+                break;
+            case FIELD_LANE_INDEX:
+                result.laneIndex = value;
+                break;
+            default:
+                fallbackVehicleReader.handleSubscriptionVariable(result, varId, value);
+        }
+    }
+
+    private void setString(VehicleSubscriptionResult result, int field, int varId, String value) {
+        switch (field) {
+            case FIELD_ROUTE_ID:
+                result.routeId = value;
+                break;
+            case FIELD_EDGE_ID:
+                result.edgeId = value;
+                break;
+            case FIELD_LINE:
+                result.line = value;
+                break;
+            default:
+                fallbackVehicleReader.handleSubscriptionVariable(result, varId, value);
+        }
+    }
+
+    private Position readPosition(boolean is3d) {
+        final double x = buffer.getDouble();
+        final double y = buffer.getDouble();
+        final double z = is3d ? buffer.getDouble() : 0;
+        if (x > TraciDatatypes.INVALID_VALUE && y > TraciDatatypes.INVALID_VALUE && z > TraciDatatypes.INVALID_VALUE) {
+            try {
+                return new Position(is3d ? CartesianPoint.xyz(x, y, z) : CartesianPoint.xy(x, y));
+            } catch (Exception e) {
+                log.warn("Could not transform read position at ({}, {}, {})", x, y, z);
+            }
+        }
+        return Position.INVALID;
+    }
+
+    private LeadFollowVehicle readLeadFollowVehicle() {
+        buffer.get();
+        final String otherVehicleId = readString();
+        buffer.get();
+        final double distance = buffer.getDouble();
+        if (otherVehicleId.isEmpty() || distance < 0.0) {
+            return LeadFollowVehicle.NONE;
+        }
+        return new LeadFollowVehicle(otherVehicleId, distance);
+    }
+
+    private String readString() {
+        final int length = buffer.getInt();
+        final int offset = buffer.position();
+        buffer.position(offset + length);
+        return stringCache.get(buffer.array(), offset, length);
+    }
+
+    private static void reset(VehicleSubscriptionResult result) {
+        result.position = null;
+        result.heading = 0;
+        result.speed = 0;
+        result.acceleration = 0;
+        result.slope = 0;
+        result.distanceDriven = 0;
+        result.stoppedStateEncoded = 0;
+        result.signalsEncoded = 0;
+        result.minGap = 0;
+        result.routeId = null;
+        result.edgeId = null;
+        result.laneIndex = 0;
+        result.lanePosition = 0;
+        result.lateralLanePosition = 0;
+        result.co = 0;
+        result.co2 = 0;
+        result.pmx = 0;
+        result.hc = 0;
+        result.nox = 0;
+        result.fuel = 0;
+        result.electricity = 0;
+        result.leadingVehicle = LeadFollowVehicle.NONE;
+        result.followerVehicle = LeadFollowVehicle.NONE;
+        result.nextStops = null;
+        result.line = null;
+        result.length = 0;
+        result.width = 0;
+        result.height = 0;
+    }
+
+    /**
+     * Direct mapped cache of strings by their UTF-8 encoded bytes. In case of a collision, the
+     * previous entry is replaced, which keeps the memory used by this cache bounded.
+     */
+    private static class StringCache {
+
+        private final byte[][] keys;
+        private final String[] values;
+        private final int mask;
+
+        private StringCache(int size) {
+            this.keys = new byte[size][];
+            this.values = new String[size];
+            this.mask = size - 1;
+        }
+
+        private String get(byte[] bytes, int offset, int length) {
+            int hash = 1;
+            for (int i = offset; i < offset + length; i++) {
+                hash = 31 * hash + bytes[i];
+            }
+            final int slot = (hash ^ (hash >>> 16)) & mask;
+
+            final byte[] key = keys[slot];
+            if (key != null && Arrays.equals(key, 0, key.length, bytes, offset, offset + length)) {
+                return values[slot];
+            }
+            final String value = new String(bytes, offset, length, StandardCharsets.UTF_8);
+            keys[slot] = Arrays.copyOfRange(bytes, offset, offset + length);
+            values[slot] = value;
+            return value;
+        }
+    }
+}
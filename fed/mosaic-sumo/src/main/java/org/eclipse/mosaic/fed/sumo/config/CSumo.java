@@ -92,6 +92,31 @@ public class CSumo implements Serializable {
      */
     public boolean debugTraciCalls = false;
 
+    /**
+     * If set to {@code true}, the response of each simulation step is read into a reusable buffer and vehicle
+     * subscriptions are decoded directly into reused result objects, which produces far less garbage than
+     * the default stream based readers. Only applicable when connecting to SUMO via TraCI.
+     */
+    public boolean useBufferedSubscriptionDecoder = false;
+
+    /**
+     * If set to {@code true}, the {@link org.eclipse.mosaic.lib.objects.vehicle.VehicleData} of each vehicle only
+     * contains newly created objects for those fields which have changed since the previous simulation step. Unchanged
+     * parts, such as signals, sensors, route ids, or the road position of stopped vehicles, are shared with the
+     * previous {@link org.eclipse.mosaic.lib.objects.vehicle.VehicleData}, which reduces allocations of the SUMO
+     * federate and the memory retained by all federates receiving vehicle updates. The
+     * {@link org.eclipse.mosaic.interactions.traffic.VehicleUpdates} interaction still contains the complete data of
+     * every vehicle, hence neither its size nor the cost of serializing it for remote federates is reduced.
+     */
+    public boolean compactVehicleUpdates = false;
+
+    /**
+     * Number of threads used to process the subscription results of all vehicles after each simulation step in parallel.
+     * The resulting vehicle updates are the same as with sequential processing, independent of the number of threads.
+     * If zero, all subscription results are processed sequentially.
+     */
+    public int parallelVehicleProcessingThreads = 0;
+
     /**
      * A optional list of subscriptions for each vehicle in the simulation. The less subscriptions given,
      * the faster the simulation. Per default (if this list is set to null), all subscriptions are activated.
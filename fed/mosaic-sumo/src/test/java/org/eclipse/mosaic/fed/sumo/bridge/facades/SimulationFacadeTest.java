@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.facades;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.CommandRegister;
+import org.eclipse.mosaic.fed.sumo.bridge.SumoVersion;
+import org.eclipse.mosaic.fed.sumo.bridge.api.SimulationSimulateStep;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.AbstractSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.LeadFollowVehicle;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.VehicleSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.config.CSumo;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.geo.UtmPoint;
+import org.eclipse.mosaic.lib.geo.UtmZone;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.util.objects.Position;
+import org.eclipse.mosaic.rti.TIME;
+
+import com.google.common.collect.Iterables;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SimulationFacadeTest {
+
+    @Rule
+    public GeoProjectionRule coordinateTransformationRule = new GeoProjectionRule(
+            UtmPoint.eastNorth(UtmZone.from(GeoPoint.lonLat(13.0, 52.0)), 385281.94, 5817994.50)
+    );
+
+    private final SimulationSimulateStep simulateStep = mock(SimulationSimulateStep.class);
+    private final List<AbstractSubscriptionResult> subscriptionResults = new ArrayList<>();
+
+    private Bridge bridge;
+
+    @Before
+    public void setup() throws Exception {
+        CommandRegister commandRegister = mock(CommandRegister.class);
+        when(commandRegister.getOrCreate(any())).thenAnswer(invocation -> mock(invocation.<Class<?>>getArgument(0)));
+        when(commandRegister.getOrCreate(SimulationSimulateStep.class)).thenReturn(simulateStep);
+        when(simulateStep.execute(any(), anyLong())).thenReturn(subscriptionResults);
+
+        bridge = mock(Bridge.class);
+        when(bridge.getCommandRegister()).thenReturn(commandRegister);
+        when(bridge.getCurrentVersion()).thenReturn(SumoVersion.HIGHEST);
+    }
+
+    @Test
+    public void simulateUntil_compactVehicleUpdates_unchangedDataIsShared() throws Exception {
+        // SETUP
+        CSumo sumoConfiguration = new CSumo();
+        sumoConfiguration.compactVehicleUpdates = true;
+        SimulationFacade simulationFacade = new SimulationFacade(bridge, sumoConfiguration);
+
+        // RUN
+        VehicleData first = simulateVehicle(simulationFacade, TIME.SECOND, 10d);
+        VehicleData second = simulateVehicle(simulationFacade, 2 * TIME.SECOND, 10d);
+        VehicleData third = simulateVehicle(simulationFacade, 3 * TIME.SECOND, 20d);
+
+        // ASSERT
+        assertSame(first.getPosition(), second.getPosition());
+        assertSame(first.getRoadPosition(), second.getRoadPosition());
+        assertSame(first.getVehicleSignals(), second.getVehicleSignals());
+        assertSame(first.getVehicleSensors(), second.getVehicleSensors());
+        assertSame(first.getVehicleEmissions(), second.getVehicleEmissions());
+        assertSame(first.getVehicleConsumptions(), second.getVehicleConsumptions());
+
+        assertNotSame(second.getPosition(), third.getPosition());
+        assertNotSame(second.getRoadPosition(), third.getRoadPosition());
+        assertEquals(20d, third.getRoadPosition().getOffset(), 0d);
+        assertSame(second.getVehicleSignals(), third.getVehicleSignals());
+    }
+
+    @Test
+    public void simulateUntil_defaultVehicleUpdates_dataIsNotShared() throws Exception {
+        // SETUP
+        SimulationFacade simulationFacade = new SimulationFacade(bridge, new CSumo());
+
+        // RUN
+        VehicleData first = simulateVehicle(simulationFacade, TIME.SECOND, 10d);
+        VehicleData second = simulateVehicle(simulationFacade, 2 * TIME.SECOND, 10d);
+
+        // ASSERT
+        assertNotSame(first.getRoadPosition(), second.getRoadPosition());
+        assertNotSame(first.getVehicleSignals(), second.getVehicleSignals());
+        assertEquals(first.getVehicleSignals(), second.getVehicleSignals());
+    }
+
+    @Test
+    public void simulateUntil_parallelProcessing_sameResultAsSequential() throws Exception {
+        // SETUP
+        CSumo parallelConfiguration = new CSumo();
+        parallelConfiguration.parallelVehicleProcessingThreads = 4;
+        SimulationFacade sequentialFacade = new SimulationFacade(bridge, new CSumo());
+        SimulationFacade parallelFacade = new SimulationFacade(bridge, parallelConfiguration);
+
+        final int vehicles = 200;
+        for (int i = 0; i < vehicles; i++) {
+            sequentialFacade.configureDistanceSensors("veh_" + i, 100d, true, true);
+            parallelFacade.configureDistanceSensors("veh_" + i, 100d, true, true);
+        }
+
+        try {
+            for (int step = 1; step <= 3; step++) {
+                // RUN
+                List<VehicleData> sequentialResult = simulateVehicles(sequentialFacade, step, vehicles);
+                List<VehicleData> parallelResult = simulateVehicles(parallelFacade, step, vehicles);
+
+                // ASSERT
+                assertEquals(vehicles, parallelResult.size());
+                assertEquals(sequentialResult, parallelResult);
+            }
+        } finally {
+            parallelFacade.close();
+        }
+    }
+
+    private List<VehicleData> simulateVehicles(SimulationFacade simulationFacade, int step, int vehicles) throws Exception {
+        subscriptionResults.clear();
+        for (int i = 0; i < vehicles; i++) {
+            VehicleSubscriptionResult result = new VehicleSubscriptionResult();
+            result.id = "veh_" + i;
+            result.position = new Position(CartesianPoint.xy(10d * i + step, 50d));
+            result.speed = i + step;
+            result.routeId = "route_0";
+            result.edgeId = "edge_0";
+            result.lanePosition = 10d * i + step;
+            // leaders are processed partly before and partly after their followers
+            result.leadingVehicle = new LeadFollowVehicle("veh_" + ((7 * i + step) % vehicles), 10d + i % 20);
+            result.followerVehicle = new LeadFollowVehicle("veh_" + ((i + 3) % vehicles), 5d + i % 10);
+            subscriptionResults.add(result);
+        }
+        VehicleUpdates vehicleUpdates = simulationFacade.simulateUntil(step * TIME.SECOND).getVehicleUpdates();
+        List<VehicleData> result = new ArrayList<>(vehicleUpdates.getAdded());
+        result.addAll(vehicleUpdates.getUpdated());
+        return result;
+    }
+
+    private VehicleData simulateVehicle(SimulationFacade simulationFacade, long time, double lanePosition) throws Exception {
+        VehicleSubscriptionResult result = new VehicleSubscriptionResult();
+        result.id = "veh_0";
+        result.position = new Position(CartesianPoint.xy(100d + lanePosition, 50d));
+        result.routeId = "route_0";
+        result.edgeId = "edge_0";
+        result.laneIndex = 1;
+        result.lanePosition = lanePosition;
+        result.signalsEncoded = 0x08;
+        subscriptionResults.clear();
+        subscriptionResults.add(result);
+
+        VehicleUpdates vehicleUpdates = simulationFacade.simulateUntil(time).getVehicleUpdates();
+        return Iterables.getOnlyElement(Iterables.concat(vehicleUpdates.getAdded(), vehicleUpdates.getUpdated()));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.CommandException;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.VehicleSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.junit.SumoRunner;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import com.google.common.collect.Iterables;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(SumoRunner.class)
+public class TraciCommandBatchTest extends AbstractTraciCommandTest {
+
+    @Test
+    public void execute_batchedCommandsAreSentInOrder() throws Exception {
+        // SETUP
+        final Bridge bridge = traci.getTraciConnection();
+        final List<Exception> failures = new ArrayList<>();
+        new VehicleSubscribe(bridge).execute(bridge, "1", 0L, 100 * TIME.SECOND);
+
+        // RUN
+        bridge.beginCommandBatch();
+        bridge.executeBatchable(() -> new VehicleSetSpeed().execute(bridge, "1", 2d), failures::add);
+        bridge.executeBatchable(() -> new VehicleSetSpeed().execute(bridge, "unknown", 2d), failures::add);
+        bridge.executeBatchable(() -> new VehicleSetChangeLane().execute(bridge, "1", 1, 4000), failures::add);
+
+        // ASSERT (commands are not sent yet)
+        assertTrue(failures.isEmpty());
+
+        bridge.endCommandBatch();
+
+        // ASSERT
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0) instanceof CommandException);
+
+        VehicleSubscriptionResult vehInfo =
+                (VehicleSubscriptionResult) Iterables.getOnlyElement(simulateStep.execute(bridge, 9 * TIME.SECOND));
+        assertEquals(1, vehInfo.laneIndex);
+        assertEquals(2d, vehInfo.speed, 0.1d);
+    }
+
+    @Test
+    public void execute_commandWithResultSendsBatchBeforehand() throws Exception {
+        // SETUP
+        final Bridge bridge = traci.getTraciConnection();
+        final List<Exception> failures = new ArrayList<>();
+
+        // RUN
+        bridge.beginCommandBatch();
+        bridge.executeBatchable(() -> new VehicleSetParameter().execute(bridge, "1", "myParam", "myValue"), failures::add);
+        String value = new VehicleGetParameter().execute(bridge, "1", "myParam");
+        bridge.endCommandBatch();
+
+        // ASSERT
+        assertTrue(failures.isEmpty());
+        assertEquals("myValue", value);
+    }
+
+    @Test
+    public void endCommandBatch_failureHandlerThrows_exceptionNamesFailedCommand() throws Exception {
+        // SETUP
+        final Bridge bridge = traci.getTraciConnection();
+        final List<Exception> failures = new ArrayList<>();
+
+        // RUN
+        bridge.beginCommandBatch();
+        bridge.executeBatchable(() -> new VehicleSetSpeed().execute(bridge, "unknown", 2d), e -> {
+            throw new InternalFederateException("Could not set speed", e);
+        });
+        bridge.executeBatchable(() -> new VehicleSetSpeed().execute(bridge, "unknown2", 2d), failures::add);
+        try {
+            bridge.endCommandBatch();
+            fail("Expected failed batch command");
+        } catch (InternalFederateException e) {
+            // ASSERT
+            assertTrue(e.getMessage().contains("VehicleSetSpeed[unknown, 2.0]"));
+        }
+
+        // ASSERT (failure handlers of subsequent commands are still called)
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0).getMessage().contains("VehicleSetSpeed[unknown2, 2.0]"));
+    }
+}
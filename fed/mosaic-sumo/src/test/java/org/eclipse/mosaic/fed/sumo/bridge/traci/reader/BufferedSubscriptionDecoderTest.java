@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.AbstractSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.LeadFollowVehicle;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.VehicleSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandVariableSubscriptions;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.TraciDatatypes;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.geo.UtmPoint;
+import org.eclipse.mosaic.lib.geo.UtmZone;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BufferedSubscriptionDecoderTest {
+
+    @Rule
+    public GeoProjectionRule coordinateTransformationRule = new GeoProjectionRule(
+            UtmPoint.eastNorth(UtmZone.from(GeoPoint.lonLat(13.0, 52.0)), 385281.94, 5817994.50)
+    );
+
+    private final BufferedSubscriptionDecoder decoder = new BufferedSubscriptionDecoder();
+
+    @Test
+    public void decode_sameResultAsStreamReader() throws IOException {
+        // SETUP
+        List<byte[]> subscriptions = new ArrayList<>();
+        subscriptions.add(vehicleSubscription("veh_0", true));
+        subscriptions.add(vehicleSubscription("veh_1", false));
+        byte[] response = response(subscriptions);
+
+        // RUN
+        List<AbstractSubscriptionResult> results = decoder.decode(stream(response), response.length);
+        List<AbstractSubscriptionResult> expected = readWithStreamReader(subscriptions);
+
+        // ASSERT
+        assertEquals(2, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertVehicleResultEquals((VehicleSubscriptionResult) expected.get(i), (VehicleSubscriptionResult) results.get(i));
+        }
+    }
+
+    @Test
+    public void decode_reusesAndResetsResults() throws IOException {
+        // SETUP
+        byte[] firstResponse = response(List.of(vehicleSubscription("veh_0", true)));
+        byte[] secondResponse = response(List.of(vehicleSubscription("veh_1", false)));
+
+        // RUN
+        VehicleSubscriptionResult first = (VehicleSubscriptionResult) decoder.decode(stream(firstResponse), firstResponse.length).get(0);
+        VehicleSubscriptionResult second = (VehicleSubscriptionResult) decoder.decode(stream(secondResponse), secondResponse.length).get(0);
+
+        // ASSERT
+        assertSame(first, second);
+        assertEquals("veh_1", second.id);
+        assertSame(LeadFollowVehicle.NONE, second.leadingVehicle);
+        assertNull(second.routeId);
+        assertEquals(0, second.signalsEncoded);
+    }
+
+    @Test
+    public void decode_skipsUnusedBytes() throws IOException {
+        // SETUP
+        List<byte[]> subscriptions = new ArrayList<>();
+        // add some trailing bytes to the first subscription result, which are not read by the decoder
+        subscriptions.add(concat(vehicleSubscription("veh_0", true), new byte[]{1, 2, 3}));
+        subscriptions.add(vehicleSubscription("veh_1", true));
+        byte[] response = response(subscriptions);
+
+        // RUN
+        List<AbstractSubscriptionResult> results = decoder.decode(stream(response), response.length);
+
+        // ASSERT
+        assertEquals(2, results.size());
+        assertEquals("veh_0", results.get(0).id);
+        assertEquals("veh_1", results.get(1).id);
+        assertEquals("leader_veh_1", ((VehicleSubscriptionResult) results.get(1)).leadingVehicle.getOtherVehicleId());
+    }
+
+    private static List<AbstractSubscriptionResult> readWithStreamReader(List<byte[]> subscriptions) throws IOException {
+        List<AbstractSubscriptionResult> results = new ArrayList<>();
+        AllSubscriptionsTraciReader reader = new AllSubscriptionsTraciReader();
+        for (byte[] subscription : subscriptions) {
+            results.add(reader.read(stream(subscription), subscription.length));
+        }
+        return results;
+    }
+
+    private static void assertVehicleResultEquals(VehicleSubscriptionResult expected, VehicleSubscriptionResult actual) {
+        assertEquals(expected.id, actual.id);
+        assertEquals(expected.position.getProjectedPosition(), actual.position.getProjectedPosition());
+        assertEquals(expected.speed, actual.speed, 0d);
+        assertEquals(expected.heading, actual.heading, 0d);
+        assertEquals(expected.edgeId, actual.edgeId);
+        assertEquals(expected.routeId, actual.routeId);
+        assertEquals(expected.laneIndex, actual.laneIndex);
+        assertEquals(expected.signalsEncoded, actual.signalsEncoded);
+        assertEquals(expected.stoppedStateEncoded, actual.stoppedStateEncoded);
+        assertEquals(expected.leadingVehicle.getOtherVehicleId(), actual.leadingVehicle.getOtherVehicleId());
+        assertEquals(expected.leadingVehicle.getDistance(), actual.leadingVehicle.getDistance(), 0d);
+    }
+
+    /**
+     * Creates the bytes of a single vehicle subscription result, starting with the response type.
+     */
+    private static byte[] vehicleSubscription(String vehicleId, boolean allVariables) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(CommandVariableSubscriptions.RESPONSE_SUBSCRIBE_VEHICLE_VALUES);
+        writeString(out, vehicleId);
+        out.writeByte(allVariables ? 9 : 4);
+
+        out.writeByte(CommandRetrieveVehicleState.VAR_POSITION_3D.var);
+        out.writeByte(0x00);
+        out.writeByte(TraciDatatypes.POSITION3D);
+        out.writeDouble(120.5);
+        out.writeDouble(-43.25);
+        out.writeDouble(1.0);
+
+        out.writeByte(CommandRetrieveVehicleState.VAR_SPEED.var);
+        out.writeByte(0x00);
+        out.writeByte(TraciDatatypes.DOUBLE);
+        out.writeDouble(13.89);
+
+        out.writeByte(CommandRetrieveVehicleState.VAR_ROAD_ID.var);
+        out.writeByte(0x00);
+        out.writeByte(TraciDatatypes.STRING);
+        writeString(out, "edge_" + vehicleId);
+
+        // variable which could not be retrieved by SUMO, the value is an error message
+        out.writeByte(CommandRetrieveVehicleState.VAR_ANGLE.var);
+        out.writeByte(0xFF);
+        out.writeByte(TraciDatatypes.STRING);
+        writeString(out, "angle not available");
+
+        if (allVariables) {
+            out.writeByte(CommandRetrieveVehicleState.VAR_LANE_INDEX.var);
+            out.writeByte(0x00);
+            out.writeByte(TraciDatatypes.INTEGER);
+            out.writeInt(2);
+
+            out.writeByte(CommandRetrieveVehicleState.VAR_SIGNAL_STATES.var);
+            out.writeByte(0x00);
+            out.writeByte(TraciDatatypes.INTEGER);
+            out.writeInt(0x08);
+
+            out.writeByte(CommandRetrieveVehicleState.VAR_ROUTE_ID.var);
+            out.writeByte(0x00);
+            out.writeByte(TraciDatatypes.STRING);
+            writeString(out, "route_0");
+
+            out.writeByte(CommandRetrieveVehicleState.VAR_STOP_STATE.var);
+            out.writeByte(0x00);
+            out.writeByte(TraciDatatypes.UBYTE);
+            out.writeByte(0x81);
+
+            out.writeByte(CommandRetrieveVehicleState.VAR_LEADER.var);
+            out.writeByte(0x00);
+            out.writeByte(TraciDatatypes.COMPOUND);
+            out.writeInt(2);
+            out.writeByte(TraciDatatypes.STRING);
+            writeString(out, "leader_" + vehicleId);
+            out.writeByte(TraciDatatypes.DOUBLE);
+            out.writeDouble(25.3);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Creates a step response (without the status) containing all given subscription results.
+     */
+    private static byte[] response(List<byte[]> subscriptions) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(subscriptions.size());
+        for (byte[] subscription : subscriptions) {
+            if (subscription.length + 1 < 256) {
+                out.writeByte(subscription.length + 1);
+            } else {
+                out.writeByte(0);
+                out.writeInt(subscription.length + 5);
+            }
+            out.write(subscription);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private static DataInputStream stream(byte[] bytes) {
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+}
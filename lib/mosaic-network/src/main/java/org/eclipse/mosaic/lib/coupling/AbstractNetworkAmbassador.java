@@ -53,6 +53,8 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -101,6 +103,12 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
      */
     ClientServerChannel federateAmbassadorChannel;
 
+    /**
+     * The socket channel from the federate to the ambassador, which is kept open after switching to the memory-mapped transport
+     * in order to detect the termination of the federate, {@code null} if no other transport is used.
+     */
+    private ClientServerChannel federateSocketChannel;
+
     /**
      * Docker-Executor for running the actual simulator (OMNeT++ or ns-3) in a Container.
      */
@@ -231,6 +239,9 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
                 // Connect the second channel
                 ambassadorFederateChannel = new ClientServerChannel(federateAmbassadorChannel.socket.getInetAddress(), remotePort, log);
                 this.log.info("Connected to {} for commands on port {}", federateName, remotePort);
+                if (config.transport == CAbstractNetworkAmbassador.TransportType.MEMORY_MAPPED) {
+                    switchToMemoryMappedTransport();
+                }
             } else {
                 throw new RuntimeException("Could not connect to federate. Federate response is " + cmd);
             }
@@ -239,6 +250,43 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
         }
     }
 
+    /**
+     * Requests the federate to continue the communication via memory-mapped files instead of the connected sockets.
+     * If the federate does not acknowledge the request, the sockets are used further on.
+     */
+    private void switchToMemoryMappedTransport() throws IOException {
+        if (dockerFederateExecutor != null) {
+            this.log.warn("Memory-mapped transport is not available for federates running in docker, using sockets instead.");
+            return;
+        }
+        final Path federateAmbassadorFile = Files.createTempFile(federateName.replace(' ', '_') + "-in-", ".mmap");
+        final Path ambassadorFederateFile = Files.createTempFile(federateName.replace(' ', '_') + "-out-", ".mmap");
+        federateAmbassadorFile.toFile().deleteOnExit();
+        ambassadorFederateFile.toFile().deleteOnExit();
+
+        final MemoryMappedTransport federateAmbassadorTransport =
+                MemoryMappedTransport.create(federateAmbassadorFile, MemoryMappedTransport.DEFAULT_CAPACITY);
+        final MemoryMappedTransport ambassadorFederateTransport =
+                MemoryMappedTransport.create(ambassadorFederateFile, MemoryMappedTransport.DEFAULT_CAPACITY);
+
+        if (CMD.SUCCESS != ambassadorFederateChannel.writeSwitchTransportMessage(federateAmbassadorFile, ambassadorFederateFile)) {
+            this.log.warn("{} does not support memory-mapped transport, using sockets instead.", federateName);
+            federateAmbassadorTransport.close();
+            ambassadorFederateTransport.close();
+            Files.deleteIfExists(federateAmbassadorFile);
+            Files.deleteIfExists(ambassadorFederateFile);
+            return;
+        }
+        // the operating system closes the socket if the federate terminates, which is never signaled via the memory-mapped files
+        federateSocketChannel = federateAmbassadorChannel;
+        federateAmbassadorTransport.setPeerLivenessCheck(federateSocketChannel::isConnected);
+        ambassadorFederateTransport.setPeerLivenessCheck(federateSocketChannel::isConnected);
+        ambassadorFederateChannel.close();
+        federateAmbassadorChannel = new ClientServerChannel(federateAmbassadorTransport, log);
+        ambassadorFederateChannel = new ClientServerChannel(ambassadorFederateTransport, log);
+        this.log.info("Switched to memory-mapped transport for {}", federateName);
+    }
+
     /**
      * Since docker requires a binding of ports between container and host, we need to translate the ports used in
      * the container to the ports provided by the docker engine.
@@ -270,6 +318,10 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
                 );
             }
             this.log.info("Init simulation with startTime={}, stopTime={}", TIME.format(startTime), TIME.format(endTime));
+            if (config.batchCommands) {
+                // from now on, commands are collected and sent as one batch before each time advance
+                this.ambassadorFederateChannel.enableBatchMode();
+            }
         } catch (IOException e) {
             throw new RuntimeException("Could not initialize " + ambassadorName, e);
         }
@@ -298,6 +350,10 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
     protected void processTimeAdvanceGrant(long time) throws InternalFederateException {
         this.log.trace("ProcessTimeAdvanceGrant at time={}", TIME.format(time));
         try {
+            if (ambassadorFederateChannel.isBatchMode()) {
+                // Send all commands collected since the last time advance at once
+                writeBatch();
+            }
             // 3rd and last step of cycle: Allow events up to current time in network simulator scheduler
             ambassadorFederateChannel.writeAdvanceTimeMessage(time);
             // Wait until next event request to start time management cycle
@@ -349,6 +405,9 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
             this.ambassadorFederateChannel.writeCommand(CMD.SHUT_DOWN);
             this.ambassadorFederateChannel.close();
             this.federateAmbassadorChannel.close();
+            if (this.federateSocketChannel != null) {
+                this.federateSocketChannel.close();
+            }
         } catch (IOException e) {
             this.log.error("Could not close socket.");
             throw new InternalFederateException(e);
@@ -356,6 +415,15 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
         log.info("Finished simulation");
     }
 
+    private void writeBatch() throws IOException, InternalFederateException {
+        if (CMD.SUCCESS != this.ambassadorFederateChannel.writeBatch()) {
+            this.log.error("Could not process batch of commands: {}", this.federateAmbassadorChannel.getLastStatusMessage());
+            throw new InternalFederateException(
+                    "Error in " + this.federateName + ": " + this.federateAmbassadorChannel.getLastStatusMessage()
+            );
+        }
+    }
+
     /**
      * Add nodes based on received rsu mappings.
      *
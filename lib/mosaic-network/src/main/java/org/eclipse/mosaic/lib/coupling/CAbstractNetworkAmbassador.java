@@ -26,6 +26,21 @@ public final class CAbstractNetworkAmbassador {
 
     public String federateConfigurationFile;
 
+    /**
+     * If {@code true}, all node updates, radio configurations and V2X message transmissions of a time step
+     * are sent to the federate as one batch, which is acknowledged only once before the time is advanced.
+     * Requires a federate which supports the {@code BATCH} command.
+     */
+    public boolean batchCommands = false;
+
+    /**
+     * Transport used for the communication with the federate. The connection is always established via sockets.
+     * If {@link TransportType#MEMORY_MAPPED} is chosen, both sides switch to memory-mapped files afterwards,
+     * which requires the federate to run on the same host and to support the {@code SWITCH_TRANSPORT} command.
+     * The federate must keep its socket connection to the ambassador open, so that its termination can be detected.
+     */
+    public TransportType transport = TransportType.SOCKET;
+
     private CMessages messages = new CMessages();
 
     /**
@@ -63,6 +78,17 @@ public final class CAbstractNetworkAmbassador {
         return messages.protocolType.getOrDefault(protocolType, false);
     }
 
+    public enum TransportType {
+        /**
+         * Loopback or remote TCP sockets.
+         */
+        SOCKET,
+        /**
+         * Ring buffers within memory-mapped files shared with a federate on the same host.
+         */
+        MEMORY_MAPPED
+    }
+
     static class CMessages {
 
         private CDestinationAdress destinationAddress = new CDestinationAdress();
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.coupling;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Transports the byte stream of a {@link ClientServerChannel} between MOSAIC and a network federate.
+ */
+public interface ChannelTransport extends Closeable {
+
+    /**
+     * Returns the stream to read the data sent by the other side from.
+     */
+    InputStream getInputStream() throws IOException;
+
+    /**
+     * Returns the stream to write the data to which is sent to the other side. All written
+     * data must be transmitted without an explicit call of {@link OutputStream#flush()}.
+     */
+    OutputStream getOutputStream() throws IOException;
+
+}
@@ -15,6 +15,7 @@
 
 package org.eclipse.mosaic.lib.coupling;
 
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.BatchMessage;
 import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.CommandMessage;
 import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.CommandMessage.CommandType;
 import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.ConfigureRadioMessage;
@@ -22,6 +23,7 @@ import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.InitMessage;
 import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.PortExchange;
 import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.ReceiveMessage;
 import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.SendMessageMessage;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.SwitchTransportMessage;
 import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.TimeMessage;
 import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.UpdateNode;
 import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.UpdateNode.NodeData;
@@ -37,20 +39,19 @@ import org.eclipse.mosaic.lib.objects.communication.InterfaceConfiguration;
 import org.eclipse.mosaic.lib.objects.v2x.V2xReceiverInformation;
 import org.eclipse.mosaic.lib.util.objects.IdTransformer;
 
+import com.google.protobuf.MessageLite;
 import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.List;
 import javax.annotation.Nonnull;
 
@@ -124,6 +125,16 @@ public class ClientServerChannel {
          * Success message, returned by federate upon successful execution of command.
          */
         public final static int SUCCESS = 41;
+
+        /**
+         * Batch of node updates, radio configurations and sent messages, which is acknowledged at once.
+         */
+        public static final int BATCH = 50;
+
+        /**
+         * Continue the communication using another transport.
+         */
+        public static final int SWITCH_TRANSPORT = 60;
     }
 
     /**
@@ -149,10 +160,15 @@ public class ClientServerChannel {
     }
 
     /**
-     * Socket connected to the network federate.
+     * Socket connected to the network federate, {@code null} if another transport is used.
      */
     public Socket socket;
 
+    /**
+     * Transport of the byte stream to and from the network federate.
+     */
+    private final ChannelTransport transport;
+
     /**
      * Input stream from network federate.
      */
@@ -173,6 +189,12 @@ public class ClientServerChannel {
      */  //TODO: implement usage
     private String lastStatusMessage = "";
 
+    /**
+     * Collects all node updates, radio configurations and sent messages until the batch is written,
+     * {@code null} if batch mode is not enabled.
+     */
+    private BatchMessage.Builder batch = null;
+
     /**
      * Constructor.
      *
@@ -182,11 +204,7 @@ public class ClientServerChannel {
      * @throws IOException if the streams cannot be opened.
      */
     public ClientServerChannel(String host, int port, Logger log) throws IOException {
-        this.socket = new Socket(host, port);
-        this.socket.setTcpNoDelay(true);
-        this.in = new BufferedInputStream(socket.getInputStream());
-        this.out = new BufferedOutputStream(socket.getOutputStream());
-        this.log = log;
+        this(new SocketTransport(host, port), log);
     }
 
     /**
@@ -198,18 +216,58 @@ public class ClientServerChannel {
      * @throws IOException if the streams cannot be opened.
      */
     public ClientServerChannel(InetAddress host, int port, Logger log) throws IOException {
-        this.socket = new Socket(host, port);
-        socket.setTcpNoDelay(true);
-        this.in = new DataInputStream(socket.getInputStream());
-        this.out = new DataOutputStream(socket.getOutputStream());
+        this(new SocketTransport(host, port), log);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param transport the transport to send and receive data with
+     * @param log       logger to log on
+     * @throws IOException if the streams cannot be opened.
+     */
+    public ClientServerChannel(ChannelTransport transport, Logger log) throws IOException {
+        this.transport = transport;
+        this.socket = transport instanceof SocketTransport ? ((SocketTransport) transport).getSocket() : null;
+        this.in = transport.getInputStream();
+        this.out = transport.getOutputStream();
         this.log = log;
     }
 
+    /**
+     * Checks without blocking whether the socket of this channel is still connected, i.e. whether the network federate
+     * has not closed its side of the connection, which the operating system does if the federate terminates.
+     * Must only be called if the federate does not send any data on this channel anymore.
+     *
+     * @return {@code false}, if the connection has been closed, {@code true} otherwise or if this channel uses another transport
+     */
+    public boolean isConnected() {
+        if (socket == null) {
+            return true;
+        }
+        if (socket.isClosed()) {
+            return false;
+        }
+        try {
+            final int timeout = socket.getSoTimeout();
+            socket.setSoTimeout(1);
+            try {
+                return in.read() >= 0;
+            } finally {
+                socket.setSoTimeout(timeout);
+            }
+        } catch (SocketTimeoutException e) {
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
     /**
      * Closes the channel.
      */
     public void close() throws IOException {
-        this.socket.close();
+        this.transport.close();
     }
 
     //####################################################################
@@ -293,7 +351,6 @@ public class ClientServerChannel {
      * @return command returned by the federate
      */
     public int writeAddNodeMessage(long time, List<NodeDataContainer> nodes) throws IOException {
-        writeCommand(CMD.UPDATE_NODE);                                  //Announce UPDATE_NODE message
         UpdateNode.Builder updateNode = UpdateNode.newBuilder();        //Create builder
         updateNode.setUpdateType(UpdateNode.UpdateType.ADD_VEHICLE).setTime(time);  //Set the type of the update message
         for (NodeDataContainer cont : nodes) {                           //Fill the given nodes into the builder
@@ -301,8 +358,7 @@ public class ClientServerChannel {
             tmpBuilder.setId(cont.id).setX(cont.pos.getX()).setY(cont.pos.getY());  //Set coordinates
             updateNode.addProperties(tmpBuilder.build());               //Add node data to message
         }
-        updateNode.build().writeDelimitedTo(out);                       //Build message and write to stream
-        return readCommand();                                           //Read command (hopefully a success)
+        return writeUpdateNode(updateNode.build());                     //Build message, write to stream and read command
     }
 
     /**
@@ -313,7 +369,6 @@ public class ClientServerChannel {
      * @return command returned by the federate
      */
     public int writeAddRsuNodeMessage(long time, List<NodeDataContainer> rsus) throws IOException {
-        writeCommand(CMD.UPDATE_NODE);
         UpdateNode.Builder updateNode = UpdateNode.newBuilder();
         updateNode.setUpdateType(UpdateNode.UpdateType.ADD_RSU).setTime(time);
         for (NodeDataContainer cont : rsus) {
@@ -321,9 +376,7 @@ public class ClientServerChannel {
             tmpBuilder.setId(cont.id).setX(cont.pos.getX()).setY(cont.pos.getY());
             updateNode.addProperties(tmpBuilder.build());
         }
-        updateNode.build().writeDelimitedTo(out);
-
-        return readCommand();
+        return writeUpdateNode(updateNode.build());
     }
 
     /**
@@ -334,7 +387,6 @@ public class ClientServerChannel {
      * @return command returned by the federate
      */
     public int writeUpdatePositionsMessage(long time, List<NodeDataContainer> nodes) throws IOException {
-        writeCommand(CMD.UPDATE_NODE);
         UpdateNode.Builder updateNode = UpdateNode.newBuilder();
         updateNode.setUpdateType(UpdateNode.UpdateType.MOVE_NODE).setTime(time);
         for (NodeDataContainer cont : nodes) {
@@ -342,8 +394,7 @@ public class ClientServerChannel {
             tmpBuilder.setId(cont.id).setX(cont.pos.getX()).setY(cont.pos.getY());
             updateNode.addProperties(tmpBuilder.build());
         }
-        updateNode.build().writeDelimitedTo(out);
-        return readCommand();
+        return writeUpdateNode(updateNode.build());
     }
 
     /**
@@ -354,7 +405,6 @@ public class ClientServerChannel {
      * @return command returned by the federate
      */
     public int writeRemoveNodesMessage(long time, List<Integer> ids) throws IOException {
-        writeCommand(CMD.UPDATE_NODE);
         UpdateNode.Builder updateNode = UpdateNode.newBuilder();
         updateNode.setUpdateType(UpdateNode.UpdateType.REMOVE_NODE).setTime(time);
         for (int id : ids) {
@@ -362,9 +412,7 @@ public class ClientServerChannel {
             tmpBuilder.setId(id).setX(0).setY(0);
             updateNode.addProperties(tmpBuilder.build());
         }
-        updateNode.build().writeDelimitedTo(out);
-
-        return readCommand();
+        return writeUpdateNode(updateNode.build());
     }
 
     // @param channelId the channelID               //TODO: make enum from
@@ -382,7 +430,6 @@ public class ClientServerChannel {
      */
     public int writeSendMessage(long time, int srcNodeId,
                                 int msgId, long msgLength, DestinationAddressContainer dac) throws IOException {
-        writeCommand(CMD.MSG_SEND);
         //Add message details to the builder
         SendMessageMessage.Builder sendMess = SendMessageMessage.newBuilder()
                 .setTime(time)
@@ -429,8 +476,11 @@ public class ClientServerChannel {
             topoAddress.setTtl(dac.getTimeToLive());    //add time to live
             sendMess.setTopoAddress(topoAddress);   //set address in message
         } //TODO: create else case and throw exception
-        sendMess.build().writeDelimitedTo(out); //write message onto channel        
-        return readCommand();
+        if (batch != null) {
+            batch.addEntriesBuilder().setSendMessage(sendMess);
+            return CMD.SUCCESS;
+        }
+        return writeMessage(CMD.MSG_SEND, sendMess.build()); //write message onto channel
     }
 
     /**
@@ -444,7 +494,6 @@ public class ClientServerChannel {
      * @return command returned by the federate
      */
     public int writeConfigMessage(long time, int msgID, int externalId, AdHocConfiguration configuration) throws IOException {
-        writeCommand(CMD.CONF_RADIO);
         ConfigureRadioMessage.Builder configRadio = ConfigureRadioMessage.newBuilder();
         configRadio.setTime(time).setMessageId(msgID).setExternalId(externalId);
         switch (configuration.getRadioMode()) {
@@ -491,8 +540,61 @@ public class ClientServerChannel {
             }
             configRadio.setSecondaryRadioConfiguration(radioConfig2);
         }
-        configRadio.build().writeDelimitedTo(out);
-        return readCommand();
+        if (batch != null) {
+            batch.addEntriesBuilder().setConfigureRadio(configRadio);
+            return CMD.SUCCESS;
+        }
+        return writeMessage(CMD.CONF_RADIO, configRadio.build());
+    }
+
+    /**
+     * Enables the batch mode of this channel. In batch mode, node updates, radio configurations and sent messages
+     * are not written immediately, but collected until {@link #writeBatch()} is called. The corresponding write methods
+     * return {@link CMD#SUCCESS} without waiting for the federate, which acknowledges the whole batch only once.
+     */
+    public void enableBatchMode() {
+        if (batch == null) {
+            batch = BatchMessage.newBuilder();
+        }
+    }
+
+    /**
+     * Returns {@code true}, if the batch mode of this channel is enabled.
+     */
+    public boolean isBatchMode() {
+        return batch != null;
+    }
+
+    /**
+     * Command: batch. Writes all collected node updates, radio configurations and sent messages as one batch
+     * and waits for a single acknowledgement of the federate. Nothing is written if batch mode is not enabled
+     * or the batch is empty.
+     *
+     * @return command returned by the federate, or {@link CMD#SUCCESS} if nothing was written
+     */
+    public int writeBatch() throws IOException {
+        if (batch == null || batch.getEntriesCount() == 0) {
+            return CMD.SUCCESS;
+        }
+        final BatchMessage batchMessage = batch.build();
+        batch.clear();
+        return writeMessage(CMD.BATCH, batchMessage);
+    }
+
+    /**
+     * Command: switch transport. Requests the federate to continue the communication of both channels
+     * via the given memory-mapped files, which have been created by {@link MemoryMappedTransport#create}.
+     * The federate keeps the socket of the channel from the federate to the ambassador open, so that its termination can be detected.
+     *
+     * @param federateAmbassadorFile file of the channel from the federate to the ambassador
+     * @param ambassadorFederateFile file of the channel from the ambassador to the federate
+     * @return command returned by the federate
+     */
+    public int writeSwitchTransportMessage(Path federateAmbassadorFile, Path ambassadorFederateFile) throws IOException {
+        SwitchTransportMessage.Builder switchTransport = SwitchTransportMessage.newBuilder()
+                .setFederateAmbassadorFile(federateAmbassadorFile.toAbsolutePath().toString())
+                .setAmbassadorFederateFile(ambassadorFederateFile.toAbsolutePath().toString());
+        return writeMessage(CMD.SWITCH_TRANSPORT, switchTransport.build());
     }
 
     /**
@@ -523,6 +625,20 @@ public class ClientServerChannel {
         commandMessage.build().writeDelimitedTo(out);
     }
 
+    private int writeUpdateNode(UpdateNode updateNode) throws IOException {
+        if (batch != null) {
+            batch.addEntriesBuilder().setUpdateNode(updateNode);
+            return CMD.SUCCESS;
+        }
+        return writeMessage(CMD.UPDATE_NODE, updateNode);
+    }
+
+    private int writeMessage(int cmd, MessageLite message) throws IOException {
+        writeCommand(cmd);                  //Announce message
+        message.writeDelimitedTo(out);      //Write message (delimited!) to stream
+        return readCommand();               //Return the command that the federate sent as ack
+    }
+
     //####################################################################
     //   Helper methods and classes
     //####################################################################
@@ -569,6 +685,11 @@ public class ClientServerChannel {
                 return CMD.END;
             case SUCCESS:
                 return CMD.SUCCESS;
+
+            case BATCH:
+                return CMD.BATCH;
+            case SWITCH_TRANSPORT:
+                return CMD.SWITCH_TRANSPORT;
             default:
                 return CMD.UNDEF;
         }
@@ -602,6 +723,11 @@ public class ClientServerChannel {
                 return CommandType.END;
             case CMD.SUCCESS:
                 return CommandType.SUCCESS;
+
+            case CMD.BATCH:
+                return CommandType.BATCH;
+            case CMD.SWITCH_TRANSPORT:
+                return CommandType.SWITCH_TRANSPORT;
             default:
                 return CommandType.UNDEF;
         }
@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.coupling;
+
+import org.apache.commons.lang3.Validate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link ChannelTransport} for a network federate running on the same host, which exchanges
+ * all data via a memory-mapped file instead of a loopback socket. The file contains two
+ * single-producer single-consumer ring buffers, one for each direction. The side which
+ * {@link #create creates} the file writes into the first ring buffer and reads from the second one,
+ * the side which {@link #open opens} the file vice versa.
+ * <br>
+ * Layout of the file (all values are 64-bit integers in native byte order):
+ * <pre>
+ * [0]    magic number, written last when the file has been initialized
+ * [8]    capacity of each ring buffer in bytes (power of two)
+ * [64]   first ring buffer:  [+0] write position, [+8] closed flag, [+64] read position, [+128] data
+ * [64 + 128 + capacity]   second ring buffer with the same layout
+ * </pre>
+ * Positions are counted in bytes since the start and are never reset. A reader waits until the
+ * write position exceeds its read position, a writer waits until the ring buffer has free space.
+ * As a terminated process never sets the closed flag, waiting is aborted if the {@link #setPeerLivenessCheck
+ * liveness check} of the other side fails.
+ */
+public class MemoryMappedTransport implements ChannelTransport {
+
+    /**
+     * Default capacity of each ring buffer in bytes.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 22;
+
+    private static final long MAGIC = 0x4D4F534149435254L;
+
+    private static final int FILE_HEADER_SIZE = 64;
+    private static final int CAPACITY = 8;
+
+    private static final int RING_HEADER_SIZE = 128;
+    private static final int WRITE_POSITION = 0;
+    private static final int CLOSED = 8;
+    private static final int READ_POSITION = 64;
+
+    /**
+     * Number of busy spins and yields before a waiting reader or writer is parked. Busy spinning is
+     * skipped on a single processor, as the other side cannot make progress while spinning.
+     */
+    private static final int SPIN_LIMIT = Runtime.getRuntime().availableProcessors() > 1 ? 1000 : 0;
+    private static final int YIELD_LIMIT = SPIN_LIMIT + 100;
+    private static final long PARK_NANOS = 20_000;
+
+    /**
+     * Interval of the liveness checks of the other side while a reader or writer is parked.
+     */
+    private static final long LIVENESS_CHECK_INTERVAL_NANOS = 100_000_000;
+
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final FileChannel fileChannel;
+    private final RingInputStream in;
+    private final RingOutputStream out;
+
+    private volatile boolean closed = false;
+
+    private volatile BooleanSupplier peerLivenessCheck = () -> true;
+
+    /**
+     * Creates (or overwrites) the given file and initializes both ring buffers.
+     *
+     * @param file     the file to create
+     * @param capacity the capacity of each ring buffer in bytes, must be a power of two and at least 64
+     * @return the transport of the creating side
+     * @throws IOException if the file could not be created or mapped
+     */
+    public static MemoryMappedTransport create(Path file, int capacity) throws IOException {
+        Validate.isTrue(capacity >= 64 && Integer.bitCount(capacity) == 1, "Capacity must be a power of two and at least 64 bytes.");
+        final FileChannel fileChannel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE
+        );
+        try {
+            final MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(capacity));
+            LONG.set(buffer, CAPACITY, (long) capacity);
+            LONG.setRelease(buffer, 0, MAGIC);
+            return new MemoryMappedTransport(fileChannel, buffer, capacity, true);
+        } catch (IOException | RuntimeException e) {
+            fileChannel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a file which has been created by {@link #create} before.
+     *
+     * @param file the file to open
+     * @return the transport of the opening side
+     * @throws IOException if the file could not be opened or has not been initialized
+     */
+    public static MemoryMappedTransport open(Path file) throws IOException {
+        final FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final MappedByteBuffer header = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_HEADER_SIZE);
+            if ((long) LONG.getAcquire(header, 0) != MAGIC) {
+                throw new IOException("File " + file + " has not been initialized for memory-mapped transport.");
+            }
+            final int capacity = (int) (long) LONG.get(header, CAPACITY);
+            final MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(capacity));
+            return new MemoryMappedTransport(fileChannel, buffer, capacity, false);
+        } catch (IOException | RuntimeException e) {
+            fileChannel.close();
+            throw e;
+        }
+    }
+
+    private static long fileSize(int capacity) {
+        return FILE_HEADER_SIZE + 2L * (RING_HEADER_SIZE + capacity);
+    }
+
+    private MemoryMappedTransport(FileChannel fileChannel, ByteBuffer buffer, int capacity, boolean creator) {
+        this.fileChannel = fileChannel;
+        final Ring first = new Ring(buffer, FILE_HEADER_SIZE, capacity);
+        final Ring second = new Ring(buffer, FILE_HEADER_SIZE + RING_HEADER_SIZE + capacity, capacity);
+        this.out = new RingOutputStream(creator ? first : second);
+        this.in = new RingInputStream(creator ? second : first);
+    }
+
+    /**
+     * Sets a check whether the other side is still alive, e.g. whether its process is still running. The check is
+     * called periodically while waiting for the other side. If it fails, the waiting read or write throws an {@link IOException}.
+     *
+     * @param peerLivenessCheck returns {@code false}, if the other side has terminated
+     * @return this transport
+     */
+    public MemoryMappedTransport setPeerLivenessCheck(BooleanSupplier peerLivenessCheck) {
+        this.peerLivenessCheck = Validate.notNull(peerLivenessCheck);
+        return this;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return in;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return out;
+    }
+
+    /**
+     * Signals the other side that no more data will be written and releases the file.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            out.ring.close();
+            fileChannel.close();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Memory-mapped transport has been closed.");
+        }
+    }
+
+    /**
+     * Checks the liveness of the other side, if the waiting thread is parked and the given time of the next check has been reached.
+     *
+     * @return the time of the next check
+     */
+    private long checkPeerLiveness(int idleCount, long nextCheckNanos) throws IOException {
+        if (idleCount < YIELD_LIMIT) {
+            return nextCheckNanos;
+        }
+        final long now = System.nanoTime();
+        if (idleCount == YIELD_LIMIT) {
+            return now + LIVENESS_CHECK_INTERVAL_NANOS;
+        }
+        if (now - nextCheckNanos < 0) {
+            return nextCheckNanos;
+        }
+        if (!peerLivenessCheck.getAsBoolean()) {
+            throw new IOException("Memory-mapped transport has been abandoned by the other side, which has terminated.");
+        }
+        return now + LIVENESS_CHECK_INTERVAL_NANOS;
+    }
+
+    private static int idle(int idleCount) {
+        if (idleCount < SPIN_LIMIT) {
+            Thread.onSpinWait();
+        } else if (idleCount < YIELD_LIMIT) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        return idleCount + 1;
+    }
+
+    /**
+     * One ring buffer within the mapped file. The positions are accessed with acquire/release semantics,
+     * as they are shared with another thread or process.
+     */
+    private static final class Ring {
+
+        private final ByteBuffer header;
+        private final ByteBuffer data;
+        private final int capacity;
+        private final int mask;
+
+        private Ring(ByteBuffer buffer, int offset, int capacity) {
+            this.header = slice(buffer, offset, RING_HEADER_SIZE);
+            this.data = slice(buffer, offset + RING_HEADER_SIZE, capacity);
+            this.capacity = capacity;
+            this.mask = capacity - 1;
+        }
+
+        private static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+            return buffer.duplicate().position(offset).limit(offset + length).slice();
+        }
+
+        private long writePosition() {
+            return (long) LONG.getAcquire(header, WRITE_POSITION);
+        }
+
+        private void writePosition(long position) {
+            LONG.setRelease(header, WRITE_POSITION, position);
+        }
+
+        private long readPosition() {
+            return (long) LONG.getAcquire(header, READ_POSITION);
+        }
+
+        private void readPosition(long position) {
+            LONG.setRelease(header, READ_POSITION, position);
+        }
+
+        private boolean isClosed() {
+            return (long) LONG.getAcquire(header, CLOSED) != 0;
+        }
+
+        private void close() {
+            LONG.setRelease(header, CLOSED, 1L);
+        }
+    }
+
+    private final class RingInputStream extends InputStream {
+
+        private final Ring ring;
+        private final ByteBuffer data;
+        private long position;
+
+        private RingInputStream(Ring ring) {
+            this.ring = ring;
+            this.data = ring.data.duplicate();
+            this.position = ring.readPosition();
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (awaitAvailable() < 0) {
+                return -1;
+            }
+            final byte value = ring.data.get((int) (position & ring.mask));
+            ring.readPosition(++position);
+            return value & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            final long available = awaitAvailable();
+            if (available < 0) {
+                return -1;
+            }
+            final int index = (int) (position & ring.mask);
+            final int length = (int) Math.min(Math.min(len, available), ring.capacity - index);
+            data.position(index);
+            data.get(b, off, length);
+            position += length;
+            ring.readPosition(position);
+            return length;
+        }
+
+        /**
+         * Waits until data is available to read.
+         *
+         * @return the number of available bytes, or -1 if the other side has closed the transport
+         * @throws IOException if this transport has been closed, or if the other side has terminated
+         */
+        private long awaitAvailable() throws IOException {
+            long available;
+            int idleCount = 0;
+            long nextLivenessCheck = 0;
+            while ((available = ring.writePosition() - position) == 0) {
+                ensureOpen();
+                if (ring.isClosed() && ring.writePosition() == position) {
+                    return -1;
+                }
+                nextLivenessCheck = checkPeerLiveness(idleCount, nextLivenessCheck);
+                idleCount = idle(idleCount);
+            }
+            return available;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(ring.writePosition() - position, Integer.MAX_VALUE);
+        }
+    }
+
+    private final class RingOutputStream extends OutputStream {
+
+        private final Ring ring;
+        private final ByteBuffer data;
+        private long position;
+
+        private RingOutputStream(Ring ring) {
+            this.ring = ring;
+            this.data = ring.data.duplicate();
+            this.position = ring.writePosition();
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            awaitFree();
+            ring.data.put((int) (position & ring.mask), (byte) b);
+            ring.writePosition(++position);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                final long free = awaitFree();
+                final int index = (int) (position & ring.mask);
+                final int length = (int) Math.min(Math.min(len, free), ring.capacity - index);
+                data.position(index);
+                data.put(b, off, length);
+                position += length;
+                ring.writePosition(position);
+                off += length;
+                len -= length;
+            }
+        }
+
+        /**
+         * Waits until the ring buffer has free space to write.
+         *
+         * @return the number of free bytes
+         * @throws IOException if either side has closed the transport, or if the other side has terminated
+         */
+        private long awaitFree() throws IOException {
+            long free;
+            int idleCount = 0;
+            long nextLivenessCheck = 0;
+            while ((free = ring.capacity - (position - ring.readPosition())) == 0) {
+                ensureOpen();
+                if (in.ring.isClosed()) {
+                    throw new IOException("Memory-mapped transport has been closed by the other side.");
+                }
+                nextLivenessCheck = checkPeerLiveness(idleCount, nextLivenessCheck);
+                idleCount = idle(idleCount);
+            }
+            return free;
+        }
+    }
+}
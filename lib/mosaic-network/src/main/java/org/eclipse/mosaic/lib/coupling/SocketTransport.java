@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.coupling;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+
+/**
+ * {@link ChannelTransport} using a TCP socket connected to the network federate.
+ */
+public class SocketTransport implements ChannelTransport {
+
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+
+    /**
+     * Connects to the given host and port.
+     *
+     * @param host the remote host address as a String
+     * @param port the remote port number
+     * @throws IOException if the socket cannot be connected
+     */
+    public SocketTransport(String host, int port) throws IOException {
+        this(new Socket(host, port));
+    }
+
+    /**
+     * Connects to the given host and port.
+     *
+     * @param host the remote host address as an InetAddress
+     * @param port the remote port number
+     * @throws IOException if the socket cannot be connected
+     */
+    public SocketTransport(InetAddress host, int port) throws IOException {
+        this(new Socket(host, port));
+    }
+
+    private SocketTransport(Socket socket) throws IOException {
+        this.socket = socket;
+        this.socket.setTcpNoDelay(true);
+        this.in = new BufferedInputStream(socket.getInputStream());
+        // not buffered, as the channel never flushes the output stream
+        this.out = socket.getOutputStream();
+    }
+
+    public Socket getSocket() {
+        return socket;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return in;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return out;
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
@@ -20,6 +20,7 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -47,6 +48,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.slf4j.Logger;
@@ -231,6 +233,25 @@ public class AbstractNetworkAmbassadorTest {
         verify(ambassadorFederateChannelMock, times(1)).writeConfigMessage(eq(2 * TIME.SECOND), anyInt(), anyInt(), eq(adHocConfiguration));
     }
 
+    @Test
+    public void timeAdvanceInBatchMode_batchWrittenBeforeAdvance() throws Exception {
+        // Setup
+        networkAmbassador.config.batchCommands = true;
+        when(ambassadorFederateChannelMock.isBatchMode()).thenReturn(true);
+        when(ambassadorFederateChannelMock.writeBatch()).thenReturn(ClientServerChannel.CMD.SUCCESS);
+        when(federateAmbassadorChannelMock.readCommand()).thenReturn(ClientServerChannel.CMD.END);
+        networkAmbassador.initialize(0, 1000);
+
+        // Run
+        networkAmbassador.processTimeAdvanceGrant(TIME.SECOND);
+
+        // Assert
+        InOrder inOrder = inOrder(ambassadorFederateChannelMock);
+        inOrder.verify(ambassadorFederateChannelMock).enableBatchMode();
+        inOrder.verify(ambassadorFederateChannelMock).writeBatch();
+        inOrder.verify(ambassadorFederateChannelMock).writeAdvanceTimeMessage(eq(TIME.SECOND));
+    }
+
     private VehicleData createVehicleInfo(String string) {
         VehicleData vehInfo = mock(VehicleData.class);
         when(vehInfo.getName()).thenReturn(string);
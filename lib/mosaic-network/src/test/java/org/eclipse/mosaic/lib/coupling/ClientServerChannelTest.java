@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.coupling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.coupling.ClientServerChannel.CMD;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannel.NodeDataContainer;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.BatchMessage;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.CommandMessage;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.CommandMessage.CommandType;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.UpdateNode;
+import org.eclipse.mosaic.lib.enums.AdHocChannel;
+import org.eclipse.mosaic.lib.enums.DestinationType;
+import org.eclipse.mosaic.lib.enums.ProtocolType;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.objects.addressing.DestinationAddressContainer;
+import org.eclipse.mosaic.lib.objects.addressing.NetworkAddress;
+import org.eclipse.mosaic.lib.objects.communication.AdHocConfiguration;
+import org.eclipse.mosaic.lib.objects.communication.InterfaceConfiguration;
+
+import com.google.common.collect.Lists;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class ClientServerChannelTest {
+
+    private ServerSocket federateSocket;
+
+    private CompletableFuture<List<Object>> receivedByFederate;
+
+    private ClientServerChannel channel;
+
+    @Before
+    public void setup() throws IOException {
+        federateSocket = new ServerSocket(0);
+        receivedByFederate = CompletableFuture.supplyAsync(this::runFederateStub);
+        channel = new ClientServerChannel(
+                InetAddress.getLoopbackAddress(), federateSocket.getLocalPort(), LoggerFactory.getLogger(getClass())
+        );
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        channel.close();
+        federateSocket.close();
+    }
+
+    @Test
+    public void writeMessages_eachMessageAcknowledged() throws Exception {
+        // RUN
+        int addAck = channel.writeAddNodeMessage(1L, Lists.newArrayList(new NodeDataContainer(0, CartesianPoint.xy(10, 20))));
+        int configAck = channel.writeConfigMessage(1L, 1, 0, createAdHocConfiguration());
+        channel.writeCommand(CMD.SHUT_DOWN);
+
+        // ASSERT
+        assertEquals(CMD.SUCCESS, addAck);
+        assertEquals(CMD.SUCCESS, configAck);
+        List<Object> received = receivedByFederate.get(10, TimeUnit.SECONDS);
+        assertEquals(2, received.size());
+        assertEquals(CommandType.UPDATE_NODE, received.get(0));
+        assertEquals(CommandType.CONF_RADIO, received.get(1));
+    }
+
+    @Test
+    public void writeMessagesInBatchMode_batchAcknowledgedOnce() throws Exception {
+        // SETUP
+        channel.enableBatchMode();
+
+        // RUN
+        channel.writeAddNodeMessage(1L, Lists.newArrayList(new NodeDataContainer(0, CartesianPoint.xy(10, 20))));
+        channel.writeConfigMessage(1L, 1, 0, createAdHocConfiguration());
+        channel.writeSendMessage(2L, 0, 2, 100L, createDestinationAddress());
+        channel.writeUpdatePositionsMessage(2L, Lists.newArrayList(new NodeDataContainer(0, CartesianPoint.xy(15, 20))));
+        int batchAck = channel.writeBatch();
+        int emptyBatchAck = channel.writeBatch();
+        channel.writeCommand(CMD.SHUT_DOWN);
+
+        // ASSERT
+        assertEquals(CMD.SUCCESS, batchAck);
+        assertEquals(CMD.SUCCESS, emptyBatchAck);
+        List<Object> received = receivedByFederate.get(10, TimeUnit.SECONDS);
+        assertEquals(1, received.size());
+        assertTrue(received.get(0) instanceof BatchMessage);
+
+        BatchMessage batch = (BatchMessage) received.get(0);
+        assertEquals(4, batch.getEntriesCount());
+        assertEquals(UpdateNode.UpdateType.ADD_VEHICLE, batch.getEntries(0).getUpdateNode().getUpdateType());
+        assertEquals(1, batch.getEntries(1).getConfigureRadio().getMessageId());
+        assertEquals(2, batch.getEntries(2).getSendMessage().getMessageId());
+        assertEquals(UpdateNode.UpdateType.MOVE_NODE, batch.getEntries(3).getUpdateNode().getUpdateType());
+        assertEquals(15d, batch.getEntries(3).getUpdateNode().getProperties(0).getX(), 0d);
+    }
+
+    private static AdHocConfiguration createAdHocConfiguration() {
+        return new AdHocConfiguration.Builder("veh_0")
+                .addInterface(new InterfaceConfiguration.Builder(AdHocChannel.CCH)
+                        .power(50d)
+                        .ip(NetworkAddress.BROADCAST_ADDRESS)
+                        .subnet(NetworkAddress.BROADCAST_ADDRESS)
+                        .create())
+                .create();
+    }
+
+    private static DestinationAddressContainer createDestinationAddress() {
+        return new DestinationAddressContainer(
+                DestinationType.AD_HOC_TOPOCAST,
+                new NetworkAddress(NetworkAddress.BROADCAST_ADDRESS),
+                AdHocChannel.CCH,
+                1,
+                null,
+                ProtocolType.UDP
+        );
+    }
+
+    /**
+     * Stub of a network federate, which acknowledges each received command (or batch of commands)
+     * with {@link CommandType#SUCCESS} until {@link CommandType#SHUT_DOWN} is received.
+     *
+     * @return the types of all received commands, or the received message in case of a batch
+     */
+    private List<Object> runFederateStub() {
+        final List<Object> received = new ArrayList<>();
+        try (Socket socket = federateSocket.accept()) {
+            final InputStream in = socket.getInputStream();
+            final OutputStream out = socket.getOutputStream();
+            while (true) {
+                CommandType command = CommandMessage.parseDelimitedFrom(in).getCommandType();
+                switch (command) {
+                    case SHUT_DOWN:
+                        return received;
+                    case BATCH:
+                        received.add(BatchMessage.parseDelimitedFrom(in));
+                        break;
+                    case UPDATE_NODE:
+                        UpdateNode.parseDelimitedFrom(in);
+                        received.add(command);
+                        break;
+                    case CONF_RADIO:
+                        ClientServerChannelProtos.ConfigureRadioMessage.parseDelimitedFrom(in);
+                        received.add(command);
+                        break;
+                    case MSG_SEND:
+                        ClientServerChannelProtos.SendMessageMessage.parseDelimitedFrom(in);
+                        received.add(command);
+                        break;
+                    default:
+                        throw new IllegalStateException("Unexpected command " + command);
+                }
+                CommandMessage.newBuilder().setCommandType(CommandType.SUCCESS).build().writeDelimitedTo(out);
+                out.flush();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.coupling;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.eclipse.mosaic.lib.coupling.ClientServerChannel.CMD;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.CommandMessage;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.CommandMessage.CommandType;
+
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class MemoryMappedTransportTest {
+
+    private final static Logger log = LoggerFactory.getLogger(MemoryMappedTransportTest.class);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void writeAndRead_dataExceedsCapacity() throws Exception {
+        // SETUP
+        Path file = temporaryFolder.newFile().toPath();
+        byte[] data = new byte[10_000];
+        new Random(42).nextBytes(data);
+        byte[] received = new byte[data.length];
+
+        try (MemoryMappedTransport ambassador = MemoryMappedTransport.create(file, 64);
+             MemoryMappedTransport federate = MemoryMappedTransport.open(file)) {
+            CompletableFuture<Void> echo = CompletableFuture.runAsync(() -> echo(federate));
+
+            // RUN
+            CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+                try {
+                    for (int offset = 0; offset < data.length; offset += 100) {
+                        ambassador.getOutputStream().write(data, offset, 100);
+                    }
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            readFully(ambassador.getInputStream(), received);
+            writer.get(10, TimeUnit.SECONDS);
+            ambassador.close();
+            echo.get(10, TimeUnit.SECONDS);
+        }
+
+        // ASSERT
+        assertArrayEquals(data, received);
+    }
+
+    @Test
+    public void writeAndRead_singleBytesExceedCapacity() throws Exception {
+        // SETUP
+        Path file = temporaryFolder.newFile().toPath();
+        byte[] received = new byte[1000];
+
+        try (MemoryMappedTransport ambassador = MemoryMappedTransport.create(file, 64);
+             MemoryMappedTransport federate = MemoryMappedTransport.open(file)) {
+
+            // RUN
+            CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+                try {
+                    for (int i = 0; i < received.length; i++) {
+                        ambassador.getOutputStream().write(i);
+                    }
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            for (int i = 0; i < received.length; i++) {
+                received[i] = (byte) federate.getInputStream().read();
+            }
+            writer.get(10, TimeUnit.SECONDS);
+        }
+
+        // ASSERT
+        for (int i = 0; i < received.length; i++) {
+            assertEquals((byte) i, received[i]);
+        }
+    }
+
+    @Test
+    public void close_otherSideReadsEndOfStream() throws Exception {
+        // SETUP
+        Path file = temporaryFolder.newFile().toPath();
+        try (MemoryMappedTransport ambassador = MemoryMappedTransport.create(file, 64);
+             MemoryMappedTransport federate = MemoryMappedTransport.open(file)) {
+            ambassador.getOutputStream().write(new byte[]{1, 2});
+
+            // RUN
+            ambassador.close();
+
+            // ASSERT
+            assertEquals(1, federate.getInputStream().read());
+            assertEquals(2, federate.getInputStream().read());
+            assertEquals(-1, federate.getInputStream().read());
+        }
+    }
+
+    @Test
+    public void channel_commandsAcknowledged() throws Exception {
+        // SETUP
+        Path file = temporaryFolder.newFile().toPath();
+        try (MemoryMappedTransport ambassador = MemoryMappedTransport.create(file, MemoryMappedTransport.DEFAULT_CAPACITY);
+             MemoryMappedTransport federate = MemoryMappedTransport.open(file)) {
+            CompletableFuture<Integer> federateStub = CompletableFuture.supplyAsync(() -> runEchoFederate(federate));
+            ClientServerChannel channel = new ClientServerChannel(ambassador, log);
+
+            // RUN
+            int ack = roundTrips(channel, 100);
+            channel.close();
+
+            // ASSERT
+            assertEquals(CMD.SUCCESS, ack);
+            assertEquals(100, federateStub.get(10, TimeUnit.SECONDS).intValue());
+        }
+    }
+
+    @Test
+    public void read_peerTerminated_throwsIOException() throws Exception {
+        // SETUP
+        Path file = temporaryFolder.newFile().toPath();
+        try (ServerSocket serverSocket = new ServerSocket(0);
+             MemoryMappedTransport ambassador = MemoryMappedTransport.create(file, 64);
+             MemoryMappedTransport federate = MemoryMappedTransport.open(file)) {
+            ClientServerChannel socketChannel = new ClientServerChannel(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort(), log);
+            Socket federateSocket = serverSocket.accept();
+            ambassador.setPeerLivenessCheck(socketChannel::isConnected);
+
+            // RUN
+            CompletableFuture<Integer> reader = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return ambassador.getInputStream().read();
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            });
+            Thread.sleep(300);
+            boolean waitingWhileConnected = !reader.isDone();
+            // the federate terminates without closing the memory-mapped transport
+            federateSocket.close();
+
+            // ASSERT
+            assertTrue(waitingWhileConnected);
+            try {
+                reader.get(10, TimeUnit.SECONDS);
+                fail();
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IOException);
+            }
+            socketChannel.close();
+        }
+    }
+
+    /**
+     * Measures the number of command round trips to a local echo federate via
+     * a loopback socket compared to the memory-mapped transport.
+     */
+    @Ignore("Benchmark, run manually")
+    @Test
+    public void performanceTest() throws Exception {
+        final int roundTrips = 20_000;
+
+        long durationSocket;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            CompletableFuture<Integer> federateStub = CompletableFuture.supplyAsync(() -> {
+                try (Socket socket = serverSocket.accept()) {
+                    socket.setTcpNoDelay(true);
+                    return runEchoFederate(socket.getInputStream(), socket.getOutputStream());
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            ClientServerChannel channel = new ClientServerChannel(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort(), log);
+            roundTrips(channel, 1000); // warm up
+            long start = System.nanoTime();
+            roundTrips(channel, roundTrips);
+            durationSocket = System.nanoTime() - start;
+            channel.close();
+            assertEquals(1000 + roundTrips, federateStub.get(10, TimeUnit.SECONDS).intValue());
+        }
+
+        long durationMemoryMapped;
+        Path file = temporaryFolder.newFile().toPath();
+        try (MemoryMappedTransport ambassador = MemoryMappedTransport.create(file, MemoryMappedTransport.DEFAULT_CAPACITY);
+             MemoryMappedTransport federate = MemoryMappedTransport.open(file)) {
+            CompletableFuture<Integer> federateStub = CompletableFuture.supplyAsync(() -> runEchoFederate(federate));
+            ClientServerChannel channel = new ClientServerChannel(ambassador, log);
+            roundTrips(channel, 1000); // warm up
+            long start = System.nanoTime();
+            roundTrips(channel, roundTrips);
+            durationMemoryMapped = System.nanoTime() - start;
+            channel.close();
+            assertEquals(1000 + roundTrips, federateStub.get(10, TimeUnit.SECONDS).intValue());
+        }
+
+        System.out.printf("socket %.0f round trips/ms, memory-mapped %.0f round trips/ms%n",
+                roundTrips / (durationSocket / 1e6),
+                roundTrips / (durationMemoryMapped / 1e6)
+        );
+    }
+
+    private static int roundTrips(ClientServerChannel channel, int count) throws IOException {
+        int ack = CMD.UNDEF;
+        for (int i = 0; i < count; i++) {
+            channel.writeCommand(CMD.NEXT_EVENT);
+            ack = channel.readCommand();
+        }
+        return ack;
+    }
+
+    private static int runEchoFederate(MemoryMappedTransport transport) {
+        return runEchoFederate(transport.getInputStream(), transport.getOutputStream());
+    }
+
+    /**
+     * Stub of a network federate, which acknowledges each received command with {@link CommandType#SUCCESS}.
+     *
+     * @return the number of received commands until the other side has closed the connection
+     */
+    private static int runEchoFederate(InputStream in, OutputStream out) {
+        int commands = 0;
+        try {
+            while (CommandMessage.parseDelimitedFrom(in) != null) {
+                commands++;
+                CommandMessage.newBuilder().setCommandType(CommandType.SUCCESS).build().writeDelimitedTo(out);
+            }
+            return commands;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void echo(MemoryMappedTransport transport) {
+        byte[] buffer = new byte[37];
+        int read;
+        try {
+            while ((read = transport.getInputStream().read(buffer)) >= 0) {
+                transport.getOutputStream().write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void readFully(InputStream in, byte[] target) throws IOException {
+        int offset = 0;
+        while (offset < target.length) {
+            int read = in.read(target, offset, target.length - offset);
+            if (read < 0) {
+                throw new IOException("Unexpected end of stream");
+            }
+            offset += read;
+        }
+    }
+}
@@ -45,15 +45,28 @@ public class SensorValue implements Serializable {
      * @param distValue The value of the measured distance.
      */
     SensorValue(double distValue) {
+        this.status = toStatus(distValue);
+        this.distValue = this.status == SensorStatus.VEHICLE_DETECTED ? distValue : 0.0;
+    }
+
+    /**
+     * Checks if this sensor value is equal to a sensor value created from the given distance value.
+     *
+     * @param distValue The value of the measured distance, in the representation as described in {@link #SensorValue(double)}.
+     * @return {@code true}, if this value represents the given distance value
+     */
+    public boolean matches(double distValue) {
+        final SensorStatus otherStatus = toStatus(distValue);
+        return this.status == otherStatus && (otherStatus != SensorStatus.VEHICLE_DETECTED || this.distValue == distValue);
+    }
+
+    private static SensorStatus toStatus(double distValue) {
         if (distValue == -1) {
-            this.status = SensorStatus.NOT_EQUIPPED;
-            this.distValue = 0.0;
+            return SensorStatus.NOT_EQUIPPED;
         } else if (distValue == -2 || distValue == Double.POSITIVE_INFINITY) {
-            this.status = SensorStatus.NO_VEHICLE_DETECTED;
-            this.distValue = 0.0;
+            return SensorStatus.NO_VEHICLE_DETECTED;
         } else {
-            this.status = SensorStatus.VEHICLE_DETECTED;
-            this.distValue = distValue;
+            return SensorStatus.VEHICLE_DETECTED;
         }
     }
 
@@ -57,4 +57,14 @@ public class SensorValueTest {
         Assert.assertEquals(false, senVal.equals(senVal2));
     }
 
+    @Test
+    public void matchesTest() throws Exception {
+        Assert.assertTrue(new SensorValue(-1).matches(-1));
+        Assert.assertTrue(new SensorValue(-2).matches(Double.POSITIVE_INFINITY));
+        Assert.assertTrue(new SensorValue(135).matches(135));
+        Assert.assertFalse(new SensorValue(135).matches(136));
+        Assert.assertFalse(new SensorValue(-1).matches(0));
+        Assert.assertFalse(new SensorValue(0).matches(-1));
+    }
+
 }
@@ -25,6 +25,8 @@ import org.eclipse.mosaic.lib.routing.config.CRouting;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 
 import java.io.File;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -44,6 +46,25 @@ public interface Routing {
      */
     RoutingResponse findRoutes(RoutingRequest routingRequest);
 
+    /**
+     * Finds the routes for a batch of routing requests. Equal requests are calculated only once,
+     * and implementations may calculate the routes of different requests concurrently.
+     *
+     * @param routingRequests the requests to find routes for
+     * @return the response for each request, in iteration order of the given requests
+     */
+    List<RoutingResponse> findRoutes(Collection<RoutingRequest> routingRequests);
+
+    /**
+     * Updates the speeds observed on connections during the simulation, which are considered by
+     * the calculation of fastest routes afterwards. Speeds of connections without new observations
+     * return to the speeds of the road network over time.
+     *
+     * @param time               the current simulation time in [ns]
+     * @param speedsByConnection the observed speed in [m/s] by connection id
+     */
+    void updateObservedSpeeds(long time, Map<String, Double> speedsByConnection);
+
     /**
      * Build a new route out of a list with node ID's. The route gets a new ID
      * and can be stored in the database.
@@ -15,16 +15,87 @@
 
 package org.eclipse.mosaic.lib.routing.config;
 
+import org.eclipse.mosaic.lib.util.gson.TimeFieldAdapter;
+import org.eclipse.mosaic.rti.TIME;
+
+import com.google.gson.annotations.JsonAdapter;
+
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Base Class for the navigation configuration.
  */
 public class CRouting implements Serializable {
 
+    public enum SpeedUp {
+        NONE, CONTRACTION_HIERARCHIES, LANDMARKS
+    }
+
     /**
      * The source for the route calculation, e.g. the path to the database containing the road network.
      */
     public String source = null;
 
+    /**
+     * Directory to cache the prepared routing graph in, either absolute or relative to the scenario directory.
+     * Graphs are stored by the content hash of the database, so that several scenarios and simultaneous
+     * simulation runs can share the same directory. If {@code null}, the routing graph is prepared on each start.
+     */
+    public String graphCache = null;
+
+    /**
+     * Precomputed speed-up technique for route calculation, which is prepared on start (or loaded from the graph cache).
+     *
+     * @see SpeedUp#NONE every route is calculated by a plain bidirectional A* search
+     * @see SpeedUp#CONTRACTION_HIERARCHIES routes of cars with static fastest or shortest costs without turn costs and
+     *         alternatives are calculated on contraction hierarchies, all others by a plain search
+     * @see SpeedUp#LANDMARKS routes of cars with fastest costs are calculated by an A* search guided by landmarks,
+     *         which stays valid if edge costs increase during the simulation, all others by a plain search
+     */
+    public SpeedUp speedUp = SpeedUp.NONE;
+
+    /**
+     * Number of threads to calculate the routes of a batch of routing requests with. If {@code 0},
+     * all requests of a batch are calculated in the calling thread.
+     */
+    public int routingThreads = 0;
+
+    /**
+     * Maximum number of recent route results to keep for requests with fastest or shortest costs. Results are
+     * shared by all requests between the same source and target positions with the same cost function and
+     * vehicle class, and are discarded whenever edge costs change. If {@code 0}, results are neither cached
+     * nor shared between equal requests of a batch.
+     */
+    public int routeCacheSize = 0;
+
+    /**
+     * Weight of a new observation in the exponential moving average of the speeds observed on a connection, e.g.
+     * the travel speeds of vehicles or the mean speeds of traffic detectors. Average speeds lower than the speed of the
+     * connection are considered by the calculation of fastest routes for cars. If {@code 0}, observed speeds are ignored.
+     */
+    public double observedSpeedSmoothing = 0;
+
+    /**
+     * Relative deviation of the moving average of observed speeds from the speed currently considered for a connection,
+     * above which the moving average is considered by the calculation of fastest routes. Smaller deviations neither
+     * change routes nor discard cached route results. If {@code 0}, every change of the moving average is considered.
+     */
+    public double observedSpeedChangeThreshold = 0.1;
+
+    /**
+     * Time after which the deviation of the moving average of observed speeds from the speed of a connection has halved,
+     * if the connection has not been observed since. Ensures that connections which are avoided due to a former congestion
+     * are considered again by fastest routes after a while. If {@code 0}, moving averages never decay.
+     */
+    @JsonAdapter(TimeFieldAdapter.NanoSeconds.class)
+    public long observedSpeedHalfLife = 5 * TIME.MINUTE;
+
+    /**
+     * The connections traffic detectors are placed on by the ids of the detectors. The mean speeds measured by
+     * these detectors are considered as observed speeds on their connections.
+     */
+    public Map<String, String> detectorConnections = new HashMap<>();
+
 }
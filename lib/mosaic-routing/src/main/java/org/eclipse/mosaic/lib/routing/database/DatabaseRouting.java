@@ -38,6 +38,7 @@ import org.eclipse.mosaic.lib.routing.RoutingRequest;
 import org.eclipse.mosaic.lib.routing.RoutingResponse;
 import org.eclipse.mosaic.lib.routing.config.CRouting;
 import org.eclipse.mosaic.lib.routing.graphhopper.GraphHopperRouting;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.GraphCache;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 
 import com.google.common.collect.Iterables;
@@ -46,6 +47,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -86,11 +90,39 @@ public class DatabaseRouting implements Routing {
         }
 
         //creates an implementation of IRoutingGraph according to the configuration
-        this.routing = new GraphHopperRouting(scenarioDatabase);
+        final CRouting.SpeedUp speedUp = configuration != null ? configuration.speedUp : CRouting.SpeedUp.NONE;
+        this.routing = new GraphHopperRouting(scenarioDatabase, createGraphCache(configuration, baseDirectory, dbFile), speedUp);
+        if (configuration != null) {
+            this.routing.setRoutingThreads(configuration.routingThreads);
+            this.routing.setRouteCacheSize(configuration.routeCacheSize);
+            this.routing.setObservedSpeeds(
+                    configuration.observedSpeedSmoothing,
+                    configuration.observedSpeedChangeThreshold,
+                    configuration.observedSpeedHalfLife
+            );
+        }
 
         this.routeManager = new RouteManager(this.scenarioDatabase);
     }
 
+    private GraphCache createGraphCache(CRouting configuration, File baseDirectory, File dbFile) {
+        if (configuration == null || configuration.graphCache == null) {
+            return null;
+        }
+        final File cacheDirectory = new File(configuration.graphCache).isAbsolute()
+                ? new File(configuration.graphCache)
+                : new File(baseDirectory, configuration.graphCache);
+        try {
+            // graphs with different speed-up techniques are cached separately
+            return configuration.speedUp == null || configuration.speedUp == CRouting.SpeedUp.NONE
+                    ? GraphCache.forDatabase(cacheDirectory, dbFile)
+                    : GraphCache.forDatabase(cacheDirectory, dbFile, configuration.speedUp.name());
+        } catch (IOException e) {
+            log.warn("Could not determine hash of database file, routing graph will not be cached.", e);
+            return null;
+        }
+    }
+
     @Override
     public Map<String, VehicleRoute> getRoutesFromDatabaseForMessage() {
         return routeManager.getRoutesFromDatabaseForMessage();
@@ -133,7 +165,32 @@ public class DatabaseRouting implements Routing {
      */
     @Override
     public RoutingResponse findRoutes(RoutingRequest routingRequest) {
-        final List<CandidateRoute> candidateRoutes = this.routing.findRoutes(routingRequest);
+        return createResponse(this.routing.findRoutes(routingRequest));
+    }
+
+    /**
+     * This method finds the routes for a batch of requests. Requests which start and end on the same connections
+     * with equal routing parameters are calculated only once, all others are calculated concurrently if
+     * {@link CRouting#routingThreads} is configured.
+     *
+     * @param routingRequests Information for each routing request.
+     * @return Responses to the routing requests, in iteration order of the given requests.
+     */
+    @Override
+    public List<RoutingResponse> findRoutes(Collection<RoutingRequest> routingRequests) {
+        final List<RoutingResponse> responses = new ArrayList<>(routingRequests.size());
+        for (List<CandidateRoute> candidateRoutes : this.routing.findRoutes(routingRequests)) {
+            responses.add(createResponse(candidateRoutes));
+        }
+        return responses;
+    }
+
+    @Override
+    public void updateObservedSpeeds(long time, Map<String, Double> speedsByConnection) {
+        this.routing.updateObservedSpeeds(time, speedsByConnection);
+    }
+
+    private static RoutingResponse createResponse(List<CandidateRoute> candidateRoutes) {
         final CandidateRoute bestRoute = Iterables.getFirst(candidateRoutes, null);
         final List<CandidateRoute> alternatives;
         if (candidateRoutes.size() > 1) {
@@ -20,12 +20,16 @@ import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.routing.EdgeProperties;
 import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.GraphhopperToDatabaseMapper;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.ObservedSpeeds;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.VehicleEncoding;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.WayTypeEncoder;
 
 import com.google.common.collect.Iterables;
+import com.graphhopper.routing.ev.DecimalEncodedValue;
+import com.graphhopper.routing.querygraph.VirtualEdgeIteratorState;
 import com.graphhopper.util.EdgeIteratorState;
 import com.graphhopper.util.FetchMode;
+import com.graphhopper.util.GHUtility;
 import org.apache.commons.lang3.Validate;
 
 import java.util.Optional;
@@ -42,6 +46,7 @@ public class GraphHopperEdgeProperties implements EdgeProperties {
 
     private EdgeIteratorState currentEdgeIterator;
     private boolean reverseRequests;
+    private ObservedSpeeds observedSpeeds;
 
     GraphHopperEdgeProperties(VehicleEncoding encoding, WayTypeEncoder wayTypeEncoder, GraphhopperToDatabaseMapper graphMapper) {
         this.encoding = encoding;
@@ -50,17 +55,47 @@ public class GraphHopperEdgeProperties implements EdgeProperties {
     }
 
 
-    void setCurrentEdgeIterator(EdgeIteratorState currentEdgeIterator, boolean reverseRequests) {
+    void setCurrentEdgeIterator(EdgeIteratorState currentEdgeIterator, boolean reverseRequests, ObservedSpeeds observedSpeeds) {
         this.currentEdgeIterator = currentEdgeIterator;
         this.reverseRequests = reverseRequests;
+        this.observedSpeeds = observedSpeeds;
     }
 
     @Override
     public double getSpeed() {
         Validate.notNull(currentEdgeIterator, "Edge iterator is null");
-        return reverseRequests
-                ? currentEdgeIterator.getReverse(encoding.speed()) / 3.6
-                : currentEdgeIterator.get(encoding.speed()) / 3.6;
+        return getSpeed(currentEdgeIterator, reverseRequests, encoding.speed(), observedSpeeds);
+    }
+
+    /**
+     * Returns the speed in [m/s] of the given edge, which is the average observed speed if it is lower than the speed of the edge.
+     * Observed speeds refer to the direction of the connection the edge has been created for, and are not considered if the
+     * edge is passed in the opposite direction.
+     */
+    static double getSpeed(EdgeIteratorState edge, boolean reverse, DecimalEncodedValue speedEnc, ObservedSpeeds observedSpeeds) {
+        final double speed = getSpeed(edge, reverse, speedEnc);
+        if (observedSpeeds == null) {
+            return speed;
+        }
+        // virtual edges of the query graph refer to the speeds observed on their original edge
+        final int edgeKey = edge instanceof VirtualEdgeIteratorState
+                ? ((VirtualEdgeIteratorState) edge).getOriginalEdgeKey()
+                : edge.getEdgeKey();
+        if (((edgeKey & 1) == 1) != reverse) {
+            return speed;
+        }
+        final double observedSpeed = observedSpeeds.getSpeed(GHUtility.getEdgeFromEdgeKey(edgeKey));
+        // observed speeds never exceed the speed of the edge, so that edge weights never fall below the prepared ones
+        return Double.isNaN(observedSpeed) ? speed : Math.min(speed, observedSpeed);
+    }
+
+    /**
+     * Returns the speed in [m/s] of the given edge without requiring an instance of {@link GraphHopperEdgeProperties}.
+     */
+    static double getSpeed(EdgeIteratorState edge, boolean reverse, DecimalEncodedValue speedEnc) {
+        return reverse
+                ? edge.getReverse(speedEnc) / 3.6
+                : edge.get(speedEnc) / 3.6;
     }
 
     @Override
@@ -28,30 +28,49 @@ import org.eclipse.mosaic.lib.routing.CandidateRoute;
 import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
 import org.eclipse.mosaic.lib.routing.RoutingPosition;
 import org.eclipse.mosaic.lib.routing.RoutingRequest;
+import org.eclipse.mosaic.lib.routing.config.CRouting;
 import org.eclipse.mosaic.lib.routing.graphhopper.algorithm.RoutingAlgorithmFactory;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.DatabaseGraphLoader;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.GraphCache;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.GraphhopperToDatabaseMapper;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.ObservedSpeeds;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.OptionalTurnCostProvider;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.VehicleEncoding;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.VehicleEncodingManager;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.graphhopper.config.Profile;
+import com.graphhopper.routing.AStarBidirection;
 import com.graphhopper.routing.Path;
 import com.graphhopper.routing.RoutingAlgorithm;
+import com.graphhopper.routing.ch.CHRoutingAlgorithmFactory;
+import com.graphhopper.routing.ch.PrepareContractionHierarchies;
 import com.graphhopper.routing.ev.BooleanEncodedValue;
+import com.graphhopper.routing.ev.DecimalEncodedValue;
+import com.graphhopper.routing.lm.LMApproximator;
+import com.graphhopper.routing.lm.LMConfig;
+import com.graphhopper.routing.lm.LandmarkStorage;
+import com.graphhopper.routing.lm.PrepareLandmarks;
 import com.graphhopper.routing.querygraph.QueryGraph;
 import com.graphhopper.routing.querygraph.VirtualEdgeIteratorState;
 import com.graphhopper.routing.subnetwork.PrepareRoutingSubnetworks;
 import com.graphhopper.routing.util.AccessFilter;
 import com.graphhopper.routing.util.EdgeFilter;
+import com.graphhopper.routing.weighting.TurnCostProvider;
 import com.graphhopper.routing.weighting.Weighting;
 import com.graphhopper.storage.BaseGraph;
+import com.graphhopper.storage.CHConfig;
+import com.graphhopper.storage.CHStorage;
+import com.graphhopper.storage.Directory;
 import com.graphhopper.storage.Graph;
 import com.graphhopper.storage.NodeAccess;
 import com.graphhopper.storage.RAMDirectory;
-import com.graphhopper.storage.index.LocationIndex;
+import com.graphhopper.storage.RoutingCHGraph;
+import com.graphhopper.storage.RoutingCHGraphImpl;
 import com.graphhopper.storage.index.LocationIndexTree;
 import com.graphhopper.storage.index.Snap;
 import com.graphhopper.util.DistanceCalc;
@@ -67,12 +86,24 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @SuppressWarnings(value = "MS_SHOULD_BE_FINAL", justification = "Static fields kept public and adjustable for user customization")
 public class GraphHopperRouting {
@@ -135,34 +166,100 @@ public class GraphHopperRouting {
      */
     private static final double MAX_DISTANCE_TO_TARGET = 500d;
 
+    /**
+     * The cost functions for which contraction hierarchies are prepared.
+     */
+    private static final List<RoutingCostFunction> CH_COST_FUNCTIONS = Collections.unmodifiableList(Lists.newArrayList(
+            RoutingCostFunction.Fastest, RoutingCostFunction.Shortest
+    ));
+
+    /**
+     * The number of landmarks to prepare, and the number of landmarks used to guide a single route search.
+     */
+    private static final int LANDMARKS = 16;
+    private static final int ACTIVE_LANDMARKS = 8;
+
     private final DistanceCalc distanceCalculation = new DistancePlaneProjection();
 
-    private final GraphhopperToDatabaseMapper graphMapper;
     private final Database db;
     private final VehicleEncodingManager encoding;
-    private final BaseGraph graph;
-    private final LocationIndex locationIndex;
+    private final CRouting.SpeedUp speedUp;
+    private final Map<RoutingCostFunction, RoutingCHGraph> chGraphs = new HashMap<>();
+    private GraphhopperToDatabaseMapper graphMapper;
+    private BaseGraph graph;
+    private LocationIndexTree locationIndex;
+    private LandmarkStorage landmarks;
+
+    private Cache<RouteKey, List<CandidateRoute>> routeCache;
+    private final AtomicLong routeCacheGeneration = new AtomicLong();
+    private ExecutorService routingExecutor;
+    private ObservedSpeeds observedSpeeds;
 
     public GraphHopperRouting(Database db) {
+        this(db, null, CRouting.SpeedUp.NONE);
+    }
+
+    /**
+     * Creates the routing graph for the given database. If a {@link GraphCache} is given, the prepared
+     * graph is loaded from the cache, or stored in the cache if it has not been prepared before.
+     *
+     * @param db         the scenario database
+     * @param graphCache the cache of the prepared graph, or {@code null} to prepare the graph from scratch
+     * @param speedUp    the speed-up technique to prepare, must be the same for all graphs stored in the given cache
+     */
+    public GraphHopperRouting(Database db, GraphCache graphCache, CRouting.SpeedUp speedUp) {
         this.db = db;
+        this.speedUp = ObjectUtils.defaultIfNull(speedUp, CRouting.SpeedUp.NONE);
 
-        graphMapper = new GraphhopperToDatabaseMapper();
         encoding = new VehicleEncodingManager(PROFILES);
 
-        graph = createGraphFromDatabase(db);
-        locationIndex = createLocationIndex();
-        cleanUpGraph();
+        if (graphCache != null && graphCache.exists() && loadGraphFromCache(graphCache)) {
+            return;
+        }
 
-        graph.flush();
+        graphMapper = new GraphhopperToDatabaseMapper();
+        final Directory directory = createGraphDirectory(graphCache);
+        boolean prepared = false;
+        try {
+            graph = createGraphFromDatabase(db, directory);
+            locationIndex = createLocationIndex();
+            cleanUpGraph();
+            prepareSpeedUp();
+
+            graph.flush();
+            if (directory.getDefaultType().isStoring()) {
+                storeGraphInCache(graphCache);
+            }
+            prepared = true;
+        } finally {
+            if (!prepared && directory.getDefaultType().isStoring()) {
+                discardGraphDirectory(graphCache, directory);
+            }
+        }
     }
 
-    private BaseGraph createGraphFromDatabase(Database db) {
-        final BaseGraph graph = new BaseGraph
+    private BaseGraph.Builder createGraphBuilder() {
+        return new BaseGraph
                 .Builder(encoding.getEncodingManager())
-                .setDir(new RAMDirectory())
                 .set3D(true)
                 .withTurnCosts(encoding.getEncodingManager().needsTurnCostsSupport())
-                .setSegmentSize(-1)
+                .setSegmentSize(-1);
+    }
+
+    private Directory createGraphDirectory(GraphCache graphCache) {
+        if (graphCache != null) {
+            try {
+                return graphCache.createDirectory();
+            } catch (IOException e) {
+                LOG.warn("Could not create directory in graph cache {}, routing graph will not be cached.", graphCache.getDirectory(), e);
+            }
+        }
+        return new RAMDirectory();
+    }
+
+    private BaseGraph createGraphFromDatabase(Database db, Directory directory) {
+        final BaseGraph graph = createGraphBuilder()
+                .setDir(directory)
                 .build();
 
         final DatabaseGraphLoader reader = new DatabaseGraphLoader(db);
@@ -172,11 +269,61 @@ public class GraphHopperRouting {
         return graph;
     }
 
-    private LocationIndex createLocationIndex() {
-        return new LocationIndexTree(graph, graph.getDirectory())
+    private LocationIndexTree createLocationIndex() {
+        final LocationIndexTree index = new LocationIndexTree(graph, graph.getDirectory())
                 .setMinResolutionInMeter(300)
-                .setMaxRegionSearch(4)
-                .prepareIndex();
+                .setMaxRegionSearch(4);
+        index.prepareIndex();
+        return index;
+    }
+
+    private boolean loadGraphFromCache(GraphCache graphCache) {
+        BaseGraph cachedGraph = null;
+        try {
+            final Directory directory = graphCache.openDirectory();
+            cachedGraph = createGraphBuilder().setDir(directory).build();
+            final LocationIndexTree cachedLocationIndex = new LocationIndexTree(cachedGraph, directory).setMaxRegionSearch(4);
+            if (!cachedGraph.loadExisting() || !cachedLocationIndex.loadExisting()) {
+                throw new IllegalStateException("Incomplete graph files.");
+            }
+            graphMapper = graphCache.loadMapping(db);
+            if (!loadSpeedUp(cachedGraph, directory)) {
+                throw new IllegalStateException("Incomplete files of " + speedUp);
+            }
+            graph = cachedGraph;
+            locationIndex = cachedLocationIndex;
+            LOG.info("Loaded routing graph from cache {}, nodes: {}, edges: {}", graphCache.getDirectory(), graph.getNodes(), graph.getEdges());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Could not load routing graph from cache {}, graph will be prepared from database.", graphCache.getDirectory(), e);
+            if (cachedGraph != null) {
+                cachedGraph.close();
+            }
+            chGraphs.clear();
+            landmarks = null;
+            return false;
+        }
+    }
+
+    private void storeGraphInCache(GraphCache graphCache) {
+        try {
+            locationIndex.flush();
+            if (landmarks != null) {
+                landmarks.flush();
+            }
+            graphCache.store(graph, graphMapper);
+            LOG.info("Stored routing graph in cache {}", graphCache.getDirectory());
+        } catch (IOException e) {
+            LOG.warn("Could not store routing graph in cache {}", graphCache.getDirectory(), e);
+        }
+    }
+
+    private void discardGraphDirectory(GraphCache graphCache, Directory directory) {
+        try {
+            graphCache.discardDirectory(directory);
+        } catch (IOException e) {
+            LOG.warn("Could not delete temporary directory {} of routing graph", directory.getLocation(), e);
+        }
     }
 
     protected void cleanUpGraph() {
@@ -186,6 +333,74 @@ public class GraphHopperRouting {
                 .doWork();
     }
 
+    private void prepareSpeedUp() {
+        if (speedUp == CRouting.SpeedUp.NONE) {
+            return;
+        }
+        graph.freeze();
+        if (speedUp == CRouting.SpeedUp.CONTRACTION_HIERARCHIES) {
+            for (RoutingCostFunction costFunction : CH_COST_FUNCTIONS) {
+                final CHConfig chConfig = createCHConfig(costFunction);
+                final CHStorage chStorage = PrepareContractionHierarchies.fromGraph(graph, chConfig).doWork().getCHStorage();
+                chStorage.flush();
+                chGraphs.put(costFunction, RoutingCHGraphImpl.fromGraph(graph, chStorage, chConfig));
+            }
+        } else if (speedUp == CRouting.SpeedUp.LANDMARKS) {
+            final PrepareLandmarks prepareLandmarks = new PrepareLandmarks(
+                    graph.getDirectory(), graph, encoding.getEncodingManager(), createLMConfig(), LANDMARKS
+            );
+            prepareLandmarks.doWork();
+            landmarks = prepareLandmarks.getLandmarkStorage();
+        }
+        LOG.info("Prepared {} for route calculation", speedUp);
+    }
+
+    private boolean loadSpeedUp(BaseGraph cachedGraph, Directory directory) {
+        if (speedUp == CRouting.SpeedUp.CONTRACTION_HIERARCHIES) {
+            for (RoutingCostFunction costFunction : CH_COST_FUNCTIONS) {
+                final CHConfig chConfig = createCHConfig(costFunction);
+                final CHStorage chStorage = new CHStorage(
+                        directory, chConfig.getName(), cachedGraph.getSegmentSize(), chConfig.isEdgeBased()
+                );
+                if (!chStorage.loadExisting()) {
+                    return false;
+                }
+                chGraphs.put(costFunction, RoutingCHGraphImpl.fromGraph(cachedGraph, chStorage, chConfig));
+            }
+        } else if (speedUp == CRouting.SpeedUp.LANDMARKS) {
+            final PrepareLandmarks prepareLandmarks = new PrepareLandmarks(
+                    directory, cachedGraph, encoding.getEncodingManager(), createLMConfig(), LANDMARKS
+            );
+            if (!prepareLandmarks.loadExisting()) {
+                return false;
+            }
+            landmarks = prepareLandmarks.getLandmarkStorage();
+        }
+        return true;
+    }
+
+    /**
+     * Contraction hierarchies are prepared edge-based for cars, considering turn restrictions but no turn costs.
+     */
+    private CHConfig createCHConfig(RoutingCostFunction costFunction) {
+        return CHConfig.edgeBased(
+                PROFILE_CAR.getName() + "_" + costFunction.getCostFunctionName().toLowerCase(),
+                createWeighting(PROFILE_CAR, costFunction, false)
+        );
+    }
+
+    /**
+     * Landmarks are prepared for cars using the fastest costs without any turn weights. The name must match
+     * the profile name, as the landmarks are only placed within the main subnetwork of this profile.
+     */
+    private LMConfig createLMConfig() {
+        final VehicleEncoding vehicleEncoding = encoding.getVehicleEncoding(PROFILE_CAR.getVehicle());
+        final Weighting weighting = new GraphHopperWeighting(
+                vehicleEncoding, encoding.wayType(), TurnCostProvider.NO_TURN_COST_PROVIDER, graphMapper
+        ).setRoutingCostFunction(RoutingCostFunction.Fastest);
+        return new LMConfig(PROFILE_CAR.getName(), weighting);
+    }
+
     private List<PrepareRoutingSubnetworks.PrepareJob> buildSubnetworkRemovalJobs() {
         List<PrepareRoutingSubnetworks.PrepareJob> jobs = new ArrayList<>();
         for (Profile profile : encoding.getAllProfiles()) {
@@ -195,7 +410,145 @@ public class GraphHopperRouting {
         return jobs;
     }
 
+    /**
+     * Enables a cache of recent route results for requests with {@link RoutingCostFunction#Fastest fastest} or
+     * {@link RoutingCostFunction#Shortest shortest} costs. Results are shared by all requests whose source and target
+     * are matched on the same points of the same connections (or the same nodes) with equal routing parameters.
+     * Requests whose source and target are matched on the same connection are never shared. Furthermore, equal
+     * requests within a {@link #findRoutes(Collection) batch} are calculated only once.
+     *
+     * @param maximumSize the maximum number of cached results, least recently used results are evicted first,
+     *                    or {@code 0} to disable the cache
+     */
+    public void setRouteCacheSize(int maximumSize) {
+        routeCache = maximumSize > 0 ? CacheBuilder.newBuilder().maximumSize(maximumSize).build() : null;
+    }
+
+    /**
+     * Sets the number of threads the routes of a batch of requests are calculated with.
+     *
+     * @param threads the number of threads, or {@code 0} to calculate all routes in the calling thread
+     * @see #findRoutes(Collection)
+     */
+    public void setRoutingThreads(int threads) {
+        if (routingExecutor != null) {
+            routingExecutor.shutdown();
+        }
+        final AtomicInteger threadCount = new AtomicInteger();
+        routingExecutor = threads > 0
+                ? Executors.newFixedThreadPool(threads, runnable -> {
+                    Thread thread = new Thread(runnable, "routing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+    }
+
+    /**
+     * Discards all cached route results. Must be called whenever the costs of edges change.
+     */
+    public void invalidateRouteCache() {
+        routeCacheGeneration.incrementAndGet();
+        if (routeCache != null) {
+            routeCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Enables the consideration of speeds observed during the simulation for fastest routes of cars.
+     *
+     * @param smoothingFactor the weight of a new observation in the moving average of the speeds observed on a connection,
+     *                        or {@code 0} to ignore observed speeds
+     * @param changeThreshold the relative deviation of the moving average from the currently considered speed of a connection,
+     *                        above which the moving average is considered, and cached route results are discarded
+     * @param decayHalfLife   the time in [ns] after which the deviation of the moving average from the speed of the road network
+     *                        has halved without new observations, or {@code 0} if moving averages never decay
+     * @see #updateObservedSpeeds(long, Map)
+     */
+    public void setObservedSpeeds(double smoothingFactor, double changeThreshold, long decayHalfLife) {
+        final DecimalEncodedValue speedEnc = encoding.getVehicleEncoding(PROFILE_CAR.getVehicle()).speed();
+        observedSpeeds = smoothingFactor > 0
+                ? new ObservedSpeeds(graph.getEdges(),
+                        edge -> GraphHopperEdgeProperties.getSpeed(graph.getEdgeIteratorState(edge, Integer.MIN_VALUE), false, speedEnc),
+                        smoothingFactor, changeThreshold, decayHalfLife)
+                : null;
+        invalidateRouteCache();
+    }
+
+    /**
+     * Lets the average speeds of the connections decay towards the speeds of the road network for the time passed since
+     * the last call, and merges the given observed speeds into the average speeds, which replace the speeds of
+     * the road network for fastest routes of cars, if they are lower. Must not be called during a route calculation.
+     * Cached route results are only discarded if the considered speed of any connection has changed.
+     *
+     * @param time               the current simulation time in [ns]
+     * @param speedsByConnection the observed speed in [m/s] by connection id
+     */
+    public void updateObservedSpeeds(long time, Map<String, Double> speedsByConnection) {
+        if (observedSpeeds == null) {
+            return;
+        }
+        boolean changed = observedSpeeds.decay(time);
+        for (Map.Entry<String, Double> observedSpeed : speedsByConnection.entrySet()) {
+            final Connection connection = db.getConnection(observedSpeed.getKey());
+            final int edge = connection != null ? graphMapper.fromConnection(connection) : -1;
+            if (edge >= 0) {
+                changed |= observedSpeeds.update(edge, observedSpeed.getValue(), time);
+            }
+        }
+        if (changed) {
+            invalidateRouteCache();
+        }
+    }
+
     public List<CandidateRoute> findRoutes(RoutingRequest routingRequest) {
+        return findRoutes(routingRequest, null);
+    }
+
+    /**
+     * Calculates the routes for a batch of requests concurrently, if {@link #setRoutingThreads routing threads}
+     * have been configured. If the {@link #setRouteCacheSize route cache} is enabled, requests whose source and
+     * target are matched on the same points with equal routing parameters are calculated only once.
+     *
+     * @param routingRequests the requests to calculate routes for
+     * @return the found routes of each request, in iteration order of the given requests
+     */
+    public List<List<CandidateRoute>> findRoutes(Collection<RoutingRequest> routingRequests) {
+        final Map<RouteKey, CompletableFuture<List<CandidateRoute>>> batchResults = routeCache != null ? new ConcurrentHashMap<>() : null;
+        final List<List<CandidateRoute>> result = new ArrayList<>(routingRequests.size());
+        if (routingExecutor == null || routingRequests.size() < 2) {
+            for (RoutingRequest routingRequest : routingRequests) {
+                result.add(findRoutes(routingRequest, batchResults));
+            }
+            return result;
+        }
+        final List<CompletableFuture<List<CandidateRoute>>> futures = new ArrayList<>(routingRequests.size());
+        for (RoutingRequest routingRequest : routingRequests) {
+            futures.add(CompletableFuture.supplyAsync(() -> findRoutes(routingRequest, batchResults), routingExecutor));
+        }
+        for (CompletableFuture<List<CandidateRoute>> future : futures) {
+            result.add(join(future));
+        }
+        return result;
+    }
+
+    private static List<CandidateRoute> join(CompletableFuture<List<CandidateRoute>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
+    /**
+     * Calculates the routes of a single request.
+     *
+     * @param batchResults results of all other requests of the same batch, or {@code null} if results must not be shared
+     */
+    private List<CandidateRoute> findRoutes(
+            RoutingRequest routingRequest, Map<RouteKey, CompletableFuture<List<CandidateRoute>>> batchResults
+    ) {
         if (graph == null) {
             throw new IllegalStateException("Load database at first");
         }
@@ -219,6 +572,58 @@ public class GraphHopperRouting {
             return Lists.newArrayList();
         }
 
+        final RoutingCostFunction costFunction = ObjectUtils.defaultIfNull(
+                routingRequest.getRoutingParameters().getRoutingCostFunction(), RoutingCostFunction.Default
+        );
+        if (RouteKey.isOnSameEdge(snapSource, snapTarget)) {
+            return calculateRoutes(profile, costFunction, snapSource, snapTarget, routingRequest);
+        }
+        final boolean cacheable = routeCache != null
+                && (costFunction == RoutingCostFunction.Fastest || costFunction == RoutingCostFunction.Shortest);
+        if (!cacheable && batchResults == null) {
+            return calculateRoutes(profile, costFunction, snapSource, snapTarget, routingRequest);
+        }
+
+        // the key must be created before the query graph is created, which moves the snapped nodes to virtual nodes
+        final RouteKey routeKey = new RouteKey(profile, costFunction, snapSource, snapTarget, routingRequest);
+        if (cacheable) {
+            final List<CandidateRoute> cachedResult = routeCache.getIfPresent(routeKey);
+            if (cachedResult != null) {
+                return new ArrayList<>(cachedResult);
+            }
+        }
+
+        final long cacheGeneration = routeCacheGeneration.get();
+        final List<CandidateRoute> result;
+        if (batchResults != null) {
+            final CompletableFuture<List<CandidateRoute>> future = new CompletableFuture<>();
+            final CompletableFuture<List<CandidateRoute>> equalRequest = batchResults.putIfAbsent(routeKey, future);
+            if (equalRequest != null) {
+                return new ArrayList<>(join(equalRequest));
+            }
+            try {
+                result = calculateRoutes(profile, costFunction, snapSource, snapTarget, routingRequest);
+                future.complete(result);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+                throw e;
+            }
+        } else {
+            result = calculateRoutes(profile, costFunction, snapSource, snapTarget, routingRequest);
+        }
+        // results calculated while edge costs have changed are not cached
+        if (cacheable && cacheGeneration == routeCacheGeneration.get()) {
+            routeCache.put(routeKey, result);
+        }
+        return new ArrayList<>(result);
+    }
+
+    private List<CandidateRoute> calculateRoutes(
+            Profile profile, RoutingCostFunction costFunction, Snap snapSource, Snap snapTarget, RoutingRequest routingRequest
+    ) {
+        final RoutingPosition source = routingRequest.getSource();
+        final RoutingPosition target = routingRequest.getTarget();
+
         final QueryGraph queryGraph = QueryGraph.create(graph, snapSource, snapTarget);
 
         final int numberOfAlternatives = routingRequest.getRoutingParameters().getNumAlternativeRoutes();
@@ -228,16 +633,30 @@ public class GraphHopperRouting {
             algoHints.putObject(Parameters.Algorithms.AltRoute.MAX_PATHS, Math.max(numberOfAlternatives, NUM_ALTERNATIVE_PATHS) + 1);
         }
 
-        final Weighting weighting = createWeighting(profile,
-                routingRequest.getRoutingParameters().getRoutingCostFunction(),
-                routingRequest.getRoutingParameters().isConsiderTurnCosts()
-        );
-
-        final RoutingAlgorithm algo = RoutingAlgorithmFactory.DEFAULT.createAlgorithm(
-                queryGraph, queryGraph.wrapWeighting(weighting), algoHints
-        );
-
-        final List<Path> paths = algo.calcPaths(snapSource.getClosestNode(), snapTarget.getClosestNode());
+        final boolean considerTurnCosts = routingRequest.getRoutingParameters().isConsiderTurnCosts();
+
+        final List<Path> paths;
+        // contraction hierarchies hold the static fastest costs, which are outdated as soon as speeds have been observed
+        final boolean considerObservedSpeeds = observedSpeeds != null && observedSpeeds.hasObservations();
+        final RoutingCHGraph chGraph = profile == PROFILE_CAR && numberOfAlternatives == 0 && !considerTurnCosts
+                && !(considerObservedSpeeds && costFunction == RoutingCostFunction.Fastest)
+                ? chGraphs.get(costFunction)
+                : null;
+        if (chGraph != null) {
+            paths = new CHRoutingAlgorithmFactory(chGraph, queryGraph)
+                    .createAlgo(algoHints)
+                    .calcPaths(snapSource.getClosestNode(), snapTarget.getClosestNode());
+        } else {
+            final Weighting weighting = queryGraph.wrapWeighting(createWeighting(profile, costFunction, considerTurnCosts)
+                    .setObservedSpeeds(profile == PROFILE_CAR ? observedSpeeds : null));
+            final RoutingAlgorithm algo = RoutingAlgorithmFactory.DEFAULT.createAlgorithm(queryGraph, weighting, algoHints);
+            if (landmarks != null && profile == PROFILE_CAR && costFunction == RoutingCostFunction.Fastest
+                    && algo instanceof AStarBidirection) {
+                // landmarks provide a lower bound of the remaining costs, which stays valid as long as edge costs do not decrease
+                ((AStarBidirection) algo).setApproximation(LMApproximator.forLandmarks(queryGraph, weighting, landmarks, ACTIVE_LANDMARKS));
+            }
+            paths = algo.calcPaths(snapSource.getClosestNode(), snapTarget.getClosestNode());
+        }
 
         final Set<String> duplicateSet = new HashSet<>();
         final List<CandidateRoute> result = new ArrayList<>();
@@ -261,7 +680,7 @@ public class GraphHopperRouting {
         return result;
     }
 
-    private Weighting createWeighting(Profile profile, RoutingCostFunction costFunction, boolean withTurnCosts) {
+    private GraphHopperWeighting createWeighting(Profile profile, RoutingCostFunction costFunction, boolean withTurnCosts) {
         final VehicleEncoding vehicleEncoding = encoding.getVehicleEncoding(profile.getVehicle());
         final OptionalTurnCostProvider turnCostProvider = new OptionalTurnCostProvider(vehicleEncoding, graph.getTurnCostStorage());
         if (!withTurnCosts) {
@@ -486,4 +905,89 @@ public class GraphHopperRouting {
             }
         }
     }
+
+    /**
+     * Identifies equal route requests, whose source and target are matched on the same points of the same edges,
+     * or the same nodes if matched exactly on a junction.
+     */
+    private static final class RouteKey {
+
+        private final String profile;
+        private final RoutingCostFunction costFunction;
+        private final int source;
+        private final int target;
+        private final double sourceLatitude;
+        private final double sourceLongitude;
+        private final double targetLatitude;
+        private final double targetLongitude;
+        private final String sourceConnectionId;
+        private final String targetConnectionId;
+        private final boolean considerTurnCosts;
+        private final int numberOfAlternatives;
+
+        private RouteKey(
+                Profile profile, RoutingCostFunction costFunction, Snap snapSource, Snap snapTarget, RoutingRequest routingRequest
+        ) {
+            this.profile = profile.getName();
+            this.costFunction = costFunction;
+            this.source = toKey(snapSource);
+            this.target = toKey(snapTarget);
+            // the position on the edge determines the length and time of the route
+            this.sourceLatitude = isTower(snapSource) ? 0 : snapSource.getSnappedPoint().getLat();
+            this.sourceLongitude = isTower(snapSource) ? 0 : snapSource.getSnappedPoint().getLon();
+            this.targetLatitude = isTower(snapTarget) ? 0 : snapTarget.getSnappedPoint().getLat();
+            this.targetLongitude = isTower(snapTarget) ? 0 : snapTarget.getSnappedPoint().getLon();
+            this.sourceConnectionId = routingRequest.getSource().getConnectionId();
+            this.targetConnectionId = routingRequest.getTarget().getConnectionId();
+            this.considerTurnCosts = routingRequest.getRoutingParameters().isConsiderTurnCosts();
+            this.numberOfAlternatives = routingRequest.getRoutingParameters().getNumAlternativeRoutes();
+        }
+
+        private static boolean isTower(Snap snap) {
+            return snap.getSnappedPosition() == Snap.Position.TOWER;
+        }
+
+        private static int toKey(Snap snap) {
+            return isTower(snap) ? ~snap.getClosestNode() : snap.getClosestEdge().getEdge();
+        }
+
+        /**
+         * Returns {@code true}, if source and target are matched on the same edge. The route between them depends on
+         * their order on the edge, which is why such requests are never considered equal to other requests.
+         */
+        private static boolean isOnSameEdge(Snap snapSource, Snap snapTarget) {
+            return !isTower(snapSource) && !isTower(snapTarget)
+                    && snapSource.getClosestEdge().getEdge() == snapTarget.getClosestEdge().getEdge();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RouteKey other = (RouteKey) o;
+            return source == other.source
+                    && target == other.target
+                    && Double.compare(sourceLatitude, other.sourceLatitude) == 0
+                    && Double.compare(sourceLongitude, other.sourceLongitude) == 0
+                    && Double.compare(targetLatitude, other.targetLatitude) == 0
+                    && Double.compare(targetLongitude, other.targetLongitude) == 0
+                    && considerTurnCosts == other.considerTurnCosts
+                    && numberOfAlternatives == other.numberOfAlternatives
+                    && profile.equals(other.profile)
+                    && costFunction == other.costFunction
+                    && Objects.equals(sourceConnectionId, other.sourceConnectionId)
+                    && Objects.equals(targetConnectionId, other.targetConnectionId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(profile, costFunction, source, target, sourceLatitude, sourceLongitude, targetLatitude, targetLongitude,
+                    sourceConnectionId, targetConnectionId, considerTurnCosts, numberOfAlternatives
+            );
+        }
+    }
 }
@@ -17,6 +17,7 @@ package org.eclipse.mosaic.lib.routing.graphhopper;
 
 import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.GraphhopperToDatabaseMapper;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.ObservedSpeeds;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.VehicleEncoding;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.WayTypeEncoder;
 
@@ -25,21 +26,27 @@ import com.graphhopper.routing.weighting.TurnCostProvider;
 import com.graphhopper.util.EdgeIteratorState;
 
 /**
- * A dynamic weight calculation. If an alternative travel time
- * on an edge is known, then this travel time will be used to weight
- * during routing. Otherwise, the minimum travel time will be used
+ * A dynamic weight calculation. If a lower speed has been observed
+ * on an edge during the simulation, then the travel time with this speed will
+ * be used to weight during routing. Otherwise, the minimum travel time will be used
  * to weight an edge.
+ * <br>
+ * The weighting holds no state which is modified during the calculation of edge weights, and therefore
+ * can be used by several route searches in parallel. The built-in cost functions are calculated directly
+ * on the given edge, other cost functions are called with an {@link GraphHopperEdgeProperties} instance
+ * which is confined to the calling thread.
  */
 public class GraphHopperWeighting extends AbstractWeighting {
 
-    private final GraphHopperEdgeProperties edgePropertiesState;
+    private final ThreadLocal<GraphHopperEdgeProperties> edgePropertiesState;
     private final double maxSpeed;
 
     private RoutingCostFunction routingCostFunction;
+    private ObservedSpeeds observedSpeeds;
 
     public GraphHopperWeighting(VehicleEncoding vehicleEncoding, WayTypeEncoder wayTypeEncoder, TurnCostProvider turnCostProvider, GraphhopperToDatabaseMapper graphMapper) {
         super(vehicleEncoding.access(), vehicleEncoding.speed(), turnCostProvider);
-        this.edgePropertiesState = new GraphHopperEdgeProperties(vehicleEncoding, wayTypeEncoder, graphMapper);
+        this.edgePropertiesState = ThreadLocal.withInitial(() -> new GraphHopperEdgeProperties(vehicleEncoding, wayTypeEncoder, graphMapper));
         this.maxSpeed = speedEnc.getMaxOrMaxStorableDecimal() / 3.6; // getMaxOrMaxStorableDecimal returns the speed in km/h
     }
 
@@ -48,6 +55,16 @@ public class GraphHopperWeighting extends AbstractWeighting {
         return this;
     }
 
+    /**
+     * Sets the speeds observed during the simulation, which replace the speed of edges if they are lower.
+     *
+     * @param observedSpeeds the observed speeds, or {@code null} to use the speeds of the road network only
+     */
+    public GraphHopperWeighting setObservedSpeeds(ObservedSpeeds observedSpeeds) {
+        this.observedSpeeds = observedSpeeds;
+        return this;
+    }
+
     @Override
     public double getMinWeight(double distance) {
         return distance / maxSpeed;
@@ -63,13 +80,24 @@ public class GraphHopperWeighting extends AbstractWeighting {
         if (reverse ? !edge.getReverse(accessEnc) : !edge.get(accessEnc)) {
             return Double.POSITIVE_INFINITY;
         }
-        synchronized (edgePropertiesState) {
-            edgePropertiesState.setCurrentEdgeIterator(edge, reverse);
-            if (routingCostFunction == null) {
-                return edge.getDistance() / edgePropertiesState.getSpeed();
-            } else {
-                return routingCostFunction.calculateCosts(edgePropertiesState);
-            }
+        final RoutingCostFunction costFunction = routingCostFunction;
+        if (costFunction == null) {
+            return edge.getDistance() / GraphHopperEdgeProperties.getSpeed(edge, reverse, speedEnc, observedSpeeds);
+        }
+        if (costFunction == RoutingCostFunction.Fastest) {
+            final double speed = GraphHopperEdgeProperties.getSpeed(edge, reverse, speedEnc, observedSpeeds);
+            return speed <= 0d ? Double.POSITIVE_INFINITY : edge.getDistance() / speed;
+        }
+        if (costFunction == RoutingCostFunction.Shortest) {
+            return edge.getDistance();
+        }
+        final GraphHopperEdgeProperties edgeProperties = edgePropertiesState.get();
+        edgeProperties.setCurrentEdgeIterator(edge, reverse, observedSpeeds);
+        try {
+            return costFunction.calculateCosts(edgeProperties);
+        } finally {
+            // do not keep the edge (and its graph) referenced by the thread
+            edgeProperties.setCurrentEdgeIterator(null, false, null);
         }
     }
 
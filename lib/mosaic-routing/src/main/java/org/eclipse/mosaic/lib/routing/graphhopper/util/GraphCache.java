@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing.graphhopper.util;
+
+import org.eclipse.mosaic.lib.database.Database;
+import org.eclipse.mosaic.lib.database.road.Connection;
+import org.eclipse.mosaic.lib.database.road.Node;
+
+import com.google.common.hash.Hashing;
+import com.graphhopper.storage.BaseGraph;
+import com.graphhopper.storage.DAType;
+import com.graphhopper.storage.Directory;
+import com.graphhopper.storage.GHDirectory;
+import com.graphhopper.storage.index.LocationIndexTree;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Persistent cache of the prepared routing graph of a scenario database. Each database gets its own
+ * directory named after the content hash of the database file, which holds the files of the {@link BaseGraph},
+ * its {@link LocationIndexTree}, any prepared speed-up data, and the mapping of graph nodes and edges to nodes
+ * and connections of the database.
+ * <br>
+ * A cached graph is opened as read-only memory-mapped directory, so that all simulation runs on the
+ * same host share its pages. A new graph is prepared in a temporary directory which is moved to its final
+ * location after all files have been written. Therefore, concurrent runs never see an incomplete graph.
+ */
+public class GraphCache {
+
+    /**
+     * Version of the cache layout. Must be increased whenever the preparation of the routing graph changes.
+     */
+    private static final int VERSION = 1;
+
+    private static final String MAPPING_FILE = "mosaic_mapping";
+
+    private final Path directory;
+
+    /**
+     * Creates a cache for the graph of the given database file within the given base directory.
+     *
+     * @param baseDirectory the directory which holds the cached graphs of all databases
+     * @param databaseFile  the database file the graph is prepared from
+     * @return the cache for the graph of the database
+     * @throws IOException if the database file could not be read
+     */
+    public static GraphCache forDatabase(File baseDirectory, File databaseFile) throws IOException {
+        return forDatabase(baseDirectory, databaseFile, null);
+    }
+
+    /**
+     * Creates a cache for a variant of the graph of the given database file within the given base directory,
+     * e.g. for a graph with additional prepared data.
+     *
+     * @param baseDirectory the directory which holds the cached graphs of all databases
+     * @param databaseFile  the database file the graph is prepared from
+     * @param variant       the variant of the graph, or {@code null} for the plain graph
+     * @return the cache for the graph of the database
+     * @throws IOException if the database file could not be read
+     */
+    public static GraphCache forDatabase(File baseDirectory, File databaseFile, String variant) throws IOException {
+        final String hash = com.google.common.io.Files.asByteSource(databaseFile).hash(Hashing.sha256()).toString();
+        return new GraphCache(baseDirectory.toPath(), variant != null ? hash + "_" + variant.toLowerCase() : hash);
+    }
+
+    /**
+     * Creates a cache for the graph with the given key.
+     *
+     * @param baseDirectory the directory which holds the cached graphs of all databases
+     * @param key           the key of the graph, must change whenever the content of the database changes
+     */
+    public GraphCache(Path baseDirectory, String key) {
+        this.directory = baseDirectory.resolve("graph_v" + VERSION + "_" + key);
+    }
+
+    /**
+     * Returns the directory of the cached graph.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns {@code true}, if a prepared graph is available in this cache.
+     */
+    public boolean exists() {
+        return Files.isRegularFile(directory.resolve(MAPPING_FILE));
+    }
+
+    /**
+     * Opens the directory of the cached graph for memory-mapped read-only access.
+     */
+    public Directory openDirectory() {
+        return new GHDirectory(directory.toString(), DAType.MMAP_RO);
+    }
+
+    /**
+     * Creates a new temporary directory to prepare the graph in. The graph is held in memory
+     * and is written to disk not until {@link #store} is called.
+     *
+     * @throws IOException if the temporary directory could not be created
+     */
+    public Directory createDirectory() throws IOException {
+        Files.createDirectories(directory.getParent());
+        final Path temporaryDirectory = Files.createTempDirectory(directory.getParent(), directory.getFileName() + "_");
+        return new GHDirectory(temporaryDirectory.toString(), DAType.RAM_STORE);
+    }
+
+    /**
+     * Writes the mapping to the database into the directory of the prepared graph and moves this directory
+     * into this cache. The graph must have been created in a directory provided by {@link #createDirectory},
+     * and the graph as well as all other storages within its directory (e.g. the location index) must have been
+     * flushed before. If another process has stored the same graph in the meantime, the directory is discarded.
+     *
+     * @param graph       the prepared graph
+     * @param graphMapper the mapping between graph and database
+     * @throws IOException if the graph could not be stored
+     */
+    public void store(BaseGraph graph, GraphhopperToDatabaseMapper graphMapper) throws IOException {
+        final Path temporaryDirectory = Paths.get(graph.getDirectory().getLocation());
+        try {
+            writeMapping(temporaryDirectory.resolve(MAPPING_FILE), graph, graphMapper);
+            Files.move(temporaryDirectory, directory, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+            // the same graph has been stored by another process concurrently
+            deleteDirectory(temporaryDirectory);
+        } catch (IOException | RuntimeException e) {
+            deleteDirectory(temporaryDirectory);
+            throw e;
+        }
+    }
+
+    /**
+     * Deletes a directory provided by {@link #createDirectory} without storing it in this cache,
+     * e.g. if the preparation of the graph has failed.
+     *
+     * @param graphDirectory the temporary directory of the graph
+     * @throws IOException if the directory could not be deleted
+     */
+    public void discardDirectory(Directory graphDirectory) throws IOException {
+        deleteDirectory(Paths.get(graphDirectory.getLocation()));
+    }
+
+    /**
+     * Reads the mapping between the cached graph and the given database.
+     *
+     * @param database the database the cached graph has been prepared from
+     * @return the mapping between graph and database
+     * @throws IOException if the mapping could not be read or does not match the database
+     */
+    public GraphhopperToDatabaseMapper loadMapping(Database database) throws IOException {
+        final GraphhopperToDatabaseMapper graphMapper = new GraphhopperToDatabaseMapper();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(directory.resolve(MAPPING_FILE))))) {
+            final int nodes = in.readInt();
+            for (int nodeIndex = 0; nodeIndex < nodes; nodeIndex++) {
+                final String nodeId = in.readUTF();
+                if (nodeId.isEmpty()) {
+                    continue;
+                }
+                final Node node = database.getNode(nodeId);
+                if (node == null) {
+                    throw new IOException("Node " + nodeId + " of cached graph does not exist in database.");
+                }
+                graphMapper.setNode(node, nodeIndex);
+            }
+            final int edges = in.readInt();
+            for (int edgeIndex = 0; edgeIndex < edges; edgeIndex++) {
+                final String connectionId = in.readUTF();
+                if (connectionId.isEmpty()) {
+                    continue;
+                }
+                final Connection connection = database.getConnection(connectionId);
+                if (connection == null) {
+                    throw new IOException("Connection " + connectionId + " of cached graph does not exist in database.");
+                }
+                graphMapper.setConnection(connection, edgeIndex);
+            }
+        }
+        return graphMapper;
+    }
+
+    private static void writeMapping(Path file, BaseGraph graph, GraphhopperToDatabaseMapper graphMapper) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(graph.getNodes());
+            for (int nodeIndex = 0; nodeIndex < graph.getNodes(); nodeIndex++) {
+                final Node node = graphMapper.toNode(nodeIndex);
+                out.writeUTF(node != null ? node.getId() : "");
+            }
+            out.writeInt(graph.getEdges());
+            for (int edgeIndex = 0; edgeIndex < graph.getEdges(); edgeIndex++) {
+                final Connection connection = graphMapper.toConnection(edgeIndex);
+                out.writeUTF(connection != null ? connection.getId() : "");
+            }
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+}
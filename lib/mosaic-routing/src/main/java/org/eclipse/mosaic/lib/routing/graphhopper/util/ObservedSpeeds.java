@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing.graphhopper.util;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Speeds observed on the edges of the routing graph during the simulation, e.g. the travel speeds of vehicles
+ * or the mean speeds measured by traffic detectors. Each observation is merged into an exponential moving
+ * average of its edge. Without new observations, the average of an edge decays back towards the static speed of the
+ * edge with the configured half-life, so that an edge which is avoided by fastest routes due to a former congestion
+ * is considered again after a while. Route searches read the applied speed of an edge, which only follows its average
+ * once the considered speed of the edge deviates by more than a relative threshold, so that small fluctuations do not
+ * change the costs of edges. The speeds are held in primitive arrays indexed by the edge id, which are read by route
+ * searches without any locking. A concurrent route search may see the speed of an edge before or after an update,
+ * but never a partially written value, as writes of {@code float} values are atomic.
+ */
+public class ObservedSpeeds {
+
+    /**
+     * The lowest average speed in [m/s], so that edges with standing traffic still can be passed.
+     */
+    public static final double MIN_SPEED = 0.5;
+
+    /**
+     * The relative deviation from the static speed of an edge, below which a decaying average is discarded.
+     */
+    private static final double DECAY_TOLERANCE = 0.01;
+
+    private final IntToDoubleFunction staticSpeeds;
+    private final float[] averages;
+    private final float[] speeds;
+    private final long[] times;
+    private final BitSet averagedEdges = new BitSet();
+    private final float smoothingFactor;
+    private final float changeThreshold;
+    private final long decayHalfLife;
+
+    private volatile boolean observed = false;
+
+    /**
+     * Creates observed speeds whose averages never decay.
+     *
+     * @param edges           the number of edges of the routing graph
+     * @param smoothingFactor the weight of a new observation in the average, must be within (0, 1]
+     */
+    public ObservedSpeeds(int edges, double smoothingFactor) {
+        this(edges, edge -> Double.MAX_VALUE, smoothingFactor, 0, 0);
+    }
+
+    /**
+     * @param edges           the number of edges of the routing graph
+     * @param staticSpeeds    the static speed in [m/s] of the road network by edge id
+     * @param smoothingFactor the weight of a new observation in the average, must be within (0, 1]
+     * @param changeThreshold the relative deviation of the considered speed of an edge from the currently considered one,
+     *                        above which the average is applied, must not be negative
+     * @param decayHalfLife   the time in [ns] after which the deviation of an average from the static speed of its edge
+     *                        has halved without new observations, or {@code 0} if averages never decay
+     */
+    public ObservedSpeeds(int edges, IntToDoubleFunction staticSpeeds, double smoothingFactor, double changeThreshold, long decayHalfLife) {
+        Validate.isTrue(smoothingFactor > 0 && smoothingFactor <= 1, "Smoothing factor must be within (0, 1].");
+        Validate.isTrue(changeThreshold >= 0, "Change threshold must not be negative.");
+        Validate.isTrue(decayHalfLife >= 0, "Decay half-life must not be negative.");
+        this.staticSpeeds = staticSpeeds;
+        this.averages = new float[edges];
+        this.speeds = new float[edges];
+        this.times = new long[edges];
+        this.smoothingFactor = (float) smoothingFactor;
+        this.changeThreshold = (float) changeThreshold;
+        this.decayHalfLife = decayHalfLife;
+        Arrays.fill(averages, Float.NaN);
+        Arrays.fill(speeds, Float.NaN);
+    }
+
+    /**
+     * Merges an observed speed into the average speed of the given edge.
+     *
+     * @param edge  the id of the edge in the routing graph
+     * @param speed the observed speed in [m/s]
+     * @param time  the simulation time in [ns] of the observation
+     * @return {@code true}, if the considered speed of the edge has changed by more than the change threshold
+     */
+    public boolean update(int edge, double speed, long time) {
+        final float observedSpeed = (float) Math.max(speed, MIN_SPEED);
+        final float previousAverage = averages[edge];
+        final float average = Float.isNaN(previousAverage)
+                ? observedSpeed
+                : previousAverage + smoothingFactor * (observedSpeed - previousAverage);
+        averages[edge] = average;
+        times[edge] = time;
+        averagedEdges.set(edge);
+        return apply(edge, average);
+    }
+
+    /**
+     * Lets the averages of all edges decay towards the static speeds of their edges for the time passed
+     * since their last observation or decay. Averages which have almost reached the static speed of their edge
+     * are discarded, until the edge is observed again.
+     *
+     * @param time the current simulation time in [ns]
+     * @return {@code true}, if the considered speed of any edge has changed by more than the change threshold
+     */
+    public boolean decay(long time) {
+        if (decayHalfLife <= 0) {
+            return false;
+        }
+        boolean changed = false;
+        for (int edge = averagedEdges.nextSetBit(0); edge >= 0; edge = averagedEdges.nextSetBit(edge + 1)) {
+            if (time <= times[edge]) {
+                continue;
+            }
+            final double staticSpeed = staticSpeeds.applyAsDouble(edge);
+            final double weight = Math.pow(0.5, (double) (time - times[edge]) / decayHalfLife);
+            final float average = (float) (staticSpeed + (averages[edge] - staticSpeed) * weight);
+            times[edge] = time;
+            if (average >= staticSpeed * (1 - DECAY_TOLERANCE)) {
+                averages[edge] = Float.NaN;
+                averagedEdges.clear(edge);
+                changed |= apply(edge, Float.NaN);
+            } else {
+                averages[edge] = average;
+                changed |= apply(edge, average);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Applies the given average to the edge, if the speed considered for the edge, which is the lower of the static speed and
+     * the applied average, deviates by more than the change threshold from the currently considered one. Discarded averages
+     * are always applied, as the considered speed then is within the threshold of the static speed anyway.
+     */
+    private boolean apply(int edge, float average) {
+        final double staticSpeed = staticSpeeds.applyAsDouble(edge);
+        final float appliedSpeed = speeds[edge];
+        final double consideredSpeed = Float.isNaN(appliedSpeed) ? staticSpeed : Math.min(staticSpeed, appliedSpeed);
+        final double newConsideredSpeed = Float.isNaN(average) ? staticSpeed : Math.min(staticSpeed, average);
+        final boolean changed = Math.abs(newConsideredSpeed - consideredSpeed) > changeThreshold * consideredSpeed;
+        if (changed || Float.isNaN(average)) {
+            speeds[edge] = average;
+            observed |= !Float.isNaN(average);
+        }
+        return changed;
+    }
+
+    /**
+     * Returns the applied average observed speed in [m/s] of the given edge, or {@link Double#NaN} if no speed has been observed
+     * or the average has decayed to the static speed of the edge.
+     *
+     * @param edge the id of the edge in the routing graph
+     */
+    public double getSpeed(int edge) {
+        return edge >= 0 && edge < speeds.length ? speeds[edge] : Double.NaN;
+    }
+
+    /**
+     * Returns {@code true}, if any speed has been observed yet.
+     */
+    public boolean hasObservations() {
+        return observed;
+    }
+}
@@ -33,7 +33,10 @@ import org.eclipse.mosaic.rti.api.InternalFederateException;
 import com.google.common.collect.Lists;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -53,6 +56,20 @@ public class NoRouting implements Routing {
         return new RoutingResponse(null, Lists.newArrayList());
     }
 
+    @Override
+    public List<RoutingResponse> findRoutes(Collection<RoutingRequest> routingRequests) {
+        final List<RoutingResponse> responses = new ArrayList<>(routingRequests.size());
+        for (RoutingRequest routingRequest : routingRequests) {
+            responses.add(findRoutes(routingRequest));
+        }
+        return responses;
+    }
+
+    @Override
+    public void updateObservedSpeeds(long time, Map<String, Double> speedsByConnection) {
+        // nop
+    }
+
     @Override
     public VehicleRoute createRouteForRTI(CandidateRoute candidateRoute) throws IllegalRouteException {
         return null;
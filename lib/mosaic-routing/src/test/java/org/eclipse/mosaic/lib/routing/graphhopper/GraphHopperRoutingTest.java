@@ -16,17 +16,26 @@
 package org.eclipse.mosaic.lib.routing.graphhopper;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import org.eclipse.mosaic.lib.database.Database;
 import org.eclipse.mosaic.lib.database.road.Connection;
 import org.eclipse.mosaic.lib.database.road.Node;
+import org.eclipse.mosaic.lib.enums.VehicleClass;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
 import org.eclipse.mosaic.lib.routing.CandidateRoute;
 import org.eclipse.mosaic.lib.routing.RoutingParameters;
 import org.eclipse.mosaic.lib.routing.RoutingPosition;
 import org.eclipse.mosaic.lib.routing.RoutingRequest;
+import org.eclipse.mosaic.lib.routing.config.CRouting;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.GraphCache;
+import org.eclipse.mosaic.rti.TIME;
 
 import org.apache.commons.io.FileUtils;
 import org.junit.Before;
@@ -37,6 +46,7 @@ import org.junit.rules.TemporaryFolder;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 public class GraphHopperRoutingTest {
@@ -92,6 +102,201 @@ public class GraphHopperRoutingTest {
         assertValidRoute(result.get(0));
     }
 
+    @Test
+    public void findPaths_graphLoadedFromCache() throws IOException {
+        GraphCache graphCache = GraphCache.forDatabase(folder.newFolder("cache"), new File(folder.getRoot(), "tiergarten.db"));
+        Node startNode = database.getNode("21487169");
+        Node endNode = database.getNode("415838100");
+        RoutingRequest request = new RoutingRequest(
+                new RoutingPosition(startNode.getPosition()), new RoutingPosition(endNode.getPosition()), new RoutingParameters()
+        );
+
+        // prepares graph and stores it in cache
+        List<CandidateRoute> resultPrepared = new GraphHopperRouting(database, graphCache, CRouting.SpeedUp.NONE).findRoutes(request);
+        assertTrue(graphCache.exists());
+
+        // loads graph from cache
+        List<CandidateRoute> resultCached = new GraphHopperRouting(database, graphCache, CRouting.SpeedUp.NONE).findRoutes(request);
+
+        assertEquals(routing.findRoutes(request).get(0).getConnectionIds(), resultPrepared.get(0).getConnectionIds());
+        assertEquals(resultPrepared.size(), resultCached.size());
+        for (int i = 0; i < resultPrepared.size(); i++) {
+            assertEquals(resultPrepared.get(i).getConnectionIds(), resultCached.get(i).getConnectionIds());
+            assertEquals(resultPrepared.get(i).getTime(), resultCached.get(i).getTime(), 0.001d);
+        }
+        assertEquals(1, folder.getRoot().toPath().resolve("cache").toFile().list().length);
+    }
+
+    @Test
+    public void prepareGraph_failure_temporaryDirectoryDeleted() throws IOException {
+        File cacheDirectory = folder.newFolder("cache");
+        GraphCache graphCache = GraphCache.forDatabase(cacheDirectory, new File(folder.getRoot(), "tiergarten.db"));
+
+        try {
+            new GraphHopperRouting(database, graphCache, CRouting.SpeedUp.NONE) {
+                @Override
+                protected void cleanUpGraph() {
+                    throw new IllegalStateException("Preparation failed");
+                }
+            };
+            fail("Expected preparation to fail");
+        } catch (IllegalStateException e) {
+            assertEquals("Preparation failed", e.getMessage());
+        }
+
+        assertFalse(graphCache.exists());
+        assertEquals(0, cacheDirectory.list().length);
+    }
+
+    @Test
+    public void findPaths_batchWithEqualRequests() {
+        routing.setRoutingThreads(4);
+        routing.setRouteCacheSize(10);
+        RoutingRequest first = createRequest("27537749", "252864802", new RoutingParameters());
+        RoutingRequest second = createRequest("21487169", "415838100", new RoutingParameters());
+        RoutingRequest firstAgain = createRequest("27537749", "252864802", new RoutingParameters());
+        RoutingRequest firstByBicycle = createRequest("27537749", "252864802", new RoutingParameters().vehicleClass(VehicleClass.Bicycle));
+
+        List<List<CandidateRoute>> result = routing.findRoutes(Arrays.asList(first, second, firstAgain, firstByBicycle));
+
+        assertEquals(4, result.size());
+        assertEquals(routing.findRoutes(first).get(0).getConnectionIds(), result.get(0).get(0).getConnectionIds());
+        assertEquals(routing.findRoutes(second).get(0).getConnectionIds(), result.get(1).get(0).getConnectionIds());
+        assertEquals(routing.findRoutes(firstByBicycle).get(0).getConnectionIds(), result.get(3).get(0).getConnectionIds());
+        // equal requests are calculated only once
+        assertSame(result.get(0).get(0), result.get(2).get(0));
+        assertNotSame(result.get(0).get(0), result.get(3).get(0));
+    }
+
+    @Test
+    public void findPaths_batchWithoutRouteCache_equalRequestsCalculatedSeparately() {
+        routing.setRoutingThreads(4);
+        RoutingRequest first = createRequest("27537749", "252864802", new RoutingParameters());
+        RoutingRequest firstAgain = createRequest("27537749", "252864802", new RoutingParameters());
+
+        List<List<CandidateRoute>> result = routing.findRoutes(Arrays.asList(first, firstAgain));
+
+        assertEquals(result.get(0).get(0).getConnectionIds(), result.get(1).get(0).getConnectionIds());
+        assertNotSame(result.get(0).get(0), result.get(1).get(0));
+    }
+
+    @Test
+    public void findPaths_routeCacheDistinguishesPositionsOnConnection() {
+        routing.setRouteCacheSize(10);
+        Connection connection = database.getConnection("4609243_27537749_252864801");
+        RoutingPosition target = new RoutingPosition(database.getNode("415838100").getPosition());
+        RoutingRequest nearStart = new RoutingRequest(
+                new RoutingPosition(getPositionOnConnection(connection, 0.3)), target, new RoutingParameters()
+        );
+        RoutingRequest nearEnd = new RoutingRequest(
+                new RoutingPosition(getPositionOnConnection(connection, 0.7)), target, new RoutingParameters()
+        );
+
+        List<List<CandidateRoute>> result = routing.findRoutes(Arrays.asList(nearStart, nearEnd));
+
+        assertEquals(result.get(0).get(0).getConnectionIds(), result.get(1).get(0).getConnectionIds());
+        assertTrue(result.get(0).get(0).getLength() > result.get(1).get(0).getLength());
+        assertTrue(result.get(0).get(0).getTime() > result.get(1).get(0).getTime());
+    }
+
+    @Test
+    public void findPaths_routeCacheNotUsedForSourceAndTargetOnSameConnection() {
+        routing.setRouteCacheSize(10);
+        Connection connection = database.getConnection("4609243_27537749_252864801");
+        RoutingRequest request = new RoutingRequest(
+                new RoutingPosition(getPositionOnConnection(connection, 0.2)),
+                new RoutingPosition(getPositionOnConnection(connection, 0.8)),
+                new RoutingParameters()
+        );
+
+        CandidateRoute first = routing.findRoutes(request).get(0);
+        CandidateRoute second = routing.findRoutes(request).get(0);
+
+        assertEquals(first.getConnectionIds(), second.getConnectionIds());
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void findPaths_routeCacheInvalidated() {
+        routing.setRouteCacheSize(10);
+        RoutingRequest request = createRequest("21487169", "415838100", new RoutingParameters());
+
+        CandidateRoute calculated = routing.findRoutes(request).get(0);
+        CandidateRoute cached = routing.findRoutes(createRequest("21487169", "415838100", new RoutingParameters())).get(0);
+        routing.invalidateRouteCache();
+        CandidateRoute recalculated = routing.findRoutes(request).get(0);
+
+        assertSame(calculated, cached);
+        assertNotSame(calculated, recalculated);
+        assertEquals(calculated.getConnectionIds(), recalculated.getConnectionIds());
+    }
+
+    @Test
+    public void findPaths_avoidConnectionWithLowObservedSpeed() {
+        routing.setObservedSpeeds(1.0, 0, 0);
+        RoutingRequest request = createRequest("21487169", "415838100", new RoutingParameters());
+        CandidateRoute staticRoute = routing.findRoutes(request).get(0);
+        String congestedConnection = staticRoute.getConnectionIds().get(1);
+
+        routing.updateObservedSpeeds(0, Collections.singletonMap(congestedConnection, 0.1));
+        CandidateRoute liveRoute = routing.findRoutes(request).get(0);
+
+        assertFalse(liveRoute.getConnectionIds().contains(congestedConnection));
+        assertValidRoute(liveRoute);
+    }
+
+    @Test
+    public void findPaths_connectionWithLowObservedSpeedUsedAgainAfterDecay() {
+        routing.setObservedSpeeds(1.0, 0, TIME.MINUTE);
+        RoutingRequest request = createRequest("21487169", "415838100", new RoutingParameters());
+        CandidateRoute staticRoute = routing.findRoutes(request).get(0);
+        String congestedConnection = staticRoute.getConnectionIds().get(1);
+
+        routing.updateObservedSpeeds(0, Collections.singletonMap(congestedConnection, 0.1));
+        CandidateRoute liveRoute = routing.findRoutes(request).get(0);
+        routing.updateObservedSpeeds(30 * TIME.MINUTE, Collections.emptyMap());
+        CandidateRoute decayedRoute = routing.findRoutes(request).get(0);
+
+        assertFalse(liveRoute.getConnectionIds().contains(congestedConnection));
+        assertEquals(staticRoute.getConnectionIds(), decayedRoute.getConnectionIds());
+    }
+
+    @Test
+    public void findPaths_routeCacheKeptForSmallChangesOfObservedSpeeds() {
+        routing.setRouteCacheSize(10);
+        routing.setObservedSpeeds(1.0, 0.2, 0);
+        RoutingRequest request = createRequest("21487169", "415838100", new RoutingParameters());
+        String connection = routing.findRoutes(request).get(0).getConnectionIds().get(1);
+
+        routing.updateObservedSpeeds(0, Collections.singletonMap(connection, 10.0));
+        CandidateRoute calculated = routing.findRoutes(request).get(0);
+        routing.updateObservedSpeeds(0, Collections.singletonMap(connection, 11.0));
+        CandidateRoute cached = routing.findRoutes(request).get(0);
+        routing.updateObservedSpeeds(0, Collections.singletonMap(connection, 0.1));
+        CandidateRoute recalculated = routing.findRoutes(request).get(0);
+
+        assertSame(calculated, cached);
+        assertNotSame(calculated, recalculated);
+        assertFalse(recalculated.getConnectionIds().contains(connection));
+    }
+
+    private RoutingRequest createRequest(String sourceNodeId, String targetNodeId, RoutingParameters routingParameters) {
+        return new RoutingRequest(
+                new RoutingPosition(database.getNode(sourceNodeId).getPosition()),
+                new RoutingPosition(database.getNode(targetNodeId).getPosition()),
+                routingParameters
+        );
+    }
+
+    private static GeoPoint getPositionOnConnection(Connection connection, double fraction) {
+        GeoPoint from = connection.getFrom().getPosition();
+        GeoPoint to = connection.getTo().getPosition();
+        return GeoPoint.latLon(
+                from.getLatitude() + fraction * (to.getLatitude() - from.getLatitude()),
+                from.getLongitude() + fraction * (to.getLongitude() - from.getLongitude())
+        );
+    }
+
     private void assertValidRoute(CandidateRoute candidateRoute) {
         Connection currentConnection;
         Connection previousConnection = null;
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing.graphhopper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.database.Database;
+import org.eclipse.mosaic.lib.database.road.Node;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+import org.eclipse.mosaic.lib.routing.CandidateRoute;
+import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
+import org.eclipse.mosaic.lib.routing.RoutingParameters;
+import org.eclipse.mosaic.lib.routing.RoutingPosition;
+import org.eclipse.mosaic.lib.routing.RoutingRequest;
+import org.eclipse.mosaic.lib.routing.config.CRouting;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.GraphCache;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the routes calculated with speed-up techniques with routes of the plain search,
+ * using a real world map (Charlottenburg extract from BeST scenario).
+ */
+public class GraphHopperSpeedUpTest {
+
+    @Rule
+    public GeoProjectionRule transformationRule = new GeoProjectionRule(GeoPoint.latLon(52, 13));
+
+    private final static String dbFile = "/charlottenburg.db";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File dbFileCopy;
+    private Database database;
+    private GraphHopperRouting plainRouting;
+
+    @Before
+    public void setUp() throws IOException {
+        dbFileCopy = folder.newFile("charlottenburg.db");
+
+        FileUtils.copyInputStreamToFile(getClass().getResourceAsStream(dbFile), dbFileCopy);
+
+        database = Database.loadFromFile(dbFileCopy);
+
+        plainRouting = new GraphHopperRouting(database);
+    }
+
+    @Test
+    public void contractionHierarchies_sameCostsAsPlainSearch() {
+        GraphHopperRouting routing = new GraphHopperRouting(database, null, CRouting.SpeedUp.CONTRACTION_HIERARCHIES);
+
+        assertSameCosts(routing, createRequests(200, new RoutingParameters().costFunction(RoutingCostFunction.Fastest)));
+        assertSameCosts(routing, createRequests(200, new RoutingParameters().costFunction(RoutingCostFunction.Shortest)));
+    }
+
+    @Test
+    public void landmarks_sameCostsAsPlainSearch() {
+        GraphHopperRouting routing = new GraphHopperRouting(database, null, CRouting.SpeedUp.LANDMARKS);
+
+        assertSameCosts(routing, createRequests(200, new RoutingParameters().costFunction(RoutingCostFunction.Fastest)));
+        assertSameCosts(routing, createRequests(200,
+                new RoutingParameters().costFunction(RoutingCostFunction.Fastest).considerTurnCosts(true)
+        ));
+    }
+
+    @Test
+    public void contractionHierarchies_fallbackToPlainSearch() {
+        GraphHopperRouting routing = new GraphHopperRouting(database, null, CRouting.SpeedUp.CONTRACTION_HIERARCHIES);
+
+        for (RoutingRequest request : createRequests(50, new RoutingParameters().alternativeRoutes(1).considerTurnCosts(true))) {
+            List<CandidateRoute> expected = plainRouting.findRoutes(request);
+            List<CandidateRoute> actual = routing.findRoutes(request);
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getConnectionIds(), actual.get(i).getConnectionIds());
+            }
+        }
+    }
+
+    @Test
+    public void contractionHierarchies_loadedFromCache() throws IOException {
+        GraphCache graphCache = GraphCache.forDatabase(
+                folder.newFolder("cache"), dbFileCopy, CRouting.SpeedUp.CONTRACTION_HIERARCHIES.name()
+        );
+        List<RoutingRequest> requests = createRequests(50, new RoutingParameters());
+
+        GraphHopperRouting preparedRouting = new GraphHopperRouting(database, graphCache, CRouting.SpeedUp.CONTRACTION_HIERARCHIES);
+        assertTrue(graphCache.exists());
+        GraphHopperRouting cachedRouting = new GraphHopperRouting(database, graphCache, CRouting.SpeedUp.CONTRACTION_HIERARCHIES);
+
+        for (RoutingRequest request : requests) {
+            List<CandidateRoute> expected = preparedRouting.findRoutes(request);
+            List<CandidateRoute> actual = cachedRouting.findRoutes(request);
+            assertEquals(expected.size(), actual.size());
+            if (!expected.isEmpty()) {
+                assertEquals(expected.get(0).getConnectionIds(), actual.get(0).getConnectionIds());
+            }
+        }
+    }
+
+    /**
+     * Measures the number of route queries per second of the plain search compared to the speed-up techniques.
+     */
+    @Ignore("Benchmark, run manually")
+    @Test
+    public void performanceTest() {
+        final List<RoutingRequest> requests = createRequests(2000, new RoutingParameters());
+        final StringBuilder output = new StringBuilder();
+        for (CRouting.SpeedUp speedUp : CRouting.SpeedUp.values()) {
+            long start = System.nanoTime();
+            GraphHopperRouting routing = new GraphHopperRouting(database, null, speedUp);
+            long preparation = System.nanoTime() - start;
+
+            findRoutes(routing, requests.subList(0, 200)); // warm up
+            start = System.nanoTime();
+            findRoutes(routing, requests);
+            long duration = System.nanoTime() - start;
+            output.append(String.format("%s: %.0f queries/s (preparation %.0f ms)%n",
+                    speedUp, requests.size() / (duration / 1e9), preparation / 1e6
+            ));
+        }
+        System.out.print(output);
+    }
+
+    private static int findRoutes(GraphHopperRouting routing, List<RoutingRequest> requests) {
+        int routes = 0;
+        for (RoutingRequest request : requests) {
+            routes += routing.findRoutes(request).size();
+        }
+        return routes;
+    }
+
+    private void assertSameCosts(GraphHopperRouting routing, List<RoutingRequest> requests) {
+        int comparedRoutes = 0;
+        for (RoutingRequest request : requests) {
+            List<CandidateRoute> expected = plainRouting.findRoutes(request);
+            List<CandidateRoute> actual = routing.findRoutes(request);
+            assertEquals(expected.isEmpty(), actual.isEmpty());
+            if (!expected.isEmpty()) {
+                // routes may differ if they have equal costs
+                assertEquals(expected.get(0).getTime(), actual.get(0).getTime(), 0.01);
+                assertEquals(expected.get(0).getLength(), actual.get(0).getLength(),
+                        request.getRoutingParameters().getRoutingCostFunction() == RoutingCostFunction.Shortest ? 0.01 : Double.MAX_VALUE
+                );
+                comparedRoutes++;
+            }
+        }
+        assertTrue(comparedRoutes > requests.size() / 2);
+    }
+
+    private List<RoutingRequest> createRequests(int count, RoutingParameters routingParameters) {
+        final Random random = new Random(42);
+        final List<Node> nodes = new ArrayList<>(database.getNodes());
+        final List<RoutingRequest> requests = new ArrayList<>();
+        while (requests.size() < count) {
+            Node source = nodes.get(random.nextInt(nodes.size()));
+            Node target = nodes.get(random.nextInt(nodes.size()));
+            if (source != target) {
+                requests.add(new RoutingRequest(
+                        new RoutingPosition(source.getPosition()), new RoutingPosition(target.getPosition()), routingParameters
+                ));
+            }
+        }
+        return requests;
+    }
+}
@@ -16,18 +16,31 @@
 package org.eclipse.mosaic.lib.routing.graphhopper;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import org.eclipse.mosaic.lib.routing.EdgeProperties;
 import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
 import org.eclipse.mosaic.lib.routing.graphhopper.junit.TestGraphRule;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.ObservedSpeeds;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.OptionalTurnCostProvider;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.VehicleEncoding;
+import org.eclipse.mosaic.rti.TIME;
 
+import com.graphhopper.routing.util.AllEdgesIterator;
 import com.graphhopper.routing.weighting.Weighting;
 import com.graphhopper.util.EdgeExplorer;
 import com.graphhopper.util.EdgeIterator;
+import com.graphhopper.util.EdgeIteratorState;
 import org.junit.Rule;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 public class GraphHopperWeightingTest {
 
     @Rule
@@ -156,4 +169,116 @@ public class GraphHopperWeightingTest {
         assertEquals(Double.POSITIVE_INFINITY, turnWeight, 0.1d);
     }
 
+    @Test
+    public void fastest_observedSpeeds() {
+        VehicleEncoding enc = testGraph.getEncodingManager().getVehicleEncoding("car");
+        ObservedSpeeds observedSpeeds = new ObservedSpeeds(testGraph.getGraph().getEdges(), 0.5);
+
+        Weighting w = new GraphHopperWeighting(enc, testGraph.getEncodingManager().wayType(), new OptionalTurnCostProvider(enc, testGraph.getGraph().getTurnCostStorage()), null)
+                .setRoutingCostFunction(RoutingCostFunction.Fastest)
+                .setObservedSpeeds(observedSpeeds);
+
+        EdgeIteratorState edge = testGraph.getGraph().getEdgeIteratorState(0, Integer.MIN_VALUE);
+        double distance = edge.getDistance();
+        double staticWeight = w.calcEdgeWeight(edge, false);
+        double staticReverseWeight = w.calcEdgeWeight(edge, true);
+
+        observedSpeeds.update(0, 5, 0);
+        assertEquals(distance / 5, w.calcEdgeWeight(edge, false), 0.1d);
+
+        // exponentially smoothed
+        observedSpeeds.update(0, 15, 0);
+        assertEquals(distance / 10, w.calcEdgeWeight(edge, false), 0.1d);
+
+        // observed speeds only apply to the direction of the edge
+        assertEquals(staticReverseWeight, w.calcEdgeWeight(edge, true), 0.1d);
+
+        // observed speeds never exceed the speed of the edge
+        for (int i = 0; i < 20; i++) {
+            observedSpeeds.update(0, 100, 0);
+        }
+        assertEquals(staticWeight, w.calcEdgeWeight(edge, false), 0.1d);
+    }
+
+    @Test
+    public void fastest_observedSpeedsDecayToStaticSpeed() {
+        VehicleEncoding enc = testGraph.getEncodingManager().getVehicleEncoding("car");
+        EdgeIteratorState edge = testGraph.getGraph().getEdgeIteratorState(0, Integer.MIN_VALUE);
+        double staticSpeed = edge.get(enc.speed()) / 3.6;
+        ObservedSpeeds observedSpeeds = new ObservedSpeeds(
+                testGraph.getGraph().getEdges(), e -> staticSpeed, 1.0, 0.1, 60 * TIME.SECOND
+        );
+
+        Weighting w = new GraphHopperWeighting(enc, testGraph.getEncodingManager().wayType(), new OptionalTurnCostProvider(enc, testGraph.getGraph().getTurnCostStorage()), null)
+                .setRoutingCostFunction(RoutingCostFunction.Fastest)
+                .setObservedSpeeds(observedSpeeds);
+
+        double distance = edge.getDistance();
+        double staticWeight = w.calcEdgeWeight(edge, false);
+
+        assertTrue(observedSpeeds.update(0, 1, 0));
+        assertEquals(distance / 1, w.calcEdgeWeight(edge, false), 0.1d);
+
+        // no change without any time passed
+        assertFalse(observedSpeeds.decay(0));
+
+        // half of the deviation from the static speed has decayed after one half-life
+        assertTrue(observedSpeeds.decay(60 * TIME.SECOND));
+        assertEquals(distance / ((staticSpeed + 1) / 2), w.calcEdgeWeight(edge, false), 0.1d);
+
+        // the average is discarded once it has almost reached the static speed
+        assertTrue(observedSpeeds.decay(20 * 60 * TIME.SECOND));
+        assertTrue(Double.isNaN(observedSpeeds.getSpeed(0)));
+        assertEquals(staticWeight, w.calcEdgeWeight(edge, false), 0.1d);
+    }
+
+    @Test
+    public void customCostFunction_calculatedConcurrently() throws Exception {
+        VehicleEncoding enc = testGraph.getEncodingManager().getVehicleEncoding("car");
+
+        RoutingCostFunction customCostFunction = new RoutingCostFunction() {
+            @Override
+            public double calculateCosts(EdgeProperties edgeProperties) {
+                return edgeProperties.getLength() + edgeProperties.getSpeed() * 10;
+            }
+
+            @Override
+            public String getCostFunctionName() {
+                return "Custom";
+            }
+        };
+        Weighting w = new GraphHopperWeighting(enc, testGraph.getEncodingManager().wayType(), new OptionalTurnCostProvider(enc, testGraph.getGraph().getTurnCostStorage()), null)
+                .setRoutingCostFunction(customCostFunction);
+
+        double[] expectedWeights = new double[testGraph.getGraph().getEdges()];
+        AllEdgesIterator edges = testGraph.getGraph().getAllEdges();
+        while (edges.next()) {
+            expectedWeights[edges.getEdge()] = edges.getDistance() + edges.get(enc.speed()) / 3.6 * 10;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                results.add(executorService.submit(() -> {
+                    int mismatches = 0;
+                    for (int i = 0; i < 1000; i++) {
+                        AllEdgesIterator it = testGraph.getGraph().getAllEdges();
+                        while (it.next()) {
+                            if (w.calcEdgeWeight(it, false) != expectedWeights[it.getEdge()]) {
+                                mismatches++;
+                            }
+                        }
+                    }
+                    return mismatches;
+                }));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(0, result.get().intValue());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
 }
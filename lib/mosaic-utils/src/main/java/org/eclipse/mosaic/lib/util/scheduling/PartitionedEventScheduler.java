@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.scheduling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Event scheduler which executes events of different partitions (e.g. regions) concurrently. All events
+ * of the same time are assigned to a partition by the given partition function. The events of one partition are
+ * executed one after another in their original order, whereas different partitions are executed concurrently.
+ * Events without a partition are executed exclusively, i.e. after all preceding events have been finished
+ * and before any following event is started.
+ * <br>
+ * Actions of an event which affect other partitions, such as scheduling new events or sending interactions,
+ * must be passed to {@link #defer}. These actions are collected per event and run in the original order of the events
+ * as soon as all partitions have been finished. Therefore, the outcome does not depend on the order the threads
+ * are running in.
+ */
+public class PartitionedEventScheduler extends DefaultEventScheduler {
+
+    private final ExecutorService executorService;
+    private final Function<Event, String> partitionFunction;
+
+    private final ThreadLocal<List<Runnable>> deferredActions = new ThreadLocal<>();
+    private final ThreadLocal<String> currentPartition = new ThreadLocal<>();
+
+    /**
+     * Creates a new {@link PartitionedEventScheduler}.
+     *
+     * @param threads           the number of threads to execute the partitions with
+     * @param partitionFunction returns the partition of an event, or {@code null} if the event must be executed exclusively.
+     *                          It is called in the order of the events by the thread calling {@link #scheduleEvents}.
+     */
+    public PartitionedEventScheduler(int threads, Function<Event, String> partitionFunction) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "partition-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.partitionFunction = partitionFunction;
+    }
+
+    @Override
+    public int scheduleEvents(long time) {
+        int processedEvents = 0;
+        scheduledTime = time;
+        final List<Event> events = new ArrayList<>();
+        while (true) {
+            // all events of the current time known so far, events added by those are taken in the next iteration
+            events.clear();
+            Event nextEvent;
+            while ((nextEvent = eventQueue.peek()) != null && nextEvent.getTime() <= time) {
+                if (nextEvent.getTime() < time) {
+                    throw new RuntimeException("Scheduled event lies in the past.");
+                }
+                events.add(eventQueue.remove());
+            }
+            if (events.isEmpty()) {
+                return processedEvents;
+            }
+            processedEvents += executeEvents(events);
+        }
+    }
+
+    /**
+     * Defers the given action until all concurrently executed partitions have been finished,
+     * if called during the execution of a partition.
+     *
+     * @param action the action to defer
+     * @return {@code true}, if the action has been deferred, {@code false} if the caller should run the action immediately
+     */
+    public boolean defer(Runnable action) {
+        final List<Runnable> actions = deferredActions.get();
+        if (actions == null) {
+            return false;
+        }
+        actions.add(action);
+        return true;
+    }
+
+    /**
+     * Returns the partition which is executed by the calling thread, or {@code null}
+     * if the calling thread does not execute a partition.
+     */
+    public String getCurrentPartition() {
+        return currentPartition.get();
+    }
+
+    private int executeEvents(List<Event> events) {
+        int processedEvents = 0;
+        final List<Runnable>[] actionsPerEvent = createActionLists(events.size());
+        final Map<String, List<Integer>> partitions = new LinkedHashMap<>();
+        int firstPartitionedEvent = 0;
+        for (int i = 0; i < events.size(); i++) {
+            final String partition = partitionFunction.apply(events.get(i));
+            if (partition == null) {
+                processedEvents += executePartitions(events, partitions, actionsPerEvent);
+                runDeferredActions(actionsPerEvent, firstPartitionedEvent, i);
+                partitions.clear();
+                firstPartitionedEvent = i + 1;
+
+                processedEvents += events.get(i).execute();
+            } else {
+                partitions.computeIfAbsent(partition, k -> new ArrayList<>()).add(i);
+            }
+        }
+        processedEvents += executePartitions(events, partitions, actionsPerEvent);
+        runDeferredActions(actionsPerEvent, firstPartitionedEvent, events.size());
+        return processedEvents;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Runnable>[] createActionLists(int size) {
+        return (List<Runnable>[]) new List<?>[size];
+    }
+
+    private int executePartitions(List<Event> events, Map<String, List<Integer>> partitions, List<Runnable>[] actionsPerEvent) {
+        if (partitions.isEmpty()) {
+            return 0;
+        }
+        final List<Callable<Integer>> tasks = new ArrayList<>(partitions.size());
+        for (Map.Entry<String, List<Integer>> partition : partitions.entrySet()) {
+            tasks.add(() -> executePartition(partition.getKey(), partition.getValue(), events, actionsPerEvent));
+        }
+        try {
+            if (tasks.size() == 1) {
+                // no need to hand over a single partition to another thread
+                return tasks.get(0).call();
+            }
+            int processedEvents = 0;
+            for (Future<Integer> future : executorService.invokeAll(tasks)) {
+                processedEvents += future.get();
+            }
+            return processedEvents;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private int executePartition(String partition, List<Integer> eventIndices, List<Event> events, List<Runnable>[] actionsPerEvent) {
+        int processedEvents = 0;
+        currentPartition.set(partition);
+        try {
+            for (int index : eventIndices) {
+                actionsPerEvent[index] = new ArrayList<>();
+                deferredActions.set(actionsPerEvent[index]);
+                processedEvents += events.get(index).execute();
+            }
+        } finally {
+            deferredActions.remove();
+            currentPartition.remove();
+        }
+        return processedEvents;
+    }
+
+    private static void runDeferredActions(List<Runnable>[] actionsPerEvent, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (actionsPerEvent[i] != null) {
+                for (Runnable action : actionsPerEvent[i]) {
+                    action.run();
+                }
+            }
+        }
+        Arrays.fill(actionsPerEvent, fromIndex, toIndex, null);
+    }
+
+    /**
+     * Shuts down the threads of this scheduler.
+     */
+    public void shutdown() {
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2020 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.scheduling;
+
+import org.eclipse.mosaic.rti.TIME;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+
+/**
+ * Sequential implementation of the {@link EventScheduler} which is based on a timing wheel (calendar queue)
+ * instead of a single priority queue. The wheel consists of a fixed number of slots, each covering a
+ * time span of fixed width. All events sharing the same time are collected in one group, which
+ * is stored in the slot covering its time. Events lying beyond the time span covered by the wheel
+ * are kept in an overflow map and are moved into the wheel as soon as the scheduled time approaches.
+ * <br>
+ * Therefore, adding an event usually takes constant time, since no comparisons with other events are required.
+ * Events of a group are sorted by their nice value and sequence number only once, when the group is
+ * scheduled. This results in exactly the same order of events as in the {@link DefaultEventScheduler}.
+ */
+public class TimeWheelEventScheduler implements EventScheduler {
+
+    private final static AtomicLong SEQUENCE = new AtomicLong();
+
+    /**
+     * Default width of a slot. Unit: [ns].
+     */
+    public final static long DEFAULT_SLOT_WIDTH = TIME.MILLI_SECOND;
+
+    /**
+     * Default number of slots, which covers about 4 seconds with the default slot width.
+     */
+    public final static int DEFAULT_SLOT_COUNT = 4096;
+
+    private final static Comparator<Event> ORDER_WITHIN_GROUP =
+            Comparator.comparingLong(Event::getNice).thenComparingLong(event -> event.seqNr);
+
+    /**
+     * The width of each slot. Unit: [ns].
+     */
+    private final long slotWidth;
+
+    /**
+     * The time groups in each slot of the wheel, sorted by their time. A slot may hold groups of multiple times,
+     * if its width is greater than the time between the events. However, all groups lie within the time span
+     * covered by the wheel.
+     */
+    private final List<EventGroup>[] wheel;
+
+    /**
+     * Groups of events which lie beyond the time span currently covered by the wheel.
+     */
+    private final TreeMap<Long, EventGroup> overflow = new TreeMap<>();
+
+    /**
+     * Start time of the slot in which the wheel currently starts. Each event in the wheel lies in
+     * [wheelStart, wheelStart + slotWidth * slotCount), all events in the overflow lie beyond.
+     */
+    private long wheelStart = 0;
+
+    /**
+     * The time of the earliest event, or {@code Long.MAX_VALUE} if unknown or empty.
+     */
+    private long cachedNextEventTime = Long.MAX_VALUE;
+
+    /**
+     * The group currently processed in {@link #scheduleEvents}, if any.
+     */
+    private EventGroup activeGroup = null;
+
+    /**
+     * Groups which have been processed completely and can be reused, which reduces garbage.
+     */
+    private final List<EventGroup> unusedGroups = new ArrayList<>();
+
+    private int size = 0;
+
+    /**
+     * The last scheduled time.
+     */
+    private long scheduledTime = Long.MIN_VALUE;
+
+    public TimeWheelEventScheduler() {
+        this(DEFAULT_SLOT_WIDTH, DEFAULT_SLOT_COUNT);
+    }
+
+    /**
+     * Creates a new {@link TimeWheelEventScheduler}.
+     *
+     * @param slotWidth the time span covered by each slot. Unit: [ns].
+     * @param slotCount the number of slots in the wheel
+     */
+    @SuppressWarnings("unchecked")
+    public TimeWheelEventScheduler(long slotWidth, int slotCount) {
+        if (slotWidth <= 0 || slotCount <= 0) {
+            throw new IllegalArgumentException("Slot width and number of slots must be positive.");
+        }
+        this.slotWidth = slotWidth;
+        this.wheel = new List[slotCount];
+    }
+
+    @Override
+    public void addEvent(@Nonnull final Event event) {
+        if (event.getTime() < getScheduledTime()) {
+            throw new IllegalArgumentException("Event lies in the past.");
+        }
+        event.seqNr = SEQUENCE.getAndIncrement();
+
+        final long time = event.getTime();
+        if (activeGroup != null && activeGroup.time == time) {
+            activeGroup.insertSorted(event);
+        } else if (time < wheelStart + slotWidth * wheel.length) {
+            getOrCreateGroup(time).events.add(event);
+        } else {
+            overflow.computeIfAbsent(time, this::createGroup).events.add(event);
+        }
+        size++;
+        if (time < cachedNextEventTime) {
+            cachedNextEventTime = time;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getNextEventTime() {
+        if (isEmpty()) {
+            throw new IllegalStateException("No event in the queue.");
+        }
+        if (cachedNextEventTime == Long.MAX_VALUE) {
+            cachedNextEventTime = findNextEventTime();
+        }
+        return cachedNextEventTime;
+    }
+
+    @Override
+    public long getScheduledTime() {
+        return scheduledTime;
+    }
+
+    @Override
+    @Nonnull
+    public int scheduleEvents(final long time) {
+        if (!isEmpty() && getNextEventTime() < time) {
+            throw new RuntimeException("Scheduled event lies in the past.");
+        }
+        scheduledTime = time;
+        if (isEmpty()) {
+            return 0;
+        }
+        advanceWheel(time);
+
+        // the earliest group of the slot is the one to process, if there is any event at the given time
+        final List<EventGroup> slot = wheel[slotIndex(time)];
+        if (slot == null || slot.isEmpty() || slot.get(0).time != time) {
+            return 0;
+        }
+        final EventGroup group = slot.get(0);
+
+        int processedEvents = 0;
+        group.events.sort(ORDER_WITHIN_GROUP);
+        activeGroup = group;
+        try {
+            while (group.position < group.events.size()) {
+                final Event nextEvent = group.events.get(group.position++);
+                size--;
+                processedEvents += nextEvent.execute();
+            }
+        } finally {
+            activeGroup = null;
+            if (group.position == group.events.size()) {
+                slot.remove(0);
+                group.events.clear();
+                group.position = 0;
+                unusedGroups.add(group);
+            } else {
+                // an event threw an exception, keep remaining events
+                group.events.subList(0, group.position).clear();
+                group.position = 0;
+            }
+            cachedNextEventTime = Long.MAX_VALUE;
+        }
+        return processedEvents;
+    }
+
+    @Override
+    @Nonnull
+    public Set<Event> getAllEvents() {
+        final TreeSet<Event> allEvents = new TreeSet<>();
+        for (List<EventGroup> slot : wheel) {
+            if (slot != null) {
+                for (EventGroup group : slot) {
+                    allEvents.addAll(group.events.subList(group.position, group.events.size()));
+                }
+            }
+        }
+        for (EventGroup group : overflow.values()) {
+            allEvents.addAll(group.events);
+        }
+        return Collections.unmodifiableSet(allEvents);
+    }
+
+    /**
+     * Moves the start of the wheel to the slot containing the given time, and moves all
+     * events from the overflow which now lie within the time span covered by the wheel.
+     */
+    private void advanceWheel(long time) {
+        final long newWheelStart = Math.floorDiv(time, slotWidth) * slotWidth;
+        if (newWheelStart <= wheelStart) {
+            return;
+        }
+        // all events before the given time have been processed already, therefore
+        // the slots passed by the wheel are empty and can be reused
+        wheelStart = newWheelStart;
+        final long wheelEnd = wheelStart + slotWidth * wheel.length;
+        Map.Entry<Long, EventGroup> next;
+        while ((next = overflow.firstEntry()) != null && next.getKey() < wheelEnd) {
+            overflow.pollFirstEntry();
+            insertGroup(getOrCreateSlot(next.getKey()), next.getValue());
+        }
+    }
+
+    private long findNextEventTime() {
+        // scan slots starting from the beginning of the wheel
+        for (int i = 0; i < wheel.length; i++) {
+            final List<EventGroup> slot = wheel[slotIndex(wheelStart + i * slotWidth)];
+            if (slot != null && !slot.isEmpty()) {
+                return slot.get(0).time;
+            }
+        }
+        return overflow.isEmpty() ? Long.MAX_VALUE : overflow.firstKey();
+    }
+
+    private EventGroup getOrCreateGroup(long time) {
+        final List<EventGroup> slot = getOrCreateSlot(time);
+        // usually, new events are scheduled after all other events of the slot
+        final int last = slot.size() - 1;
+        if (last >= 0 && slot.get(last).time == time) {
+            return slot.get(last);
+        }
+        if (last >= 0 && slot.get(last).time > time) {
+            final int index = findGroup(slot, time);
+            if (index >= 0) {
+                return slot.get(index);
+            }
+        }
+        final EventGroup group = createGroup(time);
+        insertGroup(slot, group);
+        return group;
+    }
+
+    private EventGroup createGroup(long time) {
+        if (unusedGroups.isEmpty()) {
+            return new EventGroup(time);
+        }
+        final EventGroup group = unusedGroups.remove(unusedGroups.size() - 1);
+        group.time = time;
+        return group;
+    }
+
+    private static void insertGroup(List<EventGroup> slot, EventGroup group) {
+        final int last = slot.size() - 1;
+        if (last < 0 || slot.get(last).time < group.time) {
+            slot.add(group);
+        } else {
+            slot.add(-(findGroup(slot, group.time) + 1), group);
+        }
+    }
+
+    private List<EventGroup> getOrCreateSlot(long time) {
+        final int index = slotIndex(time);
+        if (wheel[index] == null) {
+            wheel[index] = new ArrayList<>(1);
+        }
+        return wheel[index];
+    }
+
+    /**
+     * Binary search for the group of the given time in the sorted slot.
+     *
+     * @return the index of the group, or {@code -(insertion point) - 1} if there is no group with the given time
+     */
+    private static int findGroup(List<EventGroup> slot, long time) {
+        int low = 0;
+        int high = slot.size() - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final long midTime = slot.get(mid).time;
+            if (midTime < time) {
+                low = mid + 1;
+            } else if (midTime > time) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int slotIndex(long time) {
+        return (int) Math.floorMod(Math.floorDiv(time, slotWidth), (long) wheel.length);
+    }
+
+    /**
+     * All events of the same time.
+     */
+    private static class EventGroup {
+
+        private long time;
+
+        private final List<Event> events = new ArrayList<>();
+
+        /**
+         * Index of the next event to process, if this group is currently scheduled.
+         */
+        private int position = 0;
+
+        private EventGroup(long time) {
+            this.time = time;
+        }
+
+        /**
+         * Inserts an event into the not yet processed part of this group which is already sorted.
+         */
+        private void insertSorted(Event event) {
+            int low = position;
+            int high = events.size();
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (ORDER_WITHIN_GROUP.compare(events.get(mid), event) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            events.add(low, event);
+        }
+    }
+}
@@ -57,31 +57,36 @@ public class EventSchedulerTest {
         }
     };
 
-    private final int eventSchedulerThreads;
+    private final String eventSchedulerType;
 
     /**
      * The event scheduler reference.
      */
     private EventScheduler eventScheduler;
 
-    public EventSchedulerTest(int eventSchedulerThreads) {
-        this.eventSchedulerThreads = eventSchedulerThreads;
+    public EventSchedulerTest(String eventSchedulerType) {
+        this.eventSchedulerType = eventSchedulerType;
     }
 
-    @Parameterized.Parameters
+    @Parameterized.Parameters(name = "{0}")
     public static Collection<Object[]> data() {
         return Arrays.asList(new Object[][]{
-                {1}, {2}
+                {"default"}, {"multiThreaded"}, {"timeWheel"}
         });
     }
 
     @Before
     public void setUp() {
         // create a new event scheduler
-        if (eventSchedulerThreads == 1) {
-            eventScheduler = new DefaultEventScheduler();
-        } else {
-            eventScheduler = new MultiThreadedEventScheduler(2);
+        switch (eventSchedulerType) {
+            case "multiThreaded":
+                eventScheduler = new MultiThreadedEventScheduler(2);
+                break;
+            case "timeWheel":
+                eventScheduler = new TimeWheelEventScheduler();
+                break;
+            default:
+                eventScheduler = new DefaultEventScheduler();
         }
         // first of all create some events and add them to the scheduler
         eventScheduler.addEvent(new Event(0, processor, null));
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.scheduling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class PartitionedEventSchedulerTest {
+
+    private final PartitionedEventScheduler eventScheduler = new PartitionedEventScheduler(4, PartitionedEventSchedulerTest::getPartition);
+
+    /**
+     * Every fifth event is executed exclusively, all other events are assigned to one of three partitions.
+     */
+    private static String getPartition(Event event) {
+        int index = (Integer) event.getResource();
+        return index % 5 == 4 ? null : "p" + (index % 3);
+    }
+
+    private void deferOrRun(Runnable action) {
+        if (!eventScheduler.defer(action)) {
+            action.run();
+        }
+    }
+
+    @After
+    public void tearDown() {
+        eventScheduler.shutdown();
+    }
+
+    @Test
+    public void scheduleEvents_deferredActionsRunInEventOrder() {
+        // SETUP
+        final List<Integer> deferredOrder = new ArrayList<>();
+        final List<String> wrongPartitions = Collections.synchronizedList(new ArrayList<>());
+        final EventProcessor processor = event -> {
+            int index = (Integer) event.getResource();
+            if (!String.valueOf(getPartition(event)).equals(String.valueOf(eventScheduler.getCurrentPartition()))) {
+                wrongPartitions.add(index + ":" + eventScheduler.getCurrentPartition());
+            }
+            // let later events finish earlier
+            LockSupport.parkNanos((100 - index) * 10_000L);
+            deferOrRun(() -> deferredOrder.add(index));
+        };
+        for (int i = 0; i < 100; i++) {
+            eventScheduler.addEvent(new Event(10, processor, i));
+        }
+
+        // RUN
+        int processedEvents = eventScheduler.scheduleEvents(10);
+
+        // ASSERT
+        assertEquals(100, processedEvents);
+        assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toList()), deferredOrder);
+        assertTrue(wrongPartitions.toString(), wrongPartitions.isEmpty());
+        assertTrue(eventScheduler.isEmpty());
+    }
+
+    @Test
+    public void scheduleEvents_exclusiveEventsWaitForPrecedingEvents() {
+        // SETUP
+        final List<Integer> executed = new CopyOnWriteArrayList<>();
+        final List<Integer> deferred = new ArrayList<>();
+        final List<String> violations = Collections.synchronizedList(new ArrayList<>());
+        final EventProcessor processor = event -> {
+            int index = (Integer) event.getResource();
+            if (getPartition(event) == null) {
+                assertNull(eventScheduler.getCurrentPartition());
+                assertFalse(eventScheduler.defer(() -> {}));
+                // all preceding events must be executed and their deferred actions must have been run
+                if (executed.size() != index || deferred.size() != index) {
+                    violations.add(index + ": " + executed.size() + "/" + deferred.size());
+                }
+            } else if (executed.stream().anyMatch(i -> i > index && i % 5 == 4)) {
+                violations.add(index + " executed after following exclusive event");
+            }
+            executed.add(index);
+            deferOrRun(() -> deferred.add(index));
+        };
+        for (int i = 0; i < 50; i++) {
+            eventScheduler.addEvent(new Event(10, processor, i));
+        }
+
+        // RUN
+        eventScheduler.scheduleEvents(10);
+
+        // ASSERT
+        assertTrue(violations.toString(), violations.isEmpty());
+        assertEquals(50, executed.size());
+    }
+
+    @Test
+    public void scheduleEvents_eventsAddedByDeferredActions() {
+        // SETUP
+        final List<Long> executionTimes = Collections.synchronizedList(new ArrayList<>());
+        final EventProcessor processor = new EventProcessor() {
+            @Override
+            public void processEvent(Event event) {
+                int index = (Integer) event.getResource();
+                executionTimes.add(event.getTime());
+                if (index < 20) {
+                    // re-schedule at the same time and in the future
+                    deferOrRun(() -> eventScheduler.addEvent(new Event(event.getTime(), this, index + 20)));
+                    deferOrRun(() -> eventScheduler.addEvent(new Event(event.getTime() + 5, this, index + 40)));
+                }
+            }
+        };
+        for (int i = 0; i < 20; i++) {
+            eventScheduler.addEvent(new Event(10, processor, i));
+        }
+
+        // RUN
+        int processedAt10 = eventScheduler.scheduleEvents(10);
+        int processedAt15 = eventScheduler.scheduleEvents(15);
+
+        // ASSERT
+        assertEquals(40, processedAt10);
+        assertEquals(20, processedAt15);
+        assertTrue(eventScheduler.isEmpty());
+        assertEquals(60, executionTimes.size());
+    }
+}
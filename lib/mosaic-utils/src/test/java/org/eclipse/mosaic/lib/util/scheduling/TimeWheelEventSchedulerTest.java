@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.scheduling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+public class TimeWheelEventSchedulerTest {
+
+    @Test
+    public void scheduleEvents_sameOrderAsDefaultEventScheduler() {
+        //SETUP + RUN
+        List<Object> expectedOrder = processRandomEvents(DefaultEventScheduler::new, 4711L);
+        // use a very small wheel to enforce many events in the overflow and multiple times per slot
+        List<Object> actualOrder = processRandomEvents(() -> new TimeWheelEventScheduler(3, 8), 4711L);
+
+        //ASSERT
+        assertTrue(expectedOrder.size() > 1000);
+        assertEquals(expectedOrder, actualOrder);
+    }
+
+    @Test
+    public void getAllEvents_containsEventsOfWheelAndOverflow() {
+        //SETUP
+        EventScheduler eventScheduler = new TimeWheelEventScheduler(10, 4);
+        EventProcessor processor = event -> {};
+        eventScheduler.addEvent(5, processor);
+        eventScheduler.addEvent(25, processor);
+        eventScheduler.addEvent(1000, processor);
+
+        //RUN + ASSERT
+        assertEquals(3, eventScheduler.getAllEvents().size());
+        assertEquals(5, eventScheduler.getNextEventTime());
+
+        eventScheduler.scheduleEvents(5);
+        assertEquals(2, eventScheduler.getAllEvents().size());
+        assertEquals(25, eventScheduler.getNextEventTime());
+
+        eventScheduler.scheduleEvents(25);
+        assertEquals(1000, eventScheduler.getNextEventTime());
+
+        eventScheduler.scheduleEvents(1000);
+        assertTrue(eventScheduler.isEmpty());
+    }
+
+    @Ignore("Benchmark, run manually")
+    @Test
+    public void performanceTest() {
+        for (int i = 0; i < 3; i++) {
+            measure("DefaultEventScheduler", DefaultEventScheduler::new);
+            measure("TimeWheelEventScheduler", TimeWheelEventScheduler::new);
+        }
+    }
+
+    private static void measure(String name, Supplier<EventScheduler> eventSchedulerSupplier) {
+        final int units = 10_000;
+        final int steps = 200;
+        final long stepSize = 100_000_000L;
+        final EventScheduler eventScheduler = eventSchedulerSupplier.get();
+        // each unit re-schedules itself periodically, similar to applications of simulation units
+        final EventProcessor processor = event -> eventScheduler.addEvent(event.getTime() + stepSize, event.getProcessors().get(0));
+        for (int unit = 0; unit < units; unit++) {
+            eventScheduler.addEvent(new Event(unit * (stepSize / units), processor));
+        }
+
+        long start = System.nanoTime();
+        int processedEvents = 0;
+        while (eventScheduler.getNextEventTime() < steps * stepSize) {
+            processedEvents += eventScheduler.scheduleEvents(eventScheduler.getNextEventTime());
+        }
+        long duration = System.nanoTime() - start;
+        System.out.println(name + ": " + processedEvents + " events in " + duration / 1e6 + "ms");
+    }
+
+    /**
+     * Processes randomly generated events, of which some generate new events in the future
+     * or at the currently scheduled time, and returns the order in which the events have been processed.
+     */
+    private static List<Object> processRandomEvents(Supplier<EventScheduler> eventSchedulerSupplier, long seed) {
+        final Random random = new Random(seed);
+        final EventScheduler eventScheduler = eventSchedulerSupplier.get();
+        final List<Object> processedEvents = new ArrayList<>();
+        final int[] eventCounter = {0};
+
+        final EventProcessor processor = new EventProcessor() {
+            @Override
+            public void processEvent(Event event) {
+                processedEvents.add(event.getResource());
+                if (eventCounter[0] < 5000 && random.nextInt(3) > 0) {
+                    long time = eventScheduler.getScheduledTime() + (random.nextBoolean() ? 0 : random.nextInt(100));
+                    eventScheduler.addEvent(new Event(time, this, eventCounter[0]++, random.nextInt(4)));
+                }
+            }
+        };
+
+        for (int i = 0; i < 500; i++) {
+            eventScheduler.addEvent(new Event(random.nextInt(200), processor, eventCounter[0]++, random.nextInt(4)));
+        }
+        while (!eventScheduler.isEmpty()) {
+            eventScheduler.scheduleEvents(eventScheduler.getNextEventTime());
+        }
+        return processedEvents;
+    }
+}
@@ -102,10 +102,16 @@ public abstract class AbstractFederateAmbassador implements FederateAmbassador {
     @Override
     public final synchronized void advanceTime(long time) throws InternalFederateException {
         Interaction nextInteraction = interactionQueue.getNextInteraction(time);
-        while (nextInteraction != null) {
-            rti.getMonitor().onProcessInteraction(getId(), nextInteraction);
-            processInteraction(nextInteraction);
-            nextInteraction = interactionQueue.getNextInteraction(time);
+        if (nextInteraction != null) {
+            final Monitor monitor = rti.getMonitor();
+            final boolean monitorEnabled = monitor.isEnabled();
+            while (nextInteraction != null) {
+                if (monitorEnabled) {
+                    monitor.onProcessInteraction(getId(), nextInteraction);
+                }
+                processInteraction(nextInteraction);
+                nextInteraction = interactionQueue.getNextInteraction(time);
+            }
         }
         processTimeAdvanceGrant(time);
     }
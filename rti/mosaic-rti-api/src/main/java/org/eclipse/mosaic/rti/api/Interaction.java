@@ -32,6 +32,16 @@ public abstract class Interaction implements Comparable<Interaction>, Cloneable,
     private static final long serialVersionUID = 1L;
     private static AtomicInteger idCounter = new AtomicInteger();
 
+    /**
+     * Caches the type identifier for each interaction class.
+     */
+    private static final ClassValue<String> TYPE_IDENTIFIERS = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> interactionClass) {
+            return ClassUtils.getShortClassName(interactionClass).intern();
+        }
+    };
+
     /**
      * Simulation time at which the interaction happens in ns.
      */
@@ -180,13 +190,14 @@ public abstract class Interaction implements Comparable<Interaction>, Cloneable,
     }
 
     /**
-     * Helper method for creating type identifiers in a uniform way.
+     * Helper method for creating type identifiers in a uniform way. The type identifier of each class is
+     * only created once, so all interactions of the same class share the same (interned) type identifier instance.
      *
      * @param interactionClass the class extending from {@link Interaction}
      * @return the type identifier based on the {@link Interaction} class
      */
     public static String createTypeIdentifier(Class<? extends Interaction> interactionClass) {
-        return ClassUtils.getShortClassName(interactionClass);
+        return TYPE_IDENTIFIERS.get(interactionClass);
     }
 
 }
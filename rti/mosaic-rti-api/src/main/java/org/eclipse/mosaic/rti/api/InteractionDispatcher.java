@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2020 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.api;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dispatches {@link Interaction}s to the handlers registered for their type ids, which replaces long
+ * chains of type id comparisons in {@link FederateAmbassador}s. Handlers are looked up by the type id of the
+ * interaction with a single hash lookup. Handlers registered via {@link #registerWithSubtypes} additionally
+ * receive all interactions whose type id starts with the registered type id. Those are resolved once
+ * per type id in order of registration, and the result is cached for all following interactions.
+ * <br>
+ * Example:
+ * <pre>
+ *     dispatcher = new InteractionDispatcher()
+ *             .register(VehicleUpdates.class, this::process)
+ *             .register(RsuRegistration.class, this::process);
+ *     ...
+ *     if (!dispatcher.dispatch(interaction)) {
+ *         log.warn("Unknown interaction {}", interaction.getTypeId());
+ *     }
+ * </pre>
+ */
+public class InteractionDispatcher {
+
+    /**
+     * Handles a specific type of {@link Interaction}.
+     *
+     * @param <T> the type of interaction to handle
+     */
+    @FunctionalInterface
+    public interface InteractionHandler<T extends Interaction> {
+
+        void handle(T interaction) throws InternalFederateException;
+    }
+
+    /**
+     * Marks type ids without any matching handler in {@link #handlersByTypeId}.
+     */
+    private static final Registration<?> NO_HANDLER = new Registration<>(Interaction.class, interaction -> {
+    });
+
+    /**
+     * All registrations, including resolved subtype ids, by type id.
+     */
+    private final Map<String, Registration<?>> handlersByTypeId = new HashMap<>();
+
+    /**
+     * Registrations which also match subtype ids, in order of registration.
+     */
+    private final List<Map.Entry<String, Registration<?>>> subtypeRegistrations = new ArrayList<>();
+
+    /**
+     * Registers a handler for all interactions with exactly the type id of the given interaction class.
+     *
+     * @param interactionClass the class of the interaction to handle
+     * @param handler          the handler to call for each matching interaction
+     * @return this dispatcher for chaining
+     */
+    public <T extends Interaction> InteractionDispatcher register(Class<T> interactionClass, InteractionHandler<? super T> handler) {
+        handlersByTypeId.put(Interaction.createTypeIdentifier(interactionClass), new Registration<>(interactionClass, handler));
+        return this;
+    }
+
+    /**
+     * Registers a handler for all interactions whose type id starts with the type id of the given
+     * interaction class. If several registrations match a type id, the first registered one is used.
+     *
+     * @param interactionClass the class of the interaction to handle
+     * @param handler          the handler to call for each matching interaction
+     * @return this dispatcher for chaining
+     */
+    public <T extends Interaction> InteractionDispatcher registerWithSubtypes(Class<T> interactionClass, InteractionHandler<? super T> handler) {
+        final String typeId = Interaction.createTypeIdentifier(interactionClass);
+        final Registration<T> registration = new Registration<>(interactionClass, handler);
+        subtypeRegistrations.add(Map.entry(typeId, registration));
+        handlersByTypeId.putIfAbsent(typeId, registration);
+        // previously resolved subtype ids may now resolve to a different handler
+        handlersByTypeId.values().removeIf(r -> r == NO_HANDLER);
+        return this;
+    }
+
+    /**
+     * Calls the handler registered for the type id of the given interaction.
+     *
+     * @param interaction the interaction to dispatch
+     * @return {@code true}, if a handler was found for the interaction, {@code false} otherwise
+     * @throws InternalFederateException if the handler could not process the interaction
+     */
+    public boolean dispatch(Interaction interaction) throws InternalFederateException {
+        final String typeId = interaction.getTypeId();
+        Registration<?> registration = handlersByTypeId.get(typeId);
+        if (registration == null) {
+            registration = resolveSubtype(typeId);
+            handlersByTypeId.put(typeId, registration);
+        }
+        if (registration == NO_HANDLER) {
+            return false;
+        }
+        registration.handle(interaction);
+        return true;
+    }
+
+    private Registration<?> resolveSubtype(String typeId) {
+        for (Map.Entry<String, Registration<?>> subtypeRegistration : subtypeRegistrations) {
+            if (typeId.startsWith(subtypeRegistration.getKey())) {
+                return subtypeRegistration.getValue();
+            }
+        }
+        return NO_HANDLER;
+    }
+
+    private static class Registration<T extends Interaction> {
+
+        private final Class<T> interactionClass;
+        private final InteractionHandler<? super T> handler;
+
+        private Registration(Class<T> interactionClass, InteractionHandler<? super T> handler) {
+            this.interactionClass = interactionClass;
+            this.handler = handler;
+        }
+
+        private void handle(Interaction interaction) throws InternalFederateException {
+            handler.handle(interactionClass.cast(interaction));
+        }
+    }
+}
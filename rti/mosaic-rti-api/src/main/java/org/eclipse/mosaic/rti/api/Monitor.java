@@ -19,6 +19,25 @@ import org.eclipse.mosaic.rti.api.time.FederateEvent;
 
 public interface Monitor {
 
+    /**
+     * Monitor which ignores all events. Components may skip collecting
+     * information for a monitor which is not enabled.
+     */
+    Monitor NOP = new Monitor() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * Returns {@code true}, if this monitor processes any of the reported events. Otherwise, callers
+     * may skip reporting frequent events, such as {@link #onReceiveInteraction}.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
     default void onInteraction(Interaction interaction) {
         // nop
     }
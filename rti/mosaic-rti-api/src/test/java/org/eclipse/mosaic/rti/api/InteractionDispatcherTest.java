@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for {@link InteractionDispatcher}.
+ */
+public class InteractionDispatcherTest {
+
+    private final List<String> handled = new ArrayList<>();
+
+    @Test
+    public void dispatch_exactTypeId() throws InternalFederateException {
+        InteractionDispatcher dispatcher = new InteractionDispatcher()
+                .register(TestInteraction.class, i -> handled.add("test"))
+                .register(BaseInteraction.class, i -> handled.add("base"));
+
+        assertTrue(dispatcher.dispatch(new TestInteraction()));
+        assertTrue(dispatcher.dispatch(new BaseInteraction()));
+        assertFalse(dispatcher.dispatch(new BaseInteractionExtended()));
+
+        assertEquals(List.of("test", "base"), handled);
+    }
+
+    @Test
+    public void dispatch_subtypeIds() throws InternalFederateException {
+        InteractionDispatcher dispatcher = new InteractionDispatcher()
+                .register(TestInteraction.class, i -> handled.add("test"))
+                .registerWithSubtypes(BaseInteraction.class, i -> handled.add("base"));
+
+        assertTrue(dispatcher.dispatch(new BaseInteractionExtended()));
+        // resolved subtype is cached
+        assertTrue(dispatcher.dispatch(new BaseInteractionExtended()));
+        assertTrue(dispatcher.dispatch(new BaseInteraction()));
+
+        assertEquals(List.of("base", "base", "base"), handled);
+    }
+
+    @Test
+    public void dispatch_subtypeRegisteredLater() throws InternalFederateException {
+        InteractionDispatcher dispatcher = new InteractionDispatcher();
+
+        assertFalse(dispatcher.dispatch(new BaseInteractionExtended()));
+
+        dispatcher.registerWithSubtypes(BaseInteraction.class, i -> handled.add("base"));
+        assertTrue(dispatcher.dispatch(new BaseInteractionExtended()));
+
+        assertEquals(List.of("base"), handled);
+    }
+
+    @Test(expected = InternalFederateException.class)
+    public void dispatch_handlerThrowsException() throws InternalFederateException {
+        new InteractionDispatcher()
+                .register(TestInteraction.class, i -> {
+                    throw new InternalFederateException("failed");
+                })
+                .dispatch(new TestInteraction());
+    }
+
+    private static class BaseInteraction extends Interaction {
+
+        private static final long serialVersionUID = 1L;
+
+        private BaseInteraction() {
+            super(0);
+        }
+    }
+
+    private static class BaseInteractionExtended extends BaseInteraction {
+
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -94,7 +94,7 @@ public class MosaicComponentProvider implements ComponentProvider {
         if (activityLog != null && activityLog.isInfoEnabled()) {
             return new ActivityLoggingMonitor(activityLog);
         } else {
-            return new Monitor() {};
+            return Monitor.NOP;
         }
     }
 
@@ -20,18 +20,20 @@ import org.eclipse.mosaic.rti.api.FederateAmbassador;
 import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InteractionManagement;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.Monitor;
 import org.eclipse.mosaic.rti.api.parameters.InteractionDescriptor;
 
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
+import org.apache.commons.lang3.ArrayUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -41,10 +43,15 @@ public class TypeBasedInteractionManagement implements InteractionManagement {
 
     private final static Logger LOG = LoggerFactory.getLogger(TypeBasedInteractionManagement.class);
 
+    private final static FederateAmbassador[] NO_AMBASSADORS = new FederateAmbassador[0];
+
     /**
-     * mapping between an interaction type id and a list of subscribed ambassadors.
+     * Mapping between an interaction type id and the subscribed ambassadors, sorted by their priority.
+     * This map and its arrays are never modified. Instead, the whole mapping is replaced with
+     * an updated copy on each change of subscriptions (copy-on-write), so that publishing
+     * interactions requires no synchronization.
      */
-    protected final Map<String, List<FederateAmbassador>> interactionAmbassadorMap = new HashMap<>();
+    protected volatile Map<String, FederateAmbassador[]> interactionAmbassadorMap = Collections.emptyMap();
 
     protected final ComponentProvider federation;
 
@@ -53,35 +60,38 @@ public class TypeBasedInteractionManagement implements InteractionManagement {
     }
 
     @Override
-    public void subscribeInteractions(String federateId, Collection<InteractionDescriptor> interactionIds) throws IllegalArgumentException {
+    public synchronized void subscribeInteractions(String federateId, Collection<InteractionDescriptor> interactionIds) throws IllegalArgumentException {
         if (!federation.getFederationManagement().isFederateJoined(federateId)) {
             throw new IllegalArgumentException("Federate with id \"" + federateId + "\" is unknown.");
         }
 
         final FederateAmbassador ambassador = federation.getFederationManagement().getAmbassador(federateId);
 
+        final Map<String, FederateAmbassador[]> updatedMap = new HashMap<>(interactionAmbassadorMap);
         for (InteractionDescriptor interaction : interactionIds) {
-            List<FederateAmbassador> subscribedAmbassadors =
-                    interactionAmbassadorMap.computeIfAbsent(interaction.interactionId, (k) -> new ArrayList<>());
-
-            if (!subscribedAmbassadors.contains(ambassador)) {
-                subscribedAmbassadors.add(ambassador);
+            final FederateAmbassador[] subscribedAmbassadors = updatedMap.getOrDefault(interaction.interactionId, NO_AMBASSADORS);
+            if (!ArrayUtils.contains(subscribedAmbassadors, ambassador)) {
+                final FederateAmbassador[] updatedAmbassadors = ArrayUtils.add(subscribedAmbassadors, ambassador);
+                // sort order of ambassadors according to priority for each message
+                Arrays.sort(updatedAmbassadors);
+                updatedMap.put(interaction.interactionId.intern(), updatedAmbassadors);
             }
         }
-        // sort order of ambassadors according to priority for each message
-        for (List<FederateAmbassador> ambassadorMessageMapping : interactionAmbassadorMap.values()) {
-            Collections.sort(ambassadorMessageMapping);
-        }
+        interactionAmbassadorMap = updatedMap;
     }
 
     @Override
-    public void cancelInteractionSubscription(String federateId, Collection<String> interactionIds) {
+    public synchronized void cancelInteractionSubscription(String federateId, Collection<String> interactionIds) {
         if (interactionIds != null) {
+            final FederateAmbassador ambassador = federation.getFederationManagement().getAmbassador(federateId);
+            final Map<String, FederateAmbassador[]> updatedMap = new HashMap<>(interactionAmbassadorMap);
             for (String intId : interactionIds) {
-                if (interactionAmbassadorMap.containsKey(intId)) {
-                    interactionAmbassadorMap.get(intId).remove(federation.getFederationManagement().getAmbassador(federateId));
+                final FederateAmbassador[] subscribedAmbassadors = updatedMap.get(intId);
+                if (subscribedAmbassadors != null) {
+                    updatedMap.put(intId, ArrayUtils.removeElement(subscribedAmbassadors, ambassador));
                 }
             }
+            interactionAmbassadorMap = updatedMap;
         }
     }
 
@@ -89,9 +99,9 @@ public class TypeBasedInteractionManagement implements InteractionManagement {
     public ImmutableCollection<String> getSubscribedInteractions(String federateId) {
         final ArrayList<String> subscribedInteractions = new ArrayList<>();
         FederateAmbassador ambassador = federation.getFederationManagement().getAmbassador(federateId);
-        for (Map.Entry<String, List<FederateAmbassador>> entry : interactionAmbassadorMap.entrySet()) {
+        for (Map.Entry<String, FederateAmbassador[]> entry : interactionAmbassadorMap.entrySet()) {
             String interactionId = entry.getKey();
-            if (entry.getValue().contains(ambassador)) {
+            if (ArrayUtils.contains(entry.getValue(), ambassador)) {
                 subscribedInteractions.add(interactionId);
             }
         }
@@ -100,16 +110,22 @@ public class TypeBasedInteractionManagement implements InteractionManagement {
 
     @Override
     public void publishInteraction(Interaction interaction) throws InternalFederateException {
-        federation.getMonitor().onInteraction(interaction);
+        final Monitor monitor = federation.getMonitor();
+        final boolean monitorEnabled = monitor.isEnabled();
+        if (monitorEnabled) {
+            monitor.onInteraction(interaction);
+        }
 
-        List<FederateAmbassador> ambassadors = this.interactionAmbassadorMap.get(interaction.getTypeId());
-        if (ambassadors == null || ambassadors.isEmpty()) {
+        final FederateAmbassador[] ambassadors = this.interactionAmbassadorMap.get(interaction.getTypeId());
+        if (ambassadors == null) {
             return;
         }
 
         for (FederateAmbassador ambassador : ambassadors) {
             try {
-                federation.getMonitor().onReceiveInteraction(ambassador.getId(), interaction);
+                if (monitorEnabled) {
+                    monitor.onReceiveInteraction(ambassador.getId(), interaction);
+                }
                 ambassador.receiveInteraction(interaction);
             } catch (InternalFederateException e) {
                 LOG.error("Error during interaction distribution", e);
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2020 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import org.eclipse.mosaic.lib.util.EfficientPriorityQueue;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import java.util.AbstractQueue;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Queue of {@link FederateEvent}s which allows federates to add events from any thread without locking,
+ * while the time management consumes the events in their natural order.
+ * <br>
+ * Added events are first appended to a lock-free inbox. Before each read operation, the consuming thread
+ * merges the inbox into an ordered queue, which is only accessed by this thread and thereby requires no
+ * synchronization. Duplicate events are discarded during the merge. Consequently, all methods except
+ * {@link #offer} and {@link #peekConcurrently} must only be called by the thread running the time management.
+ */
+public class FederateEventQueue extends AbstractQueue<FederateEvent> {
+
+    /**
+     * Events added by federates, which have not yet been merged into {@link #ordered}.
+     */
+    private final ConcurrentLinkedQueue<FederateEvent> inbox = new ConcurrentLinkedQueue<>();
+
+    /**
+     * All merged events in their natural order. Only accessed by the consuming thread.
+     */
+    private final EfficientPriorityQueue<FederateEvent> ordered = new EfficientPriorityQueue<>();
+
+    /**
+     * The head of {@link #ordered}, published for threads other than the consuming thread.
+     */
+    private volatile FederateEvent publishedHead = null;
+
+    /**
+     * Adds the event to the queue. Can be called from any thread.
+     *
+     * @param event the event to add
+     * @return always {@code true}, duplicates are removed when the event is merged
+     */
+    @Override
+    public boolean offer(FederateEvent event) {
+        return inbox.offer(event);
+    }
+
+    @Override
+    public FederateEvent poll() {
+        mergeInbox();
+        final FederateEvent event = ordered.poll();
+        publishedHead = ordered.peek();
+        return event;
+    }
+
+    @Override
+    public FederateEvent peek() {
+        mergeInbox();
+        return ordered.peek();
+    }
+
+    /**
+     * Removes the given event, e.g. after it has been retrieved via {@link #peek}. In contrast to {@link #poll},
+     * events which have been added in between are not taken into account.
+     */
+    @Override
+    public boolean remove(Object o) {
+        final boolean removed = ordered.remove(o);
+        publishedHead = ordered.peek();
+        return removed;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        mergeInbox();
+        return ordered.contains(o);
+    }
+
+    @Override
+    public int size() {
+        mergeInbox();
+        return ordered.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return inbox.isEmpty() && ordered.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        inbox.clear();
+        ordered.clear();
+        publishedHead = null;
+    }
+
+    @Override
+    public Iterator<FederateEvent> iterator() {
+        mergeInbox();
+        return Collections.unmodifiableCollection(ordered).iterator();
+    }
+
+    /**
+     * Returns the first event of this queue without modifying it, and can therefore be called from
+     * any thread. Events which are added concurrently to this call may or may not be considered.
+     *
+     * @return the first event of the queue, or {@code null} if the queue is empty
+     */
+    public FederateEvent peekConcurrently() {
+        FederateEvent first = publishedHead;
+        for (FederateEvent event : inbox) {
+            if (first == null || event.compareTo(first) < 0) {
+                first = event;
+            }
+        }
+        return first;
+    }
+
+    private void mergeInbox() {
+        FederateEvent event = inbox.poll();
+        if (event == null) {
+            return;
+        }
+        do {
+            if (!ordered.contains(event)) {
+                ordered.add(event);
+            }
+        } while ((event = inbox.poll()) != null);
+        publishedHead = ordered.peek();
+    }
+}
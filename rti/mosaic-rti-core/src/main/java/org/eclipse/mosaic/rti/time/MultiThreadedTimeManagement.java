@@ -17,34 +17,43 @@ package org.eclipse.mosaic.rti.time;
 
 import org.eclipse.mosaic.rti.MosaicComponentParameters;
 import org.eclipse.mosaic.rti.api.ComponentProvider;
-import org.eclipse.mosaic.rti.api.FederateAmbassador;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.time.FederateEvent;
 
-import java.util.concurrent.Semaphore;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Time management which advances multiple federates in parallel following a conservative
+ * synchronization scheme (in the style of Chandy-Misra-Bryant). Each running federate promises
+ * not to send interactions earlier than its requested time plus its lookahead. Accordingly, the head
+ * of the event queue is dispatched to a worker thread as soon as its requested time lies
+ * below this lower bound of all currently running events, instead of waiting for a whole block of
+ * parallel events to be finished. Events of the same priority may be scheduled exactly at the lower
+ * bound, which resembles the behavior of the former block-wise scheduling.
+ */
 public class MultiThreadedTimeManagement extends AbstractTimeManagement {
 
     private static final AtomicInteger idCounter = new AtomicInteger();
 
     private final ThreadPool threadPool;
 
-    private final ScheduledEvents scheduledEvents;
-
-    private final Semaphore ambassadorRunningSemaphore = new Semaphore(1);
+    /**
+     * All events which are currently processed by the worker threads, by the id of their federates.
+     * Only accessed by the thread running the simulation.
+     */
+    private final Map<String, FederateEvent> runningEvents = new HashMap<>();
 
     public MultiThreadedTimeManagement(ComponentProvider federation, MosaicComponentParameters componentParameters) {
         super(federation, componentParameters);
         this.threadPool = new ThreadPool(federation, componentParameters.getNumberOfThreads());
-        this.scheduledEvents = new ScheduledEvents();
     }
 
     @Override
     protected void prepareSimulationRun() throws IllegalValueException, InternalFederateException {
         // initialize thread pool
-        this.threadPool.setEventQueue(this.scheduledEvents);
         this.threadPool.initialize();
         // initialize all federates
         super.prepareSimulationRun();
@@ -69,101 +78,34 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
         final PerformanceCalculator performanceCalculator = new PerformanceCalculator();
         long currentRealtimeNs;
 
-        FederateAmbassador ambassador;
-        FederateEvent event;
-        byte priority;
-
-        // run while events are available
-        while (this.events.size() > 0 && this.time < getEndTime()) {
-
-            // remove first event of queue
-            synchronized (this.events) {
-                event = this.events.poll();
-            }
+        while (true) {
+            dispatchSafeEvents();
 
-            if (event != null) {
-                this.time = event.getRequestedTime();
-            } else {
+            if (runningEvents.isEmpty()) {
+                // nothing could be dispatched, either the queue is empty or the end time has been reached
                 this.logger.trace("No more messages in event queue. Finishing simulation run.");
                 this.time = getEndTime();
                 break;
             }
-            priority = event.getPriority();
-
-            this.logger.trace("New minimum valid simulation time: {}", event.getRequestedTime());
-
-            // check if other federates can be scheduled in parallel
-            if (this.events.peek() != null
-                    && priority == this.events.peek().getPriority()
-                    && event.getRequestedTime() + event.getLookahead() >= this.events.peek().getRequestedTime()
-            ) {
-                try {
-                    ambassadorRunningSemaphore.acquire();
-                } catch (InterruptedException ignored) {
-                    // ignored
-                }
-
-                // schedule next event
-                int id = createEventId(); // Acquire scheduling block id
-                federation.getMonitor().onScheduling(id, event);
-                this.scheduledEvents.addEvent(event);
-
-                // schedule further events that can be executed in parallel
-                while (this.events.peek() != null
-                        && priority == this.events.peek().getPriority()
-                        && scheduledEvents.getMaximumValidTime() >= this.events.peek().getRequestedTime()
-                ) {
-                    synchronized (events) {
-                        event = this.events.poll();
-                    }
-                    this.logger.trace("Parallel execution: {} time={} lookahead={}", event.getFederateId(), event.getRequestedTime(), event.getLookahead());
-                    federation.getMonitor().onScheduling(id, event);
-                    this.scheduledEvents.addEvent(event);
-                }
-
-                // wait until all events are processed in parallel
-                synchronized (this.scheduledEvents.isEmptyMutex) {
-                    try {
-                        if (this.threadPool.isActive()) {
-                            this.scheduledEvents.isEmptyMutex.wait();
-                        }
-                    } catch (InterruptedException ignored) {
-                        // nop
-                    }
-                }
-                ambassadorRunningSemaphore.release();
-            } else {
-                // call ambassador associated with the scheduled event to
-                // process until the next globally scheduled event
-                ambassador = federation.getFederationManagement().getAmbassador(event.getFederateId());
-                if (ambassador != null) {
-                    this.logger.trace(
-                            "Advancing {} to time {}",
-                            federation.getFederationManagement().getAmbassador(event.getFederateId()).getId(),
-                            event.getRequestedTime()
-                    );
-
-                    try {
-                        ambassadorRunningSemaphore.acquire();
-                    } catch (InterruptedException e) {
-                        this.logger.trace("Error while acquiring semaphore", e);
-                    }
-                    federation.getMonitor().onBeginActivity(event);
-                    long startTime = System.currentTimeMillis();
-
-                    ambassador.advanceTime(event.getRequestedTime());
-
-                    ambassadorRunningSemaphore.release();
-                    federation.getMonitor().onEndActivity(event, System.currentTimeMillis() - startTime);
-
-                    updateWatchDog();
-                }
+
+            // wait until any of the running federates has finished, which may unblock further events
+            final FederateEvent completedEvent;
+            try {
+                completedEvent = threadPool.awaitCompletion();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InternalFederateException("Interrupted while waiting for federates to advance their time.");
             }
+            runningEvents.remove(completedEvent.getFederateId());
+
             // check if an exception was thrown
             if (this.threadPool.hasException()) {
                 throw this.threadPool.getLastException();
             }
 
+            // the next event of the completed federate may lie before all running events
+            updateTime();
+
             currentRealtimeNs = System.nanoTime();
 
             final PerformanceInformation performanceInformation =
@@ -177,6 +119,80 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
         this.finishSimulationRun(STATUS_CODE_SUCCESS);
     }
 
+    /**
+     * Dispatches events from the head of the event queue to the worker threads, as long as they are
+     * safe to be processed in parallel to all currently running events.
+     */
+    private void dispatchSafeEvents() {
+        int id = -1;
+        FederateEvent event;
+        while ((event = this.events.peek()) != null && event.getRequestedTime() <= getEndTime() && isSafeToProcess(event)) {
+            this.events.remove(event);
+            if (id < 0) {
+                id = createEventId(); // Acquire scheduling block id
+            }
+            this.logger.trace("Parallel execution: {} time={} lookahead={}", event.getFederateId(), event.getRequestedTime(), event.getLookahead());
+            federation.getMonitor().onScheduling(id, event);
+            runningEvents.put(event.getFederateId(), event);
+            updateTime();
+            threadPool.dispatch(event);
+        }
+    }
+
+    /**
+     * Checks whether the given event can be processed while the currently running events are
+     * still in progress. This is the case, if the federate of the event is not running already, if
+     * no running federate is able to send an interaction earlier than the requested time of the event, and if
+     * the federate of the event is not able to send an interaction earlier than the requested time of any running event.
+     * The latter may happen, if a completed federate requests a time before the time of a still running federate.
+     */
+    private boolean isSafeToProcess(FederateEvent event) {
+        if (runningEvents.containsKey(event.getFederateId())) {
+            return false;
+        }
+        for (FederateEvent runningEvent : runningEvents.values()) {
+            if (!isBeforeLowerBound(event, runningEvent) || !isBeforeLowerBound(runningEvent, event)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the requested time of the receiving event does not exceed the earliest time the federate
+     * of the sending event is able to send interactions at. Events of the same priority may be scheduled exactly at this bound.
+     */
+    private static boolean isBeforeLowerBound(FederateEvent receivingEvent, FederateEvent sendingEvent) {
+        final long lowerBound = saturatedAdd(sendingEvent.getRequestedTime(), sendingEvent.getLookahead());
+        return receivingEvent.getRequestedTime() < lowerBound
+                || (receivingEvent.getRequestedTime() == lowerBound && receivingEvent.getPriority() == sendingEvent.getPriority());
+    }
+
+    /**
+     * Sets the simulation time to the minimum requested time of all running and queued events. This time never
+     * decreases, as each federate requests times not before its current time, and as interactions are not sent
+     * before the time of their sender. Considering the running events only is not sufficient, as a completed federate
+     * may have requested a next event before the time of all events still running.
+     */
+    private void updateTime() {
+        long minimumTime = Long.MAX_VALUE;
+        for (FederateEvent runningEvent : runningEvents.values()) {
+            minimumTime = Math.min(minimumTime, runningEvent.getRequestedTime());
+        }
+        final FederateEvent nextEvent = this.events.peek();
+        if (nextEvent != null) {
+            minimumTime = Math.min(minimumTime, nextEvent.getRequestedTime());
+        }
+        if (minimumTime != Long.MAX_VALUE) {
+            this.time = Math.min(minimumTime, getEndTime());
+        }
+    }
+
+    private static long saturatedAdd(long time, long lookahead) {
+        final long sum = time + lookahead;
+        return sum < time ? Long.MAX_VALUE : sum;
+    }
+
     private static int createEventId() {
         return idCounter.incrementAndGet();
     }
@@ -184,6 +200,7 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
     @Override
     public void finishSimulationRun(int statusCode) throws InternalFederateException {
         this.threadPool.shutdown();
+        this.runningEvents.clear();
         this.events.clear();
         super.finishSimulationRun(statusCode);
     }
@@ -72,15 +72,13 @@ public class SequentialTimeManagement extends AbstractTimeManagement {
             }
 
             // remove all events at the head of the queue that are created by the same federate
-            synchronized (this.events) {
-                event = this.events.poll();
-                // advance global time
-                if (event == null || event.getRequestedTime() > getEndTime()) {
-                    this.time = getEndTime();
-                    break;
-                } else {
-                    this.time = event.getRequestedTime();
-                }
+            event = this.events.poll();
+            // advance global time
+            if (event == null || event.getRequestedTime() > getEndTime()) {
+                this.time = getEndTime();
+                break;
+            } else {
+                this.time = event.getRequestedTime();
             }
 
             // call ambassador associated with the scheduled event
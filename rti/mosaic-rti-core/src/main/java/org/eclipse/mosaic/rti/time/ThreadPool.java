@@ -23,34 +23,42 @@ import org.eclipse.mosaic.rti.api.time.FederateEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Pool of worker threads which advance federates in parallel. Events are handed over to the
+ * workers via {@link #dispatch}, and each event is reported back via {@link #awaitCompletion}
+ * as soon as its federate has finished advancing, independent of any other running event.
+ */
 class ThreadPool {
 
     private static final Logger LOG = LoggerFactory.getLogger(ThreadPool.class);
 
-
     private final Worker[] workers;
     private final ComponentProvider federation;
-    private boolean running = false;
 
-    private ScheduledEvents queue = null;
-    private int activeCount = 0;
+    /**
+     * Events which have been dispatched but not yet picked up by a worker.
+     */
+    private final BlockingQueue<FederateEvent> dispatchedEvents = new LinkedBlockingQueue<>();
 
-    private InternalFederateException exceptionInThread = null;
+    /**
+     * Events whose federates have finished advancing their time.
+     */
+    private final BlockingQueue<FederateEvent> completedEvents = new LinkedBlockingQueue<>();
+
+    private volatile InternalFederateException exceptionInThread = null;
 
     ThreadPool(ComponentProvider federation, int numberOfThreads) {
         this.workers = new Worker[numberOfThreads];
         this.federation = federation;
     }
 
-    void setEventQueue(ScheduledEvents events) {
-        this.queue = events;
-    }
-
     /**
      * Initializes the workers of this thread pool.
      */
     void initialize() {
-        this.running = true;
         for (int i = 0; i < this.workers.length; i++) {
             this.workers[i] = new Worker(i + 1);
             this.workers[i].start();
@@ -58,9 +66,9 @@ class ThreadPool {
     }
 
     void shutdown() {
-        this.running = false;
         for (Worker worker : workers) {
-            if (worker.isAlive()) {
+            if (worker != null && worker.isAlive()) {
+                worker.interrupt();
                 try {
                     worker.join();
                 } catch (Exception e) {
@@ -68,6 +76,28 @@ class ThreadPool {
                 }
             }
         }
+        dispatchedEvents.clear();
+        completedEvents.clear();
+    }
+
+    /**
+     * Hands over the given event to the next idle worker, which advances the
+     * time of the corresponding federate to the requested time of the event.
+     *
+     * @param event the event to process
+     */
+    void dispatch(FederateEvent event) {
+        dispatchedEvents.add(event);
+    }
+
+    /**
+     * Blocks until the federate of any dispatched event has finished advancing its time.
+     *
+     * @return the event which has been processed
+     * @throws InterruptedException if the calling thread has been interrupted while waiting
+     */
+    FederateEvent awaitCompletion() throws InterruptedException {
+        return completedEvents.take();
     }
 
     boolean hasException() {
@@ -78,12 +108,6 @@ class ThreadPool {
         return this.exceptionInThread;
     }
 
-    boolean isActive() {
-        synchronized (this.queue.isEmptyMutex) {
-            return this.activeCount > 0 || !this.queue.isEmpty();
-        }
-    }
-
     /**
      * Returns the number of worker threads in this thread pool.
      *
@@ -102,35 +126,19 @@ class ThreadPool {
         @Override
         public void run() {
             FederateEvent ev;
-            Task task;
-
             while (true) {
-                synchronized (queue.accessMutex) {
-                    while (queue.isEmpty()) {
-                        if (!running) {
-                            return;
-                        }
-                    }
-                    synchronized (queue.isEmptyMutex) {
-                        ev = queue.getNextScheduledEvent();
-                        activeCount++;
-                    }
-                    task = new Task(ev);
+                try {
+                    ev = dispatchedEvents.take();
+                } catch (InterruptedException e) {
+                    return;
                 }
 
                 try {
-                    task.run();
+                    new Task(ev).run();
                 } catch (RuntimeException e) {
                     LOG.error("Could not execute task", e);
                 }
-                synchronized (queue.isEmptyMutex) {
-                    queue.setEventProcessed(ev);
-                    activeCount--;
-                    LOG.debug("active count: {}; isEmpty: {}", activeCount, queue.isEmpty());
-                    if (activeCount == 0 && queue.isEmpty()) {
-                        queue.isEmptyMutex.notifyAll();
-                    }
-                }
+                completedEvents.add(ev);
             }
         }
     }
@@ -15,6 +15,7 @@
 
 package org.eclipse.mosaic.rti.interaction;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -33,6 +34,7 @@ import org.eclipse.mosaic.rti.junit.FederationManagementRule;
 import org.eclipse.mosaic.rti.junit.TestDummyInteraction;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -127,4 +129,22 @@ public class InteractionManagementTest {
         verify(ambassadorMock1, times(1)).receiveInteraction(same(interactionType1));
         verify(ambassadorMock1, never()).receiveInteraction(same(interactionType2));
     }
+
+    /**
+     * Subscriptions are changed after interactions have been published.
+     * It is verified that {@link InteractionManagement#getSubscribedInteractions} reflects the current subscriptions.
+     */
+    @Test
+    public void subscribe_cancelSubscriptions_getSubscribedInteractions() {
+        //SETUP
+        interactionManagement.subscribeInteractions("ambassador1", Lists.newArrayList(new InteractionDescriptor("type1"), new InteractionDescriptor("type2")));
+        interactionManagement.subscribeInteractions("ambassador2", Lists.newArrayList(new InteractionDescriptor("type2")));
+
+        //RUN
+        interactionManagement.cancelInteractionSubscription("ambassador1", Lists.newArrayList("type2"));
+
+        //ASSERT
+        assertEquals(Sets.newHashSet("type1"), Sets.newHashSet(interactionManagement.getSubscribedInteractions("ambassador1")));
+        assertEquals(Sets.newHashSet("type2"), Sets.newHashSet(interactionManagement.getSubscribedInteractions("ambassador2")));
+    }
 }
@@ -44,7 +44,6 @@ import org.junit.Test;
 
 import java.io.File;
 import java.util.Collection;
-import java.util.List;
 import java.util.Map;
 
 public class InteractionPriorityTest {
@@ -56,7 +55,7 @@ public class InteractionPriorityTest {
             super(federation);
         }
 
-        private Map<String, List<FederateAmbassador>> getInteractionMap() {
+        private Map<String, FederateAmbassador[]> getInteractionMap() {
             return interactionAmbassadorMap;
         }
     }
@@ -118,10 +117,10 @@ public class InteractionPriorityTest {
         mgmt.subscribeInteractions(lowFed.getKey(), interactions);
         mgmt.subscribeInteractions(highFed.getKey(), interactions);
 
-        final Map<String, List<FederateAmbassador>> interactionMap = mgmt.getInteractionMap();
-        final List<FederateAmbassador> orderedByPriority = interactionMap.get(interactionName);
-        assertEquals(orderedByPriority.get(0).getId(), highFed.getKey()); // Federate with the highest priority should be head of the list
-        assertEquals(orderedByPriority.get(1).getId(), lowFed.getKey());
+        final Map<String, FederateAmbassador[]> interactionMap = mgmt.getInteractionMap();
+        final FederateAmbassador[] orderedByPriority = interactionMap.get(interactionName);
+        assertEquals(orderedByPriority[0].getId(), highFed.getKey()); // Federate with the highest priority should be head of the list
+        assertEquals(orderedByPriority[1].getId(), lowFed.getKey());
     }
 
     @Test
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2020 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.util.EfficientPriorityQueue;
+import org.eclipse.mosaic.rti.api.parameters.FederatePriority;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+
+/**
+ * Tests for {@link FederateEventQueue}.
+ */
+public class FederateEventQueueTest {
+
+    private final FederateEventQueue queue = new FederateEventQueue();
+
+    @Test
+    public void eventsPolledInOrder() {
+        queue.offer(new FederateEvent("b", 20, 0, FederatePriority.DEFAULT));
+        queue.offer(new FederateEvent("a", 10, 0, FederatePriority.DEFAULT));
+        queue.offer(new FederateEvent("c", 10, 0, FederatePriority.HIGHEST));
+
+        assertEquals(3, queue.size());
+        assertEquals("c", queue.poll().getFederateId());
+        assertEquals("a", queue.poll().getFederateId());
+        assertEquals("b", queue.poll().getFederateId());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void duplicateEventsDiscarded() {
+        queue.offer(new FederateEvent("a", 10, 0, FederatePriority.DEFAULT));
+        queue.offer(new FederateEvent("a", 10, 0, FederatePriority.DEFAULT));
+        assertEquals(1, queue.size());
+
+        queue.offer(new FederateEvent("a", 10, 0, FederatePriority.DEFAULT));
+        assertEquals(1, queue.size());
+
+        // the same event can be requested again after it has been processed
+        queue.poll();
+        queue.offer(new FederateEvent("a", 10, 0, FederatePriority.DEFAULT));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void peekConcurrently_considersNotMergedEvents() {
+        queue.offer(new FederateEvent("a", 20, 0, FederatePriority.DEFAULT));
+        assertEquals(20, queue.peek().getRequestedTime());
+
+        queue.offer(new FederateEvent("b", 10, 0, FederatePriority.DEFAULT));
+        assertEquals(10, queue.peekConcurrently().getRequestedTime());
+    }
+
+    @Test
+    public void remove_ignoresEventsAddedAfterPeek() {
+        final FederateEvent first = new FederateEvent("a", 20, 0, FederatePriority.DEFAULT);
+        queue.offer(first);
+        assertSame(first, queue.peek());
+
+        queue.offer(new FederateEvent("b", 10, 0, FederatePriority.DEFAULT));
+        assertTrue(queue.remove(first));
+        assertEquals("b", queue.poll().getFederateId());
+    }
+
+    @Test
+    public void concurrentProducers_allEventsPolledInOrder() throws InterruptedException {
+        final int threads = 8;
+        final int eventsPerThread = 10_000;
+        runProducers(threads, eventsPerThread, queue::offer);
+
+        assertEquals(threads * eventsPerThread, queue.size());
+        long lastTime = -1;
+        FederateEvent event;
+        while ((event = queue.poll()) != null) {
+            assertTrue(event.getRequestedTime() >= lastTime);
+            lastTime = event.getRequestedTime();
+        }
+    }
+
+    /**
+     * Measures the throughput of adding events from multiple federate threads, compared to the
+     * previously used priority queue guarded by a monitor.
+     */
+    @Ignore("Benchmark, run manually")
+    @Test
+    public void performanceTest() throws InterruptedException {
+        final int eventsPerThread = 50_000;
+        for (int threads : new int[]{4, 8, 16}) {
+            final Queue<FederateEvent> synchronizedQueue = new EfficientPriorityQueue<>();
+            long start = System.nanoTime();
+            runProducers(threads, eventsPerThread, event -> {
+                synchronized (synchronizedQueue) {
+                    if (!synchronizedQueue.contains(event)) {
+                        synchronizedQueue.add(event);
+                    }
+                }
+            });
+            long durationSynchronized = System.nanoTime() - start;
+
+            final FederateEventQueue lockFreeQueue = new FederateEventQueue();
+            start = System.nanoTime();
+            runProducers(threads, eventsPerThread, lockFreeQueue::offer);
+            long durationLockFree = System.nanoTime() - start;
+
+            assertEquals(synchronizedQueue.size(), lockFreeQueue.size());
+            System.out.printf("%d threads: synchronized %.0f events/ms, lock-free %.0f events/ms%n",
+                    threads,
+                    threads * eventsPerThread / (durationSynchronized / 1e6),
+                    threads * eventsPerThread / (durationLockFree / 1e6)
+            );
+        }
+    }
+
+    private static void runProducers(int threads, int eventsPerThread, Consumer<FederateEvent> requestAdvanceTime) throws InterruptedException {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final String federateId = "federate_" + t;
+            final Thread producer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < eventsPerThread; i++) {
+                    requestAdvanceTime.accept(new FederateEvent(federateId, i * 100L, 0, FederatePriority.DEFAULT));
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+        start.countDown();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+    }
+}
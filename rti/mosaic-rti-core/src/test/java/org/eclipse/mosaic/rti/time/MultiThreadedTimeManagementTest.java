@@ -15,15 +15,191 @@
 
 package org.eclipse.mosaic.rti.time;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
 import org.eclipse.mosaic.rti.MosaicComponentParameters;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
 import org.eclipse.mosaic.rti.api.TimeManagement;
 
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 public class MultiThreadedTimeManagementTest extends SequentialTimeManagementTest {
 
     @Override
     protected TimeManagement createTimeManagement(ComponentProvider componentProvider) {
         return new MultiThreadedTimeManagement(componentProvider, new MosaicComponentParameters().setNumberOfThreads(2).setEndTime(20 * TIME.SECOND));
     }
-}
\ No newline at end of file
+
+    /**
+     * The event of ambassador2 lies within the lookahead of ambassador1, therefore
+     * both ambassadors must be advanced at the same time.
+     */
+    @Test
+    public void eventWithinLookahead_advancedInParallel() throws Exception {
+        //SETUP
+        final FederateAmbassador ambassadorMock1 = fedManagement.getAmbassador("ambassador1");
+        final FederateAmbassador ambassadorMock2 = fedManagement.getAmbassador("ambassador2");
+
+        final CountDownLatch bothRunning = new CountDownLatch(2);
+        final AtomicBoolean parallel = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            bothRunning.countDown();
+            parallel.compareAndSet(true, bothRunning.await(5, TimeUnit.SECONDS));
+            return null;
+        }).when(ambassadorMock1).advanceTime(eq(0L));
+        doAnswer(invocation -> {
+            bothRunning.countDown();
+            parallel.compareAndSet(true, bothRunning.await(5, TimeUnit.SECONDS));
+            return null;
+        }).when(ambassadorMock2).advanceTime(eq(4 * TIME.SECOND));
+
+        timeManagement.requestAdvanceTime("ambassador1", 0, 5 * TIME.SECOND, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", 4 * TIME.SECOND, 0, (byte) 1);
+
+        //RUN
+        timeManagement.runSimulation();
+
+        //ASSERT
+        assertTrue(parallel.get());
+        verify(ambassadorMock1).advanceTime(eq(0L));
+        verify(ambassadorMock2).advanceTime(eq(4 * TIME.SECOND));
+    }
+
+    /**
+     * The event of ambassador2 lies beyond the lookahead of ambassador1, therefore
+     * ambassador2 must not be advanced before ambassador1 has finished.
+     */
+    @Test
+    public void eventBeyondLookahead_waitsForRunningFederate() throws Exception {
+        //SETUP
+        final FederateAmbassador ambassadorMock1 = fedManagement.getAmbassador("ambassador1");
+        final FederateAmbassador ambassadorMock2 = fedManagement.getAmbassador("ambassador2");
+
+        final AtomicBoolean ambassador1Running = new AtomicBoolean(false);
+        final AtomicBoolean overlapped = new AtomicBoolean(false);
+        doAnswer(invocation -> {
+            ambassador1Running.set(true);
+            Thread.sleep(200);
+            ambassador1Running.set(false);
+            return null;
+        }).when(ambassadorMock1).advanceTime(eq(0L));
+        doAnswer(invocation -> {
+            overlapped.set(ambassador1Running.get());
+            return null;
+        }).when(ambassadorMock2).advanceTime(eq(4 * TIME.SECOND));
+
+        timeManagement.requestAdvanceTime("ambassador1", 0, TIME.SECOND, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", 4 * TIME.SECOND, 0, (byte) 1);
+
+        //RUN
+        timeManagement.runSimulation();
+
+        //ASSERT
+        assertFalse(overlapped.get());
+        verify(ambassadorMock1).advanceTime(eq(0L));
+        verify(ambassadorMock2).advanceTime(eq(4 * TIME.SECOND));
+    }
+
+    /**
+     * After ambassador1 has completed, its next event lies before the event of ambassador2 which is still running.
+     * The simulation time must not advance to the time of ambassador2 in the meantime.
+     */
+    @Test
+    public void earlierEventAfterCompletion_simulationTimeNeverDecreases() throws Exception {
+        //SETUP
+        final FederateAmbassador ambassadorMock1 = fedManagement.getAmbassador("ambassador1");
+        final FederateAmbassador ambassadorMock2 = fedManagement.getAmbassador("ambassador2");
+
+        final List<Long> simulationTimes = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch ambassador1Advanced = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            simulationTimes.add(timeManagement.getSimulationTime());
+            return invocation.callRealMethod();
+        }).when(timeManagement).updateWatchDog();
+        doAnswer(invocation -> {
+            timeManagement.requestAdvanceTime("ambassador1", 2 * TIME.SECOND, 5 * TIME.SECOND, (byte) 1);
+            return null;
+        }).when(ambassadorMock1).advanceTime(eq(0L));
+        doAnswer(invocation -> {
+            simulationTimes.add(timeManagement.getSimulationTime());
+            ambassador1Advanced.countDown();
+            return null;
+        }).when(ambassadorMock1).advanceTime(eq(2 * TIME.SECOND));
+        doAnswer(invocation -> {
+            // keep running until ambassador1 has processed its next event
+            assertTrue(ambassador1Advanced.await(5, TimeUnit.SECONDS));
+            return null;
+        }).when(ambassadorMock2).advanceTime(eq(4 * TIME.SECOND));
+
+        timeManagement.requestAdvanceTime("ambassador1", 0, 5 * TIME.SECOND, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", 4 * TIME.SECOND, 0, (byte) 1);
+
+        //RUN
+        timeManagement.runSimulation();
+
+        //ASSERT
+        verify(ambassadorMock1).advanceTime(eq(2 * TIME.SECOND));
+        assertEquals(Long.valueOf(2 * TIME.SECOND), simulationTimes.get(0));
+        for (int i = 1; i < simulationTimes.size(); i++) {
+            assertTrue(simulationTimes.toString(), simulationTimes.get(i - 1) <= simulationTimes.get(i));
+        }
+    }
+
+    /**
+     * After ambassador1 has completed, its next event lies before the event of ambassador2 which is still running.
+     * As ambassador1 has a smaller lookahead, it could send interactions before the time of ambassador2,
+     * therefore ambassador1 must not be advanced before ambassador2 has finished.
+     */
+    @Test
+    public void earlierEventWithSmallLookaheadAfterCompletion_waitsForRunningFederate() throws Exception {
+        //SETUP
+        final FederateAmbassador ambassadorMock1 = fedManagement.getAmbassador("ambassador1");
+        final FederateAmbassador ambassadorMock2 = fedManagement.getAmbassador("ambassador2");
+
+        final CountDownLatch ambassador2Started = new CountDownLatch(1);
+        final AtomicBoolean ambassador2Running = new AtomicBoolean(false);
+        final AtomicBoolean overlapped = new AtomicBoolean(false);
+        doAnswer(invocation -> {
+            // complete while ambassador2 is still running
+            assertTrue(ambassador2Started.await(5, TimeUnit.SECONDS));
+            timeManagement.requestAdvanceTime("ambassador1", 2 * TIME.SECOND, TIME.SECOND, (byte) 1);
+            return null;
+        }).when(ambassadorMock1).advanceTime(eq(0L));
+        doAnswer(invocation -> {
+            overlapped.set(ambassador2Running.get());
+            return null;
+        }).when(ambassadorMock1).advanceTime(eq(2 * TIME.SECOND));
+        doAnswer(invocation -> {
+            ambassador2Running.set(true);
+            ambassador2Started.countDown();
+            Thread.sleep(200);
+            ambassador2Running.set(false);
+            return null;
+        }).when(ambassadorMock2).advanceTime(eq(4 * TIME.SECOND));
+
+        timeManagement.requestAdvanceTime("ambassador1", 0, 5 * TIME.SECOND, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", 4 * TIME.SECOND, 5 * TIME.SECOND, (byte) 1);
+
+        //RUN
+        timeManagement.runSimulation();
+
+        //ASSERT
+        assertFalse(overlapped.get());
+        verify(ambassadorMock1).advanceTime(eq(2 * TIME.SECOND));
+        verify(ambassadorMock2).advanceTime(eq(4 * TIME.SECOND));
+    }
+}
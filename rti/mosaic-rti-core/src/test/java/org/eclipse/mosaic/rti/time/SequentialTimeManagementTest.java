@@ -44,7 +44,7 @@ public class SequentialTimeManagementTest {
     @Rule
     public FederationManagementRule fedManagement = new FederationManagementRule("ambassador1", "ambassador2");
 
-    private TimeManagement timeManagement;
+    protected TimeManagement timeManagement;
 
     @Before
     public void setup() throws Exception {